@@ -4,6 +4,7 @@ plugins {
 
     id("com.gradleup.shadow") version "9.0.0-beta12"
     id("org.danilopianini.gradle-java-qa") version "1.110.0"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 application {
@@ -30,6 +31,35 @@ dependencies {
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
+tasks.register<JavaExec>("simulate") {
+    group = "application"
+    description = "Simulates a run of days without the view, see SimulationMain for the arguments."
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("it.unibo.papasburgeria.simulation.SimulationMain")
+}
+
+val atlasDirectory = layout.buildDirectory.dir("generated/atlas")
+val packAtlas = tasks.register<JavaExec>("packAtlas") {
+    group = "build"
+    description = "Packs the small images into a texture atlas with its manifest, see AtlasPacker."
+    classpath = files(sourceSets.main.get().output.classesDirs, configurations.runtimeClasspath)
+    mainClass.set("it.unibo.papasburgeria.utils.impl.resource.AtlasPacker")
+    inputs.dir("src/main/resources/images")
+    outputs.dir(atlasDirectory)
+    args("src/main/resources/images", atlasDirectory.get().dir("images").asFile.path)
+}
+sourceSets.main.get().resources.srcDir(files(atlasDirectory).builtBy(packAtlas))
+
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    profilers.add("gc")
+    jvmArgsAppend.add("-Djava.awt.headless=true")
+    // run a subset with -PjmhIncludes=<regex>, e.g. -PjmhIncludes=Hamburger
+    (findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+}
+
 tasks.test {
     useJUnitPlatform()
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package it.unibo.papasburgeria.controller.impl;
+
+import it.unibo.papasburgeria.model.api.GameModel;
+import it.unibo.papasburgeria.model.api.PattyModel;
+import it.unibo.papasburgeria.model.impl.GameModelImpl;
+import it.unibo.papasburgeria.model.impl.HamburgerFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the reads of the grill and the cooking of the patties on it, done on every frame of the grill view.
+ *
+ * <p>
+ * The grill is run empty, half full and full.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GrillBenchmark {
+    private static final double FRAME_SECONDS = 1.0 / 60;
+
+    @Param({"0", "6", "12"})
+    private int patties;
+
+    private GameModel model;
+    private GrillControllerImpl controller;
+
+    /**
+     * Fills the grill, again on each iteration so that the patties do not stay burnt.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        model = new GameModelImpl();
+        model.setPattiesOnGrill(HamburgerFixtures.createGrill(patties));
+        controller = new GrillControllerImpl(model);
+    }
+
+    /**
+     * Reads the grill from the model.
+     *
+     * @return the patties on the grill
+     */
+    @Benchmark
+    public PattyModel[][] getPattiesOnGrill() {
+        return model.getPattiesOnGrill();
+    }
+
+    /**
+     * Cooks the patties on the grill for a frame.
+     */
+    @Benchmark
+    public void cookPattiesOnGrill() {
+        controller.cookPattiesOnGrill(FRAME_SECONDS);
+    }
+}
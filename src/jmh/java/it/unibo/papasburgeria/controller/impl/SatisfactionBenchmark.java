@@ -0,0 +1,64 @@
+package it.unibo.papasburgeria.controller.impl;
+
+import com.google.inject.Guice;
+import it.unibo.papasburgeria.controller.api.CustomerController;
+import it.unibo.papasburgeria.di.SimulationModule;
+import it.unibo.papasburgeria.model.api.HamburgerModel;
+import it.unibo.papasburgeria.model.impl.HamburgerFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the comparison of an order with the hamburger made for it, done whenever an order is served.
+ *
+ * <p>
+ * Hamburgers range from the minimum to the maximum number of ingredients, the made one has the same ingredients with
+ * differently cooked patties. The controller is wired like in the simulation, with slots kept in a temporary home
+ * directory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SatisfactionBenchmark {
+    private static final double COOK_OFFSET = 0.1;
+
+    @Param({"2", "4", "6", "8", "10"})
+    private int ingredients;
+
+    private CustomerController controller;
+    private HamburgerModel order;
+    private HamburgerModel made;
+
+    /**
+     * Wires the controller and builds the hamburgers to compare.
+     *
+     * @throws IOException if the temporary home directory could not be created
+     */
+    @Setup
+    public void setUp() throws IOException {
+        System.setProperty("user.home", Files.createTempDirectory("satisfaction-benchmark").toString());
+        controller = Guice.createInjector(new SimulationModule()).getInstance(CustomerController.class);
+        order = HamburgerFixtures.createHamburger(ingredients, 0);
+        made = HamburgerFixtures.createHamburger(ingredients, COOK_OFFSET);
+    }
+
+    /**
+     * Compares the order with the made hamburger.
+     *
+     * @return the satisfaction percentage
+     */
+    @Benchmark
+    public double calculateSatisfactionPercentage() {
+        return controller.calculateSatisfactionPercentage(order, made);
+    }
+}
@@ -0,0 +1,54 @@
+package it.unibo.papasburgeria.model.impl;
+
+import it.unibo.papasburgeria.model.api.HamburgerModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the copy of a hamburger, done whenever an order or the hamburger on assembly is read.
+ *
+ * <p>
+ * Hamburgers range from {@link HamburgerModelImpl#MIN_INGREDIENTS} to {@link HamburgerModelImpl#MAX_INGREDIENTS},
+ * either made of ingredient objects or packed, like the ones held by the model.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HamburgerBenchmark {
+    @Param({"2", "4", "6", "8", "10"})
+    private int ingredients;
+
+    @Param({"objects", "packed"})
+    private String representation;
+
+    private HamburgerModel hamburger;
+
+    /**
+     * Builds the hamburger to copy.
+     */
+    @Setup
+    public void setUp() {
+        final HamburgerModel objects = HamburgerFixtures.createHamburger(ingredients, 0);
+        hamburger = "packed".equals(representation)
+                ? new PackedHamburgerModelImpl(objects.getIngredients())
+                : objects;
+    }
+
+    /**
+     * Copies the hamburger.
+     *
+     * @return the copy
+     */
+    @Benchmark
+    public HamburgerModel copyOf() {
+        return hamburger.copyOf();
+    }
+}
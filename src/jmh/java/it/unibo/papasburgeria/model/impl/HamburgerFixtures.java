@@ -0,0 +1,79 @@
+package it.unibo.papasburgeria.model.impl;
+
+import it.unibo.papasburgeria.model.IngredientEnum;
+import it.unibo.papasburgeria.model.api.HamburgerModel;
+import it.unibo.papasburgeria.model.api.IngredientModel;
+import it.unibo.papasburgeria.model.api.PattyModel;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Builds the deterministic hamburgers and grills shared by the benchmarks.
+ */
+public final class HamburgerFixtures {
+    private static final List<IngredientEnum> FILLINGS = Arrays.stream(IngredientEnum.values())
+            .filter(type -> type != IngredientEnum.BOTTOM_BUN && type != IngredientEnum.TOP_BUN)
+            .toList();
+    private static final double COOK_LEVEL = 0.5;
+    private static final double COOK_LEVEL_STEP = 0.05;
+
+    private HamburgerFixtures() {
+    }
+
+    /**
+     * Builds a hamburger between two buns, filled by cycling through the other ingredients, patties included.
+     *
+     * @param ingredients the number of ingredients, buns included,
+     *                    between {@link HamburgerModelImpl#MIN_INGREDIENTS} and {@link HamburgerModelImpl#MAX_INGREDIENTS}
+     * @param cookOffset  the offset added to the cook levels of the patties, to build a differently cooked copy
+     * @return the hamburger
+     */
+    public static HamburgerModel createHamburger(final int ingredients, final double cookOffset) {
+        if (ingredients < HamburgerModelImpl.MIN_INGREDIENTS || ingredients > HamburgerModelImpl.MAX_INGREDIENTS) {
+            throw new IllegalArgumentException("Invalid number of ingredients " + ingredients);
+        }
+
+        final HamburgerModel hamburger = new HamburgerModelImpl();
+        hamburger.addIngredient(new IngredientModelImpl(IngredientEnum.BOTTOM_BUN));
+        for (int index = 0; index < ingredients - 2; index++) {
+            final IngredientEnum type = FILLINGS.get(index % FILLINGS.size());
+            final IngredientModel ingredient;
+            if (type == IngredientEnum.PATTY) {
+                final PattyModelImpl patty = new PattyModelImpl();
+                patty.setBottomCookLevel(COOK_LEVEL + cookOffset);
+                patty.setTopCookLevel(COOK_LEVEL - cookOffset);
+                ingredient = patty;
+            } else {
+                ingredient = new IngredientModelImpl(type);
+            }
+            hamburger.addIngredient(ingredient);
+        }
+        hamburger.addIngredient(new IngredientModelImpl(IngredientEnum.TOP_BUN));
+        return hamburger;
+    }
+
+    /**
+     * Builds a grill with the given number of patties, placed row by row.
+     *
+     * @param patties the number of patties, at most {@link GameModelImpl#GRILL_ROWS} by
+     *                {@link GameModelImpl#GRILL_COLUMNS}
+     * @return the grill
+     */
+    public static PattyModel[][] createGrill(final int patties) {
+        if (patties < 0 || patties > GameModelImpl.GRILL_ROWS * GameModelImpl.GRILL_COLUMNS) {
+            throw new IllegalArgumentException("Invalid number of patties " + patties);
+        }
+
+        final PattyModel[][] grill = new PattyModel[GameModelImpl.GRILL_ROWS][GameModelImpl.GRILL_COLUMNS];
+        for (int index = 0; index < patties; index++) {
+            final PattyModel patty = new PattyModelImpl();
+            patty.setBottomCookLevel(index * COOK_LEVEL_STEP);
+            if (index % 2 == 0) {
+                patty.flip();
+            }
+            grill[index / GameModelImpl.GRILL_COLUMNS][index % GameModelImpl.GRILL_COLUMNS] = patty;
+        }
+        return grill;
+    }
+}
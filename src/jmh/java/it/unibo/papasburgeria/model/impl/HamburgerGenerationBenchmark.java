@@ -0,0 +1,52 @@
+package it.unibo.papasburgeria.model.impl;
+
+import it.unibo.papasburgeria.model.IngredientEnum;
+import it.unibo.papasburgeria.model.api.HamburgerModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generation of the random hamburger of an order.
+ *
+ * <p>
+ * The size of the generated hamburgers is random, between {@link HamburgerModelImpl#MIN_INGREDIENTS} and
+ * {@link HamburgerModelImpl#MAX_INGREDIENTS}, so the benchmark is instead run with the ingredients unlocked on the
+ * first day, halfway through the game and at its end.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HamburgerGenerationBenchmark {
+    @Param({"3", "7", "12"})
+    private int unlockedIngredients;
+
+    private List<IngredientEnum> availableIngredients;
+
+    /**
+     * Selects the unlocked ingredients, in the order they are declared.
+     */
+    @Setup
+    public void setUp() {
+        availableIngredients = Arrays.asList(IngredientEnum.values()).subList(0, unlockedIngredients);
+    }
+
+    /**
+     * Generates a random hamburger.
+     *
+     * @return the hamburger
+     */
+    @Benchmark
+    public HamburgerModel generateRandomHamburger() {
+        return PackedHamburgerModelImpl.generateRandomHamburger(availableIngredients);
+    }
+}
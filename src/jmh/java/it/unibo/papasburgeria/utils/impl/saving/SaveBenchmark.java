@@ -0,0 +1,76 @@
+package it.unibo.papasburgeria.utils.impl.saving;
+
+import it.unibo.papasburgeria.model.UpgradeEnum;
+import it.unibo.papasburgeria.utils.api.SaveService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the save and load latency of the JSON text format against the binary format.
+ *
+ * <p>
+ * Saves are measured until written, slots are kept in a temporary home directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SaveBenchmark {
+    private static final int SLOT = 0;
+    private static final int BALANCE = 1234;
+    private static final int DAY = 56;
+
+    @Param({"json", "binary"})
+    private String format;
+
+    private SaveService saveService;
+    private SaveState saveState;
+
+    /**
+     * Creates the service in a temporary home directory, with the slot already written.
+     *
+     * @throws IOException if the directories could not be created
+     */
+    @Setup
+    public void setUp() throws IOException {
+        System.setProperty("user.home", Files.createTempDirectory("save-benchmark").toString());
+        saveService = "binary".equals(format) ? new BinarySaveServiceImpl() : new SaveServiceImpl();
+
+        final Map<UpgradeEnum, Boolean> upgrades = new EnumMap<>(UpgradeEnum.class);
+        for (final UpgradeEnum upgrade : UpgradeEnum.values()) {
+            upgrades.put(upgrade, upgrade.ordinal() % 2 == 0);
+        }
+        saveState = new SaveState(BALANCE, DAY, upgrades);
+        saveService.saveSlot(SLOT, saveState).join();
+    }
+
+    /**
+     * Saves the slot and waits for it to be written.
+     */
+    @Benchmark
+    public void save() {
+        saveService.saveSlot(SLOT, saveState).join();
+    }
+
+    /**
+     * Loads the slot from its file.
+     *
+     * @return the loaded state
+     * @throws IOException if the slot could not be read
+     */
+    @Benchmark
+    public SaveState load() throws IOException {
+        return saveService.loadSlot(SLOT);
+    }
+}
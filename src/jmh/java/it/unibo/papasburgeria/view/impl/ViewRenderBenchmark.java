@@ -0,0 +1,232 @@
+package it.unibo.papasburgeria.view.impl;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.util.Modules;
+import it.unibo.papasburgeria.di.MainModule;
+import it.unibo.papasburgeria.model.IngredientEnum;
+import it.unibo.papasburgeria.model.LineEnum;
+import it.unibo.papasburgeria.model.api.GameModel;
+import it.unibo.papasburgeria.model.api.OrderModel;
+import it.unibo.papasburgeria.model.api.PantryModel;
+import it.unibo.papasburgeria.model.api.PattyModel;
+import it.unibo.papasburgeria.model.api.RegisterModel;
+import it.unibo.papasburgeria.model.impl.CustomerModelImpl;
+import it.unibo.papasburgeria.model.impl.GameModelImpl;
+import it.unibo.papasburgeria.model.impl.HamburgerFixtures;
+import it.unibo.papasburgeria.model.impl.HamburgerModelImpl;
+import it.unibo.papasburgeria.model.impl.OrderModelImpl;
+import it.unibo.papasburgeria.model.impl.PattyModelImpl;
+import it.unibo.papasburgeria.utils.api.SfxService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.swing.RepaintManager;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of rendering a frame of the gameplay views, without a window.
+ *
+ * <p>
+ * Each view is wired like in the game, its models filled from a scripted state: a full grill with cooked patties
+ * aside, a hamburger of {@link HamburgerModelImpl#MAX_INGREDIENTS} ingredients on assembly and five waiting orders.
+ * The view is then painted into an offscreen image of the given resolution, on every invocation, as the game view
+ * does on every frame. The time is reported per frame and, through the GC profiler, the bytes allocated per frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ViewRenderBenchmark {
+    private static final int LAST_DAY = Integer.MAX_VALUE;
+    private static final int GRILL_SIZE = GameModelImpl.GRILL_ROWS * GameModelImpl.GRILL_COLUMNS;
+    private static final int WAITING_ORDERS = 5;
+    private static final int COOKED_PATTIES = 3;
+    private static final double COOKED_LEVEL = 0.5;
+    private static final double COOK_OFFSET = 0.1;
+
+    static {
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    @Param({"grill", "assembly", "orderSelection", "evaluate"})
+    private String view;
+
+    @Param({"1280x720", "1920x1080", "2560x1440"})
+    private String resolution;
+
+    private AbstractBaseView sceneView;
+    private BufferedImage frame;
+    private Graphics2D graphics;
+
+    /**
+     * Wires the view, fills its models and shows it at the given resolution.
+     *
+     * @throws IOException if the temporary home directory could not be created
+     */
+    @Setup
+    public void setUp() throws IOException {
+        System.setProperty("user.home", Files.createTempDirectory("render-benchmark").toString());
+        final Injector injector = Guice.createInjector(Modules.override(new MainModule()).with(binder ->
+                binder.bind(SfxService.class).to(SilentSfxService.class)));
+        populate(injector);
+
+        sceneView = switch (view) {
+            case "grill" -> injector.getInstance(GrillViewImpl.class);
+            case "assembly" -> injector.getInstance(BurgerAssemblyViewImpl.class);
+            case "orderSelection" -> injector.getInstance(OrderSelectionViewImpl.class);
+            case "evaluate" -> injector.getInstance(EvaluateBurgerViewImpl.class);
+            default -> throw new IllegalArgumentException("Unknown view " + view);
+        };
+
+        final String[] size = resolution.split("x");
+        final int width = Integer.parseInt(size[0]);
+        final int height = Integer.parseInt(size[1]);
+
+        // painted directly into the frame, like the game view does through its double buffer
+        RepaintManager.currentManager(sceneView).setDoubleBufferingEnabled(false);
+        sceneView.setVisible(true);
+        sceneView.setSize(width, height);
+        sceneView.showScene();
+        sceneView.validate();
+        sceneView.doLayout();
+
+        frame = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        graphics = frame.createGraphics();
+    }
+
+    /**
+     * Releases the graphics of the frame.
+     */
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    /**
+     * Renders a frame of the view.
+     *
+     * @return the rendered frame
+     */
+    @Benchmark
+    public BufferedImage renderFrame() {
+        sceneView.paint(graphics);
+        return frame;
+    }
+
+    /**
+     * Fills the models with the scripted state of a busy day.
+     *
+     * @param injector the injector holding the models
+     */
+    private static void populate(final Injector injector) {
+        final GameModel gameModel = injector.getInstance(GameModel.class);
+        final PantryModel pantryModel = injector.getInstance(PantryModel.class);
+        final RegisterModel registerModel = injector.getInstance(RegisterModel.class);
+
+        pantryModel.unlockForDay(LAST_DAY);
+        gameModel.setPattiesOnGrill(HamburgerFixtures.createGrill(GRILL_SIZE));
+        final List<PattyModel> cookedPatties = new ArrayList<>();
+        for (int index = 0; index < COOKED_PATTIES; index++) {
+            final PattyModel patty = new PattyModelImpl();
+            patty.setBottomCookLevel(COOKED_LEVEL);
+            patty.setTopCookLevel(COOKED_LEVEL);
+            cookedPatties.add(patty);
+        }
+        gameModel.setCookedPatties(cookedPatties);
+        gameModel.setHamburgerOnAssembly(HamburgerFixtures.createHamburger(HamburgerModelImpl.MAX_INGREDIENTS,
+                COOK_OFFSET));
+
+        final List<IngredientEnum> ingredients = List.copyOf(pantryModel.getUnlockedIngredients());
+        for (int orderNumber = 1; orderNumber <= WAITING_ORDERS; orderNumber++) {
+            final OrderModel order = new OrderModelImpl(
+                    HamburgerFixtures.createHamburger(HamburgerModelImpl.MAX_INGREDIENTS, 0), orderNumber);
+            registerModel.addCustomerToLine(new CustomerModelImpl(order), LineEnum.WAIT_LINE);
+            if (orderNumber == 1) {
+                gameModel.setSelectedOrder(order);
+            }
+        }
+        registerModel.addCustomerToLine(new CustomerModelImpl(ingredients, WAITING_ORDERS + 1), LineEnum.REGISTER_LINE);
+    }
+
+    /**
+     * Sound service playing nothing, the rendering is measured without any audio line.
+     */
+    static final class SilentSfxService implements SfxService {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void playSound(final String soundName) {
+            // silent
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void playSound(final String soundName, final float volume) {
+            // silent
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void playSoundLooped(final String soundName) {
+            // silent
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void playSoundLooped(final String soundName, final float volume) {
+            // silent
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void stopSound(final String soundName) {
+            // silent
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void playMusic(final String musicName) {
+            // silent
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void playMusic(final String musicName, final float volume) {
+            // silent
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void stopMusic(final String musicName) {
+            // silent
+        }
+    }
+}
@@ -4,7 +4,12 @@ import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Stage;
 import it.unibo.papasburgeria.di.MainModule;
+import it.unibo.papasburgeria.utils.api.ResourceService;
+import it.unibo.papasburgeria.utils.impl.resource.ResourceServiceImpl;
 import it.unibo.papasburgeria.view.api.GameView;
+import it.unibo.papasburgeria.view.impl.components.LoadingWindow;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Main class.
@@ -24,9 +29,21 @@ public final class Main {
      * @param args arguments
      */
     public static void main(final String[] args) {
+        final LoadingWindow loadingWindow = new LoadingWindow();
+        loadingWindow.show();
+
+        /*
+         Resources are decoded in parallel while the injector is constructed, the views waiting
+         only for the ones they need that are still being decoded.
+        */
+        final ResourceService resourceService = new ResourceServiceImpl();
+        final CompletableFuture<Void> preloading = resourceService.preload(loadingWindow::setProgress);
+
         // Using the production stage to construct services before the game logic starts
-        final Injector injector = Guice.createInjector(Stage.PRODUCTION, new MainModule());
+        final Injector injector = Guice.createInjector(Stage.PRODUCTION, new MainModule(resourceService));
         final GameView gameView = injector.getInstance(GameView.class);
+        preloading.join();
+        loadingWindow.close();
         gameView.startGame();
     }
 }
@@ -1,9 +1,11 @@
 package it.unibo.papasburgeria.controller.api;
 
+import it.unibo.papasburgeria.model.LineEnum;
 import it.unibo.papasburgeria.model.api.CustomerModel;
 import it.unibo.papasburgeria.model.api.HamburgerModel;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Manages the appearance and disappearance of customers.
@@ -29,19 +31,44 @@ public interface CustomerController {
     void clearAllCustomers();
 
     /**
-     * starts the customer thread that periodically adds customers to register line.
+     * starts the arrival of the customers of the day, that are periodically added to register line.
      */
     void startClientThread();
 
     /**
-     * kills the customer thread.
+     * stops the arrival of the customers.
      */
     void stopClientThread();
 
     /**
-     * gets the customer thread status.
+     * Puts back the customers of a day that was in progress and resumes the arrival of the remaining ones.
      *
-     * @return true if customer thread is alive
+     * @param registerLine     the customers waiting to order
+     * @param waitLine         the customers waiting for their order
+     * @param arrivedCustomers how many customers of the day already arrived
+     * @param nextArrivalDelay the game time before the next customer arrives, in milliseconds
+     */
+    void resumeClientThread(List<CustomerModel> registerLine, List<CustomerModel> waitLine,
+                            int arrivedCustomers, long nextArrivalDelay);
+
+    /**
+     * Gets how many customers of the day already arrived.
+     *
+     * @return the number of arrived customers
+     */
+    int getArrivedCustomers();
+
+    /**
+     * Gets the game time before the next customer arrives.
+     *
+     * @return the delay in milliseconds, 0 if no more customers have to arrive
+     */
+    long getNextArrivalDelay();
+
+    /**
+     * gets the customer arrival status.
+     *
+     * @return true if some customers still have to arrive
      */
     boolean isCustomerThreadStatus();
 
@@ -59,6 +86,13 @@ public interface CustomerController {
      */
     List<CustomerModel> getWaitLine();
 
+    /**
+     * Adds a callback that is executed every time one of the lines changes, on the thread that changed it.
+     *
+     * @param callback the callback receiving the line that changed.
+     */
+    void onLineChanged(Consumer<LineEnum> callback);
+
     /**
      * calculates the satisfaction percentage of the customer.
      *
@@ -91,6 +125,16 @@ public interface CustomerController {
      */
     void addBalance(int payment);
 
+    /**
+     * adds the payment and the tip of a served order to the balance, recording them in the journal of the slot in use.
+     *
+     * @param orderNumber  the number of the served order
+     * @param satisfaction the satisfaction percentage of the customer
+     * @param payment      the payment without tip
+     * @param tip          the tip
+     */
+    void recordServedOrder(int orderNumber, double satisfaction, int payment, int tip);
+
     /**
      * gets the customer's balance.
      *
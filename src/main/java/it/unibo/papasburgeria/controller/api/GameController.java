@@ -2,6 +2,8 @@ package it.unibo.papasburgeria.controller.api;
 
 import it.unibo.papasburgeria.utils.api.scene.SceneType;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Manages the interactions between the game logic (GameModel) and the GUI (GameView).
  */
@@ -30,22 +32,32 @@ public interface GameController {
     void nextDay();
 
     /**
-     * Processes data saving for current slot number, provides success feedback.
+     * Processes data saving for current slot number in the background, provides success feedback.
      *
-     * @return whether the save is successful or not
+     * @return future completed with whether the save is successful or not, false if no slot is in use
      */
-    boolean processSave();
+    CompletableFuture<Boolean> processSave();
 
     /**
-     * Processes data saving for the given slot number, provides success feedback.
+     * Processes data saving for the given slot number in the background, provides success feedback.
      *
      * @param slotNumber slot number
-     * @return whether the save is successful or not
+     * @return future completed with whether the save is successful or not
+     */
+    CompletableFuture<Boolean> processSave(int slotNumber);
+
+    /**
+     * Processes a snapshot of the whole state for the current slot number, day in progress included, so that it can
+     * be resumed exactly where it stopped. The state is captured on the calling thread and written in the background,
+     * nothing is written if it did not change since the last snapshot.
+     *
+     * @return future completed with whether the snapshot is successful or not, false if no slot is in use
      */
-    boolean processSave(int slotNumber);
+    CompletableFuture<Boolean> processSnapshot();
 
     /**
-     * Processes data loading for the given slot number, provides success feedback.
+     * Processes data loading for the given slot number, resuming the day in progress if it was saved,
+     * provides success feedback.
      *
      * @param slotNumber slot number
      * @return whether the loading is successful or not
@@ -10,14 +10,15 @@ import java.util.List;
 public interface GrillController {
 
     /**
-     * Returns the matrix of patties that are on the grill.
+     * Returns the matrix of patties that are on the grill shown to the player, the one of the first station.
+     * The other stations are only filled through {@link #placePattyOnGrill(PattyModel)}, by the day simulation.
      *
      * @return the matrix of patties
      */
     PattyModel[][] getPattiesOnGrill();
 
     /**
-     * Adds the patty to the grill if the slot is free.
+     * Adds the patty to the grill shown to the player if the slot is free.
      *
      * @param patty            the patty to add to the grill
      * @param pbPositionXScale the x position in a scale of the patty
@@ -26,10 +27,28 @@ public interface GrillController {
      */
     boolean addPattyOnGrill(PattyModel patty, double pbPositionXScale, double pbPositionYScale);
 
+    /**
+     * Moves a patty on the grill shown to the player to another slot if that slot is free.
+     *
+     * @param patty            the patty on the grill
+     * @param pbPositionXScale the x position in a scale of the destination
+     * @param pbPositionYScale the y position in a scale of the destination
+     * @return true if the patty was moved, false otherwise
+     */
+    boolean movePattyOnGrill(PattyModel patty, double pbPositionXScale, double pbPositionYScale);
+
+    /**
+     * Adds the patty to the first free slot of any grill station.
+     *
+     * @param patty the patty to add to a grill
+     * @return the patty on the grill, which finds its slot by identity, null if every grill is full
+     */
+    PattyModel placePattyOnGrill(PattyModel patty);
+
     /**
      * Removes the patty from the grill.
      *
-     * @param patty the patty to remove
+     * @param patty the patty to remove, as read from a grill
      */
     void removePattyFromGrill(PattyModel patty);
 
@@ -56,15 +75,17 @@ public interface GrillController {
     void removeCookedPatty(PattyModel patty);
 
     /**
-     * Flips the patty.
+     * Flips the patty on the grill.
      *
-     * @param patty the patty to flip
+     * @param patty the patty to flip, as read from a grill
      */
     void flipPatty(PattyModel patty);
 
     /**
-     * Cooks all the patties on the grill.
+     * Cooks all the patties on the grills for the given amount of time.
+     *
+     * @param deltaSeconds the elapsed time in seconds
      */
-    void cookPattiesOnGrill();
+    void cookPattiesOnGrill(double deltaSeconds);
 }
 
@@ -17,9 +17,25 @@ public interface MenuController {
     int getCurrentlyUsedSaveIndex();
 
     /**
-     * Returns a list of info DTOs, one for each save.
+     * Returns the number of saves.
      *
+     * @return number of saves
+     */
+    int getSaveCount();
+
+    /**
+     * Returns a page of info DTOs, one for each save, in order of save index.
+     *
+     * @param offset position of the first save of the page
+     * @param count  maximum number of saves of the page
      * @return list of SaveInfo DTOs
      */
-    List<SaveInfo> getSaves();
+    List<SaveInfo> getSaves(int offset, int count);
+
+    /**
+     * Returns the save index a new save can be created with.
+     *
+     * @return free save index
+     */
+    int getNextFreeSaveIndex();
 }
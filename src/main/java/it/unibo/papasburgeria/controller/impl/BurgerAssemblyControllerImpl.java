@@ -18,9 +18,6 @@ import static it.unibo.papasburgeria.model.impl.GameModelImpl.MAX_COOKED_PATTIES
 import static it.unibo.papasburgeria.model.impl.HamburgerModelImpl.MAX_INGREDIENTS;
 import static it.unibo.papasburgeria.model.impl.IngredientModelImpl.MAX_LEFT_ACCURACY;
 import static it.unibo.papasburgeria.model.impl.IngredientModelImpl.MAX_RIGHT_ACCURACY;
-import static it.unibo.papasburgeria.view.impl.BurgerAssemblyViewImpl.HAMBURGER_X_POS_SCALE;
-import static it.unibo.papasburgeria.view.impl.BurgerAssemblyViewImpl.MAX_X_POS_SCALE_TO_DROP_ON_HAMBURGER;
-import static it.unibo.papasburgeria.view.impl.BurgerAssemblyViewImpl.MIN_X_POS_SCALE_TO_DROP_ON_HAMBURGER;
 
 /**
  * Manages the interaction between the View and the Model for the burger assembly scene.
@@ -28,6 +25,25 @@ import static it.unibo.papasburgeria.view.impl.BurgerAssemblyViewImpl.MIN_X_POS_
 @Singleton
 @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The models are injected and shared intentionally")
 public class BurgerAssemblyControllerImpl implements BurgerAssemblyController {
+    /**
+     * Defines the minimum x position to drop the ingredient in the hamburger.
+     */
+    public static final double MIN_X_POS_SCALE_TO_DROP_ON_HAMBURGER = 0.31;
+    /**
+     * Defines the maximum x position to drop the ingredient in the hamburger.
+     */
+    public static final double MAX_X_POS_SCALE_TO_DROP_ON_HAMBURGER = 0.55;
+    /**
+     * Defines the half-range to drop perfectly.
+     */
+    public static final double HALF_RANGE =
+            (MAX_X_POS_SCALE_TO_DROP_ON_HAMBURGER - MIN_X_POS_SCALE_TO_DROP_ON_HAMBURGER) / 2.0;
+    /**
+     * Defines the x position of the hamburger.
+     */
+    public static final double HAMBURGER_X_POS_SCALE =
+            (MIN_X_POS_SCALE_TO_DROP_ON_HAMBURGER + MAX_X_POS_SCALE_TO_DROP_ON_HAMBURGER) / 2.0;
+
     private final GameModel model;
     private final PantryModel pantryModel;
     private final RegisterModel registerModel;
@@ -54,7 +70,7 @@ public class BurgerAssemblyControllerImpl implements BurgerAssemblyController {
      */
     @Override
     public boolean addIngredient(final IngredientModel ingredient) {
-        if (model.getHamburgerOnAssembly().getIngredients().size() == MAX_INGREDIENTS + 2) {
+        if (model.getHamburgerOnAssembly().getIngredientCount() == MAX_INGREDIENTS + 2) {
             return false;
         }
 
@@ -72,7 +88,7 @@ public class BurgerAssemblyControllerImpl implements BurgerAssemblyController {
     @Override
     public void removeLastIngredient() {
         final HamburgerModel hamburger = model.getHamburgerOnAssembly();
-        if (hamburger.getIngredients().isEmpty()) {
+        if (hamburger.getIngredientCount() == 0) {
             return;
         }
 
@@ -86,7 +102,7 @@ public class BurgerAssemblyControllerImpl implements BurgerAssemblyController {
      */
     @Override
     public HamburgerModel getHamburgerOnAssembly() {
-        return model.getHamburgerOnAssembly().copyOf();
+        return model.getHamburgerOnAssembly();
     }
 
     /**
@@ -134,10 +150,8 @@ public class BurgerAssemblyControllerImpl implements BurgerAssemblyController {
      */
     @Override
     public double calculateAccuracy(final double pbPositionXScale) {
-        final double halfRange =
-                (MAX_X_POS_SCALE_TO_DROP_ON_HAMBURGER - MIN_X_POS_SCALE_TO_DROP_ON_HAMBURGER) / 2.0;
         final double difference = pbPositionXScale - HAMBURGER_X_POS_SCALE;
-        final double accuracy = difference / halfRange;
+        final double accuracy = difference / HALF_RANGE;
         return Math.max(MAX_LEFT_ACCURACY, Math.min(MAX_RIGHT_ACCURACY, accuracy));
     }
 
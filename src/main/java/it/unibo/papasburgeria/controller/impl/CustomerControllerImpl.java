@@ -4,20 +4,22 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import it.unibo.papasburgeria.controller.api.CustomerController;
 import it.unibo.papasburgeria.model.CustomerDifficultyEnum;
+import it.unibo.papasburgeria.model.IngredientEnum;
 import it.unibo.papasburgeria.model.LineEnum;
 import it.unibo.papasburgeria.model.UpgradeEnum;
 import it.unibo.papasburgeria.model.api.CustomerModel;
 import it.unibo.papasburgeria.model.api.GameModel;
 import it.unibo.papasburgeria.model.api.HamburgerModel;
-import it.unibo.papasburgeria.model.api.IngredientModel;
 import it.unibo.papasburgeria.model.api.PantryModel;
-import it.unibo.papasburgeria.model.api.PattyModel;
 import it.unibo.papasburgeria.model.api.RegisterModel;
 import it.unibo.papasburgeria.model.api.ShopModel;
 import it.unibo.papasburgeria.model.impl.HamburgerModelImpl;
+import it.unibo.papasburgeria.utils.api.JournalService;
+import it.unibo.papasburgeria.utils.impl.saving.OrderServedEvent;
 
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 /**
  * Manages the appearance and disappearance of customers.
@@ -36,17 +38,20 @@ public class CustomerControllerImpl implements CustomerController {
     private final ShopModel shop;
     private final RegisterModel registerModel;
     private final PantryModel pantryModel;
+    private final JournalService journalService;
 
     @Inject
     CustomerControllerImpl(
             final GameModel model,
             final ShopModel shop,
             final RegisterModel registerModel,
-            final PantryModel pantryModel) {
+            final PantryModel pantryModel,
+            final JournalService journalService) {
         this.model = model;
         this.shop = shop;
         this.registerModel = registerModel;
         this.pantryModel = pantryModel;
+        this.journalService = journalService;
     }
 
     /**
@@ -71,35 +76,42 @@ public class CustomerControllerImpl implements CustomerController {
      */
     @Override
     public void startClientThread() {
+        resumeClientThread(List.of(), List.of(), 0, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void resumeClientThread(final List<CustomerModel> registerLine, final List<CustomerModel> waitLine,
+                                   final int arrivedCustomers, final long nextArrivalDelay) {
         clearAllCustomers();
-        final CustomerDifficultyEnum difficulty;
-        switch (model.getCurrentDay()) {
-            case 1:
-                difficulty = CustomerDifficultyEnum.FIRST;
-                break;
-
-            case 2:
-                difficulty = CustomerDifficultyEnum.SECOND;
-                break;
-
-            case 3:
-                difficulty = CustomerDifficultyEnum.THIRD;
-                break;
-
-            case 4:
-                difficulty = CustomerDifficultyEnum.FORTH;
-                break;
-
-            default:
-                difficulty = CustomerDifficultyEnum.FIFTH;
-                break;
-        }
+        registerLine.forEach(customer -> registerModel.addCustomerToLine(customer, LineEnum.REGISTER_LINE));
+        waitLine.forEach(customer -> registerModel.addCustomerToLine(customer, LineEnum.WAIT_LINE));
+
+        final CustomerDifficultyEnum difficulty = CustomerDifficultyEnum.fromDay(model.getCurrentDay());
+        registerModel.resumeCustomerThread(
+                difficulty.getSpawnIntervalSeconds(shop.getUpgradeModifier(UpgradeEnum.SLOW_CUSTOMERS)),
+                difficulty.getCustomerCount(shop.getUpgradeModifier(UpgradeEnum.LESS_CUSTOMERS)),
+                pantryModel.getUnlockedIngredients().stream().toList(),
+                arrivedCustomers,
+                nextArrivalDelay);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getArrivedCustomers() {
+        return registerModel.getArrivedCustomers();
+    }
 
-        registerModel.startCustomerThread((int) (difficulty.getSpawnIntervalSeconds()
-                        + (difficulty.getSpawnIntervalSeconds() * shop.getUpgradeModifier(UpgradeEnum.SLOW_CUSTOMERS))),
-                (int) (difficulty.getCustomerCount()
-                        - (difficulty.getCustomerCount() * shop.getUpgradeModifier(UpgradeEnum.LESS_CUSTOMERS))),
-                pantryModel.getUnlockedIngredients().stream().toList());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNextArrivalDelay() {
+        return registerModel.getNextArrivalDelay();
     }
 
     /**
@@ -134,6 +146,14 @@ public class CustomerControllerImpl implements CustomerController {
         return registerModel.getLine(LineEnum.WAIT_LINE);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onLineChanged(final Consumer<LineEnum> callback) {
+        registerModel.onLineChanged(callback);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -149,32 +169,46 @@ public class CustomerControllerImpl implements CustomerController {
     @Override
     public double calculateSatisfactionPercentage(final HamburgerModel startingHamburger,
                                                   final HamburgerModel madeHamburger) {
-        final List<IngredientModel> list1 = startingHamburger.getIngredients();
-        final List<IngredientModel> list2 = madeHamburger.getIngredients();
+        final SatisfactionEvent event = new SatisfactionEvent();
+        event.begin();
+        final double satisfaction = compareHamburgers(startingHamburger, madeHamburger);
+        if (event.shouldCommit()) {
+            event.orderedIngredients = startingHamburger.getIngredientCount();
+            event.madeIngredients = madeHamburger.getIngredientCount();
+            event.satisfaction = satisfaction;
+            event.commit();
+        }
+        return satisfaction;
+    }
+
+    /**
+     * Compares the hamburger made with the one ordered.
+     *
+     * @param startingHamburger the hamburger ordered
+     * @param madeHamburger     the hamburger made
+     * @return the satisfaction percentage, between 0 and 1
+     */
+    private double compareHamburgers(final HamburgerModel startingHamburger, final HamburgerModel madeHamburger) {
+        final int startingCount = startingHamburger.getIngredientCount();
+        final int madeCount = madeHamburger.getIngredientCount();
 
         /*if either of them are empty, return satisfacion % 0 */
-        if (list1 == null || list2 == null || list1.isEmpty() || list2.isEmpty()) {
+        if (startingCount == 0 || madeCount == 0) {
             return 0;
         }
 
-        final int minLength = Math.min(list1.size(), list2.size());
+        final int minLength = Math.min(startingCount, madeCount);
         int matchCount = 0;
 
         double totalCookDifference = 0;
         int pattyComparisons = 0;
         for (int i = 0; i < minLength; i++) {
-            final Object a = list1.get(i);
-            final Object b = list2.get(i);
-
-            if (a == null || b == null) {
-                continue;
-            }
-
-            if (a.equals(b) && a.getClass().equals(b.getClass())) {
+            if (isSameIngredient(startingHamburger, madeHamburger, i)) {
                 matchCount++;
-                if (a instanceof PattyModel && b instanceof PattyModel) {
-                    final double diff = Math.abs(((PattyModel) a).getBottomCookLevel() - ((PattyModel) b).getBottomCookLevel())
-                            + Math.abs(((PattyModel) a).getTopCookLevel() - ((PattyModel) b).getTopCookLevel());
+                if (startingHamburger.getIngredientType(i) == IngredientEnum.PATTY) {
+                    final double diff = Math.abs(startingHamburger.getBottomCookLevel(i)
+                            - madeHamburger.getBottomCookLevel(i))
+                            + Math.abs(startingHamburger.getTopCookLevel(i) - madeHamburger.getTopCookLevel(i));
 
                     totalCookDifference += diff;
                     pattyComparisons++;
@@ -191,7 +225,7 @@ public class CustomerControllerImpl implements CustomerController {
         }
 
         /* normalize by the max length to penalize extra/missing elements */
-        final int maxLength = Math.max(list1.size(), list2.size());
+        final int maxLength = Math.max(startingCount, madeCount);
         double similarityPercentage = (double) matchCount / maxLength
                 + shop.getUpgradeModifier(UpgradeEnum.INGREDIENT_TOLERANCE);
         if (similarityPercentage > 1.0) {
@@ -199,11 +233,11 @@ public class CustomerControllerImpl implements CustomerController {
         }
 
         double placementAccuracyTotal = 0.0;
-        for (final IngredientModel ingredient : list1) {
-            placementAccuracyTotal += ingredient.getPlacementAccuracy();
+        for (int i = 0; i < startingCount; i++) {
+            placementAccuracyTotal += startingHamburger.getPlacementAccuracy(i);
         }
         /* calculates the placement accuracy (1 - (averageAccuracy)) */
-        double placementPercentage = 1.0 - (placementAccuracyTotal / list1.size())
+        double placementPercentage = 1.0 - (placementAccuracyTotal / startingCount)
                 + shop.getUpgradeModifier(UpgradeEnum.PLACEMENT_TOLERANCE);
         if (placementPercentage > 1.0) {
             placementPercentage = 1.0;
@@ -211,7 +245,7 @@ public class CustomerControllerImpl implements CustomerController {
 
         /* calculates the difficulty percentage (size/maxsize) */
         final double ignoreTwoIngredients = 2.0;
-        final double difficultyPercentage = (list1.size() - ignoreTwoIngredients) / HamburgerModelImpl.MAX_INGREDIENTS;
+        final double difficultyPercentage = (startingCount - ignoreTwoIngredients) / HamburgerModelImpl.MAX_INGREDIENTS;
 
         final double similarityPercentageWeight = 6.0;
         final double placementPercentageWeight = 2.0;
@@ -219,6 +253,27 @@ public class CustomerControllerImpl implements CustomerController {
                 + placementPercentage * placementPercentageWeight + pattySimilarityPercentage) / 10;
     }
 
+    /**
+     * Compares two ingredients like they are compared by their equals method, so the placement accuracies are
+     * ignored while the cook levels of the patties are not.
+     *
+     * @param first  the first hamburger
+     * @param second the second hamburger
+     * @param index  the position of the ingredients to compare
+     * @return true if the ingredients are the same, false otherwise
+     */
+    private static boolean isSameIngredient(final HamburgerModel first, final HamburgerModel second,
+                                            final int index) {
+        final IngredientEnum type = first.getIngredientType(index);
+        if (type != second.getIngredientType(index)) {
+            return false;
+        }
+        return type != IngredientEnum.PATTY
+                || Double.compare(first.getTopCookLevel(index), second.getTopCookLevel(index)) == 0
+                && Double.compare(first.getBottomCookLevel(index), second.getBottomCookLevel(index)) == 0
+                && first.isFlipped(index) == second.isFlipped(index);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -251,6 +306,15 @@ public class CustomerControllerImpl implements CustomerController {
         model.setBalance(model.getBalance() + payment);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordServedOrder(final int orderNumber, final double satisfaction, final int payment, final int tip) {
+        addBalance(payment + tip);
+        journalService.append(new OrderServedEvent(model.getCurrentDay(), orderNumber, satisfaction, payment, tip));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -7,8 +7,6 @@ import it.unibo.papasburgeria.model.api.HamburgerModel;
 import it.unibo.papasburgeria.model.api.OrderModel;
 import it.unibo.papasburgeria.model.impl.HamburgerModelImpl;
 
-import java.util.Objects;
-
 /**
  * controller for the evaluateBurger.
  */
@@ -28,11 +26,7 @@ public class EvaluateBurgerControllerImpl implements EvaluateBurgerController {
      */
     @Override
     public HamburgerModel getHamburgerOnAssembly() {
-        if (Objects.isNull(model.getHamburgerOnAssembly())) {
-            return null;
-        } else {
-            return model.getHamburgerOnAssembly().copyOf();
-        }
+        return model.getHamburgerOnAssembly();
     }
 
     /**
@@ -40,11 +34,7 @@ public class EvaluateBurgerControllerImpl implements EvaluateBurgerController {
      */
     @Override
     public OrderModel getSelectedOrder() {
-        if (Objects.isNull(model.getSelectedOrder())) {
-            return null;
-        } else {
-            return model.getSelectedOrder().copyOf();
-        }
+        return model.getSelectedOrder();
     }
 
     /**
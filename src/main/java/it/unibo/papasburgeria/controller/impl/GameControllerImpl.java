@@ -4,16 +4,27 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.papasburgeria.controller.api.CustomerController;
 import it.unibo.papasburgeria.controller.api.GameController;
 import it.unibo.papasburgeria.model.api.GameModel;
+import it.unibo.papasburgeria.model.api.GameScheduler;
 import it.unibo.papasburgeria.model.api.PantryModel;
 import it.unibo.papasburgeria.model.api.ShopModel;
+import it.unibo.papasburgeria.utils.api.JournalService;
 import it.unibo.papasburgeria.utils.api.ResourceService;
 import it.unibo.papasburgeria.utils.api.SaveService;
 import it.unibo.papasburgeria.utils.api.scene.SceneService;
 import it.unibo.papasburgeria.utils.api.scene.SceneType;
+import it.unibo.papasburgeria.utils.impl.saving.DayState;
+import it.unibo.papasburgeria.utils.impl.saving.JournalEntry;
+import it.unibo.papasburgeria.utils.impl.saving.OrderServedEvent;
+import it.unibo.papasburgeria.utils.impl.saving.OrderState;
 import it.unibo.papasburgeria.utils.impl.saving.SaveState;
+import it.unibo.papasburgeria.utils.impl.saving.UpgradeBoughtEvent;
 import jakarta.inject.Inject;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementation of GameController.
@@ -23,6 +34,11 @@ import java.io.IOException;
  */
 @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "model is injected and shared intentionally")
 public class GameControllerImpl implements GameController {
+    /**
+     * Defines the framerate.
+     */
+    public static final int FRAMERATE = 60;
+
     private final GameModel gameModel;
     private final PantryModel pantryModel;
     private final ShopModel shopModel;
@@ -30,6 +46,9 @@ public class GameControllerImpl implements GameController {
     private final ResourceService resourceService;
     private final SaveService saveService;
     private final CustomerController customerController;
+    private final GameScheduler gameScheduler;
+    private final JournalService journalService;
+    private SaveState lastSnapshot;
 
     /**
      * Constructs the controller with its model and several utility classes like for scene-switching or resource disposing.
@@ -41,6 +60,8 @@ public class GameControllerImpl implements GameController {
      * @param resourceService    service required to handle resources
      * @param saveService        service responsible for saving slot data
      * @param customerController used to kill customerThread when the game ends
+     * @param gameScheduler      the clock of the game, paused while the menu is shown
+     * @param journalService     service recording the balance changes between two saves
      */
     @Inject
     public GameControllerImpl(
@@ -50,7 +71,9 @@ public class GameControllerImpl implements GameController {
             final SceneService sceneService,
             final ResourceService resourceService,
             final SaveService saveService,
-            final CustomerController customerController
+            final CustomerController customerController,
+            final GameScheduler gameScheduler,
+            final JournalService journalService
     ) {
         this.gameModel = gameModel;
         this.pantryModel = pantryModel;
@@ -59,6 +82,8 @@ public class GameControllerImpl implements GameController {
         this.resourceService = resourceService;
         this.saveService = saveService;
         this.customerController = customerController;
+        this.gameScheduler = gameScheduler;
+        this.journalService = journalService;
     }
 
     /**
@@ -66,6 +91,13 @@ public class GameControllerImpl implements GameController {
      */
     @Override
     public void startGame() {
+        sceneService.onSceneChanged(sceneType -> {
+            if (sceneType == SceneType.MENU) {
+                gameScheduler.pause();
+            } else {
+                gameScheduler.resume();
+            }
+        });
         sceneService.switchTo(SceneType.MENU);
         customerController.startClientThread();
     }
@@ -76,6 +108,7 @@ public class GameControllerImpl implements GameController {
     @Override
     public void endGame() {
         customerController.stopClientThread();
+        journalService.flush().join();
         resourceService.dispose();
     }
 
@@ -103,28 +136,75 @@ public class GameControllerImpl implements GameController {
      * {@inheritDoc}
      */
     @Override
-    public boolean processSave() {
+    public CompletableFuture<Boolean> processSave() {
         final int slotIndex = this.gameModel.getCurrentSaveSlot();
-        return slotIndex >= 0 && this.processSave(slotIndex);
+        return slotIndex >= 0 ? this.processSave(slotIndex) : CompletableFuture.completedFuture(false);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public boolean processSave(final int slotNumber) {
-        try {
-            this.saveService.saveSlot(slotNumber,
-                    new SaveState(
-                            this.gameModel.getBalance(),
-                            this.gameModel.getCurrentDay(),
-                            this.shopModel.getUpgrades()
-                    )
-            );
-            return true;
-        } catch (final IOException e) {
-            return false;
+    public CompletableFuture<Boolean> processSave(final int slotNumber) {
+        final SaveState saveState = this.captureSaveState();
+        this.lastSnapshot = saveState;
+        return this.saveState(slotNumber, saveState);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> processSnapshot() {
+        final int slotIndex = this.gameModel.getCurrentSaveSlot();
+        if (slotIndex < 0) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        final SaveState saveState = this.captureSaveState();
+        if (saveState.equals(this.lastSnapshot)) {
+            return CompletableFuture.completedFuture(true);
         }
+        this.lastSnapshot = saveState;
+        return this.saveState(slotIndex, saveState);
+    }
+
+    /**
+     * Saves the state to the slot, then drops the journal entries it includes.
+     *
+     * @param slotNumber slot number
+     * @param saveState  the state to save
+     * @return future completed with whether the state was saved
+     */
+    private CompletableFuture<Boolean> saveState(final int slotNumber, final SaveState saveState) {
+        return this.saveService.saveSlot(slotNumber, saveState)
+                .whenComplete((result, exception) -> {
+                    if (exception == null) {
+                        this.journalService.compact(slotNumber, saveState.lastJournalSequence());
+                    }
+                })
+                .handle((result, exception) -> exception == null);
+    }
+
+    /**
+     * Captures the whole state of the game, the day in progress included.
+     *
+     * @return the captured state
+     */
+    private SaveState captureSaveState() {
+        return new SaveState(
+                this.gameModel.getBalance(),
+                this.gameModel.getCurrentDay(),
+                this.shopModel.getUpgrades(),
+                DayState.of(
+                        this.gameModel,
+                        this.customerController.getRegisterLine(),
+                        this.customerController.getWaitLine(),
+                        this.customerController.getArrivedCustomers(),
+                        this.customerController.getNextArrivalDelay()
+                ),
+                this.journalService.getLastSequence()
+        );
     }
 
     /**
@@ -134,6 +214,8 @@ public class GameControllerImpl implements GameController {
     public boolean processLoad(final int slotNumber) {
         try {
             final SaveState saveState = this.saveService.loadSlot(slotNumber);
+            final List<JournalEntry> journalEntries = this.journalService.open(slotNumber,
+                    saveState.lastJournalSequence());
             this.gameModel.reset();
             this.gameModel.setCurrentSaveSlot(slotNumber);
             this.gameModel.setCurrentDay(saveState.gameDay());
@@ -145,7 +227,39 @@ public class GameControllerImpl implements GameController {
                     this.shopModel.unlockUpgrade(upgradeEnum);
                 }
             });
-            this.customerController.startClientThread(); // is controller -> controller the only way?
+
+            // replays the balance changes recorded after the state was saved
+            final Set<Integer> servedOrders = new HashSet<>();
+            for (final JournalEntry entry : journalEntries) {
+                this.gameModel.setBalance(this.gameModel.getBalance() + entry.event().getBalanceChange());
+                if (entry.event() instanceof UpgradeBoughtEvent upgrade) {
+                    this.shopModel.unlockUpgrade(upgrade.upgrade());
+                } else if (entry.event() instanceof OrderServedEvent order && order.gameDay() == saveState.gameDay()) {
+                    servedOrders.add(order.orderNumber());
+                }
+            }
+
+            final DayState dayState = saveState.dayState();
+            if (dayState == null) {
+                this.customerController.startClientThread(); // is controller -> controller the only way?
+            } else {
+                this.gameModel.setHamburgerOnAssembly(dayState.createHamburgerOnAssembly());
+                this.gameModel.setPattiesOnGrill(dayState.createPattiesOnGrill());
+                this.gameModel.setCookedPatties(dayState.createCookedPatties());
+                final OrderState selectedOrder = dayState.selectedOrder();
+                if (selectedOrder != null && !servedOrders.contains(selectedOrder.orderNumber())) {
+                    this.gameModel.setSelectedOrder(dayState.createSelectedOrder());
+                }
+                this.customerController.resumeClientThread(
+                        DayState.createCustomers(dayState.registerLine()),
+                        DayState.createCustomers(dayState.waitLine().stream()
+                                .filter(customer -> !servedOrders.contains(customer.order().orderNumber()))
+                                .toList()),
+                        dayState.arrivedCustomers(),
+                        dayState.nextArrivalDelay()
+                );
+            }
+            this.lastSnapshot = saveState;
             return true;
         } catch (final IOException e) {
             return false;
@@ -180,6 +294,12 @@ public class GameControllerImpl implements GameController {
                 ", customerController="
                 + customerController
                 +
+                ", gameScheduler="
+                + gameScheduler
+                +
+                ", journalService="
+                + journalService
+                +
                 '}';
     }
 }
@@ -5,22 +5,14 @@ import com.google.inject.Singleton;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.papasburgeria.controller.api.GrillController;
 import it.unibo.papasburgeria.model.api.GameModel;
+import it.unibo.papasburgeria.model.api.GrillModel;
 import it.unibo.papasburgeria.model.api.PattyModel;
 
 import java.util.List;
-import java.util.Objects;
 
-import static it.unibo.papasburgeria.model.impl.GameModelImpl.GRILL_COLUMNS;
-import static it.unibo.papasburgeria.model.impl.GameModelImpl.GRILL_ROWS;
 import static it.unibo.papasburgeria.model.impl.GameModelImpl.MAX_COOKED_PATTIES;
 import static it.unibo.papasburgeria.model.impl.PattyModelImpl.MAX_COOK_LEVEL;
 import static it.unibo.papasburgeria.model.impl.PattyModelImpl.MIN_COOK_LEVEL;
-import static it.unibo.papasburgeria.view.impl.GameViewImpl.FRAMERATE;
-import static it.unibo.papasburgeria.view.impl.GrillViewImpl.COOK_LEVEL_INCREMENT_PER_SECOND;
-import static it.unibo.papasburgeria.view.impl.GrillViewImpl.MAX_X_POS_SCALE_TO_DROP_ON_GRILL;
-import static it.unibo.papasburgeria.view.impl.GrillViewImpl.MAX_Y_POS_SCALE_TO_DROP_ON_GRILL;
-import static it.unibo.papasburgeria.view.impl.GrillViewImpl.MIN_X_POS_SCALE_TO_DROP_ON_GRILL;
-import static it.unibo.papasburgeria.view.impl.GrillViewImpl.MIN_Y_POS_SCALE_TO_DROP_ON_GRILL;
 
 /**
  * Manages the interaction between the View and the Model for the grill scene.
@@ -28,6 +20,25 @@ import static it.unibo.papasburgeria.view.impl.GrillViewImpl.MIN_Y_POS_SCALE_TO_
 @Singleton
 @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The game model is injected and shared intentionally")
 public class GrillControllerImpl implements GrillController {
+    /**
+     * Defines the minimum x position to drop a patty on the grill.
+     */
+    public static final double MIN_X_POS_SCALE_TO_DROP_ON_GRILL = 0.232;
+    /**
+     * Defines the maximum x position to drop a patty on the grill.
+     */
+    public static final double MAX_X_POS_SCALE_TO_DROP_ON_GRILL = 0.742;
+    /**
+     * Defines the minimum y position to drop a patty on the grill.
+     */
+    public static final double MIN_Y_POS_SCALE_TO_DROP_ON_GRILL = 0.203;
+    /**
+     * Defines the maximum y position to drop a patty on the grill.
+     */
+    public static final double MAX_Y_POS_SCALE_TO_DROP_ON_GRILL = 0.981;
+
+    private static final int SHOWN_STATION = 0;
+
     private final GameModel model;
 
     /**
@@ -45,7 +56,14 @@ public class GrillControllerImpl implements GrillController {
      */
     @Override
     public PattyModel[][] getPattiesOnGrill() {
-        return model.getPattiesOnGrill();
+        final GrillModel grill = model.getGrill(SHOWN_STATION);
+        final PattyModel[][] pattiesOnGrill = new PattyModel[grill.getRows()][grill.getColumns()];
+        for (int row = 0; row < pattiesOnGrill.length; row++) {
+            for (int column = 0; column < pattiesOnGrill[row].length; column++) {
+                pattiesOnGrill[row][column] = grill.getPatty(row, column);
+            }
+        }
+        return pattiesOnGrill;
     }
 
     /**
@@ -56,20 +74,45 @@ public class GrillControllerImpl implements GrillController {
                                    final double pbPositionXScale,
                                    final double pbPositionYScale
     ) {
-        final PattyModel[][] pattiesOnGrill = model.getPattiesOnGrill();
+        final GrillModel grill = model.getGrill(SHOWN_STATION);
+        final int row = calculatePosition(pbPositionYScale,
+                MIN_Y_POS_SCALE_TO_DROP_ON_GRILL,
+                MAX_Y_POS_SCALE_TO_DROP_ON_GRILL,
+                grill.getRows());
+        final int column = calculatePosition(pbPositionXScale,
+                MIN_X_POS_SCALE_TO_DROP_ON_GRILL,
+                MAX_X_POS_SCALE_TO_DROP_ON_GRILL,
+                grill.getColumns());
+
+        if (!grill.isOccupied(row, column)) {
+            grill.setPatty(row, column, patty);
+            return true;
+        }
+
+        return false;
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean movePattyOnGrill(final PattyModel patty,
+                                    final double pbPositionXScale,
+                                    final double pbPositionYScale
+    ) {
+        final GrillModel grill = model.getGrill(SHOWN_STATION);
+        final int slot = grill.findSlot(patty);
         final int row = calculatePosition(pbPositionYScale,
                 MIN_Y_POS_SCALE_TO_DROP_ON_GRILL,
                 MAX_Y_POS_SCALE_TO_DROP_ON_GRILL,
-                GRILL_ROWS);
+                grill.getRows());
         final int column = calculatePosition(pbPositionXScale,
                 MIN_X_POS_SCALE_TO_DROP_ON_GRILL,
                 MAX_X_POS_SCALE_TO_DROP_ON_GRILL,
-                GRILL_COLUMNS);
+                grill.getColumns());
 
-        if (Objects.isNull(pattiesOnGrill[row][column])) {
-            pattiesOnGrill[row][column] = patty;
-            model.setPattiesOnGrill(pattiesOnGrill);
+        if (slot >= 0 && !grill.isOccupied(row, column)) {
+            grill.movePatty(slot / grill.getColumns(), slot % grill.getColumns(), row, column);
             return true;
         }
 
@@ -80,18 +123,28 @@ public class GrillControllerImpl implements GrillController {
      * {@inheritDoc}
      */
     @Override
-    public void removePattyFromGrill(final PattyModel patty) {
-        final PattyModel[][] pattiesOnGrill = model.getPattiesOnGrill();
-
-        for (int row = 0; row < GRILL_ROWS; row++) {
-            for (int column = 0; column < GRILL_COLUMNS; column++) {
-                if (Objects.nonNull(pattiesOnGrill[row][column])
-                        && pattiesOnGrill[row][column].equals(patty)) {
-                    pattiesOnGrill[row][column] = null;
-                    model.setPattiesOnGrill(pattiesOnGrill);
-                }
+    public PattyModel placePattyOnGrill(final PattyModel patty) {
+        for (int station = 0; station < model.getGrillStations(); station++) {
+            final GrillModel grill = model.getGrill(station);
+            final int slot = grill.findFreeSlot();
+            if (slot >= 0) {
+                grill.setPatty(slot / grill.getColumns(), slot % grill.getColumns(), patty);
+                return grill.getPatty(slot / grill.getColumns(), slot % grill.getColumns());
             }
         }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removePattyFromGrill(final PattyModel patty) {
+        final GrillModel grill = findGrill(patty);
+        if (grill != null) {
+            final int slot = grill.findSlot(patty);
+            grill.setPatty(slot / grill.getColumns(), slot % grill.getColumns(), null);
+        }
     }
 
     /**
@@ -131,31 +184,36 @@ public class GrillControllerImpl implements GrillController {
      */
     @Override
     public void flipPatty(final PattyModel patty) {
-        final PattyModel[][] pattiesOnGrill = model.getPattiesOnGrill();
-        for (final PattyModel[] pattyRow : pattiesOnGrill) {
-            for (final PattyModel pattyOnGrill : pattyRow) {
-                if (Objects.nonNull(pattyOnGrill) && pattyOnGrill.equals(patty)) {
-                    pattyOnGrill.flip();
-                }
-            }
+        final GrillModel grill = findGrill(patty);
+        if (grill != null) {
+            final int slot = grill.findSlot(patty);
+            grill.flipPatty(slot / grill.getColumns(), slot % grill.getColumns());
         }
-        model.setPattiesOnGrill(pattiesOnGrill);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void cookPattiesOnGrill() {
-        final PattyModel[][] patties = model.getPattiesOnGrill();
-        for (final PattyModel[] pattyRow : patties) {
-            for (final PattyModel patty : pattyRow) {
-                if (Objects.nonNull(patty)) {
-                    cookPatty(patty);
-                }
+    public void cookPattiesOnGrill(final double deltaSeconds) {
+        for (int station = 0; station < model.getGrillStations(); station++) {
+            model.getGrill(station).tick(deltaSeconds);
+        }
+    }
+
+    /**
+     * Finds the grill station holding a patty.
+     *
+     * @param patty the patty to find, by identity
+     * @return the grill holding the patty, null if it is on none
+     */
+    private GrillModel findGrill(final PattyModel patty) {
+        for (int station = 0; station < model.getGrillStations(); station++) {
+            if (model.getGrill(station).findSlot(patty) >= 0) {
+                return model.getGrill(station);
             }
         }
-        model.setPattiesOnGrill(patties);
+        return null;
     }
 
     /**
@@ -179,20 +237,6 @@ public class GrillControllerImpl implements GrillController {
         return (index == segments) ? segments - 1 : index;
     }
 
-    /**
-     * Cooks the face of the patty that is on the grill, keeping count of the FPS.
-     *
-     * @param patty the patty to cook
-     */
-    private void cookPatty(final PattyModel patty) {
-        final double cookLevelIncrement = COOK_LEVEL_INCREMENT_PER_SECOND / FRAMERATE;
-        if (patty.isFlipped()) {
-            patty.setTopCookLevel(patty.getTopCookLevel() + cookLevelIncrement);
-        } else {
-            patty.setBottomCookLevel(patty.getBottomCookLevel() + cookLevelIncrement);
-        }
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -6,11 +6,7 @@ import it.unibo.papasburgeria.controller.api.MenuController;
 import it.unibo.papasburgeria.model.api.GameModel;
 import it.unibo.papasburgeria.utils.api.SaveService;
 import it.unibo.papasburgeria.utils.impl.saving.SaveInfo;
-import it.unibo.papasburgeria.utils.impl.saving.SaveState;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -55,22 +51,24 @@ public class MenuControllerImpl implements MenuController {
      * {@inheritDoc}
      */
     @Override
-    public List<SaveInfo> getSaves() {
-        try {
-            final List<SaveState> states = this.saveService.loadAllSlots();
-            if (states != null && !states.isEmpty()) {
-                final List<SaveInfo> transformed = new ArrayList<>();
-                for (int i = 0; i < states.size(); i++) {
-                    transformed.add(new SaveInfo(i, states.get(i))); // SaveInfo(i, a, b) otherwise SaveInfo(i, -1, -1)
-                }
+    public int getSaveCount() {
+        return this.saveService.getSlotCount();
+    }
 
-                return transformed;
-            }
-        } catch (final IOException e) {
-            return Collections.emptyList();
-        }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<SaveInfo> getSaves(final int offset, final int count) {
+        return this.saveService.loadSlotInfos(offset, count);
+    }
 
-        return Collections.emptyList();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNextFreeSaveIndex() {
+        return this.saveService.getNextFreeSlot();
     }
 
     /**
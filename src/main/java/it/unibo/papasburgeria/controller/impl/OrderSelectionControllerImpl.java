@@ -53,7 +53,7 @@ public class OrderSelectionControllerImpl implements OrderSelectionController {
      */
     @Override
     public HamburgerModel getHamburger() {
-        return model.getHamburgerOnAssembly().copyOf();
+        return model.getHamburgerOnAssembly();
     }
 
     /**
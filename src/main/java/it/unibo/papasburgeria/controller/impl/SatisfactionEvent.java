@@ -0,0 +1,24 @@
+package it.unibo.papasburgeria.controller.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event emitted by {@link CustomerControllerImpl} when the satisfaction of a customer is calculated.
+ */
+@Name("it.unibo.papasburgeria.Satisfaction")
+@Label("Satisfaction")
+@Category("Papa's Burgeria")
+@Description("The hamburger made was compared with the one ordered")
+final class SatisfactionEvent extends jdk.jfr.Event {
+    @Label("Ordered Ingredients")
+    int orderedIngredients;
+
+    @Label("Made Ingredients")
+    int madeIngredients;
+
+    @Label("Satisfaction")
+    double satisfaction;
+}
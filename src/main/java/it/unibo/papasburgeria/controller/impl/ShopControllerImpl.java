@@ -7,26 +7,34 @@ import it.unibo.papasburgeria.controller.api.ShopController;
 import it.unibo.papasburgeria.model.UpgradeEnum;
 import it.unibo.papasburgeria.model.api.GameModel;
 import it.unibo.papasburgeria.model.api.ShopModel;
+import it.unibo.papasburgeria.utils.api.JournalService;
+import it.unibo.papasburgeria.utils.impl.saving.UpgradeBoughtEvent;
 
 /**
  * Manages the interaction between the View and the Model for the shop scene.
  */
 @Singleton
-@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The models are injected and shared intentionally")
+@SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The models and the service are injected and shared intentionally"
+)
 public class ShopControllerImpl implements ShopController {
     private final GameModel model;
     private final ShopModel shop;
+    private final JournalService journalService;
 
     /**
      * Default constructor that saves the models given via injection.
      *
-     * @param model the game model
-     * @param shop  the shop model
+     * @param model          the game model
+     * @param shop           the shop model
+     * @param journalService the service recording the purchases in the journal of the slot in use
      */
     @Inject
-    public ShopControllerImpl(final GameModel model, final ShopModel shop) {
+    public ShopControllerImpl(final GameModel model, final ShopModel shop, final JournalService journalService) {
         this.model = model;
         this.shop = shop;
+        this.journalService = journalService;
     }
 
     /**
@@ -45,6 +53,7 @@ public class ShopControllerImpl implements ShopController {
         if (!isUpgradeUnlocked(upgrade) && isUpgradePurchasable(upgrade)) {
             shop.unlockUpgrade(upgrade);
             model.setBalance(model.getBalance() - upgrade.getCost());
+            journalService.append(new UpgradeBoughtEvent(upgrade, upgrade.getCost()));
         }
     }
 
@@ -1,17 +1,32 @@
 package it.unibo.papasburgeria.di;
 
 import com.google.inject.AbstractModule;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.papasburgeria.utils.api.ResourceService;
 
 /**
  * Main Guice module that installs the rest submodules.
  */
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The resource service is bound as it is")
 public class MainModule extends AbstractModule {
+    private final ResourceService resourceService;
 
     /**
      * Constructs a main module that installs all the others and is wired into Guice.
      */
     public MainModule() {
+        this(null);
+    }
+
+    /**
+     * Constructs a main module that installs all the others and is wired into Guice,
+     * using an existing resource service such as one whose resources are being preloaded.
+     *
+     * @param resourceService the resource service instance, null to let Guice construct it
+     */
+    public MainModule(final ResourceService resourceService) {
         super();
+        this.resourceService = resourceService;
     }
 
     /**
@@ -25,7 +40,7 @@ public class MainModule extends AbstractModule {
          Bind API to their implementation within these modules, that way they can be
          inter-exchanged easily without relying on hardcoded implementation in classes.
         */
-        install(new UtilsModule());
+        install(new UtilsModule(resourceService));
         install(new ModelModule());
         install(new ControllerModule());
         install(new ViewModule());
@@ -2,13 +2,16 @@ package it.unibo.papasburgeria.di;
 
 import com.google.inject.AbstractModule;
 import it.unibo.papasburgeria.model.api.GameModel;
+import it.unibo.papasburgeria.model.api.GameScheduler;
 import it.unibo.papasburgeria.model.api.HamburgerModel;
 import it.unibo.papasburgeria.model.api.PantryModel;
 import it.unibo.papasburgeria.model.api.RegisterModel;
 import it.unibo.papasburgeria.model.api.ShopModel;
 import it.unibo.papasburgeria.model.impl.GameModelImpl;
+import it.unibo.papasburgeria.model.impl.GrillConfig;
 import it.unibo.papasburgeria.model.impl.HamburgerModelImpl;
 import it.unibo.papasburgeria.model.impl.PantryModelImpl;
+import it.unibo.papasburgeria.model.impl.RealTimeSchedulerImpl;
 import it.unibo.papasburgeria.model.impl.RegisterModelImpl;
 import it.unibo.papasburgeria.model.impl.ShopModelImpl;
 
@@ -28,5 +31,9 @@ class ModelModule extends AbstractModule {
         bind(HamburgerModel.class).to(HamburgerModelImpl.class);
         bind(ShopModel.class).to(ShopModelImpl.class);
         bind(RegisterModel.class).to(RegisterModelImpl.class);
+        bind(GameScheduler.class).to(RealTimeSchedulerImpl.class);
+
+        // runtime configuration
+        bind(GrillConfig.class).toInstance(GrillConfig.fromSystemProperties());
     }
 }
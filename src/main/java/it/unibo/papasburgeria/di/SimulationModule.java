@@ -0,0 +1,46 @@
+package it.unibo.papasburgeria.di;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.util.Modules;
+import it.unibo.papasburgeria.controller.api.BurgerAssemblyController;
+import it.unibo.papasburgeria.controller.api.CustomerController;
+import it.unibo.papasburgeria.controller.api.GrillController;
+import it.unibo.papasburgeria.controller.impl.BurgerAssemblyControllerImpl;
+import it.unibo.papasburgeria.controller.impl.CustomerControllerImpl;
+import it.unibo.papasburgeria.controller.impl.GrillControllerImpl;
+import it.unibo.papasburgeria.model.api.GameScheduler;
+import it.unibo.papasburgeria.model.impl.ManualSchedulerImpl;
+import it.unibo.papasburgeria.simulation.api.DaySimulator;
+import it.unibo.papasburgeria.simulation.impl.DaySimulatorImpl;
+import it.unibo.papasburgeria.utils.api.JournalService;
+import it.unibo.papasburgeria.utils.impl.saving.JournalServiceImpl;
+
+/**
+ * Guice module used to simulate days headlessly, it only wires the models and the controllers they need.
+ * The game time is the one of a {@link ManualSchedulerImpl}, advanced by the simulation itself.
+ */
+public class SimulationModule extends AbstractModule {
+
+    /**
+     * Constructs a simulation module that installs the models and binds the gameplay controllers.
+     */
+    public SimulationModule() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void configure() {
+        install(Modules.override(new ModelModule()).with(binder ->
+                binder.bind(GameScheduler.class).to(ManualSchedulerImpl.class)));
+
+        // API to implementation bindings
+        bind(CustomerController.class).to(CustomerControllerImpl.class);
+        bind(GrillController.class).to(GrillControllerImpl.class);
+        bind(BurgerAssemblyController.class).to(BurgerAssemblyControllerImpl.class);
+        bind(DaySimulator.class).to(DaySimulatorImpl.class);
+        bind(JournalService.class).to(JournalServiceImpl.class);
+    }
+}
@@ -2,6 +2,9 @@ package it.unibo.papasburgeria.di;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.multibindings.MapBinder;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.papasburgeria.utils.api.FrameTelemetry;
+import it.unibo.papasburgeria.utils.api.JournalService;
 import it.unibo.papasburgeria.utils.api.ResourceService;
 import it.unibo.papasburgeria.utils.api.SaveService;
 import it.unibo.papasburgeria.utils.api.SfxService;
@@ -11,7 +14,9 @@ import it.unibo.papasburgeria.utils.api.scene.SceneType;
 import it.unibo.papasburgeria.utils.impl.SceneServiceImpl;
 import it.unibo.papasburgeria.utils.impl.SfxServiceImpl;
 import it.unibo.papasburgeria.utils.impl.resource.ResourceServiceImpl;
-import it.unibo.papasburgeria.utils.impl.saving.SaveServiceImpl;
+import it.unibo.papasburgeria.utils.impl.saving.BinarySaveServiceImpl;
+import it.unibo.papasburgeria.utils.impl.saving.JournalServiceImpl;
+import it.unibo.papasburgeria.utils.impl.telemetry.FrameTelemetryImpl;
 import it.unibo.papasburgeria.view.impl.BurgerAssemblyViewImpl;
 import it.unibo.papasburgeria.view.impl.DayChangeViewImpl;
 import it.unibo.papasburgeria.view.impl.EvaluateBurgerViewImpl;
@@ -24,7 +29,26 @@ import it.unibo.papasburgeria.view.impl.ShopViewImpl;
 /**
  * Guide module responsible for services/utils.
  */
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The resource service is bound as it is")
 class UtilsModule extends AbstractModule {
+    private final ResourceService resourceService;
+
+    /**
+     * Constructs the module binding the resource service to a new instance.
+     */
+    UtilsModule() {
+        this(null);
+    }
+
+    /**
+     * Constructs the module binding the resource service to an existing instance, such as one already preloaded.
+     *
+     * @param resourceService the resource service instance, null to bind to a new instance
+     */
+    UtilsModule(final ResourceService resourceService) {
+        super();
+        this.resourceService = resourceService;
+    }
 
     /**
      * {@inheritDoc}
@@ -44,8 +68,14 @@ class UtilsModule extends AbstractModule {
 
         // API to implementation bindings
         bind(SceneService.class).to(SceneServiceImpl.class);
-        bind(ResourceService.class).to(ResourceServiceImpl.class);
+        if (resourceService == null) {
+            bind(ResourceService.class).to(ResourceServiceImpl.class);
+        } else {
+            bind(ResourceService.class).toInstance(resourceService);
+        }
         bind(SfxService.class).to(SfxServiceImpl.class);
-        bind(SaveService.class).to(SaveServiceImpl.class);
+        bind(SaveService.class).to(BinarySaveServiceImpl.class);
+        bind(JournalService.class).to(JournalServiceImpl.class);
+        bind(FrameTelemetry.class).to(FrameTelemetryImpl.class);
     }
 }
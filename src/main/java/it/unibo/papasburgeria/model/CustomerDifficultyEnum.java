@@ -33,6 +33,37 @@ public enum CustomerDifficultyEnum {
         this.customerSpawnInterval = customerSpawnInterval;
     }
 
+    /**
+     * Gets the difficulty used on the given day, the last one being used from then onward.
+     *
+     * @param day the current day, starting from 1
+     * @return the difficulty of that day
+     */
+    public static CustomerDifficultyEnum fromDay(final int day) {
+        final CustomerDifficultyEnum[] values = values();
+        return day >= 1 && day <= values.length ? values[day - 1] : values[values.length - 1];
+    }
+
+    /**
+     * Gets the number of customer to generate, reduced by the given modifier.
+     *
+     * @param reductionModifier the fraction of customers that will not come
+     * @return the customer amount
+     */
+    public int getCustomerCount(final double reductionModifier) {
+        return (int) (customerCount - customerCount * reductionModifier);
+    }
+
+    /**
+     * Gets the spawn interval (in seconds), increased by the given modifier.
+     *
+     * @param slowdownModifier the fraction added to the interval
+     * @return the rate at which customers arrive
+     */
+    public int getSpawnIntervalSeconds(final double slowdownModifier) {
+        return (int) (customerSpawnInterval + customerSpawnInterval * slowdownModifier);
+    }
+
     /**
      * Gets the number of customer to generate.
      *
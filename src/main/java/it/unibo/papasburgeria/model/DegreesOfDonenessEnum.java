@@ -28,6 +28,8 @@ public enum DegreesOfDonenessEnum {
      */
     BURNT("burnt");
 
+    private static final DegreesOfDonenessEnum[] VALUES = values();
+
     private final String name;
 
     /**
@@ -49,8 +51,7 @@ public enum DegreesOfDonenessEnum {
         final double clampedValue =
                 Math.max(MIN_COOK_LEVEL, Math.min(MAX_COOK_LEVEL, cookLevel));
 
-        final DegreesOfDonenessEnum[] values = values();
-        final int numberOfValues = values.length;
+        final int numberOfValues = VALUES.length;
         final double segment = MAX_COOK_LEVEL / numberOfValues;
 
         int levelIndex = (int) Math.floor(clampedValue / segment);
@@ -58,7 +59,7 @@ public enum DegreesOfDonenessEnum {
             levelIndex = numberOfValues - 1;
         }
 
-        return values[levelIndex];
+        return VALUES[levelIndex];
     }
 
     /**
@@ -17,7 +17,7 @@ public interface GameModel {
     /**
      * Returns the hamburger on assembly.
      *
-     * @return the hamburger
+     * @return a copy of the hamburger, which can be changed without changing the model
      */
     HamburgerModel getHamburgerOnAssembly();
 
@@ -29,16 +29,33 @@ public interface GameModel {
     void setHamburgerOnAssembly(HamburgerModel hamburger);
 
     /**
-     * Returns the matrix of patties that are on the grill.
+     * Returns the number of grill stations.
      *
-     * @return the matrix of patties
+     * @return the number of grill stations, at least one
+     */
+    int getGrillStations();
+
+    /**
+     * Returns the grill of a station, which cooks its patties in place.
+     *
+     * @param station the index of the station, the first one is the grill shown to the player
+     * @return the grill itself, changing it changes the model
+     * @throws IndexOutOfBoundsException if there is no such station
+     */
+    GrillModel getGrill(int station);
+
+    /**
+     * Returns the matrix of patties that are on the grills, with the rows of every station one after the other.
+     *
+     * @return a new matrix with the patties on the grills, null for the empty slots
      */
     PattyModel[][] getPattiesOnGrill();
 
     /**
-     * Sets the matrix of patties that are on the grill to the new matrix of patties.
+     * Sets the matrix of patties that are on the grills, with the rows of every station one after the other.
+     * Rows and columns that do not fit the grills are left out.
      *
-     * @param patties the new matrix of patties
+     * @param patties the new matrix of patties, null for the empty slots
      */
     void setPattiesOnGrill(PattyModel[][] patties);
 
@@ -87,7 +104,7 @@ public interface GameModel {
     /**
      * Returns the order selected.
      *
-     * @return the order
+     * @return a copy of the order, null if no order is selected
      */
     OrderModel getSelectedOrder();
 
@@ -0,0 +1,69 @@
+package it.unibo.papasburgeria.model.api;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clock of the game that runs timed tasks, like the arrival of the customers.
+ *
+ * <p>
+ * Game time only flows while the scheduler is not paused, so pausing and resuming never loses the progress of the
+ * scheduled tasks.
+ */
+public interface GameScheduler {
+
+    /**
+     * Schedules a task that runs periodically in game time, until it gets cancelled.
+     *
+     * @param task         the task to run
+     * @param initialDelay the delay before the first run
+     * @param period       the time between two consecutive runs
+     * @param unit         the unit of the delay and of the period
+     * @return the handle used to cancel the task
+     * @throws IllegalArgumentException if the delay is negative or the period is not positive
+     */
+    ScheduledTask scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit);
+
+    /**
+     * Gets the game time elapsed since the scheduler was created, paused time excluded.
+     *
+     * @param unit the unit of the returned time
+     * @return the elapsed game time
+     */
+    long getTime(TimeUnit unit);
+
+    /**
+     * Pauses the game time, no task runs until the scheduler is resumed. A task that is already running is waited
+     * for, so it must not wait on a thread that pauses the scheduler.
+     */
+    void pause();
+
+    /**
+     * Resumes the game time, the tasks continue from where they were paused.
+     */
+    void resume();
+
+    /**
+     * Tells whether the game time is paused.
+     *
+     * @return true if paused
+     */
+    boolean isPaused();
+
+    /**
+     * Handle of a task scheduled on a {@link GameScheduler}.
+     */
+    interface ScheduledTask {
+
+        /**
+         * Cancels the task, it won't run anymore.
+         */
+        void cancel();
+
+        /**
+         * Tells whether the task was cancelled.
+         *
+         * @return true if cancelled
+         */
+        boolean isCancelled();
+    }
+}
@@ -0,0 +1,103 @@
+package it.unibo.papasburgeria.model.api;
+
+/**
+ * Manages the patties cooking on a grill, arranged in rows and columns of slots.
+ *
+ * <p>
+ * The patties on the grill belong to it: putting a patty on the grill copies it into a slot, and reading a slot
+ * returns the same patty for as long as it stays there, updated to its current state. That patty can be used to find
+ * its slot again, changes made to it directly are lost on the next read.
+ */
+public interface GrillModel {
+    /**
+     * Returns the number of rows of the grill.
+     *
+     * @return the number of rows
+     */
+    int getRows();
+
+    /**
+     * Returns the number of columns of the grill.
+     *
+     * @return the number of columns
+     */
+    int getColumns();
+
+    /**
+     * Returns whether a patty is in the given slot.
+     *
+     * @param row    the row of the slot
+     * @param column the column of the slot
+     * @return true if the slot holds a patty, false otherwise
+     * @throws IndexOutOfBoundsException if the slot is not on the grill
+     */
+    boolean isOccupied(int row, int column);
+
+    /**
+     * Returns the patty in the given slot.
+     *
+     * @param row    the row of the slot
+     * @param column the column of the slot
+     * @return the patty in the slot, null if the slot is empty
+     * @throws IndexOutOfBoundsException if the slot is not on the grill
+     */
+    PattyModel getPatty(int row, int column);
+
+    /**
+     * Puts a copy of a patty in the given slot, replacing the one that was there.
+     *
+     * @param row    the row of the slot
+     * @param column the column of the slot
+     * @param patty  the patty to copy, null to empty the slot
+     * @throws IndexOutOfBoundsException if the slot is not on the grill
+     */
+    void setPatty(int row, int column, PattyModel patty);
+
+    /**
+     * Moves the patty in a slot, if there is one, to another slot, replacing the patty that was there. The patty
+     * keeps being found by identity.
+     *
+     * @param row       the row of the slot holding the patty
+     * @param column    the column of the slot holding the patty
+     * @param newRow    the row of the destination slot
+     * @param newColumn the column of the destination slot
+     * @throws IndexOutOfBoundsException if either slot is not on the grill
+     */
+    void movePatty(int row, int column, int newRow, int newColumn);
+
+    /**
+     * Flips the patty in the given slot, if there is one.
+     *
+     * @param row    the row of the slot
+     * @param column the column of the slot
+     * @throws IndexOutOfBoundsException if the slot is not on the grill
+     */
+    void flipPatty(int row, int column);
+
+    /**
+     * Finds the slot holding a patty read from this grill.
+     *
+     * @param patty the patty to find, by identity
+     * @return the index of the slot, counting row by row, -1 if the patty is not on the grill
+     */
+    int findSlot(PattyModel patty);
+
+    /**
+     * Finds the first empty slot.
+     *
+     * @return the index of the slot, counting row by row, -1 if the grill is full
+     */
+    int findFreeSlot();
+
+    /**
+     * Cooks the face of every patty that is on the grill for the given amount of time.
+     *
+     * @param deltaSeconds the elapsed time in seconds
+     */
+    void tick(double deltaSeconds);
+
+    /**
+     * Removes every patty from the grill.
+     */
+    void clear();
+}
@@ -1,5 +1,7 @@
 package it.unibo.papasburgeria.model.api;
 
+import it.unibo.papasburgeria.model.IngredientEnum;
+
 import java.util.List;
 
 /**
@@ -21,6 +23,61 @@ public interface HamburgerModel {
      */
     List<IngredientModel> getIngredients();
 
+    /**
+     * Returns the number of ingredients that form the hamburger, without copying them.
+     *
+     * @return the number of ingredients
+     */
+    int getIngredientCount();
+
+    /**
+     * Returns the type of an ingredient, without copying the ingredients.
+     *
+     * @param index the position of the ingredient, starting from the bottom
+     * @return the type of the ingredient
+     * @throws IndexOutOfBoundsException if there is no ingredient at the given position
+     */
+    IngredientEnum getIngredientType(int index);
+
+    /**
+     * Returns the placement accuracy of an ingredient, without copying the ingredients.
+     *
+     * @param index the position of the ingredient, starting from the bottom
+     * @return the placement accuracy of the ingredient
+     * @throws IndexOutOfBoundsException if there is no ingredient at the given position
+     */
+    double getPlacementAccuracy(int index);
+
+    /**
+     * Returns the top cook level of a patty, without copying the ingredients.
+     *
+     * @param index the position of the patty, starting from the bottom
+     * @return the top cook level of the patty
+     * @throws IndexOutOfBoundsException if there is no ingredient at the given position
+     * @throws IllegalArgumentException  if the ingredient is not a patty
+     */
+    double getTopCookLevel(int index);
+
+    /**
+     * Returns the bottom cook level of a patty, without copying the ingredients.
+     *
+     * @param index the position of the patty, starting from the bottom
+     * @return the bottom cook level of the patty
+     * @throws IndexOutOfBoundsException if there is no ingredient at the given position
+     * @throws IllegalArgumentException  if the ingredient is not a patty
+     */
+    double getBottomCookLevel(int index);
+
+    /**
+     * Returns whether a patty is flipped, without copying the ingredients.
+     *
+     * @param index the position of the patty, starting from the bottom
+     * @return true if the patty is flipped, false otherwise
+     * @throws IndexOutOfBoundsException if there is no ingredient at the given position
+     * @throws IllegalArgumentException  if the ingredient is not a patty
+     */
+    boolean isFlipped(int index);
+
     /**
      * Return a copy of this hamburger.
      *
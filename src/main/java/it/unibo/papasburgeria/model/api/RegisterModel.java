@@ -4,6 +4,7 @@ import it.unibo.papasburgeria.model.IngredientEnum;
 import it.unibo.papasburgeria.model.LineEnum;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Models how the lines work.
@@ -30,10 +31,34 @@ public interface RegisterModel {
      * Get the selected line line.
      *
      * @param line the selected line.
-     * @return the returned line.
+     * @return an immutable snapshot of the line.
      */
     List<CustomerModel> getLine(LineEnum line);
 
+    /**
+     * Gets the version of the selected line, it increases every time the line changes.
+     *
+     * @param line the selected line.
+     * @return the current version of the line.
+     */
+    long getLineVersion(LineEnum line);
+
+    /**
+     * Tells whether the selected line changed since the given version, without copying it.
+     *
+     * @param line    the selected line.
+     * @param version a version previously obtained through {@link #getLineVersion(LineEnum)}.
+     * @return true if the line changed.
+     */
+    boolean hasLineChangedSince(LineEnum line, long version);
+
+    /**
+     * Adds a callback that is executed every time a line changes, on the thread that changed it.
+     *
+     * @param callback the callback receiving the line that changed.
+     */
+    void onLineChanged(Consumer<LineEnum> callback);
+
     /**
      * Empties the line.
      *
@@ -42,23 +67,49 @@ public interface RegisterModel {
     void clearLine(LineEnum line);
 
     /**
-     * Starts a new customer thread and kills the previous one.
+     * Schedules the customers of the day to arrive periodically, the previous ones stop arriving.
      *
-     * @param delay                defines the rate at which customer arrives
-     * @param customerAmount       defines how many customers will be generated by the thread
+     * @param delay                defines the rate at which customer arrives, in seconds of game time
+     * @param customerAmount       defines how many customers will be generated
      * @param availableIngredients defines the possible ingredients in the orders
      */
     void startCustomerThread(int delay, int customerAmount, List<IngredientEnum> availableIngredients);
 
+    /**
+     * Schedules the customers of the day that did not arrive yet, resuming a day that was in progress.
+     *
+     * @param delay                defines the rate at which customer arrives, in seconds of game time
+     * @param customerAmount       defines how many customers will be generated during the whole day
+     * @param availableIngredients defines the possible ingredients in the orders
+     * @param arrivedCustomers     defines how many customers of the day already arrived
+     * @param nextArrivalDelay     defines the game time before the next customer arrives, in milliseconds
+     */
+    void resumeCustomerThread(int delay, int customerAmount, List<IngredientEnum> availableIngredients,
+                              int arrivedCustomers, long nextArrivalDelay);
+
+    /**
+     * Gets how many customers of the day already arrived.
+     *
+     * @return the number of arrived customers.
+     */
+    int getArrivedCustomers();
+
+    /**
+     * Gets the game time before the next customer arrives.
+     *
+     * @return the delay in milliseconds, 0 if no more customers have to arrive.
+     */
+    long getNextArrivalDelay();
+
     /**
      * Stops the customers from arriving.
      */
     void killCustomerThread();
 
     /**
-     * Get the customer thread status.
+     * Get the customer arrival status.
      *
-     * @return true if the customer thread is alive.
+     * @return true if some customers still have to arrive.
      */
     boolean isCustomerThreadStatus();
 }
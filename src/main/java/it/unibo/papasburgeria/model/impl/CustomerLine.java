@@ -0,0 +1,107 @@
+package it.unibo.papasburgeria.model.impl;
+
+import it.unibo.papasburgeria.model.api.CustomerModel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copy-on-write line of customers, safe to share between the thread spawning the customers and the one reading them.
+ *
+ * <p>
+ * Every change publishes a new immutable snapshot together with a higher version, so readers never copy nor lock,
+ * and they can tell whether the line changed by comparing versions.
+ */
+final class CustomerLine {
+    private volatile Snapshot snapshot;
+
+    /**
+     * Constructs an empty line at version zero.
+     */
+    CustomerLine() {
+        this.snapshot = new Snapshot(List.of(), 0);
+    }
+
+    /**
+     * Adds the customer at the end of the line.
+     *
+     * @param customer the customer to add
+     */
+    synchronized void add(final CustomerModel customer) {
+        final List<CustomerModel> customers = new ArrayList<>(snapshot.customers());
+        customers.add(customer);
+        publish(customers);
+    }
+
+    /**
+     * Removes the first occurrence of the customer from the line.
+     *
+     * @param customer the customer to remove
+     * @return true if the line changed
+     */
+    synchronized boolean remove(final CustomerModel customer) {
+        final List<CustomerModel> customers = new ArrayList<>(snapshot.customers());
+        if (!customers.remove(customer)) {
+            return false;
+        }
+        publish(customers);
+        return true;
+    }
+
+    /**
+     * Removes every customer from the line.
+     *
+     * @return true if the line changed
+     */
+    synchronized boolean clear() {
+        if (snapshot.customers().isEmpty()) {
+            return false;
+        }
+        publish(List.of());
+        return true;
+    }
+
+    /**
+     * Gets the customers currently in line.
+     *
+     * @return an immutable snapshot of the line
+     */
+    List<CustomerModel> getCustomers() {
+        return snapshot.customers();
+    }
+
+    /**
+     * Gets the version of the line, it increases every time the line changes.
+     *
+     * @return the current version
+     */
+    long getVersion() {
+        return snapshot.version();
+    }
+
+    /**
+     * Publishes the new content of the line with the next version.
+     *
+     * @param customers the new content of the line
+     */
+    private void publish(final List<CustomerModel> customers) {
+        snapshot = new Snapshot(List.copyOf(customers), snapshot.version() + 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return snapshot.customers().toString();
+    }
+
+    /**
+     * Content of the line at a given version.
+     *
+     * @param customers the customers in line
+     * @param version   the version of the line
+     */
+    private record Snapshot(List<CustomerModel> customers, long version) {
+    }
+}
@@ -41,8 +41,21 @@ public class CustomerModelImpl implements CustomerModel {
      * @param order the customer's order.
      */
     public CustomerModelImpl(final OrderModel order) {
+        this(order, ThreadLocalRandom.current().nextInt(EXISTING_SKIN_TYPES));
+    }
+
+    /**
+     * Constructs a customer with a given Order and appearance, like one that was saved.
+     *
+     * @param order    the customer's order.
+     * @param skinType the customer's appearance.
+     */
+    public CustomerModelImpl(final OrderModel order, final int skinType) {
+        if (skinType < 0 || skinType >= EXISTING_SKIN_TYPES) {
+            throw new IllegalArgumentException("Invalid skin type " + skinType);
+        }
         this.order = order;
-        skinType = ThreadLocalRandom.current().nextInt(EXISTING_SKIN_TYPES);
+        this.skinType = skinType;
     }
 
     /**
@@ -0,0 +1,22 @@
+package it.unibo.papasburgeria.model.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event emitted by {@link CustomerSpawner} when a customer is created, lasting from the generation of
+ * its order until it joined the register line.
+ */
+@Name("it.unibo.papasburgeria.CustomerSpawn")
+@Label("Customer Spawn")
+@Category("Papa's Burgeria")
+@Description("A customer was generated and added to the register line")
+final class CustomerSpawnEvent extends jdk.jfr.Event {
+    @Label("Order Number")
+    int orderNumber;
+
+    @Label("Ingredients")
+    int ingredients;
+}
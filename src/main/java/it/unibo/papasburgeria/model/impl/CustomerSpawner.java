@@ -0,0 +1,137 @@
+package it.unibo.papasburgeria.model.impl;
+
+import it.unibo.papasburgeria.model.IngredientEnum;
+import it.unibo.papasburgeria.model.LineEnum;
+import it.unibo.papasburgeria.model.api.GameScheduler;
+import it.unibo.papasburgeria.model.api.RegisterModel;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodic task that adds the customers of the day to the register line, one per run.
+ */
+class CustomerSpawner implements Runnable {
+    private final int delay;
+    private final int customerAmount;
+    private final RegisterModel model;
+    private final List<IngredientEnum> unlockedIngredients;
+    private GameScheduler scheduler;
+    private GameScheduler.ScheduledTask scheduledTask;
+    private int generatedCustomers;
+    private long nextArrivalTime;
+    private boolean stopped;
+
+    /**
+     * @param delay               rate at which customers come to the shop, in seconds
+     * @param customerAmount      amount of customer spawned
+     * @param unlockedIngredients available ingredients used for orders
+     * @param model               manages the lines whith customers
+     * @param arrivedCustomers    amount of customers that already arrived, the next ones continue their numbering
+     */
+    CustomerSpawner(final int delay, final int customerAmount,
+                    final List<IngredientEnum> unlockedIngredients, final RegisterModel model,
+                    final int arrivedCustomers) {
+        this.delay = delay;
+        this.customerAmount = customerAmount;
+        this.unlockedIngredients = List.copyOf(unlockedIngredients);
+        this.model = model;
+        this.generatedCustomers = arrivedCustomers;
+    }
+
+    /**
+     * Schedules the spawner.
+     *
+     * @param gameScheduler the scheduler running the spawner
+     * @param initialDelay  the delay before the next customer arrives
+     * @param unit          the unit of the delay
+     */
+    synchronized void start(final GameScheduler gameScheduler, final long initialDelay, final TimeUnit unit) {
+        if (!stopped && scheduledTask == null && generatedCustomers < customerAmount) {
+            scheduler = gameScheduler;
+            nextArrivalTime = scheduler.getTime(TimeUnit.NANOSECONDS) + unit.toNanos(initialDelay);
+            scheduledTask = scheduler.scheduleAtFixedRate(this, unit.toNanos(initialDelay), getPeriod(),
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+        final int orderNumber;
+        synchronized (this) {
+            if (stopped || generatedCustomers >= customerAmount) {
+                return;
+            }
+            generatedCustomers++;
+            nextArrivalTime += getPeriod();
+            orderNumber = generatedCustomers;
+        }
+
+        final CustomerSpawnEvent event = new CustomerSpawnEvent();
+        event.begin();
+        final CustomerModelImpl customer = new CustomerModelImpl(unlockedIngredients, orderNumber);
+        model.addCustomerToLine(customer, LineEnum.REGISTER_LINE);
+        if (event.shouldCommit()) {
+            event.orderNumber = orderNumber;
+            event.ingredients = customer.getOrder().getHamburger().getIngredientCount();
+            event.commit();
+        }
+        if (orderNumber >= customerAmount) {
+            stop();
+        }
+    }
+
+    /**
+     * Stops spawning customers.
+     */
+    synchronized void stop() {
+        stopped = true;
+        if (scheduledTask != null) {
+            scheduledTask.cancel();
+        }
+    }
+
+    /**
+     * Tells whether some customers still have to arrive.
+     *
+     * @return true if the spawner is still running
+     */
+    synchronized boolean isRunning() {
+        return !stopped && generatedCustomers < customerAmount;
+    }
+
+    /**
+     * Gets how many customers already arrived.
+     *
+     * @return the number of arrived customers
+     */
+    synchronized int getArrivedCustomers() {
+        return generatedCustomers;
+    }
+
+    /**
+     * Gets the game time before the next customer arrives.
+     *
+     * @param unit the unit of the returned delay
+     * @return the delay, 0 if no more customers have to arrive
+     */
+    synchronized long getNextArrivalDelay(final TimeUnit unit) {
+        if (!isRunning() || scheduler == null) {
+            return 0;
+        }
+        return unit.convert(Math.max(0, nextArrivalTime - scheduler.getTime(TimeUnit.NANOSECONDS)),
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the game time between two arrivals.
+     *
+     * @return the period in nanoseconds
+     */
+    private long getPeriod() {
+        return TimeUnit.SECONDS.toNanos(Math.max(1, delay));
+    }
+}
@@ -2,14 +2,15 @@ package it.unibo.papasburgeria.model.impl;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.papasburgeria.model.DaysEnum;
 import it.unibo.papasburgeria.model.api.GameModel;
+import it.unibo.papasburgeria.model.api.GrillModel;
 import it.unibo.papasburgeria.model.api.HamburgerModel;
 import it.unibo.papasburgeria.model.api.OrderModel;
 import it.unibo.papasburgeria.model.api.PattyModel;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -22,17 +23,18 @@ import static it.unibo.papasburgeria.model.DaysEnum.FIRST_DAY;
  * See {@link GameModel} for interface details.
  */
 @Singleton
+@SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The grills are cooked in place through their reference")
 public class GameModelImpl implements GameModel {
     /**
      * Defines the starting day.
      */
     public static final DaysEnum START_DAY = FIRST_DAY;
     /**
-     * Defines the number of grill rows.
+     * Defines the number of grill rows of the default configuration, the one the grill view is laid out for.
      */
     public static final int GRILL_ROWS = 4;
     /**
-     * Defines the number of grill columns.
+     * Defines the number of grill columns of the default configuration, the one the grill view is laid out for.
      */
     public static final int GRILL_COLUMNS = 3;
     /**
@@ -47,19 +49,33 @@ public class GameModelImpl implements GameModel {
     private int balance;
     private int currentSaveSlot;
 
+    private final List<GrillModel> grills;
     private HamburgerModel hamburgerOnAssembly;
-    private PattyModel[][] pattiesOnGrill;
     private List<PattyModel> cookedPatties;
     private OrderModel selectedOrder;
 
     /**
-     * Default constructor, initializes the model's variables.
+     * Default constructor, initializes the model's variables with a single grill station of the default size.
      */
-    @Inject
     public GameModelImpl() {
+        this(GrillConfig.DEFAULT);
+    }
+
+    /**
+     * Initializes the model's variables with the grill stations of the given configuration.
+     *
+     * @param grillConfig the size of the grills and the number of stations
+     */
+    @Inject
+    public GameModelImpl(final GrillConfig grillConfig) {
         this.currentSaveSlot = -1;
         this.currentDay = START_DAY.getNumber();
         this.balance = STARTING_BALANCE;
+        final List<GrillModel> stations = new ArrayList<>(grillConfig.stations());
+        for (int station = 0; station < grillConfig.stations(); station++) {
+            stations.add(new GrillModelImpl(grillConfig.rows(), grillConfig.columns()));
+        }
+        this.grills = List.copyOf(stations);
         reset();
     }
 
@@ -81,7 +97,7 @@ public class GameModelImpl implements GameModel {
      */
     @Override
     public HamburgerModel getHamburgerOnAssembly() {
-        return new HamburgerModelImpl(hamburgerOnAssembly.getIngredients());
+        return hamburgerOnAssembly.copyOf();
     }
 
     /**
@@ -89,29 +105,41 @@ public class GameModelImpl implements GameModel {
      */
     @Override
     public void setHamburgerOnAssembly(final HamburgerModel hamburger) {
-        this.hamburgerOnAssembly = new HamburgerModelImpl(hamburger.getIngredients());
+        this.hamburgerOnAssembly = PackedHamburgerModelImpl.of(hamburger);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public PattyModel[][] getPattiesOnGrill() {
-        if (pattiesOnGrill == null) {
-            return new PattyModel[GRILL_ROWS][GRILL_COLUMNS];
-        }
+    public int getGrillStations() {
+        return grills.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GrillModel getGrill(final int station) {
+        return grills.get(station);
+    }
 
-        final PattyModel[][] newPattiesOnGrill = new PattyModel[GRILL_ROWS][GRILL_COLUMNS];
-        for (int row = 0; row < GRILL_ROWS; row++) {
-            newPattiesOnGrill[row] =
-                    Arrays.copyOf(pattiesOnGrill[row], pattiesOnGrill[row].length);
-            for (int column = 0; column < GRILL_COLUMNS
-                    && pattiesOnGrill[row][column] != null; column++) {
-                newPattiesOnGrill[row][column] =
-                        new PattyModelImpl(pattiesOnGrill[row][column]);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PattyModel[][] getPattiesOnGrill() {
+        final List<PattyModel[]> rows = new ArrayList<>();
+        for (final GrillModel grill : grills) {
+            for (int row = 0; row < grill.getRows(); row++) {
+                final PattyModel[] patties = new PattyModel[grill.getColumns()];
+                for (int column = 0; column < patties.length; column++) {
+                    patties[column] = grill.getPatty(row, column);
+                }
+                rows.add(patties);
             }
         }
-        return newPattiesOnGrill;
+        return rows.toArray(new PattyModel[0][]);
     }
 
     /**
@@ -119,9 +147,16 @@ public class GameModelImpl implements GameModel {
      */
     @Override
     public void setPattiesOnGrill(final PattyModel[][] patties) {
-        pattiesOnGrill = new PattyModel[patties.length][];
-        for (int index = 0; index < patties.length; index++) {
-            pattiesOnGrill[index] = patties[index].clone();
+        int firstRow = 0;
+        for (final GrillModel grill : grills) {
+            grill.clear();
+            for (int row = 0; row < grill.getRows() && firstRow + row < patties.length; row++) {
+                final PattyModel[] rowPatties = patties[firstRow + row];
+                for (int column = 0; column < grill.getColumns() && column < rowPatties.length; column++) {
+                    grill.setPatty(row, column, rowPatties[column]);
+                }
+            }
+            firstRow += grill.getRows();
         }
     }
 
@@ -214,8 +249,8 @@ public class GameModelImpl implements GameModel {
      */
     @Override
     public final void reset() {
-        hamburgerOnAssembly = new HamburgerModelImpl();
-        pattiesOnGrill = new PattyModel[GRILL_ROWS][GRILL_COLUMNS];
+        hamburgerOnAssembly = new PackedHamburgerModelImpl();
+        grills.forEach(GrillModel::clear);
         cookedPatties = new ArrayList<>();
         selectedOrder = null;
     }
@@ -232,8 +267,8 @@ public class GameModelImpl implements GameModel {
                 + currentSaveSlot
                 + ", hamburgerOnAssembly="
                 + hamburgerOnAssembly
-                + ", pattiesOnGrill="
-                + Arrays.toString(pattiesOnGrill)
+                + ", grills="
+                + grills
                 + ", cookedPatties="
                 + cookedPatties
                 + ", selectedOrder="
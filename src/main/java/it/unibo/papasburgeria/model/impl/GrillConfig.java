@@ -0,0 +1,46 @@
+package it.unibo.papasburgeria.model.impl;
+
+/**
+ * DTO describing how big the grills are and how many grill stations the kitchen has.
+ *
+ * @param rows     the number of rows of each grill
+ * @param columns  the number of columns of each grill
+ * @param stations the number of grill stations
+ */
+public record GrillConfig(int rows, int columns, int stations) {
+    /**
+     * A single grill of {@link GameModelImpl#GRILL_ROWS} by {@link GameModelImpl#GRILL_COLUMNS}, the one drawn by the
+     * grill view.
+     */
+    public static final GrillConfig DEFAULT = new GrillConfig(GameModelImpl.GRILL_ROWS, GameModelImpl.GRILL_COLUMNS, 1);
+
+    /**
+     * Initializes this record.
+     *
+     * @param rows     the number of rows of each grill
+     * @param columns  the number of columns of each grill
+     * @param stations the number of grill stations
+     * @throws IllegalArgumentException if any of the values is not positive
+     */
+    public GrillConfig {
+        if (rows <= 0 || columns <= 0 || stations <= 0) {
+            throw new IllegalArgumentException("Invalid grill configuration " + rows + "x" + columns
+                    + " with " + stations + " stations");
+        }
+    }
+
+    /**
+     * Reads the configuration from the {@code papasburgeria.grillRows}, {@code papasburgeria.grillColumns} and
+     * {@code papasburgeria.grillStations} system properties, the missing ones are taken from {@link #DEFAULT}.
+     *
+     * @return the configuration
+     * @throws IllegalArgumentException if any of the values is not positive
+     */
+    public static GrillConfig fromSystemProperties() {
+        return new GrillConfig(
+                Integer.getInteger("papasburgeria.grillRows", DEFAULT.rows()),
+                Integer.getInteger("papasburgeria.grillColumns", DEFAULT.columns()),
+                Integer.getInteger("papasburgeria.grillStations", DEFAULT.stations())
+        );
+    }
+}
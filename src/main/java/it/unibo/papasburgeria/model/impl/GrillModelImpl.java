@@ -0,0 +1,294 @@
+package it.unibo.papasburgeria.model.impl;
+
+import it.unibo.papasburgeria.model.api.GrillModel;
+import it.unibo.papasburgeria.model.api.PattyModel;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static it.unibo.papasburgeria.model.impl.PattyModelImpl.MAX_COOK_LEVEL;
+import static it.unibo.papasburgeria.model.impl.PattyModelImpl.MIN_COOK_LEVEL;
+
+/**
+ * Implementation of GrillModel.
+ *
+ * <p>
+ * The slots are numbered row by row, and their state is kept in one array per field instead of one object per
+ * patty: the cook levels of both faces, plus a bitmap telling which slots hold a patty and another telling which of
+ * those patties are flipped. Cooking walks the occupied bits and changes the arrays in place, so it does not
+ * allocate however often it runs, and a free slot is found by looking for a clear bit.
+ *
+ * <p>
+ * Each occupied slot also has the patty handed out for it, which is brought up to date when it is read and is
+ * mapped back to its slot by identity.
+ *
+ * <p>
+ * See {@link GrillModel} for interface details.
+ */
+public class GrillModelImpl implements GrillModel {
+    /**
+     * Defines the number of seconds needed to fully cook a patty that is on the grill.
+     */
+    public static final double SECONDS_TO_FULLY_COOK_PATTY = 15.0;
+    /**
+     * Defines the increment per second of the cook level of a patty that is on the grill.
+     */
+    public static final double COOK_LEVEL_INCREMENT_PER_SECOND = MAX_COOK_LEVEL / SECONDS_TO_FULLY_COOK_PATTY;
+
+    private static final int WORD_SHIFT = 6;
+
+    private final int rows;
+    private final int columns;
+    private final double[] topCookLevels;
+    private final double[] bottomCookLevels;
+    private final long[] occupiedSlots;
+    private final long[] flippedSlots;
+    private final PattyModel[] patties;
+    private final Map<PattyModel, Integer> slotsByPatty;
+
+    /**
+     * Constructs an empty grill.
+     *
+     * @param rows    the number of rows
+     * @param columns the number of columns
+     * @throws IllegalArgumentException if the grill has no slots
+     */
+    public GrillModelImpl(final int rows, final int columns) {
+        if (rows <= 0 || columns <= 0) {
+            throw new IllegalArgumentException("Invalid grill size " + rows + "x" + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        final int slots = Math.multiplyExact(rows, columns);
+        final int words = (slots + Long.SIZE - 1) >>> WORD_SHIFT;
+        topCookLevels = new double[slots];
+        bottomCookLevels = new double[slots];
+        occupiedSlots = new long[words];
+        flippedSlots = new long[words];
+        patties = new PattyModel[slots];
+        slotsByPatty = new IdentityHashMap<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOccupied(final int row, final int column) {
+        return isSet(occupiedSlots, slot(row, column));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PattyModel getPatty(final int row, final int column) {
+        final int slot = slot(row, column);
+        if (!isSet(occupiedSlots, slot)) {
+            return null;
+        }
+
+        final PattyModel patty = patties[slot];
+        patty.setTopCookLevel(topCookLevels[slot]);
+        patty.setBottomCookLevel(bottomCookLevels[slot]);
+        if (patty.isFlipped() != isSet(flippedSlots, slot)) {
+            patty.flip();
+        }
+        return patty;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPatty(final int row, final int column, final PattyModel patty) {
+        final int slot = slot(row, column);
+        if (isSet(occupiedSlots, slot)) {
+            /* whoever still holds the patty keeps the state it had when it left the grill */
+            getPatty(row, column);
+            slotsByPatty.remove(patties[slot]);
+        }
+
+        if (Objects.isNull(patty)) {
+            empty(slot);
+        } else {
+            patties[slot] = new PattyModelImpl(patty);
+            slotsByPatty.put(patties[slot], slot);
+            topCookLevels[slot] = patty.getTopCookLevel();
+            bottomCookLevels[slot] = patty.getBottomCookLevel();
+            set(occupiedSlots, slot, true);
+            set(flippedSlots, slot, patty.isFlipped());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void movePatty(final int row, final int column, final int newRow, final int newColumn) {
+        final int slot = slot(row, column);
+        final int newSlot = slot(newRow, newColumn);
+        if (slot == newSlot || !isSet(occupiedSlots, slot)) {
+            return;
+        }
+
+        setPatty(newRow, newColumn, null);
+        patties[newSlot] = patties[slot];
+        slotsByPatty.put(patties[newSlot], newSlot);
+        topCookLevels[newSlot] = topCookLevels[slot];
+        bottomCookLevels[newSlot] = bottomCookLevels[slot];
+        set(occupiedSlots, newSlot, true);
+        set(flippedSlots, newSlot, isSet(flippedSlots, slot));
+        empty(slot);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flipPatty(final int row, final int column) {
+        final int slot = slot(row, column);
+        if (isSet(occupiedSlots, slot)) {
+            set(flippedSlots, slot, !isSet(flippedSlots, slot));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int findSlot(final PattyModel patty) {
+        final Integer slot = slotsByPatty.get(patty);
+        return Objects.isNull(slot) ? -1 : slot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int findFreeSlot() {
+        for (int word = 0; word < occupiedSlots.length; word++) {
+            final long free = ~occupiedSlots[word];
+            if (free != 0) {
+                final int slot = (word << WORD_SHIFT) | Long.numberOfTrailingZeros(free);
+                return slot < patties.length ? slot : -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void tick(final double deltaSeconds) {
+        final double cookLevelIncrement = COOK_LEVEL_INCREMENT_PER_SECOND * deltaSeconds;
+        for (int word = 0; word < occupiedSlots.length; word++) {
+            final long flipped = flippedSlots[word];
+            for (long remaining = occupiedSlots[word]; remaining != 0; remaining &= remaining - 1) {
+                final int slot = (word << WORD_SHIFT) | Long.numberOfTrailingZeros(remaining);
+                if ((flipped & Long.lowestOneBit(remaining)) != 0) {
+                    topCookLevels[slot] += cookLevelIncrement;
+                } else {
+                    bottomCookLevels[slot] += cookLevelIncrement;
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(occupiedSlots, 0);
+        Arrays.fill(flippedSlots, 0);
+        Arrays.fill(topCookLevels, MIN_COOK_LEVEL);
+        Arrays.fill(bottomCookLevels, MIN_COOK_LEVEL);
+        Arrays.fill(patties, null);
+        slotsByPatty.clear();
+    }
+
+    /**
+     * Returns the index of the slot, counting row by row.
+     *
+     * @param row    the row of the slot
+     * @param column the column of the slot
+     * @return the index of the slot
+     * @throws IndexOutOfBoundsException if the slot is not on the grill
+     */
+    private int slot(final int row, final int column) {
+        return Objects.checkIndex(row, rows) * columns + Objects.checkIndex(column, columns);
+    }
+
+    /**
+     * Empties a slot, without touching the patty that was in it.
+     *
+     * @param slot the index of the slot
+     */
+    private void empty(final int slot) {
+        patties[slot] = null;
+        topCookLevels[slot] = MIN_COOK_LEVEL;
+        bottomCookLevels[slot] = MIN_COOK_LEVEL;
+        set(occupiedSlots, slot, false);
+        set(flippedSlots, slot, false);
+    }
+
+    /**
+     * Returns the bit of a slot.
+     *
+     * @param bitmap the bitmap
+     * @param slot   the index of the slot
+     * @return the bit of the slot
+     */
+    private static boolean isSet(final long[] bitmap, final int slot) {
+        return (bitmap[slot >>> WORD_SHIFT] & (1L << slot)) != 0;
+    }
+
+    /**
+     * Changes the bit of a slot.
+     *
+     * @param bitmap the bitmap
+     * @param slot   the index of the slot
+     * @param value  the new bit of the slot
+     */
+    private static void set(final long[] bitmap, final int slot, final boolean value) {
+        if (value) {
+            bitmap[slot >>> WORD_SHIFT] |= 1L << slot;
+        } else {
+            bitmap[slot >>> WORD_SHIFT] &= ~(1L << slot);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "GrillModelImpl{"
+                + "rows=" + rows
+                + ", columns=" + columns
+                + ", occupiedSlots=" + Arrays.toString(occupiedSlots)
+                + ", flippedSlots=" + Arrays.toString(flippedSlots)
+                + ", topCookLevels=" + Arrays.toString(topCookLevels)
+                + ", bottomCookLevels=" + Arrays.toString(bottomCookLevels)
+                + '}';
+    }
+}
@@ -7,10 +7,8 @@ import it.unibo.papasburgeria.model.api.PattyModel;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 
 import static it.unibo.papasburgeria.model.IngredientEnum.BOTTOM_BUN;
-import static it.unibo.papasburgeria.model.IngredientEnum.PATTY;
 import static it.unibo.papasburgeria.model.IngredientEnum.TOP_BUN;
 
 /**
@@ -50,42 +48,6 @@ public class HamburgerModelImpl implements HamburgerModel {
         }
     }
 
-    /**
-     * Generates a random hamburger using the unlocked ingredients.
-     *
-     * @param availableIngredients the list of unlocked ingredient types
-     * @return the randomly generated hamburger
-     */
-    public static HamburgerModel generateRandomHamburger(final List<IngredientEnum> availableIngredients) {
-        final HamburgerModel hamburger = new HamburgerModelImpl();
-        final List<IngredientEnum> currentIngredients = new ArrayList<>(availableIngredients);
-        currentIngredients.remove(TOP_BUN);
-        currentIngredients.remove(BOTTOM_BUN);
-        hamburger.addIngredient(new IngredientModelImpl(BOTTOM_BUN));
-
-        if (!currentIngredients.isEmpty()) {
-            final int ingredientNumber = (int) ((Math.random() * (MAX_INGREDIENTS - MIN_INGREDIENTS)) + MIN_INGREDIENTS);
-
-            for (int i = 0; i < ingredientNumber; i++) {
-                IngredientModel ingredient;
-                do {
-                    final IngredientEnum ingredientType =
-                            currentIngredients.get((int) (Math.random() * currentIngredients.size()));
-                    if (PATTY.equals(ingredientType)) {
-                        ingredient = new PattyModelImpl();
-                        ((PattyModel) ingredient).setTopCookLevel(ThreadLocalRandom.current().nextDouble());
-                        ((PattyModel) ingredient).setBottomCookLevel(ThreadLocalRandom.current().nextDouble());
-                    } else {
-                        ingredient = new IngredientModelImpl(ingredientType);
-                    }
-                } while (!hamburger.addIngredient(ingredient));
-            }
-        }
-
-        hamburger.addIngredient(new IngredientModelImpl(TOP_BUN));
-        return hamburger;
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -127,6 +89,54 @@ public class HamburgerModelImpl implements HamburgerModel {
         return List.copyOf(ingredientList);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getIngredientCount() {
+        return ingredientList.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IngredientEnum getIngredientType(final int index) {
+        return ingredientList.get(index).getIngredientType();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPlacementAccuracy(final int index) {
+        return ingredientList.get(index).getPlacementAccuracy();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTopCookLevel(final int index) {
+        return getPatty(index).getTopCookLevel();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getBottomCookLevel(final int index) {
+        return getPatty(index).getBottomCookLevel();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isFlipped(final int index) {
+        return getPatty(index).isFlipped();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -135,6 +145,19 @@ public class HamburgerModelImpl implements HamburgerModel {
         return new HamburgerModelImpl(ingredientList);
     }
 
+    /**
+     * Gets a patty of the hamburger.
+     *
+     * @param index the position of the patty, starting from the bottom
+     * @return the patty
+     */
+    private PattyModel getPatty(final int index) {
+        if (ingredientList.get(index) instanceof PattyModel patty) {
+            return patty;
+        }
+        throw new IllegalArgumentException("Ingredient " + index + " is not a patty");
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,115 @@
+package it.unibo.papasburgeria.model.impl;
+
+import it.unibo.papasburgeria.model.IngredientEnum;
+import it.unibo.papasburgeria.model.api.IngredientModel;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static it.unibo.papasburgeria.model.IngredientEnum.PATTY;
+
+/**
+ * Hands out one shared, read-only ingredient for every type but the patty, for the paths that only show ingredients.
+ *
+ * <p>
+ * The shared ingredients always have the perfect accuracy and cannot be changed, the placement of an ingredient in a
+ * hamburger is kept by its layer and read through {@link it.unibo.papasburgeria.model.api.HamburgerModel}. Code that
+ * changes an ingredient, such as the drag and drop of the assembly, copies it into an {@link IngredientModelImpl}.
+ */
+public final class IngredientRegistry {
+    private static final Map<IngredientEnum, IngredientModel> INGREDIENTS;
+
+    static {
+        final Map<IngredientEnum, IngredientModel> map = new EnumMap<>(IngredientEnum.class);
+        for (final IngredientEnum type : IngredientEnum.values()) {
+            if (type != PATTY) {
+                map.put(type, new SharedIngredient(type));
+            }
+        }
+        INGREDIENTS = map;
+    }
+
+    /**
+     * Default constructor, private to prevent instantiation.
+     */
+    private IngredientRegistry() {
+    }
+
+    /**
+     * Gets the shared ingredient of the given type.
+     *
+     * @param type the type of the ingredient
+     * @return the shared, read-only ingredient
+     * @throws IllegalArgumentException if the type is the patty, whose cook levels make every patty different
+     */
+    public static IngredientModel get(final IngredientEnum type) {
+        final IngredientModel ingredient = INGREDIENTS.get(type);
+        if (ingredient == null) {
+            throw new IllegalArgumentException("No shared ingredient for " + type);
+        }
+        return ingredient;
+    }
+
+    /**
+     * Checks whether the ingredient is a shared one, which has to be copied before being changed.
+     *
+     * @param ingredient the ingredient
+     * @return true if the ingredient is shared, false otherwise
+     */
+    public static boolean isShared(final IngredientModel ingredient) {
+        return ingredient instanceof SharedIngredient;
+    }
+
+    /**
+     * Read-only ingredient with the perfect accuracy.
+     */
+    private static final class SharedIngredient implements IngredientModel {
+        private final IngredientEnum type;
+
+        /**
+         * Creates the shared ingredient of the given type.
+         *
+         * @param type the type of the ingredient
+         */
+        SharedIngredient(final IngredientEnum type) {
+            this.type = type;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public IngredientEnum getIngredientType() {
+            return type;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getPlacementAccuracy() {
+            return IngredientModelImpl.PERFECT_ACCURACY;
+        }
+
+        /**
+         * Shared ingredients cannot be changed.
+         *
+         * @param accuracy the new placement accuracy
+         * @throws UnsupportedOperationException always
+         */
+        @Override
+        public void setPlacementAccuracy(final double accuracy) {
+            throw new UnsupportedOperationException("Shared " + type + " is read-only, copy it to change it");
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "SharedIngredient{"
+                    + "type=" + type
+                    + '}';
+        }
+    }
+}
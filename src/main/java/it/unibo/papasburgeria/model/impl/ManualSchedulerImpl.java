@@ -0,0 +1,191 @@
+package it.unibo.papasburgeria.model.impl;
+
+import com.google.inject.Singleton;
+import it.unibo.papasburgeria.model.api.GameScheduler;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of GameScheduler whose time only flows when it is advanced by hand.
+ *
+ * <p>
+ * Tasks run synchronously on the thread that advances the time, in order of game time and then of scheduling, which
+ * makes it suited for tests and simulations.
+ *
+ * <p>
+ * See {@link GameScheduler} for interface details.
+ */
+@Singleton
+public class ManualSchedulerImpl implements GameScheduler {
+    private final Queue<ManualTask> tasks;
+    private long time;
+    private long scheduledTasks;
+    private boolean paused;
+
+    /**
+     * Constructs the scheduler with its game time set to zero.
+     */
+    public ManualSchedulerImpl() {
+        this.tasks = new PriorityQueue<>(
+                Comparator.comparingLong((ManualTask task) -> task.nextRun).thenComparingLong(task -> task.order));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized ScheduledTask scheduleAtFixedRate(final Runnable task, final long initialDelay,
+                                                          final long period, final TimeUnit unit) {
+        if (initialDelay < 0 || period <= 0) {
+            throw new IllegalArgumentException("Invalid delay " + initialDelay + " or period " + period);
+        }
+
+        final ManualTask scheduledTask =
+                new ManualTask(task, time + unit.toNanos(initialDelay), unit.toNanos(period), scheduledTasks);
+        scheduledTasks++;
+        tasks.add(scheduledTask);
+        return scheduledTask;
+    }
+
+    /**
+     * Advances the game time, running every task due in the meantime. Nothing happens while paused.
+     *
+     * @param amount the amount of time to advance
+     * @param unit   the unit of the amount
+     * @throws IllegalArgumentException if the amount is negative
+     */
+    public synchronized void advance(final long amount, final TimeUnit unit) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Cannot go back in time: " + amount);
+        }
+
+        if (!paused) {
+            runUntil(time + unit.toNanos(amount));
+        }
+    }
+
+    /**
+     * Advances the game time up to the next scheduled run, running every task due at that time.
+     *
+     * @return true if the time was advanced, false if paused or if no task is scheduled
+     */
+    public synchronized boolean advanceToNextRun() {
+        if (paused || tasks.isEmpty()) {
+            return false;
+        }
+
+        runUntil(tasks.element().nextRun);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long getTime(final TimeUnit unit) {
+        return unit.convert(time, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void pause() {
+        paused = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void resume() {
+        paused = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Runs the due tasks in order until the target time is reached or a task pauses the scheduler.
+     *
+     * @param target the game time to reach, in nanoseconds
+     */
+    private void runUntil(final long target) {
+        while (!paused && !tasks.isEmpty() && tasks.element().nextRun <= target) {
+            final ManualTask task = tasks.remove();
+            time = task.nextRun;
+            task.nextRun += task.period;
+            tasks.add(task);
+            task.runnable.run();
+        }
+
+        if (!paused) {
+            time = target;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized String toString() {
+        return "ManualSchedulerImpl{"
+                + "time=" + time
+                + ", tasks=" + tasks.size()
+                + ", paused=" + paused
+                + '}';
+    }
+
+    /**
+     * Task scheduled on this scheduler, guarded by the scheduler lock.
+     */
+    private final class ManualTask implements ScheduledTask {
+        private final Runnable runnable;
+        private final long period;
+        private final long order;
+        private long nextRun;
+        private boolean cancelled;
+
+        /**
+         * @param runnable the task to run
+         * @param firstRun the game time of the first run, in nanoseconds
+         * @param period   the time between two runs, in nanoseconds
+         * @param order    the scheduling order, used to break ties
+         */
+        ManualTask(final Runnable runnable, final long firstRun, final long period, final long order) {
+            this.runnable = runnable;
+            this.nextRun = firstRun;
+            this.period = period;
+            this.order = order;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void cancel() {
+            synchronized (ManualSchedulerImpl.this) {
+                cancelled = true;
+                tasks.remove(this);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isCancelled() {
+            synchronized (ManualSchedulerImpl.this) {
+                return cancelled;
+            }
+        }
+    }
+}
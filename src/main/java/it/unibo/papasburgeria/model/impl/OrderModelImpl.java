@@ -10,6 +10,10 @@ import java.util.List;
  * Implementation of Order.
  *
  * <p>
+ * Orders never change, their hamburger is packed so reading or copying it only shares its layers, see
+ * {@link PackedHamburgerModelImpl}.
+ *
+ * <p>
  * See {@link OrderModel} for interface details.
  */
 public class OrderModelImpl implements OrderModel {
@@ -23,7 +27,7 @@ public class OrderModelImpl implements OrderModel {
      * @param orderNumber the order number.
      */
     public OrderModelImpl(final HamburgerModel hamburger, final int orderNumber) {
-        this.hamburger = hamburger.copyOf();
+        this.hamburger = PackedHamburgerModelImpl.of(hamburger);
         this.orderNumber = orderNumber;
     }
 
@@ -35,7 +39,7 @@ public class OrderModelImpl implements OrderModel {
      */
     public OrderModelImpl(final List<IngredientEnum> availableIngredients, final int orderNumber) {
         this.orderNumber = orderNumber;
-        hamburger = HamburgerModelImpl.generateRandomHamburger(availableIngredients);
+        hamburger = PackedHamburgerModelImpl.generateRandomHamburger(availableIngredients);
     }
 
     /**
@@ -59,7 +63,7 @@ public class OrderModelImpl implements OrderModel {
      */
     @Override
     public OrderModel copyOf() {
-        return new OrderModelImpl(hamburger.copyOf(), orderNumber);
+        return new OrderModelImpl(hamburger, orderNumber);
     }
 
     /**
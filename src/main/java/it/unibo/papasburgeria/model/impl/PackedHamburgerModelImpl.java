@@ -0,0 +1,427 @@
+package it.unibo.papasburgeria.model.impl;
+
+import it.unibo.papasburgeria.model.IngredientEnum;
+import it.unibo.papasburgeria.model.api.HamburgerModel;
+import it.unibo.papasburgeria.model.api.IngredientModel;
+import it.unibo.papasburgeria.model.api.PattyModel;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static it.unibo.papasburgeria.model.IngredientEnum.BOTTOM_BUN;
+import static it.unibo.papasburgeria.model.IngredientEnum.PATTY;
+import static it.unibo.papasburgeria.model.IngredientEnum.TOP_BUN;
+
+/**
+ * Implementation of Hamburger storing its ingredients as immutable primitive layers instead of ingredient objects.
+ *
+ * <p>
+ * Every layer holds the values of its ingredient and points to the layer below it, so adding an ingredient creates a
+ * new version of the hamburger sharing all the layers below, and removing one goes back to the previous version.
+ * Since no layer is ever changed, copying a hamburger only copies the reference to its top layer, and the copies can
+ * be changed independently.
+ *
+ * <p>
+ * The type of every ingredient is also packed as a 4 bit code in a single long carried by the top layer, so comparing
+ * and hashing a hamburger never allocates. The ingredients returned by {@link #getIngredients()} are created on
+ * demand, so changing them does not change the hamburger.
+ *
+ * <p>
+ * See {@link HamburgerModel} for interface details.
+ */
+public final class PackedHamburgerModelImpl implements HamburgerModel {
+    /**
+     * Defines the maximum number of ingredients of a hamburger, buns included.
+     */
+    public static final int CAPACITY = HamburgerModelImpl.MAX_INGREDIENTS + HamburgerModelImpl.MIN_INGREDIENTS;
+
+    /* the 12 ingredient types fit in 4 bits, and the 12 layers in the 48 lowest bits of the long */
+    private static final int TYPE_BITS = 4;
+    private static final long TYPE_MASK = (1L << TYPE_BITS) - 1;
+    private static final IngredientEnum[] TYPES = IngredientEnum.values();
+
+    private Layer top;
+
+    /**
+     * Default constructor, creates an empty hamburger.
+     */
+    public PackedHamburgerModelImpl() {
+        this((Layer) null);
+    }
+
+    /**
+     * Creates a burger given the list of ingredients.
+     *
+     * @param ingredientList the list of ingredients
+     */
+    public PackedHamburgerModelImpl(final List<IngredientModel> ingredientList) {
+        this();
+        for (final IngredientModel ingredient : ingredientList) {
+            addIngredient(ingredient);
+        }
+    }
+
+    /**
+     * Creates a hamburger sharing the given layers.
+     *
+     * @param top the top layer, null if the hamburger is empty
+     */
+    private PackedHamburgerModelImpl(final Layer top) {
+        this.top = top;
+    }
+
+    /**
+     * Gets a packed version of a hamburger, sharing its layers if it is already packed.
+     *
+     * @param hamburger the hamburger
+     * @return the packed hamburger
+     */
+    public static PackedHamburgerModelImpl of(final HamburgerModel hamburger) {
+        if (hamburger instanceof PackedHamburgerModelImpl packed) {
+            return new PackedHamburgerModelImpl(packed.top);
+        }
+
+        final PackedHamburgerModelImpl packed = new PackedHamburgerModelImpl();
+        for (int index = 0; index < hamburger.getIngredientCount(); index++) {
+            final IngredientEnum ingredientType = hamburger.getIngredientType(index);
+            if (ingredientType == PATTY) {
+                packed.addLayer(PATTY, hamburger.getPlacementAccuracy(index), hamburger.getTopCookLevel(index),
+                        hamburger.getBottomCookLevel(index), hamburger.isFlipped(index));
+            } else {
+                packed.addLayer(ingredientType, hamburger.getPlacementAccuracy(index), 0, 0, false);
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Generates a random hamburger using the unlocked ingredients, without creating any ingredient.
+     *
+     * @param availableIngredients the list of unlocked ingredient types
+     * @return the randomly generated hamburger
+     */
+    public static HamburgerModel generateRandomHamburger(final List<IngredientEnum> availableIngredients) {
+        final PackedHamburgerModelImpl hamburger = new PackedHamburgerModelImpl();
+        long fillings = 0;
+        for (final IngredientEnum ingredientType : availableIngredients) {
+            if (ingredientType != BOTTOM_BUN && ingredientType != TOP_BUN) {
+                fillings |= 1L << ingredientType.ordinal();
+            }
+        }
+        hamburger.addLayer(BOTTOM_BUN, IngredientModelImpl.PERFECT_ACCURACY, 0, 0, false);
+
+        final int fillingCount = Long.bitCount(fillings);
+        if (fillingCount > 0) {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            final int ingredientNumber =
+                    random.nextInt(HamburgerModelImpl.MIN_INGREDIENTS, HamburgerModelImpl.MAX_INGREDIENTS);
+
+            for (int i = 0; i < ingredientNumber; i++) {
+                long remaining = fillings;
+                for (int skipped = random.nextInt(fillingCount); skipped > 0; skipped--) {
+                    remaining &= remaining - 1;
+                }
+                final IngredientEnum ingredientType = TYPES[Long.numberOfTrailingZeros(remaining)];
+                if (PATTY.equals(ingredientType)) {
+                    hamburger.addLayer(PATTY, IngredientModelImpl.PERFECT_ACCURACY,
+                            random.nextDouble(), random.nextDouble(), false);
+                } else {
+                    hamburger.addLayer(ingredientType, IngredientModelImpl.PERFECT_ACCURACY, 0, 0, false);
+                }
+            }
+        }
+
+        hamburger.addLayer(TOP_BUN, IngredientModelImpl.PERFECT_ACCURACY, 0, 0, false);
+        return hamburger;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addIngredient(final IngredientModel ingredient) {
+        /* shared ingredients are read-only and already have the perfect accuracy */
+        if (top == null && ingredient.getIngredientType() == BOTTOM_BUN && !IngredientRegistry.isShared(ingredient)) {
+            ingredient.setPlacementAccuracy(IngredientModelImpl.PERFECT_ACCURACY);
+        }
+
+        if (ingredient instanceof PattyModel patty) {
+            return addLayer(PATTY, ingredient.getPlacementAccuracy(), patty.getTopCookLevel(),
+                    patty.getBottomCookLevel(), patty.isFlipped());
+        }
+        return addLayer(ingredient.getIngredientType(), ingredient.getPlacementAccuracy(), 0, 0, false);
+    }
+
+    /**
+     * Adds an ingredient on top of the hamburger, with the same rules as {@link #addIngredient(IngredientModel)}.
+     *
+     * @param ingredientType  the type of the ingredient
+     * @param accuracy        the placement accuracy of the ingredient
+     * @param topCookLevel    the top cook level, if the ingredient is a patty
+     * @param bottomCookLevel the bottom cook level, if the ingredient is a patty
+     * @param flipped         whether the ingredient is a flipped patty
+     * @return true if the ingredient was added, false otherwise
+     */
+    private boolean addLayer(final IngredientEnum ingredientType, final double accuracy,
+                             final double topCookLevel, final double bottomCookLevel, final boolean flipped) {
+        final int count = getIngredientCount();
+        if (count == 0 && ingredientType != BOTTOM_BUN) {
+            return false;
+        }
+
+        if (count == CAPACITY || count > 0 && getType(count - 1) == TOP_BUN) {
+            return false;
+        }
+
+        final long types = top == null ? 0 : top.types;
+        final int flippedPatties = top == null ? 0 : top.flippedPatties;
+        top = new Layer(top, count + 1,
+                types | (long) ingredientType.ordinal() << (count * TYPE_BITS),
+                flipped ? flippedPatties | 1 << count : flippedPatties,
+                accuracy, topCookLevel, bottomCookLevel);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeLastIngredient() {
+        if (top == null) {
+            return false;
+        }
+
+        top = top.below;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<IngredientModel> getIngredients() {
+        final IngredientModel[] ingredients = new IngredientModel[getIngredientCount()];
+        for (Layer layer = top; layer != null; layer = layer.below) {
+            final int index = layer.count - 1;
+            final IngredientModel ingredient;
+            if (getType(index) == PATTY) {
+                final PattyModelImpl patty = new PattyModelImpl();
+                patty.setTopCookLevel(layer.topCookLevel);
+                patty.setBottomCookLevel(layer.bottomCookLevel);
+                if (isFlippedAt(index)) {
+                    patty.flip();
+                }
+                ingredient = patty;
+            } else {
+                ingredient = new IngredientModelImpl(getType(index));
+            }
+            ingredient.setPlacementAccuracy(layer.accuracy);
+            ingredients[index] = ingredient;
+        }
+        return List.of(ingredients);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getIngredientCount() {
+        return top == null ? 0 : top.count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IngredientEnum getIngredientType(final int index) {
+        return getType(checkIndex(index));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPlacementAccuracy(final int index) {
+        return getLayer(checkIndex(index)).accuracy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTopCookLevel(final int index) {
+        return getLayer(checkPatty(index)).topCookLevel;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getBottomCookLevel(final int index) {
+        return getLayer(checkPatty(index)).bottomCookLevel;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isFlipped(final int index) {
+        return isFlippedAt(checkPatty(index));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HamburgerModel copyOf() {
+        return new PackedHamburgerModelImpl(top);
+    }
+
+    /**
+     * Gets the type of an ingredient, without checking the index.
+     *
+     * @param index the position of the ingredient
+     * @return the type of the ingredient
+     */
+    private IngredientEnum getType(final int index) {
+        return TYPES[(int) (top.types >>> (index * TYPE_BITS) & TYPE_MASK)];
+    }
+
+    /**
+     * Gets the layer of an ingredient, without checking the index.
+     *
+     * @param index the position of the ingredient
+     * @return the layer of the ingredient
+     */
+    private Layer getLayer(final int index) {
+        Layer layer = top;
+        while (layer.count - 1 > index) {
+            layer = layer.below;
+        }
+        return layer;
+    }
+
+    /**
+     * Gets whether a patty is flipped, without checking the index.
+     *
+     * @param index the position of the patty
+     * @return true if the patty is flipped, false otherwise
+     */
+    private boolean isFlippedAt(final int index) {
+        return (top.flippedPatties & 1 << index) != 0;
+    }
+
+    /**
+     * Checks that an ingredient is at the given position.
+     *
+     * @param index the position of the ingredient
+     * @return the position
+     */
+    private int checkIndex(final int index) {
+        if (index < 0 || index >= getIngredientCount()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length "
+                    + getIngredientCount());
+        }
+        return index;
+    }
+
+    /**
+     * Checks that a patty is at the given position.
+     *
+     * @param index the position of the patty
+     * @return the position
+     */
+    private int checkPatty(final int index) {
+        if (getType(checkIndex(index)) != PATTY) {
+            throw new IllegalArgumentException("Ingredient " + index + " is not a patty");
+        }
+        return index;
+    }
+
+    /**
+     * Compares the hamburgers like their ingredients are compared, so the placement accuracies are ignored while the
+     * cook levels of the patties are not.
+     *
+     * @param object the object to compare with
+     * @return true if the hamburgers have the same ingredients, false otherwise
+     */
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+        Layer layer = top;
+        Layer otherLayer = ((PackedHamburgerModelImpl) object).top;
+        if (layer == null || otherLayer == null) {
+            return layer == otherLayer;
+        }
+        if (layer.count != otherLayer.count || layer.types != otherLayer.types
+                || layer.flippedPatties != otherLayer.flippedPatties) {
+            return false;
+        }
+
+        /* the layers below a shared one are shared as well */
+        while (layer != otherLayer) {
+            if (getType(layer.count - 1) == PATTY
+                    && (Double.compare(layer.topCookLevel, otherLayer.topCookLevel) != 0
+                    || Double.compare(layer.bottomCookLevel, otherLayer.bottomCookLevel) != 0)) {
+                return false;
+            }
+            layer = layer.below;
+            otherLayer = otherLayer.below;
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        if (top == null) {
+            return 0;
+        }
+
+        int hash = Long.hashCode(top.types) * 31 + top.count;
+        hash = hash * 31 + top.flippedPatties;
+        for (Layer layer = top; layer != null; layer = layer.below) {
+            if (getType(layer.count - 1) == PATTY) {
+                hash = hash * 31 + Double.hashCode(layer.topCookLevel);
+                hash = hash * 31 + Double.hashCode(layer.bottomCookLevel);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        for (final IngredientModel ingredient : getIngredients()) {
+            sb.append(ingredient.toString()).append(", ");
+        }
+        sb.append(']');
+
+        return sb.toString();
+    }
+
+    /**
+     * Immutable layer of a hamburger, carrying the packed types and flipped patties of the layers below as well.
+     *
+     * @param below           the layer below, null for the bottom one
+     * @param count           the number of layers up to this one
+     * @param types           the packed types of the layers up to this one
+     * @param flippedPatties  the bitmask of the flipped patties up to this one
+     * @param accuracy        the placement accuracy of the ingredient
+     * @param topCookLevel    the top cook level, if the ingredient is a patty
+     * @param bottomCookLevel the bottom cook level, if the ingredient is a patty
+     */
+    private record Layer(Layer below, int count, long types, int flippedPatties,
+                         double accuracy, double topCookLevel, double bottomCookLevel) {
+    }
+}
@@ -0,0 +1,229 @@
+package it.unibo.papasburgeria.model.impl;
+
+import com.google.inject.Singleton;
+import it.unibo.papasburgeria.model.api.GameScheduler;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of GameScheduler that follows the wall clock.
+ *
+ * <p>
+ * Every instance shares a single daemon thread, each task is scheduled once at a time and re-scheduled after it ran,
+ * so pausing only has to cancel the pending runs and resuming re-schedules them with the game time they had left.
+ * A run holds the run lock from the last check of its task to its end, and pausing takes the same lock, so once
+ * {@link #pause()} returns no task is running or starts running until the scheduler is resumed.
+ *
+ * <p>
+ * See {@link GameScheduler} for interface details.
+ */
+@Singleton
+public class RealTimeSchedulerImpl implements GameScheduler {
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "game-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object runLock;
+    private final Set<RealTimeTask> tasks;
+    private final long origin;
+    private long pausedNanos;
+    private long pauseStart;
+    private boolean paused;
+
+    /**
+     * Constructs the scheduler, the game time starts flowing immediately.
+     */
+    public RealTimeSchedulerImpl() {
+        this.runLock = new Object();
+        this.tasks = new HashSet<>();
+        this.origin = System.nanoTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized ScheduledTask scheduleAtFixedRate(final Runnable task, final long initialDelay,
+                                                          final long period, final TimeUnit unit) {
+        if (initialDelay < 0 || period <= 0) {
+            throw new IllegalArgumentException("Invalid delay " + initialDelay + " or period " + period);
+        }
+
+        final RealTimeTask scheduledTask =
+                new RealTimeTask(task, gameNanos() + unit.toNanos(initialDelay), unit.toNanos(period));
+        tasks.add(scheduledTask);
+        if (!paused) {
+            submit(scheduledTask);
+        }
+        return scheduledTask;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long getTime(final TimeUnit unit) {
+        return unit.convert(gameNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pause() {
+        synchronized (runLock) {
+            synchronized (this) {
+                if (paused) {
+                    return;
+                }
+
+                paused = true;
+                pauseStart = System.nanoTime();
+                tasks.forEach(RealTimeTask::withdraw);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void resume() {
+        if (!paused) {
+            return;
+        }
+
+        paused = false;
+        pausedNanos += System.nanoTime() - pauseStart;
+        tasks.forEach(this::submit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Gets the elapsed game time, it does not flow while paused.
+     *
+     * @return the elapsed game time in nanoseconds
+     */
+    private long gameNanos() {
+        return (paused ? pauseStart : System.nanoTime()) - origin - pausedNanos;
+    }
+
+    /**
+     * Schedules the next run of the task on the shared executor.
+     *
+     * @param task the task to schedule
+     */
+    private void submit(final RealTimeTask task) {
+        task.generation++;
+        final long generation = task.generation;
+        task.pendingRun = EXECUTOR.schedule(() -> run(task, generation),
+                Math.max(0, task.nextRun - gameNanos()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Runs the task, unless it was cancelled or withdrawn after being scheduled, then schedules its next run.
+     *
+     * @param task       the task to run
+     * @param generation the generation of the task when this run was scheduled
+     */
+    private void run(final RealTimeTask task, final long generation) {
+        synchronized (runLock) {
+            synchronized (this) {
+                if (task.cancelled || task.generation != generation) {
+                    return;
+                }
+                task.nextRun += task.period;
+            }
+
+            /* the scheduler lock is released while running, the task may take its own locks and call back */
+            task.runnable.run();
+
+            synchronized (this) {
+                if (!task.cancelled && task.generation == generation) {
+                    submit(task);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized String toString() {
+        return "RealTimeSchedulerImpl{"
+                + "tasks=" + tasks.size()
+                + ", paused=" + paused
+                + '}';
+    }
+
+    /**
+     * Task scheduled on this scheduler, guarded by the scheduler lock.
+     */
+    private final class RealTimeTask implements ScheduledTask {
+        private final Runnable runnable;
+        private final long period;
+        private long nextRun;
+        private long generation;
+        private ScheduledFuture<?> pendingRun;
+        private boolean cancelled;
+
+        /**
+         * @param runnable the task to run
+         * @param firstRun the game time of the first run, in nanoseconds
+         * @param period   the time between two runs, in nanoseconds
+         */
+        RealTimeTask(final Runnable runnable, final long firstRun, final long period) {
+            this.runnable = runnable;
+            this.nextRun = firstRun;
+            this.period = period;
+        }
+
+        /**
+         * Cancels the pending run, if any, and invalidates runs that already started.
+         */
+        void withdraw() {
+            generation++;
+            if (pendingRun != null) {
+                pendingRun.cancel(false);
+                pendingRun = null;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void cancel() {
+            synchronized (RealTimeSchedulerImpl.this) {
+                cancelled = true;
+                withdraw();
+                tasks.remove(this);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isCancelled() {
+            synchronized (RealTimeSchedulerImpl.this) {
+                return cancelled;
+            }
+        }
+    }
+}
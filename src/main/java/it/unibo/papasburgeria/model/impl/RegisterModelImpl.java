@@ -1,33 +1,61 @@
 package it.unibo.papasburgeria.model.impl;
 
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.papasburgeria.model.IngredientEnum;
 import it.unibo.papasburgeria.model.LineEnum;
 import it.unibo.papasburgeria.model.api.CustomerModel;
+import it.unibo.papasburgeria.model.api.GameScheduler;
 import it.unibo.papasburgeria.model.api.RegisterModel;
 
-import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Implementation of RegisterModel.
  *
  * <p>
+ * Customers are added from the scheduler thread while the view reads the lines from its own, so each line is a
+ * copy-on-write snapshot with its own version, and the changes are notified to whoever is interested instead of
+ * having them compare the lines over and over.
+ *
+ * <p>
  * See {@link RegisterModel} for interface details.
  */
 @Singleton
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The scheduler is injected and shared intentionally")
 public class RegisterModelImpl implements RegisterModel {
-    private final List<List<CustomerModel>> lineList;
-    private CustomerThread customerThread;
+    private final Map<LineEnum, CustomerLine> lines;
+    private final CopyOnWriteArrayList<Consumer<LineEnum>> onLineChangedCallbacks;
+    private final GameScheduler scheduler;
+    private CustomerSpawner customerSpawner;
 
     /**
-     * Constructs the register model.
+     * Constructs the register model, customers arrive following the wall clock.
      */
     public RegisterModelImpl() {
-        this.lineList = new ArrayList<>();
-        this.lineList.add(new ArrayList<>());
-        this.lineList.add(new ArrayList<>());
-        this.customerThread = new CustomerThread(0, -1, null, this);
+        this(new RealTimeSchedulerImpl());
+    }
+
+    /**
+     * Constructs the register model.
+     *
+     * @param scheduler the scheduler used to make the customers arrive
+     */
+    @Inject
+    public RegisterModelImpl(final GameScheduler scheduler) {
+        this.lines = new EnumMap<>(LineEnum.class);
+        for (final LineEnum line : LineEnum.values()) {
+            this.lines.put(line, new CustomerLine());
+        }
+        this.onLineChangedCallbacks = new CopyOnWriteArrayList<>();
+        this.scheduler = scheduler;
+        this.customerSpawner = new CustomerSpawner(0, 0, List.of(), this, 0);
     }
 
     /**
@@ -36,9 +64,35 @@ public class RegisterModelImpl implements RegisterModel {
     @Override
     public void startCustomerThread(final int delay, final int customerAmount,
                                     final List<IngredientEnum> availableingredients) {
+        resumeCustomerThread(delay, customerAmount, availableingredients, 0, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void resumeCustomerThread(final int delay, final int customerAmount,
+                                     final List<IngredientEnum> availableIngredients,
+                                     final int arrivedCustomers, final long nextArrivalDelay) {
         killCustomerThread();
-        customerThread = new CustomerThread(delay, customerAmount, availableingredients, this);
-        customerThread.start();
+        customerSpawner = new CustomerSpawner(delay, customerAmount, availableIngredients, this, arrivedCustomers);
+        customerSpawner.start(scheduler, nextArrivalDelay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getArrivedCustomers() {
+        return customerSpawner.getArrivedCustomers();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNextArrivalDelay() {
+        return customerSpawner.getNextArrivalDelay(TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -46,9 +100,7 @@ public class RegisterModelImpl implements RegisterModel {
      */
     @Override
     public void killCustomerThread() {
-        if (customerThread.isAlive()) {
-            customerThread.interrupt();
-        }
+        customerSpawner.stop();
     }
 
     /**
@@ -57,7 +109,8 @@ public class RegisterModelImpl implements RegisterModel {
     @Override
     public void addCustomerToLine(final CustomerModel customer, final LineEnum lineEnum) {
         customer.setInRegisterLine(true);
-        lineList.get(lineEnum.getValue()).add(customer);
+        lines.get(lineEnum).add(customer);
+        executeCallbacks(lineEnum);
     }
 
     /**
@@ -66,7 +119,9 @@ public class RegisterModelImpl implements RegisterModel {
     @Override
     public void removeCustomerFromLine(final CustomerModel customer, final LineEnum lineEnum) {
         customer.setInRegisterLine(false);
-        lineList.get(lineEnum.getValue()).remove(customer);
+        if (lines.get(lineEnum).remove(customer)) {
+            executeCallbacks(lineEnum);
+        }
     }
 
     /**
@@ -74,7 +129,23 @@ public class RegisterModelImpl implements RegisterModel {
      */
     @Override
     public List<CustomerModel> getLine(final LineEnum lineEnum) {
-        return List.copyOf(lineList.get(lineEnum.getValue()));
+        return lines.get(lineEnum).getCustomers();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLineVersion(final LineEnum lineEnum) {
+        return lines.get(lineEnum).getVersion();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasLineChangedSince(final LineEnum lineEnum, final long version) {
+        return lines.get(lineEnum).getVersion() != version;
     }
 
     /**
@@ -82,7 +153,34 @@ public class RegisterModelImpl implements RegisterModel {
      */
     @Override
     public void clearLine(final LineEnum lineEnum) {
-        lineList.get(lineEnum.getValue()).clear();
+        if (lines.get(lineEnum).clear()) {
+            executeCallbacks(lineEnum);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onLineChanged(final Consumer<LineEnum> callback) {
+        if (callback == null) {
+            throw new IllegalArgumentException("Callback cannot be null.");
+        }
+
+        if (!onLineChangedCallbacks.addIfAbsent(callback)) {
+            throw new IllegalArgumentException("Callback " + callback + " has already been added.");
+        }
+    }
+
+    /**
+     * Executes added callbacks.
+     *
+     * @param lineEnum the line that changed
+     */
+    private void executeCallbacks(final LineEnum lineEnum) {
+        for (final Consumer<LineEnum> callback : onLineChangedCallbacks) {
+            callback.accept(lineEnum);
+        }
     }
 
     /**
@@ -90,8 +188,8 @@ public class RegisterModelImpl implements RegisterModel {
      */
     @Override
     public String toString() {
-        return "[CustomerManager: [registerLine=" + lineList.get(LineEnum.REGISTER_LINE.getValue())
-                + "], [waitLine=" + lineList.get(LineEnum.WAIT_LINE.getValue()) + "] ]";
+        return "[CustomerManager: [registerLine=" + lines.get(LineEnum.REGISTER_LINE)
+                + "], [waitLine=" + lines.get(LineEnum.WAIT_LINE) + "] ]";
     }
 
     /**
@@ -99,6 +197,6 @@ public class RegisterModelImpl implements RegisterModel {
      */
     @Override
     public boolean isCustomerThreadStatus() {
-        return customerThread.isAlive();
+        return customerSpawner.isRunning();
     }
 }
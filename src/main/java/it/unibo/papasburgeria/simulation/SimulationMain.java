@@ -0,0 +1,48 @@
+package it.unibo.papasburgeria.simulation;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import it.unibo.papasburgeria.di.SimulationModule;
+import it.unibo.papasburgeria.model.UpgradeEnum;
+import it.unibo.papasburgeria.model.api.ShopModel;
+import it.unibo.papasburgeria.simulation.api.DaySimulator;
+import it.unibo.papasburgeria.simulation.impl.DayResult;
+import org.tinylog.Logger;
+
+import java.util.List;
+
+/**
+ * Entry point used to tune the difficulty and the upgrades, it simulates a run of days and logs their results.
+ */
+public final class SimulationMain {
+    private static final int DEFAULT_DAYS = 30;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private SimulationMain() {
+    }
+
+    /**
+     * Main method.
+     *
+     * @param args the amount of days to simulate, followed by the names of the upgrades to unlock
+     */
+    public static void main(final String[] args) {
+        final int days = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_DAYS;
+        final Injector injector = Guice.createInjector(new SimulationModule());
+        final ShopModel shopModel = injector.getInstance(ShopModel.class);
+        for (int i = 1; i < args.length; i++) {
+            shopModel.unlockUpgrade(UpgradeEnum.valueOf(args[i]));
+        }
+
+        final DaySimulator simulator = injector.getInstance(DaySimulator.class);
+        final long start = System.nanoTime();
+        final List<DayResult> results = simulator.simulateDays(days);
+        final double elapsedSeconds = (System.nanoTime() - start) / NANOS_PER_SECOND;
+
+        for (final DayResult result : results) {
+            Logger.info(result);
+        }
+        Logger.info("Simulated " + days + " days in " + elapsedSeconds + "s ("
+                + (int) (days / elapsedSeconds) + " days/s)");
+    }
+}
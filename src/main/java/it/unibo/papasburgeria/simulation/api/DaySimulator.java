@@ -0,0 +1,42 @@
+package it.unibo.papasburgeria.simulation.api;
+
+import it.unibo.papasburgeria.simulation.impl.DayResult;
+import it.unibo.papasburgeria.simulation.impl.PlayerProfile;
+
+import java.util.List;
+
+/**
+ * Simulates whole in-game days on the model and controller layer, without any view and in virtual time.
+ */
+public interface DaySimulator {
+
+    /**
+     * Sets the profile of the simulated player.
+     *
+     * @param profile the player profile
+     */
+    void setPlayerProfile(PlayerProfile profile);
+
+    /**
+     * Gets the profile of the simulated player.
+     *
+     * @return the player profile
+     */
+    PlayerProfile getPlayerProfile();
+
+    /**
+     * Simulates the current day until every customer is served, then moves the game to the next day.
+     *
+     * @return the results of the simulated day
+     */
+    DayResult simulateDay();
+
+    /**
+     * Simulates the given amount of consecutive days.
+     *
+     * @param days the amount of days to simulate
+     * @return the results of each simulated day, in order
+     * @throws IllegalArgumentException if the amount of days is negative
+     */
+    List<DayResult> simulateDays(int days);
+}
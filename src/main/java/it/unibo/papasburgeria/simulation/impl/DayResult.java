@@ -0,0 +1,21 @@
+package it.unibo.papasburgeria.simulation.impl;
+
+/**
+ * DTO carrying the results of a simulated day.
+ *
+ * @param day                 the simulated day
+ * @param servedOrders        amount of served orders
+ * @param revenue             money earned during the day, tips included
+ * @param tips                money earned through tips
+ * @param averageSatisfaction average satisfaction of the served customers, from 0 to 1
+ * @param simulatedSeconds    virtual time the day lasted, in seconds
+ */
+public record DayResult(
+        int day,
+        int servedOrders,
+        int revenue,
+        int tips,
+        double averageSatisfaction,
+        double simulatedSeconds
+) {
+}
@@ -0,0 +1,293 @@
+package it.unibo.papasburgeria.simulation.impl;
+
+import com.google.inject.Inject;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.papasburgeria.controller.api.BurgerAssemblyController;
+import it.unibo.papasburgeria.controller.api.CustomerController;
+import it.unibo.papasburgeria.controller.api.GrillController;
+import it.unibo.papasburgeria.model.api.CustomerModel;
+import it.unibo.papasburgeria.model.api.GameModel;
+import it.unibo.papasburgeria.model.api.IngredientModel;
+import it.unibo.papasburgeria.model.api.OrderModel;
+import it.unibo.papasburgeria.model.api.PantryModel;
+import it.unibo.papasburgeria.model.api.PattyModel;
+import it.unibo.papasburgeria.model.impl.HamburgerModelImpl;
+import it.unibo.papasburgeria.model.impl.IngredientModelImpl;
+import it.unibo.papasburgeria.model.impl.ManualSchedulerImpl;
+import it.unibo.papasburgeria.model.impl.PattyModelImpl;
+import it.unibo.papasburgeria.simulation.api.DaySimulator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static it.unibo.papasburgeria.controller.impl.BurgerAssemblyControllerImpl.HALF_RANGE;
+import static it.unibo.papasburgeria.controller.impl.BurgerAssemblyControllerImpl.HAMBURGER_X_POS_SCALE;
+import static it.unibo.papasburgeria.controller.impl.GameControllerImpl.FRAMERATE;
+import static it.unibo.papasburgeria.model.impl.GrillModelImpl.COOK_LEVEL_INCREMENT_PER_SECOND;
+import static it.unibo.papasburgeria.model.impl.PattyModelImpl.MIN_COOK_LEVEL;
+
+/**
+ * Implementation of DaySimulator.
+ *
+ * <p>
+ * The simulated player serves the customers one at a time, in order of arrival: it takes the order, cooks every
+ * patty on the grill at once, assembles the hamburger and gets paid. The customers arrive on a manual scheduler and
+ * time only advances from one event to the next, so a whole day costs a handful of controller calls per customer
+ * instead of minutes of wall-clock time.
+ *
+ * <p>
+ * See {@link DaySimulator} for interface details.
+ */
+@SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The models and controllers are injected and shared intentionally"
+)
+public class DaySimulatorImpl implements DaySimulator {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    /* like a real player, at most one patty is put down per frame */
+    private static final double MIN_SECONDS_BETWEEN_PATTIES = 1.0 / FRAMERATE;
+
+    private final GameModel gameModel;
+    private final PantryModel pantryModel;
+    private final ManualSchedulerImpl scheduler;
+    private final CustomerController customerController;
+    private final GrillController grillController;
+    private final BurgerAssemblyController assemblyController;
+    private final int grillSlots;
+    private PlayerProfile profile;
+
+    /**
+     * Default constructor that saves the models and the controllers given via injection.
+     *
+     * @param gameModel          the game model
+     * @param pantryModel        the model that stores which ingredients are unlocked
+     * @param scheduler          the clock of the game, advanced by the simulation
+     * @param customerController the controller that manages and evaluates the customers
+     * @param grillController    the controller of the grill
+     * @param assemblyController the controller of the burger assembly
+     */
+    @Inject
+    public DaySimulatorImpl(final GameModel gameModel,
+                            final PantryModel pantryModel,
+                            final ManualSchedulerImpl scheduler,
+                            final CustomerController customerController,
+                            final GrillController grillController,
+                            final BurgerAssemblyController assemblyController
+    ) {
+        this.gameModel = gameModel;
+        this.pantryModel = pantryModel;
+        this.scheduler = scheduler;
+        this.customerController = customerController;
+        this.grillController = grillController;
+        this.assemblyController = assemblyController;
+        int slots = 0;
+        for (int station = 0; station < gameModel.getGrillStations(); station++) {
+            slots += gameModel.getGrill(station).getRows() * gameModel.getGrill(station).getColumns();
+        }
+        this.grillSlots = slots;
+        this.profile = PlayerProfile.DEFAULT;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPlayerProfile(final PlayerProfile profile) {
+        this.profile = Objects.requireNonNull(profile);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlayerProfile getPlayerProfile() {
+        return profile;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DayResult simulateDay() {
+        final int day = gameModel.getCurrentDay();
+        final long dayStart = scheduler.getTime(TimeUnit.NANOSECONDS);
+        scheduler.resume();
+        gameModel.setHamburgerOnAssembly(new HamburgerModelImpl());
+        customerController.startClientThread();
+
+        int servedOrders = 0;
+        int revenue = 0;
+        int tips = 0;
+        double totalSatisfaction = 0;
+        while (true) {
+            final List<CustomerModel> registerLine = customerController.getRegisterLine();
+            if (registerLine.isEmpty()) {
+                if (scheduler.advanceToNextRun()) {
+                    continue;
+                }
+                break;
+            }
+
+            final CustomerModel customer = registerLine.getFirst();
+            customerController.takeOrderFromCustomer(customer);
+            final double elapsed = profile.secondsToTakeOrder() + prepareHamburger(customer.getOrder());
+
+            final double satisfaction = customerController.calculateSatisfactionPercentage(
+                    customer.getOrder().getHamburger(), assemblyController.getHamburgerOnAssembly());
+            final int payment = customerController.calculatePayment(satisfaction);
+            final int tip = customerController.calculateTips(payment);
+            customerController.recordServedOrder(customer.getOrder().getOrderNumber(), satisfaction, payment, tip);
+            customerController.serveCustomer(customer);
+            gameModel.setHamburgerOnAssembly(new HamburgerModelImpl());
+            scheduler.advance((long) (elapsed * NANOS_PER_SECOND), TimeUnit.NANOSECONDS);
+
+            servedOrders++;
+            revenue += payment + tip;
+            tips += tip;
+            totalSatisfaction += satisfaction;
+        }
+
+        gameModel.nextDay();
+        pantryModel.unlockForDay(gameModel.getCurrentDay());
+        return new DayResult(day, servedOrders, revenue, tips,
+                servedOrders == 0 ? 0 : totalSatisfaction / servedOrders,
+                (scheduler.getTime(TimeUnit.NANOSECONDS) - dayStart) / NANOS_PER_SECOND);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<DayResult> simulateDays(final int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("The amount of days cannot be negative: " + days);
+        }
+
+        final List<DayResult> results = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            results.add(simulateDay());
+        }
+        return results;
+    }
+
+    /**
+     * Cooks the patties and assembles the hamburger of the given order.
+     *
+     * @param order the order to prepare
+     * @return the time spent, in seconds
+     */
+    private double prepareHamburger(final OrderModel order) {
+        final List<IngredientModel> ingredients = order.getHamburger().getIngredients();
+        final List<PattyModel> targets = new ArrayList<>();
+        for (final IngredientModel ingredient : ingredients) {
+            if (ingredient instanceof PattyModel patty) {
+                targets.add(patty);
+            }
+        }
+
+        final List<PattyModel> cookedPatties = new ArrayList<>(targets.size());
+        double elapsed = 0;
+        for (int first = 0; first < targets.size(); first += grillSlots) {
+            elapsed += cookPatties(targets.subList(first, Math.min(first + grillSlots, targets.size())),
+                    cookedPatties);
+        }
+
+        int cookedIndex = 0;
+        for (final IngredientModel ingredient : ingredients) {
+            final IngredientModel placed;
+            if (ingredient instanceof PattyModel) {
+                placed = (IngredientModel) cookedPatties.get(cookedIndex);
+                cookedIndex++;
+            } else {
+                placed = new IngredientModelImpl(ingredient.getIngredientType());
+            }
+            final double placementError = ThreadLocalRandom.current().nextGaussian() * profile.placementSpread();
+            placed.setPlacementAccuracy(
+                    assemblyController.calculateAccuracy(HAMBURGER_X_POS_SCALE + placementError * HALF_RANGE));
+            assemblyController.addIngredient(placed);
+            elapsed += profile.secondsPerIngredient();
+        }
+        return elapsed;
+    }
+
+    /**
+     * Puts the given patties on the grill one after the other, then flips and removes each of them once the
+     * corresponding side reached the level requested by the order.
+     *
+     * @param targets       the patties requested by the order, at most one per grill slot
+     * @param cookedPatties the list where the cooked patties are added, in the same order as the targets
+     * @return the time spent, in seconds
+     */
+    private double cookPatties(final List<PattyModel> targets, final List<PattyModel> cookedPatties) {
+        final List<GrillEvent> events = new ArrayList<>(targets.size() * 2);
+        final List<PattyModel> pattiesOnGrill = new ArrayList<>(targets.size());
+        double clock = 0;
+        for (int index = 0; index < targets.size(); index++) {
+            if (index > 0) {
+                final double placementTime = Math.max(MIN_SECONDS_BETWEEN_PATTIES, profile.secondsPerIngredient());
+                grillController.cookPattiesOnGrill(placementTime);
+                clock += placementTime;
+            }
+            pattiesOnGrill.add(grillController.placePattyOnGrill(new PattyModelImpl()));
+
+            final double flipTime = clock + secondsToCook(targets.get(index).getBottomCookLevel());
+            events.add(new GrillEvent(flipTime, index, true));
+            events.add(new GrillEvent(flipTime + secondsToCook(targets.get(index).getTopCookLevel()), index, false));
+            cookedPatties.add(null);
+        }
+        final int offset = cookedPatties.size() - targets.size();
+
+        events.sort(Comparator.comparingDouble(GrillEvent::time));
+        for (final GrillEvent event : events) {
+            if (event.time() > clock) {
+                grillController.cookPattiesOnGrill(event.time() - clock);
+                clock = event.time();
+            }
+
+            final PattyModel patty = pattiesOnGrill.get(event.index());
+            if (event.flip()) {
+                grillController.flipPatty(patty);
+            } else {
+                grillController.removePattyFromGrill(patty);
+                cookedPatties.set(offset + event.index(), patty);
+            }
+        }
+        return clock;
+    }
+
+    /**
+     * Calculates how long the player keeps a side of a patty on the grill to reach the given level.
+     *
+     * @param cookLevel the requested cook level
+     * @return the cooking time, in seconds
+     */
+    private double secondsToCook(final double cookLevel) {
+        final double reachedLevel = cookLevel + ThreadLocalRandom.current().nextGaussian() * profile.cookSpread();
+        return Math.max(MIN_COOK_LEVEL, reachedLevel) / COOK_LEVEL_INCREMENT_PER_SECOND;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "DaySimulatorImpl{"
+                + "gameModel=" + gameModel
+                + ", profile=" + profile
+                + '}';
+    }
+
+    /**
+     * Something the player has to do to a patty on the grill.
+     *
+     * @param time  the moment in which it happens, in seconds
+     * @param index the index of the patty among the ones put on the grill together
+     * @param flip  true if the patty is flipped, false if it is removed from the grill
+     */
+    private record GrillEvent(double time, int index, boolean flip) {
+    }
+}
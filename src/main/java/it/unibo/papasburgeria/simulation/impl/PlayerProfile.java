@@ -0,0 +1,36 @@
+package it.unibo.papasburgeria.simulation.impl;
+
+/**
+ * DTO describing how fast and how precise the simulated player is.
+ *
+ * @param secondsToTakeOrder   time spent taking an order at the register
+ * @param secondsPerIngredient time spent placing a single ingredient, either on the grill or on the hamburger
+ * @param placementSpread      standard deviation of the placement accuracy, from 0 (perfect) to 1
+ * @param cookSpread           standard deviation of the cook level of each patty side, from 0 (perfect) to 1
+ */
+public record PlayerProfile(
+        double secondsToTakeOrder,
+        double secondsPerIngredient,
+        double placementSpread,
+        double cookSpread
+) {
+    /**
+     * An average player.
+     */
+    public static final PlayerProfile DEFAULT = new PlayerProfile(3.0, 1.0, 0.2, 0.05);
+
+    /**
+     * Initializes this record.
+     *
+     * @param secondsToTakeOrder   time spent taking an order at the register
+     * @param secondsPerIngredient time spent placing a single ingredient, either on the grill or on the hamburger
+     * @param placementSpread      standard deviation of the placement accuracy, from 0 (perfect) to 1
+     * @param cookSpread           standard deviation of the cook level of each patty side, from 0 (perfect) to 1
+     * @throws IllegalArgumentException if any of the values is negative
+     */
+    public PlayerProfile {
+        if (secondsToTakeOrder < 0 || secondsPerIngredient < 0 || placementSpread < 0 || cookSpread < 0) {
+            throw new IllegalArgumentException("Player profile values cannot be negative");
+        }
+    }
+}
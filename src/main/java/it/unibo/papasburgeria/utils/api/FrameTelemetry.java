@@ -0,0 +1,56 @@
+package it.unibo.papasburgeria.utils.api;
+
+/**
+ * Service used to collect the timings and allocations of the frames of the game loop, kept in histograms so that
+ * recording them costs no allocation.
+ */
+public interface FrameTelemetry {
+
+    /**
+     * Records the time elapsed between two ticks of the frame timer, and how far it is from the expected period.
+     *
+     * @param intervalNanos time elapsed since the previous tick, in nanoseconds.
+     * @param periodNanos   expected time between two ticks, in nanoseconds.
+     */
+    void recordTick(long intervalNanos, long periodNanos);
+
+    /**
+     * Records the time spent updating a single view in a frame.
+     *
+     * @param viewName name of the view.
+     * @param nanos    time spent, in nanoseconds.
+     */
+    void recordViewUpdate(String viewName, long nanos);
+
+    /**
+     * Records the time spent updating all the views in a frame.
+     *
+     * @param nanos time spent, in nanoseconds.
+     */
+    void recordUpdate(long nanos);
+
+    /**
+     * Records the time spent painting a frame.
+     *
+     * @param nanos time spent, in nanoseconds.
+     */
+    void recordPaint(long nanos);
+
+    /**
+     * Records the bytes allocated by the calling thread since its previous call, meant to be called once per frame
+     * by the thread running the game loop. Nothing is recorded if the JVM does not measure them.
+     */
+    void recordFrameAllocation();
+
+    /**
+     * Used to obtain a short human-readable summary of the recorded frames, such as for a debug overlay.
+     *
+     * @return the summary.
+     */
+    String getSummary();
+
+    /**
+     * Forgets everything recorded so far.
+     */
+    void reset();
+}
@@ -0,0 +1,58 @@
+package it.unibo.papasburgeria.utils.api;
+
+import it.unibo.papasburgeria.utils.impl.saving.JournalEntry;
+import it.unibo.papasburgeria.utils.impl.saving.RevenueEvent;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service used to record the events changing the balance in an append-only journal of the slot in use, so that
+ * they are not lost when the game stops before the slot is saved again.
+ */
+public interface JournalService {
+
+    /**
+     * Opens the journal of the given slot, the following events are recorded in it.
+     *
+     * @param slotNumber   slot number.
+     * @param lastSequence sequence number of the last entry already included in the saved state of the slot.
+     * @return the entries recorded after the given sequence number, to be replayed on top of the saved state.
+     * @throws IOException if the journal could not be read.
+     */
+    List<JournalEntry> open(int slotNumber, long lastSequence) throws IOException;
+
+    /**
+     * Records the event in the journal of the slot in use, in the background. Nothing is recorded if no slot is in
+     * use.
+     *
+     * @param event the event.
+     * @return the sequence number of the recorded entry, 0 if no slot is in use.
+     */
+    long append(RevenueEvent event);
+
+    /**
+     * Used to obtain the sequence number of the last entry recorded in the journal of the slot in use.
+     *
+     * @return the sequence number, 0 if no slot is in use or nothing was recorded.
+     */
+    long getLastSequence();
+
+    /**
+     * Drops the entries of the slot journal that are included in a state just saved, in the background.
+     * The whole journal is dropped if the slot is not the one in use, as its entries do not belong to that state.
+     *
+     * @param slotNumber   slot number the state was saved to.
+     * @param lastSequence sequence number of the last entry included in the saved state.
+     * @return future completed once the entries are dropped.
+     */
+    CompletableFuture<Void> compact(int slotNumber, long lastSequence);
+
+    /**
+     * Used to wait for the recorded entries to be written to the storage device.
+     *
+     * @return future completed once every entry recorded so far is written.
+     */
+    CompletableFuture<Void> flush();
+}
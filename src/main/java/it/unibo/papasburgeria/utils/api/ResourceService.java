@@ -1,7 +1,10 @@
 package it.unibo.papasburgeria.utils.api;
 
+import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.Clip;
 import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleConsumer;
 
 /**
  * Service responsible for the loading and obtainment of resources.
@@ -26,6 +29,25 @@ public interface ResourceService {
      */
     Clip getSoundEffect(String soundPath);
 
+    /**
+     * Used to open a new stream over a sound resource too long to be loaded whole, such as music.
+     * The stream is not cached, it is up to the caller to close it.
+     *
+     * @param soundPath path component of <code>resources/sfx/[path]</code>
+     * @return the AudioInputStream instance
+     */
+    AudioInputStream getAudioStream(String soundPath);
+
+    /**
+     * Loads every image and sound effect in parallel, so that they are already cached when first retrieved.
+     * Music is streamed, so it is not preloaded.
+     * Resources that fail to load are skipped, retrieving them later will fail as usual.
+     *
+     * @param onProgress called from the loading threads with the fraction of resources loaded so far, from 0 to 1
+     * @return the future completed once every resource was loaded or skipped
+     */
+    CompletableFuture<Void> preload(DoubleConsumer onProgress);
+
     /**
      * To be called when the service is supposed to dispose of all
      * the currently cached and loaded assets.
@@ -1,9 +1,11 @@
 package it.unibo.papasburgeria.utils.api;
 
+import it.unibo.papasburgeria.utils.impl.saving.SaveInfo;
 import it.unibo.papasburgeria.utils.impl.saving.SaveState;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service used to save player slot data.
@@ -11,16 +13,17 @@ import java.util.List;
 public interface SaveService {
 
     /**
-     * Saves the provided SaveState DTO under the slot file corresponding to that slot number.
+     * Saves the provided SaveState DTO under the slot file corresponding to that slot number, in the background.
+     * Saves requested before the previous one of the same slot was written may be coalesced into a single write.
      *
      * @param slotNumber slot number.
      * @param saveState  SaveState DTO.
-     * @throws IOException throws an IOException.
+     * @return future completed once the state is written, or completed exceptionally with an IOException.
      */
-    void saveSlot(int slotNumber, SaveState saveState) throws IOException;
+    CompletableFuture<Void> saveSlot(int slotNumber, SaveState saveState);
 
     /**
-     * Used to obtain the SaveState DTO from the given slot number.
+     * Used to obtain the SaveState DTO from the given slot number, including saves not written yet.
      *
      * @param slotNumber slot number.
      * @return fetched SaveState DTO.
@@ -29,10 +32,26 @@ public interface SaveService {
     SaveState loadSlot(int slotNumber) throws IOException;
 
     /**
-     * Used to obtain a list of SaveState DTOs made out of all the saves. The list has null elements if no save state was found.
+     * Used to obtain the number of written slots, including the ones not written yet.
      *
-     * @return list of fetched SaveState DTOs.
-     * @throws IOException throws an IOException.
+     * @return number of slots.
+     */
+    int getSlotCount();
+
+    /**
+     * Used to obtain the displayed information of a page of the written slots, in order of slot number,
+     * without loading their whole state.
+     *
+     * @param offset position of the first slot of the page among the written slots.
+     * @param count  maximum number of slots of the page.
+     * @return list of SaveInfo DTOs, shorter than count at the end of the slots.
+     */
+    List<SaveInfo> loadSlotInfos(int offset, int count);
+
+    /**
+     * Used to obtain a slot number to create a new save with, following all the written slots.
+     *
+     * @return free slot number.
      */
-    List<SaveState> loadAllSlots() throws IOException;
+    int getNextFreeSlot();
 }
@@ -42,4 +42,28 @@ public interface SfxService {
      * @param soundName name of the sfx
      */
     void stopSound(String soundName);
+
+    /**
+     * Plays the specified music looped, streaming it in small chunks instead of loading it whole.
+     * Volume defaults to scale 1.
+     *
+     * @param musicName name of the music
+     */
+    void playMusic(String musicName);
+
+    /**
+     * Plays the specified music looped with a custom volume, streaming it in small chunks instead of loading it whole.
+     * If the music is already playing it restarts from the beginning.
+     *
+     * @param musicName name of the music
+     * @param volume    volume scale to apply [0.1 - 3]
+     */
+    void playMusic(String musicName, float volume);
+
+    /**
+     * Stops the specified music if playing.
+     *
+     * @param musicName name of the music
+     */
+    void stopMusic(String musicName);
 }
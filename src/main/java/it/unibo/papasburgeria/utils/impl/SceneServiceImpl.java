@@ -49,19 +49,27 @@ public class SceneServiceImpl implements SceneService {
             throw new IllegalArgumentException("Scene for " + sceneType + " not found.");
         }
 
-        if (currentSceneType != null) {
-            if (currentSceneType.equals(sceneType)) {
-                return;
-            }
+        if (sceneType.equals(currentSceneType)) {
+            return;
+        }
 
+        final SceneSwitchEvent event = new SceneSwitchEvent();
+        event.begin();
+        final SceneType previousSceneType = currentSceneType;
+        if (previousSceneType != null) {
             // supposedly exists, otherwise it wouldn't have passed the previous checks to be set
-            scenes.get(currentSceneType).hideScene();
+            scenes.get(previousSceneType).hideScene();
         }
 
         currentSceneType = sceneType;
         newScene.showScene();
 
         this.executeCallbacks();
+        if (event.shouldCommit()) {
+            event.previousScene = previousSceneType == null ? null : previousSceneType.name();
+            event.scene = sceneType.name();
+            event.commit();
+        }
     }
 
     /**
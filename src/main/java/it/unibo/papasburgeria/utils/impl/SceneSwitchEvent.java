@@ -0,0 +1,22 @@
+package it.unibo.papasburgeria.utils.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event emitted by {@link SceneServiceImpl} when a scene is switched, lasting from the hiding of the
+ * previous scene until the scene changed callbacks returned.
+ */
+@Name("it.unibo.papasburgeria.SceneSwitch")
+@Label("Scene Switch")
+@Category("Papa's Burgeria")
+@Description("A scene was hidden and another one shown")
+final class SceneSwitchEvent extends jdk.jfr.Event {
+    @Label("Previous Scene")
+    String previousScene;
+
+    @Label("Scene")
+    String scene;
+}
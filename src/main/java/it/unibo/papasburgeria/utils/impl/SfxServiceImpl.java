@@ -5,14 +5,27 @@ import it.unibo.papasburgeria.utils.api.ResourceService;
 import it.unibo.papasburgeria.utils.api.SfxService;
 import org.tinylog.Logger;
 
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.Clip;
 import javax.sound.sampled.FloatControl;
+import javax.sound.sampled.Line;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
  * Implementation of SfxService.
  *
  * <p>
+ * Sound effects are played from the clips cached by the resource service. Music is instead streamed on a dedicated
+ * daemon thread per track, through a line buffering only {@value #STREAM_BUFFER_MILLIS} milliseconds of audio.
+ *
+ * <p>
  * See {@link SfxService} for interface details.
  */
 public class SfxServiceImpl implements SfxService {
@@ -29,8 +42,12 @@ public class SfxServiceImpl implements SfxService {
      */
     public static final float DEFAULT_VOLUME = 1f;
     private static final float AMPLITUDE_CONVERSION_FACTOR = 20f;
+    private static final int STREAM_BUFFER_MILLIS = 250;
+    private static final int STREAM_CHUNKS_PER_BUFFER = 4;
+    private static final float MILLIS_PER_SECOND = 1000f;
 
     private final ResourceService resourceService;
+    private final Map<String, MusicStream> musicStreams;
 
     /**
      * Initializes the SFX service.
@@ -40,6 +57,7 @@ public class SfxServiceImpl implements SfxService {
     @Inject
     public SfxServiceImpl(final ResourceService resourceService) {
         this.resourceService = resourceService;
+        this.musicStreams = new ConcurrentHashMap<>();
     }
 
     /**
@@ -96,6 +114,48 @@ public class SfxServiceImpl implements SfxService {
         this.resetSoundWithAction(soundName, null);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void playMusic(final String musicName) {
+        this.playMusic(musicName, DEFAULT_VOLUME);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void playMusic(final String musicName, final float volume) {
+        if (volume < MINIMUM_VOLUME) {
+            return;
+        }
+        if (volume > MAXIMUM_VOLUME) {
+            throw new IllegalArgumentException("Volume must be between 0.1f and 3f");
+        }
+
+        final MusicStream musicStream = new MusicStream(musicName, volume);
+        final MusicStream previousStream = this.musicStreams.put(musicName, musicStream);
+        if (previousStream != null) {
+            previousStream.stop();
+        }
+
+        final Thread thread = new Thread(musicStream, "music-" + musicName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stopMusic(final String musicName) {
+        final MusicStream musicStream = this.musicStreams.remove(musicName);
+        if (musicStream != null) {
+            musicStream.stop();
+        }
+    }
+
     /**
      * Helper method to avoid code duplication.
      *
@@ -121,13 +181,13 @@ public class SfxServiceImpl implements SfxService {
     }
 
     /**
-     * Takes a scale in input and converts it to a decibel difference in order to set the clip's
+     * Takes a scale in input and converts it to a decibel difference in order to set the line's
      * volume. Check {@link FloatControl.Type#MASTER_GAIN} for more information.
      *
-     * @param clip   clip instance
+     * @param clip   clip or line instance
      * @param volume volume scale [0.1 - 3]
      */
-    private void setClipVolume(final Clip clip, final float volume) {
+    private void setClipVolume(final Line clip, final float volume) {
         if (clip == null) {
             throw new IllegalArgumentException("Clip not available, unable to set clip's volume");
         }
@@ -155,6 +215,95 @@ public class SfxServiceImpl implements SfxService {
                 "resourceService="
                 + resourceService
                 +
+                ", musicStreams="
+                + musicStreams.keySet()
+                +
                 '}';
     }
+
+    /**
+     * Music looped by reading its resource in small chunks and writing them to a source data line.
+     */
+    private final class MusicStream implements Runnable {
+        private final String musicName;
+        private final float volume;
+        private volatile boolean stopped;
+        private volatile SourceDataLine line;
+
+        /**
+         * @param musicName name of the music
+         * @param volume    volume scale [0.1 - 3]
+         */
+        MusicStream(final String musicName, final float volume) {
+            this.musicName = musicName;
+            this.volume = volume;
+        }
+
+        /**
+         * Streams the music from its beginning until stopped, re-opening the resource at each loop.
+         */
+        @Override
+        public void run() {
+            try {
+                byte[] chunk = null;
+                while (!stopped) {
+                    try (AudioInputStream audioStream = resourceService.getAudioStream(musicName)) {
+                        if (chunk == null) {
+                            chunk = openLine(audioStream.getFormat());
+                        }
+
+                        int read = audioStream.read(chunk);
+                        while (!stopped && read > 0) {
+                            line.write(chunk, 0, read);
+                            read = audioStream.read(chunk);
+                        }
+                    }
+                }
+            } catch (final LineUnavailableException | IllegalArgumentException | IOException exception) {
+                Logger.warn(exception, "Exception while attempting to stream music: " + musicName);
+            } finally {
+                final SourceDataLine openedLine = line;
+                if (openedLine != null) {
+                    openedLine.close();
+                }
+                musicStreams.remove(musicName, this);
+            }
+        }
+
+        /**
+         * Opens and starts the line the music is written to.
+         *
+         * @param format the format of the music
+         * @return a buffer sized to hold a chunk of the line buffer, in whole frames
+         * @throws LineUnavailableException if no line is available
+         */
+        private byte[] openLine(final AudioFormat format) throws LineUnavailableException {
+            final int frameSize = Math.max(1, format.getFrameSize());
+            final int bufferFrames =
+                    Math.max(1, (int) (format.getFrameRate() * STREAM_BUFFER_MILLIS / MILLIS_PER_SECOND));
+            final int bufferSize = bufferFrames * frameSize;
+
+            final SourceDataLine openedLine = AudioSystem.getSourceDataLine(format);
+            openedLine.open(format, bufferSize);
+            setClipVolume(openedLine, volume);
+            openedLine.start();
+            line = openedLine;
+            if (stopped) {
+                openedLine.stop();
+            }
+            return new byte[Math.max(frameSize, bufferSize / STREAM_CHUNKS_PER_BUFFER / frameSize * frameSize)];
+        }
+
+        /**
+         * Stops the music, discarding the buffered audio so that the stream thread is released right away.
+         */
+        void stop() {
+            stopped = true;
+            final SourceDataLine openedLine = line;
+            if (openedLine != null) {
+                openedLine.stop();
+                openedLine.flush();
+            }
+        }
+    }
 }
@@ -0,0 +1,136 @@
+package it.unibo.papasburgeria.utils.impl.resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.tinylog.Logger;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Build-time tool that packs the small images into a single texture atlas, with a manifest of their sub-rectangles.
+ *
+ * <p>
+ * Ingredients, patty doneness layers, customers and buttons are packed on shelves sorted by height, backgrounds and
+ * any image larger than {@value #MAX_PACKED_SIZE} pixels are left as they are.
+ */
+public final class AtlasPacker {
+    /**
+     * Name of the packed atlas image, within the images folder.
+     */
+    public static final String ATLAS_IMAGE = "atlas.png";
+    /**
+     * Name of the manifest mapping each packed image name to its {@link AtlasRegion}, within the images folder.
+     */
+    public static final String ATLAS_MANIFEST = "atlas.json";
+
+    private static final String PACKED_EXTENSION = ".png";
+    private static final int MAX_PACKED_SIZE = 600;
+    private static final int ATLAS_WIDTH = 2048;
+    private static final int PADDING = 2;
+
+    private AtlasPacker() {
+    }
+
+    /**
+     * Main method.
+     *
+     * @param args the folder of the source images, followed by the folder to write the atlas and its manifest to
+     * @throws IOException if the images could not be read or the atlas could not be written
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: AtlasPacker <images folder> <output folder>");
+        }
+
+        final Path sourceFolder = Path.of(args[0]);
+        final Path outputFolder = Path.of(args[1]);
+        final Map<String, BufferedImage> images = readPackableImages(sourceFolder);
+        final Map<String, AtlasRegion> regions = pack(images);
+
+        int atlasHeight = 1;
+        for (final AtlasRegion region : regions.values()) {
+            atlasHeight = Math.max(atlasHeight, region.y() + region.height() + PADDING);
+        }
+
+        final BufferedImage atlas = new BufferedImage(ATLAS_WIDTH, atlasHeight, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D graphics = atlas.createGraphics();
+        for (final Map.Entry<String, AtlasRegion> entry : regions.entrySet()) {
+            final AtlasRegion region = entry.getValue();
+            graphics.drawImage(images.get(entry.getKey()), region.x(), region.y(), null);
+        }
+        graphics.dispose();
+
+        Files.createDirectories(outputFolder);
+        ImageIO.write(atlas, "png", outputFolder.resolve(ATLAS_IMAGE).toFile());
+        new ObjectMapper().writerWithDefaultPrettyPrinter()
+                .writeValue(outputFolder.resolve(ATLAS_MANIFEST).toFile(), regions);
+        Logger.info("Packed " + regions.size() + " images in a " + ATLAS_WIDTH + "x" + atlasHeight + " atlas");
+    }
+
+    /**
+     * Packs the images on shelves, from the tallest to the shortest.
+     *
+     * @param images the images to pack, by name
+     * @return the region of each image, by name
+     */
+    static Map<String, AtlasRegion> pack(final Map<String, BufferedImage> images) {
+        final List<Map.Entry<String, BufferedImage>> sorted = new ArrayList<>(images.entrySet());
+        sorted.sort(Comparator.comparingInt((Map.Entry<String, BufferedImage> entry) -> -entry.getValue().getHeight())
+                .thenComparing(Map.Entry::getKey));
+
+        final Map<String, AtlasRegion> regions = new LinkedHashMap<>();
+        int shelfX = PADDING;
+        int shelfY = PADDING;
+        int shelfHeight = 0;
+        for (final Map.Entry<String, BufferedImage> entry : sorted) {
+            final int width = entry.getValue().getWidth();
+            final int height = entry.getValue().getHeight();
+            if (shelfX + width + PADDING > ATLAS_WIDTH) {
+                shelfX = PADDING;
+                shelfY += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+
+            regions.put(entry.getKey(), new AtlasRegion(shelfX, shelfY, width, height));
+            shelfX += width + PADDING;
+            shelfHeight = Math.max(shelfHeight, height);
+        }
+        return regions;
+    }
+
+    /**
+     * Reads the images small enough to be packed, skipping a previously packed atlas.
+     *
+     * @param sourceFolder the folder of the source images
+     * @return the images, by name
+     * @throws IOException if the folder or an image could not be read
+     */
+    private static Map<String, BufferedImage> readPackableImages(final Path sourceFolder) throws IOException {
+        final List<Path> paths;
+        try (Stream<Path> files = Files.list(sourceFolder)) {
+            paths = files.filter(path -> path.getFileName().toString().endsWith(PACKED_EXTENSION))
+                    .filter(path -> !ATLAS_IMAGE.equals(path.getFileName().toString()))
+                    .sorted()
+                    .toList();
+        }
+
+        final Map<String, BufferedImage> images = new LinkedHashMap<>();
+        for (final Path path : paths) {
+            final BufferedImage image = ImageIO.read(path.toFile());
+            if (image != null && image.getWidth() <= MAX_PACKED_SIZE && image.getHeight() <= MAX_PACKED_SIZE) {
+                images.put(path.getFileName().toString(), image);
+            }
+        }
+        return images;
+    }
+}
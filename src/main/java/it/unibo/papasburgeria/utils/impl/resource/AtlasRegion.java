@@ -0,0 +1,12 @@
+package it.unibo.papasburgeria.utils.impl.resource;
+
+/**
+ * Sub-rectangle of the texture atlas holding a single packed image, as listed in the atlas manifest.
+ *
+ * @param x      the x coordinate of the top left corner
+ * @param y      the y coordinate of the top left corner
+ * @param width  the width of the image
+ * @param height the height of the image
+ */
+public record AtlasRegion(int x, int y, int width, int height) {
+}
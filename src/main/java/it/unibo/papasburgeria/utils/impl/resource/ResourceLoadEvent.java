@@ -0,0 +1,27 @@
+package it.unibo.papasburgeria.utils.impl.resource;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event emitted by {@link ResourceServiceImpl} when a resource is missing from its cache and has to
+ * be read and decoded.
+ */
+@Name("it.unibo.papasburgeria.ResourceLoad")
+@Label("Resource Load")
+@Category("Papa's Burgeria")
+@Description("A resource missing from the cache was read and decoded")
+final class ResourceLoadEvent extends jdk.jfr.Event {
+    @Label("Path")
+    String path;
+
+    @Label("Kind")
+    @Description("Either image or sound")
+    String kind;
+
+    @Label("From Atlas")
+    @Description("Whether the image was cut out of the texture atlas instead of read from its own file")
+    boolean fromAtlas;
+}
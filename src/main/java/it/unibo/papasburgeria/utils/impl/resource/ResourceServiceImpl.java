@@ -1,5 +1,7 @@
 package it.unibo.papasburgeria.utils.impl.resource;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.Singleton;
 import it.unibo.papasburgeria.utils.api.ResourceService;
 import org.tinylog.Logger;
@@ -14,29 +16,58 @@ import java.awt.image.BufferedImage;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.stream.Stream;
 
 /**
  * Implementation of ResourceService.
  *
  * <p>
+ * Images packed in the texture atlas generated at build time by {@link AtlasPacker} are served as sub-images of the
+ * atlas, which is read only once, any other image is read from its own file.
+ *
+ * <p>
+ * The caches can be filled concurrently, a resource being loaded by a thread is waited for by the others instead of
+ * being loaded twice.
+ *
+ * <p>
  * See {@link ResourceService} for interface details.
  */
 @Singleton
 public class ResourceServiceImpl implements ResourceService {
     private static final String IMAGE_PATH = "images/";
     private static final String SFX_PATH = "sfx/";
+    private static final String MUSIC_SUFFIX = "_ost.wav";
+    private static final String IMAGE_KIND = "image";
+    private static final String SOUND_KIND = "sound";
 
     private final Map<String, BufferedImage> imageCache;
     private final Map<String, Clip> sfxCache;
+    private Map<String, AtlasRegion> atlasRegions;
+    private BufferedImage atlas;
 
     /**
      * Constructs the service.
      */
     public ResourceServiceImpl() {
-        this.imageCache = new HashMap<>();
-        this.sfxCache = new HashMap<>();
+        this.imageCache = new ConcurrentHashMap<>();
+        this.sfxCache = new ConcurrentHashMap<>();
     }
 
     /**
@@ -47,10 +78,16 @@ public class ResourceServiceImpl implements ResourceService {
         validateProvidedPath(imagePath);
 
         return this.imageCache.computeIfAbsent(imagePath, path -> {
-            try (InputStream inputStream = getFile(IMAGE_PATH + path)) {
-                return ImageIO.read(inputStream);
-            } catch (final IOException exception) {
-                throw new ResourceLoadException("Exception while attempting read: " + path, exception);
+            final ResourceLoadEvent event = beginLoad(path, IMAGE_KIND);
+            try {
+                final AtlasRegion region = getAtlasRegions().get(path);
+                event.fromAtlas = region != null;
+                if (region != null) {
+                    return getAtlas().getSubimage(region.x(), region.y(), region.width(), region.height());
+                }
+                return readImage(path);
+            } finally {
+                event.commit();
             }
         });
     }
@@ -63,6 +100,7 @@ public class ResourceServiceImpl implements ResourceService {
         validateProvidedPath(soundPath);
 
         return this.sfxCache.computeIfAbsent(soundPath, path -> {
+            final ResourceLoadEvent event = beginLoad(path, SOUND_KIND);
             try (
                     AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(
                             new BufferedInputStream(getFile(SFX_PATH + path))
@@ -80,10 +118,57 @@ public class ResourceServiceImpl implements ResourceService {
                 return null;
             } catch (final UnsupportedAudioFileException | IOException exception) {
                 throw new ResourceLoadException("Exception while attempting read: " + path, exception);
+            } finally {
+                event.commit();
             }
         });
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AudioInputStream getAudioStream(final String soundPath) {
+        validateProvidedPath(soundPath);
+
+        final InputStream inputStream = getFile(SFX_PATH + soundPath);
+        try {
+            return AudioSystem.getAudioInputStream(new BufferedInputStream(inputStream));
+        } catch (final UnsupportedAudioFileException | IOException exception) {
+            try {
+                inputStream.close();
+            } catch (final IOException closeException) {
+                exception.addSuppressed(closeException);
+            }
+            throw new ResourceLoadException("Exception while attempting read: " + soundPath, exception);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> preload(final DoubleConsumer onProgress) {
+        final List<String> images = listResources(IMAGE_PATH);
+        final List<String> sounds = listResources(SFX_PATH).stream()
+                .filter(sound -> !sound.endsWith(MUSIC_SUFFIX))
+                .toList();
+        final int total = images.size() + sounds.size();
+        final AtomicInteger loaded = new AtomicInteger();
+
+        final List<CompletableFuture<?>> loadings = new ArrayList<>(total);
+        for (final String image : images) {
+            loadings.add(preloadResource(image, this::getImage, loaded, total, onProgress));
+        }
+        for (final String sound : sounds) {
+            loadings.add(preloadResource(sound, this::getSoundEffect, loaded, total, onProgress));
+        }
+        if (total == 0) {
+            onProgress.accept(1);
+        }
+        return CompletableFuture.allOf(loadings.toArray(CompletableFuture[]::new));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -102,6 +187,148 @@ public class ResourceServiceImpl implements ResourceService {
 
         this.sfxCache.clear();
         this.imageCache.clear();
+        synchronized (this) {
+            this.atlasRegions = null;
+            this.atlas = null;
+        }
+    }
+
+    /**
+     * Loads a resource asynchronously, logging its failure instead of propagating it, then reports the progress.
+     *
+     * @param path       the path of the resource
+     * @param loader     the method loading and caching the resource
+     * @param loaded     the number of resources loaded so far
+     * @param total      the number of resources to load
+     * @param onProgress the progress callback
+     * @return the future completed once the resource was loaded or skipped
+     */
+    private CompletableFuture<Void> preloadResource(final String path, final Consumer<String> loader,
+                                                    final AtomicInteger loaded, final int total,
+                                                    final DoubleConsumer onProgress) {
+        return CompletableFuture.runAsync(() -> loader.accept(path)).handle((result, exception) -> {
+            if (exception != null) {
+                Logger.warn(exception, "Exception while attempting preload: " + path);
+            }
+            onProgress.accept((double) loaded.incrementAndGet() / total);
+            return null;
+        });
+    }
+
+    /**
+     * Lists the files within a resource folder, whether the resources are on the file system or in a jar.
+     *
+     * @param folderPath path to the folder, ending with a slash
+     * @return the names of the files within the folder, empty if it could not be listed
+     */
+    private List<String> listResources(final String folderPath) {
+        final URL folder = ClassLoader.getSystemResource(folderPath);
+        if (folder == null) {
+            return List.of();
+        }
+
+        try {
+            final URI uri = folder.toURI();
+            if (!"jar".equals(uri.getScheme())) {
+                return listFiles(Path.of(uri));
+            }
+
+            FileSystem jarFileSystem;
+            try {
+                jarFileSystem = FileSystems.newFileSystem(uri, Collections.emptyMap());
+            } catch (final FileSystemAlreadyExistsException exception) {
+                jarFileSystem = FileSystems.getFileSystem(uri);
+            }
+            return listFiles(jarFileSystem.getPath(folderPath));
+        } catch (final URISyntaxException | IOException exception) {
+            Logger.warn(exception, "Exception while attempting to list resources: " + folderPath);
+            return List.of();
+        }
+    }
+
+    /**
+     * Lists the files within a folder.
+     *
+     * @param folder the folder
+     * @return the names of the regular files within the folder
+     * @throws IOException if the folder could not be read
+     */
+    private static List<String> listFiles(final Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.filter(Files::isRegularFile)
+                    .map(file -> file.getFileName().toString())
+                    .filter(name -> !AtlasPacker.ATLAS_IMAGE.equals(name) && !AtlasPacker.ATLAS_MANIFEST.equals(name))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Gets the regions of the images packed in the atlas, reading its manifest the first time.
+     *
+     * @return the regions by image name, empty if the atlas was not generated
+     */
+    private synchronized Map<String, AtlasRegion> getAtlasRegions() {
+        if (this.atlasRegions == null) {
+            try (InputStream inputStream = ClassLoader.getSystemResourceAsStream(
+                    IMAGE_PATH + AtlasPacker.ATLAS_MANIFEST)) {
+                this.atlasRegions = inputStream == null
+                        ? Map.of()
+                        : new ObjectMapper().readValue(inputStream, new TypeReference<Map<String, AtlasRegion>>() { });
+            } catch (final IOException exception) {
+                throw new ResourceLoadException("Exception while attempting read: " + AtlasPacker.ATLAS_MANIFEST,
+                        exception);
+            }
+        }
+        return this.atlasRegions;
+    }
+
+    /**
+     * Gets the atlas image, reading it the first time.
+     *
+     * @return the atlas image
+     */
+    private synchronized BufferedImage getAtlas() {
+        if (this.atlas == null) {
+            this.atlas = readImage(AtlasPacker.ATLAS_IMAGE);
+        }
+        return this.atlas;
+    }
+
+    /**
+     * @return the number of images packed in the atlas, zero if its manifest was not read yet
+     */
+    private synchronized int getAtlasRegionsCount() {
+        return this.atlasRegions == null ? 0 : this.atlasRegions.size();
+    }
+
+    /**
+     * Begins timing the load of a resource missing from its cache.
+     *
+     * @param path the path of the resource
+     * @param kind the kind of the resource
+     * @return the event, to commit once the resource was loaded
+     */
+    private static ResourceLoadEvent beginLoad(final String path, final String kind) {
+        final ResourceLoadEvent event = new ResourceLoadEvent();
+        event.begin();
+        event.path = path;
+        event.kind = kind;
+        return event;
+    }
+
+    /**
+     * Reads an image from its file.
+     *
+     * @param path the path of the image, within the images folder
+     * @return the image
+     */
+    private BufferedImage readImage(final String path) {
+        try (InputStream inputStream = getFile(IMAGE_PATH + path)) {
+            return ImageIO.read(inputStream);
+        } catch (final IOException exception) {
+            throw new ResourceLoadException("Exception while attempting read: " + path, exception);
+        }
     }
 
     /**
@@ -144,6 +371,9 @@ public class ResourceServiceImpl implements ResourceService {
                 ", sfxCache="
                 + sfxCache
                 +
+                ", atlasRegions="
+                + getAtlasRegionsCount()
+                +
                 '}';
     }
 }
@@ -0,0 +1,520 @@
+package it.unibo.papasburgeria.utils.impl.saving;
+
+import com.google.inject.Singleton;
+import it.unibo.papasburgeria.model.IngredientEnum;
+import it.unibo.papasburgeria.model.UpgradeEnum;
+import it.unibo.papasburgeria.utils.api.SaveService;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Implementation of SaveService writing slots in a compact binary format.
+ *
+ * <p>
+ * A slot file starts with a header made of a magic number, the format version and the payload length, followed by
+ * the payload and by the CRC32 of the payload. The payload holds the balance, the day and the upgrades by name, so
+ * that reordering {@link UpgradeEnum} does not break older saves. Since version 2 it is followed by the state of the
+ * day in progress, if any, with the ingredients by name as well, and since version 3 by the sequence number of the
+ * last journal entry included. Since version 4 the rows and columns of the grill are counted with two bytes, like
+ * every other list, and all counts are unsigned. Files are read and written through direct buffers, without
+ * intermediate strings or reflection, and the buffer grows until the payload fits.
+ *
+ * <p>
+ * Slots written as JSON text by {@link SaveServiceImpl} are still loaded, until they are saved again in binary.
+ *
+ * <p>
+ * See {@link SaveService} for interface details.
+ */
+@Singleton
+public class BinarySaveServiceImpl extends SaveServiceImpl {
+    /**
+     * Current version of the binary format.
+     */
+    public static final short VERSION = 4;
+    private static final String EXTENSION = ".sav";
+    private static final int MAGIC = 0x50425356; // "PBSV"
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Integer.BYTES;
+    private static final int TRAILER_SIZE = Integer.BYTES;
+    private static final int INITIAL_PAYLOAD_SIZE = 64 * 1024;
+    private static final int MAX_PAYLOAD_SIZE = 256 * 1024 * 1024;
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final int MAX_NAME_LENGTH = 0xFF;
+    private static final int MAX_COUNT = 0xFFFF;
+    private static final int PAYLOAD_SIZE_OFFSET = Integer.BYTES + Short.BYTES;
+    private static final short DAY_STATE_VERSION = 2;
+    private static final short JOURNAL_VERSION = 3;
+    private static final short GRILL_SIZE_VERSION = 4;
+
+    private static final ThreadLocal<ByteBuffer> BUFFERS =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE));
+
+    /**
+     * Initializes the data saving service.
+     *
+     * @throws IOException thrown upon failing of the creation of directories
+     */
+    public BinarySaveServiceImpl() throws IOException {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Path getSlotPath(final int slotNumber) {
+        return super.getSlotPath(slotNumber).resolveSibling(slotNumber + EXTENSION);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected ByteBuffer encode(final SaveState saveState) throws IOException {
+        /* the payload is written again in a buffer twice as large until it fits */
+        int capacity = Math.max(INITIAL_PAYLOAD_SIZE, BUFFERS.get().capacity() - HEADER_SIZE - TRAILER_SIZE);
+        ByteBuffer buffer = null;
+        while (buffer == null) {
+            buffer = getBuffer(HEADER_SIZE + capacity + TRAILER_SIZE);
+            buffer.putInt(MAGIC).putShort(VERSION).putInt(0);
+            try {
+                putPayload(buffer, saveState);
+            } catch (final BufferOverflowException exception) {
+                if (capacity == MAX_PAYLOAD_SIZE) {
+                    throw new IOException("Save state too large to be saved", exception);
+                }
+                capacity = (int) Math.min((long) capacity * 2, MAX_PAYLOAD_SIZE);
+                buffer = null;
+            }
+        }
+
+        final int payloadSize = buffer.position() - HEADER_SIZE;
+        buffer.putInt(PAYLOAD_SIZE_OFFSET, payloadSize);
+        buffer.limit(buffer.position() + TRAILER_SIZE);
+        buffer.putInt(computeChecksum(buffer, HEADER_SIZE, payloadSize));
+        return buffer.flip();
+    }
+
+    /**
+     * Writes the payload of the state to the buffer.
+     *
+     * @param buffer    the buffer, positioned after the header
+     * @param saveState the state
+     * @throws IOException if the state could not be encoded
+     */
+    private static void putPayload(final ByteBuffer buffer, final SaveState saveState) throws IOException {
+        final Map<UpgradeEnum, Boolean> upgrades = saveState.upgrades();
+        buffer.putInt(saveState.playerBalance()).putInt(saveState.gameDay());
+        putCount(buffer, upgrades.size());
+        for (final Map.Entry<UpgradeEnum, Boolean> upgrade : upgrades.entrySet()) {
+            putName(buffer, upgrade.getKey().name());
+            buffer.put((byte) (upgrade.getValue() ? 1 : 0));
+        }
+
+        final DayState dayState = saveState.dayState();
+        buffer.put((byte) (dayState == null ? 0 : 1));
+        if (dayState != null) {
+            putDayState(buffer, dayState);
+        }
+        buffer.putLong(saveState.lastJournalSequence());
+    }
+
+    /**
+     * Writes the state of the day in progress to the buffer.
+     *
+     * @param buffer   the buffer
+     * @param dayState the state of the day
+     * @throws IOException if the state could not be encoded
+     */
+    private static void putDayState(final ByteBuffer buffer, final DayState dayState) throws IOException {
+        putIngredients(buffer, dayState.hamburgerOnAssembly());
+        putCount(buffer, dayState.pattiesOnGrill().size());
+        for (final List<IngredientState> row : dayState.pattiesOnGrill()) {
+            putCount(buffer, row.size());
+            for (final IngredientState patty : row) {
+                buffer.put((byte) (patty == null ? 0 : 1));
+                if (patty != null) {
+                    putIngredient(buffer, patty);
+                }
+            }
+        }
+        putIngredients(buffer, dayState.cookedPatties());
+
+        buffer.put((byte) (dayState.selectedOrder() == null ? 0 : 1));
+        if (dayState.selectedOrder() != null) {
+            putOrder(buffer, dayState.selectedOrder());
+        }
+        for (final List<CustomerState> line : List.of(dayState.registerLine(), dayState.waitLine())) {
+            putCount(buffer, line.size());
+            for (final CustomerState customer : line) {
+                buffer.put((byte) customer.skinType());
+                putOrder(buffer, customer.order());
+            }
+        }
+        buffer.putInt(dayState.arrivedCustomers()).putLong(dayState.nextArrivalDelay());
+    }
+
+    /**
+     * Writes an order to the buffer.
+     *
+     * @param buffer the buffer
+     * @param order  the order
+     * @throws IOException if the order could not be encoded
+     */
+    private static void putOrder(final ByteBuffer buffer, final OrderState order) throws IOException {
+        buffer.putInt(order.orderNumber());
+        putIngredients(buffer, order.hamburger());
+    }
+
+    /**
+     * Writes a list of ingredients to the buffer, preceded by its size.
+     *
+     * @param buffer      the buffer
+     * @param ingredients the ingredients
+     * @throws IOException if the ingredients could not be encoded
+     */
+    private static void putIngredients(final ByteBuffer buffer, final List<IngredientState> ingredients)
+            throws IOException {
+        putCount(buffer, ingredients.size());
+        for (final IngredientState ingredient : ingredients) {
+            putIngredient(buffer, ingredient);
+        }
+    }
+
+    /**
+     * Writes an ingredient to the buffer, patty fields included.
+     *
+     * @param buffer     the buffer
+     * @param ingredient the ingredient
+     * @throws IOException if the ingredient could not be encoded
+     */
+    private static void putIngredient(final ByteBuffer buffer, final IngredientState ingredient) throws IOException {
+        putName(buffer, ingredient.type().name());
+        buffer.putDouble(ingredient.placementAccuracy())
+                .putDouble(ingredient.topCookLevel())
+                .putDouble(ingredient.bottomCookLevel())
+                .put((byte) (ingredient.flipped() ? 1 : 0));
+    }
+
+    /**
+     * Writes the number of elements of a list to the buffer, as an unsigned short.
+     *
+     * @param buffer the buffer
+     * @param count  the number of elements
+     * @throws IOException if there are too many elements
+     */
+    private static void putCount(final ByteBuffer buffer, final int count) throws IOException {
+        if (count > MAX_COUNT) {
+            throw new IOException("Too many elements to be saved: " + count);
+        }
+        buffer.putShort((short) count);
+    }
+
+    /**
+     * Writes a name to the buffer, preceded by its length.
+     *
+     * @param buffer the buffer
+     * @param name   the name
+     * @throws IOException if the name is too long
+     */
+    static void putName(final ByteBuffer buffer, final String name) throws IOException {
+        final byte[] bytes = name.getBytes(StandardCharsets.US_ASCII);
+        if (bytes.length > MAX_NAME_LENGTH) {
+            throw new IOException("Name too long to be saved: " + name);
+        }
+        buffer.put((byte) bytes.length).put(bytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected SaveState readSlot(final int slotNumber) throws IOException {
+        final ByteBuffer buffer;
+        try {
+            buffer = readPayload(getSlotPath(slotNumber));
+        } catch (final NoSuchFileException exception) {
+            return readJsonSlot(slotNumber);
+        }
+
+        try {
+            final int playerBalance = buffer.getInt();
+            final int gameDay = buffer.getInt();
+            final int upgradeCount = getCount(buffer);
+            final Map<UpgradeEnum, Boolean> upgrades = new EnumMap<>(UpgradeEnum.class);
+            for (int i = 0; i < upgradeCount; i++) {
+                final String name = getName(buffer);
+                final boolean unlocked = buffer.get() != 0;
+                final UpgradeEnum upgrade = findUpgrade(name);
+                if (upgrade != null) {
+                    upgrades.put(upgrade, unlocked);
+                }
+            }
+
+            final short version = buffer.getShort(Integer.BYTES);
+            final boolean hasDayState = version >= DAY_STATE_VERSION && buffer.get() != 0;
+            final DayState dayState = hasDayState ? getDayState(buffer, version) : null;
+            final long lastJournalSequence = version >= JOURNAL_VERSION ? buffer.getLong() : 0;
+            return new SaveState(playerBalance, gameDay, upgrades, dayState, lastJournalSequence);
+        } catch (final BufferUnderflowException | IllegalArgumentException exception) {
+            throw new IOException("Invalid save slot " + slotNumber, exception);
+        }
+    }
+
+    /**
+     * Reads the state of the day in progress from the buffer.
+     *
+     * @param buffer  the buffer
+     * @param version the format version of the slot
+     * @return the state of the day
+     * @throws IOException if an ingredient no longer exists
+     */
+    private static DayState getDayState(final ByteBuffer buffer, final short version) throws IOException {
+        final List<IngredientState> hamburgerOnAssembly = getIngredients(buffer);
+        final int rows = getGrillSize(buffer, version);
+        final List<List<IngredientState>> pattiesOnGrill = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            final int columns = getGrillSize(buffer, version);
+            final List<IngredientState> rowState = new ArrayList<>(columns);
+            for (int column = 0; column < columns; column++) {
+                rowState.add(buffer.get() != 0 ? getIngredient(buffer) : null);
+            }
+            pattiesOnGrill.add(rowState);
+        }
+        final List<IngredientState> cookedPatties = getIngredients(buffer);
+
+        final OrderState selectedOrder = buffer.get() != 0 ? getOrder(buffer) : null;
+        final List<List<CustomerState>> lines = new ArrayList<>(2);
+        for (int line = 0; line < 2; line++) {
+            final int customerCount = getCount(buffer);
+            final List<CustomerState> customers = new ArrayList<>(customerCount);
+            for (int i = 0; i < customerCount; i++) {
+                final int skinType = buffer.get();
+                customers.add(new CustomerState(skinType, getOrder(buffer)));
+            }
+            lines.add(customers);
+        }
+        final int arrivedCustomers = buffer.getInt();
+        return new DayState(hamburgerOnAssembly, pattiesOnGrill, cookedPatties, selectedOrder,
+                lines.get(0), lines.get(1), arrivedCustomers, buffer.getLong());
+    }
+
+    /**
+     * Reads an order from the buffer.
+     *
+     * @param buffer the buffer
+     * @return the order
+     * @throws IOException if an ingredient no longer exists
+     */
+    private static OrderState getOrder(final ByteBuffer buffer) throws IOException {
+        final int orderNumber = buffer.getInt();
+        return new OrderState(orderNumber, getIngredients(buffer));
+    }
+
+    /**
+     * Reads the number of rows or columns of the grill from the buffer.
+     *
+     * @param buffer  the buffer
+     * @param version the format version of the slot, before which the number was a single byte
+     * @return the number of rows or columns
+     */
+    private static int getGrillSize(final ByteBuffer buffer, final short version) {
+        return version >= GRILL_SIZE_VERSION ? getCount(buffer) : Byte.toUnsignedInt(buffer.get());
+    }
+
+    /**
+     * Reads the number of elements of a list from the buffer, written as an unsigned short.
+     *
+     * @param buffer the buffer
+     * @return the number of elements
+     */
+    private static int getCount(final ByteBuffer buffer) {
+        return Short.toUnsignedInt(buffer.getShort());
+    }
+
+    /**
+     * Reads a list of ingredients from the buffer, preceded by its size.
+     *
+     * @param buffer the buffer
+     * @return the ingredients
+     * @throws IOException if an ingredient no longer exists
+     */
+    private static List<IngredientState> getIngredients(final ByteBuffer buffer) throws IOException {
+        final int count = getCount(buffer);
+        final List<IngredientState> ingredients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ingredients.add(getIngredient(buffer));
+        }
+        return ingredients;
+    }
+
+    /**
+     * Reads an ingredient from the buffer, patty fields included.
+     *
+     * @param buffer the buffer
+     * @return the ingredient
+     * @throws IOException if the ingredient no longer exists
+     */
+    private static IngredientState getIngredient(final ByteBuffer buffer) throws IOException {
+        final String name = getName(buffer);
+        final IngredientEnum type = findIngredient(name);
+        if (type == null) {
+            throw new IOException("Unknown ingredient in save slot: " + name);
+        }
+        return new IngredientState(type, buffer.getDouble(), buffer.getDouble(), buffer.getDouble(),
+                buffer.get() != 0);
+    }
+
+    /**
+     * Reads a name from the buffer, preceded by its length.
+     *
+     * @param buffer the buffer
+     * @return the name
+     */
+    static String getName(final ByteBuffer buffer) {
+        final byte[] name = new byte[Byte.toUnsignedInt(buffer.get())];
+        buffer.get(name);
+        return new String(name, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Only the balance and the day at the start of the payload are decoded.
+     */
+    @Override
+    protected SaveInfo readSlotInfo(final int slotNumber) throws IOException {
+        final ByteBuffer buffer;
+        try {
+            buffer = readPayload(getSlotPath(slotNumber));
+        } catch (final NoSuchFileException exception) {
+            return new SaveInfo(slotNumber, readJsonSlot(slotNumber));
+        }
+
+        final int playerBalance = buffer.getInt();
+        return new SaveInfo(slotNumber, playerBalance, buffer.getInt());
+    }
+
+    /**
+     * Reads the slot file, checking its header and its checksum.
+     *
+     * @param path the path of the slot file
+     * @return the buffer positioned at the start of the payload, limited to its end
+     * @throws IOException if the file could not be read, or if it is not a valid slot file
+     */
+    private static ByteBuffer readPayload(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < HEADER_SIZE + TRAILER_SIZE || size > HEADER_SIZE + MAX_PAYLOAD_SIZE + TRAILER_SIZE) {
+                throw new IOException("Invalid save slot size " + size + ": " + path);
+            }
+
+            final ByteBuffer buffer = getBuffer((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("Unexpected end of save slot: " + path);
+                }
+            }
+            buffer.flip();
+
+            final int magic = buffer.getInt();
+            final short version = buffer.getShort();
+            final int payloadSize = buffer.getInt();
+            if (magic != MAGIC || version < 1 || version > VERSION) {
+                throw new IOException("Unsupported save slot format " + magic + " version " + version + ": " + path);
+            }
+            if (payloadSize != size - HEADER_SIZE - TRAILER_SIZE
+                    || buffer.getInt(HEADER_SIZE + payloadSize) != computeChecksum(buffer, HEADER_SIZE, payloadSize)) {
+                throw new IOException("Corrupted save slot: " + path);
+            }
+            return buffer.limit(HEADER_SIZE + payloadSize);
+        }
+    }
+
+    /**
+     * Computes the CRC32 of a region of the buffer, without moving its position.
+     *
+     * @param buffer the buffer
+     * @param offset the start of the region
+     * @param length the length of the region
+     * @return the checksum
+     */
+    private static int computeChecksum(final ByteBuffer buffer, final int offset, final int length) {
+        final CRC32 checksum = new CRC32();
+        checksum.update(buffer.slice(offset, length));
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * Gets the direct buffer of the current thread, cleared and limited to the given size.
+     *
+     * @param size the size needed
+     * @return the buffer
+     */
+    private static ByteBuffer getBuffer(final int size) {
+        ByteBuffer buffer = BUFFERS.get();
+        if (buffer.capacity() < size) {
+            buffer = ByteBuffer.allocateDirect(Math.max(size, buffer.capacity() * 2));
+            BUFFERS.set(buffer);
+        }
+        return buffer.clear().limit(size);
+    }
+
+    /**
+     * Finds the upgrade with the given name.
+     *
+     * @param name the name of the upgrade
+     * @return the upgrade, null if no longer existing
+     */
+    static UpgradeEnum findUpgrade(final String name) {
+        for (final UpgradeEnum upgrade : UpgradeEnum.values()) {
+            if (upgrade.name().equals(name)) {
+                return upgrade;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the ingredient with the given name.
+     *
+     * @param name the name of the ingredient
+     * @return the ingredient, null if no longer existing
+     */
+    private static IngredientEnum findIngredient(final String name) {
+        for (final IngredientEnum ingredient : IngredientEnum.values()) {
+            if (ingredient.name().equals(name)) {
+                return ingredient;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "BinarySaveServiceImpl{"
+                +
+                "version="
+                + VERSION
+                +
+                ", " + super.toString()
+                +
+                '}';
+    }
+}
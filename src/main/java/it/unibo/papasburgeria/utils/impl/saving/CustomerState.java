@@ -0,0 +1,43 @@
+package it.unibo.papasburgeria.utils.impl.saving;
+
+import it.unibo.papasburgeria.model.api.CustomerModel;
+import it.unibo.papasburgeria.model.impl.CustomerModelImpl;
+
+/**
+ * DTO used to carry around the state of a customer in line.
+ *
+ * @param skinType appearance of the customer
+ * @param order    order of the customer
+ */
+public record CustomerState(int skinType, OrderState order) {
+    /**
+     * Initializes this record.
+     *
+     * @param skinType appearance of the customer
+     * @param order    order of the customer
+     */
+    public CustomerState {
+        if (order == null) {
+            throw new IllegalArgumentException("Invalid order provided");
+        }
+    }
+
+    /**
+     * Captures the state of a customer.
+     *
+     * @param customer the customer
+     * @return the state of the customer
+     */
+    public static CustomerState of(final CustomerModel customer) {
+        return new CustomerState(customer.getSkinType(), OrderState.of(customer.getOrder()));
+    }
+
+    /**
+     * Creates the customer this state was captured from.
+     *
+     * @return a new customer
+     */
+    public CustomerModel toModel() {
+        return new CustomerModelImpl(order.toModel(), skinType);
+    }
+}
@@ -0,0 +1,158 @@
+package it.unibo.papasburgeria.utils.impl.saving;
+
+import it.unibo.papasburgeria.model.api.CustomerModel;
+import it.unibo.papasburgeria.model.api.GameModel;
+import it.unibo.papasburgeria.model.api.HamburgerModel;
+import it.unibo.papasburgeria.model.api.IngredientModel;
+import it.unibo.papasburgeria.model.api.OrderModel;
+import it.unibo.papasburgeria.model.api.PattyModel;
+import it.unibo.papasburgeria.model.impl.HamburgerModelImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DTO used to carry around the state of a day in progress, so that it can be resumed exactly where it stopped.
+ *
+ * @param hamburgerOnAssembly ingredients of the hamburger on assembly, from the bottom
+ * @param pattiesOnGrill      rows of the grill, with null for the empty spots
+ * @param cookedPatties       patties taken off the grill
+ * @param selectedOrder       order selected for the assembly, null if none
+ * @param registerLine        customers waiting to order
+ * @param waitLine            customers waiting for their order
+ * @param arrivedCustomers    how many customers of the day already arrived
+ * @param nextArrivalDelay    game time before the next customer arrives, in milliseconds
+ */
+public record DayState(
+        List<IngredientState> hamburgerOnAssembly,
+        List<List<IngredientState>> pattiesOnGrill,
+        List<IngredientState> cookedPatties,
+        OrderState selectedOrder,
+        List<CustomerState> registerLine,
+        List<CustomerState> waitLine,
+        int arrivedCustomers,
+        long nextArrivalDelay
+) {
+    /**
+     * Initializes this record.
+     *
+     * @param hamburgerOnAssembly ingredients of the hamburger on assembly, from the bottom
+     * @param pattiesOnGrill      rows of the grill, with null for the empty spots
+     * @param cookedPatties       patties taken off the grill
+     * @param selectedOrder       order selected for the assembly, null if none
+     * @param registerLine        customers waiting to order
+     * @param waitLine            customers waiting for their order
+     * @param arrivedCustomers    how many customers of the day already arrived
+     * @param nextArrivalDelay    game time before the next customer arrives, in milliseconds
+     */
+    public DayState {
+        hamburgerOnAssembly = List.copyOf(hamburgerOnAssembly);
+        pattiesOnGrill = pattiesOnGrill.stream()
+                .map(row -> Collections.unmodifiableList(new ArrayList<>(row)))
+                .toList();
+        cookedPatties = List.copyOf(cookedPatties);
+        registerLine = List.copyOf(registerLine);
+        waitLine = List.copyOf(waitLine);
+    }
+
+    /**
+     * Captures the state of the day in progress.
+     *
+     * @param gameModel        the model holding the grill and the assembly
+     * @param registerLine     customers waiting to order
+     * @param waitLine         customers waiting for their order
+     * @param arrivedCustomers how many customers of the day already arrived
+     * @param nextArrivalDelay game time before the next customer arrives, in milliseconds
+     * @return the state of the day
+     */
+    public static DayState of(final GameModel gameModel, final List<CustomerModel> registerLine,
+                              final List<CustomerModel> waitLine, final int arrivedCustomers,
+                              final long nextArrivalDelay) {
+        final List<List<IngredientState>> grill = new ArrayList<>();
+        for (final PattyModel[] row : gameModel.getPattiesOnGrill()) {
+            final List<IngredientState> rowState = new ArrayList<>(row.length);
+            for (final PattyModel patty : row) {
+                rowState.add(patty == null ? null : IngredientState.of(patty));
+            }
+            grill.add(rowState);
+        }
+
+        final OrderModel selectedOrder = gameModel.getSelectedOrder();
+        return new DayState(
+                captureIngredients(gameModel.getHamburgerOnAssembly().getIngredients()),
+                grill,
+                gameModel.getCookedPatties().stream().map(IngredientState::of).toList(),
+                selectedOrder == null ? null : OrderState.of(selectedOrder),
+                registerLine.stream().map(CustomerState::of).toList(),
+                waitLine.stream().map(CustomerState::of).toList(),
+                arrivedCustomers,
+                nextArrivalDelay
+        );
+    }
+
+    /**
+     * Creates the hamburger on assembly.
+     *
+     * @return a new hamburger
+     */
+    public HamburgerModel createHamburgerOnAssembly() {
+        return new HamburgerModelImpl(hamburgerOnAssembly.stream().map(IngredientState::toModel).toList());
+    }
+
+    /**
+     * Creates the patties on the grill.
+     *
+     * @return the rows of the grill, with null for the empty spots
+     */
+    public PattyModel[][] createPattiesOnGrill() {
+        final PattyModel[][] grill = new PattyModel[pattiesOnGrill.size()][];
+        for (int row = 0; row < grill.length; row++) {
+            final List<IngredientState> rowState = pattiesOnGrill.get(row);
+            grill[row] = new PattyModel[rowState.size()];
+            for (int column = 0; column < grill[row].length; column++) {
+                final IngredientState patty = rowState.get(column);
+                grill[row][column] = patty == null ? null : patty.toPatty();
+            }
+        }
+        return grill;
+    }
+
+    /**
+     * Creates the patties taken off the grill.
+     *
+     * @return a list of new patties
+     */
+    public List<PattyModel> createCookedPatties() {
+        return cookedPatties.stream().map(IngredientState::toPatty).toList();
+    }
+
+    /**
+     * Creates the order selected for the assembly.
+     *
+     * @return a new order, null if none was selected
+     */
+    public OrderModel createSelectedOrder() {
+        return selectedOrder == null ? null : selectedOrder.toModel();
+    }
+
+    /**
+     * Creates the customers of a line.
+     *
+     * @param line the states of the customers in line
+     * @return a list of new customers
+     */
+    public static List<CustomerModel> createCustomers(final List<CustomerState> line) {
+        return line.stream().map(CustomerState::toModel).toList();
+    }
+
+    /**
+     * Captures the state of some ingredients.
+     *
+     * @param ingredients the ingredients
+     * @return the states of the ingredients, in the same order
+     */
+    static List<IngredientState> captureIngredients(final List<? extends IngredientModel> ingredients) {
+        return ingredients.stream().map(IngredientState::of).toList();
+    }
+}
@@ -0,0 +1,108 @@
+package it.unibo.papasburgeria.utils.impl.saving;
+
+import it.unibo.papasburgeria.model.IngredientEnum;
+import it.unibo.papasburgeria.model.api.IngredientModel;
+import it.unibo.papasburgeria.model.api.PattyModel;
+import it.unibo.papasburgeria.model.impl.IngredientModelImpl;
+import it.unibo.papasburgeria.model.impl.PattyModelImpl;
+
+/**
+ * DTO used to carry around the state of an ingredient, patties included.
+ *
+ * @param type              ingredient type
+ * @param placementAccuracy how precisely the ingredient was placed
+ * @param topCookLevel      cook level of the top side, 0 if not a patty
+ * @param bottomCookLevel   cook level of the bottom side, 0 if not a patty
+ * @param flipped           whether the patty is flipped, false if not a patty
+ */
+public record IngredientState(
+        IngredientEnum type,
+        double placementAccuracy,
+        double topCookLevel,
+        double bottomCookLevel,
+        boolean flipped
+) {
+    /**
+     * Initializes this record.
+     *
+     * @param type              ingredient type
+     * @param placementAccuracy how precisely the ingredient was placed
+     * @param topCookLevel      cook level of the top side, 0 if not a patty
+     * @param bottomCookLevel   cook level of the bottom side, 0 if not a patty
+     * @param flipped           whether the patty is flipped, false if not a patty
+     */
+    public IngredientState {
+        if (type == null) {
+            throw new IllegalArgumentException("Invalid ingredient type provided");
+        }
+    }
+
+    /**
+     * Captures the state of an ingredient.
+     *
+     * @param ingredient the ingredient
+     * @return the state of the ingredient
+     */
+    public static IngredientState of(final IngredientModel ingredient) {
+        if (ingredient instanceof PattyModel patty) {
+            return new IngredientState(ingredient.getIngredientType(), ingredient.getPlacementAccuracy(),
+                    patty.getTopCookLevel(), patty.getBottomCookLevel(), patty.isFlipped());
+        }
+        return new IngredientState(ingredient.getIngredientType(), ingredient.getPlacementAccuracy(), 0, 0, false);
+    }
+
+    /**
+     * Captures the state of a patty.
+     *
+     * @param patty the patty
+     * @return the state of the patty
+     */
+    public static IngredientState of(final PattyModel patty) {
+        if (patty instanceof IngredientModel ingredient) {
+            return of(ingredient);
+        }
+        return new IngredientState(IngredientEnum.PATTY, 0, patty.getTopCookLevel(), patty.getBottomCookLevel(),
+                patty.isFlipped());
+    }
+
+    /**
+     * Creates the ingredient this state was captured from.
+     *
+     * @return a new ingredient
+     */
+    public IngredientModel toModel() {
+        final IngredientModel ingredient = type == IngredientEnum.PATTY ? createPatty() : new IngredientModelImpl(type);
+        ingredient.setPlacementAccuracy(placementAccuracy);
+        return ingredient;
+    }
+
+    /**
+     * Creates the patty this state was captured from.
+     *
+     * @return a new patty
+     * @throws IllegalStateException if the state is not of a patty
+     */
+    public PattyModel toPatty() {
+        if (type != IngredientEnum.PATTY) {
+            throw new IllegalStateException("Not the state of a patty: " + type);
+        }
+        final PattyModelImpl patty = createPatty();
+        patty.setPlacementAccuracy(placementAccuracy);
+        return patty;
+    }
+
+    /**
+     * Creates a patty with the cook levels of this state.
+     *
+     * @return a new patty
+     */
+    private PattyModelImpl createPatty() {
+        final PattyModelImpl patty = new PattyModelImpl();
+        patty.setTopCookLevel(topCookLevel);
+        patty.setBottomCookLevel(bottomCookLevel);
+        if (flipped) {
+            patty.flip();
+        }
+        return patty;
+    }
+}
@@ -0,0 +1,21 @@
+package it.unibo.papasburgeria.utils.impl.saving;
+
+/**
+ * DTO of an event recorded in a journal.
+ *
+ * @param sequence sequence number of the entry, increasing by one from the previous entry
+ * @param event    the recorded event
+ */
+public record JournalEntry(long sequence, RevenueEvent event) {
+    /**
+     * Initializes this record.
+     *
+     * @param sequence sequence number of the entry, increasing by one from the previous entry
+     * @param event    the recorded event
+     */
+    public JournalEntry {
+        if (sequence <= 0 || event == null) {
+            throw new IllegalArgumentException("Invalid sequence " + sequence + " or event " + event);
+        }
+    }
+}
@@ -0,0 +1,437 @@
+package it.unibo.papasburgeria.utils.impl.saving;
+
+import com.google.inject.Singleton;
+import it.unibo.papasburgeria.model.UpgradeEnum;
+import it.unibo.papasburgeria.utils.api.JournalService;
+import org.tinylog.Logger;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.zip.CRC32;
+
+/**
+ * Implementation of JournalService.
+ *
+ * <p>
+ * Each slot has its own journal file, made of entries appended one after the other. An entry is made of the length
+ * of its body, the body holding the sequence number, the kind and the fields of the event, and the CRC32 of the body.
+ * A crash while appending leaves at most a torn entry at the end of the file, which is dropped when the journal is
+ * opened again.
+ *
+ * <p>
+ * Events are appended to a queue by the calling thread and written by a background thread, which drains the queue
+ * and forces the whole batch to the storage device at once, so the calling thread never waits for the disk and
+ * bursts of events cost a single force.
+ *
+ * <p>
+ * See {@link JournalService} for interface details.
+ */
+@Singleton
+public class JournalServiceImpl implements JournalService {
+    private static final String DIRECTORY = "journal";
+    private static final String EXTENSION = ".jnl";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+    private static final byte ORDER_SERVED = 1;
+    private static final byte UPGRADE_BOUGHT = 2;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+    private static final int MAX_BODY_SIZE = 512;
+    private static final long DROP_ALL = Long.MAX_VALUE;
+
+    private final BlockingQueue<Request> requests;
+    private final Map<Path, FileChannel> channels;
+    private final ByteBuffer entryBuffer;
+    private Thread writer;
+    private int openSlot;
+    private long lastSequence;
+
+    /**
+     * Initializes the journal service, no slot is in use until one is opened.
+     */
+    public JournalServiceImpl() {
+        this.requests = new LinkedBlockingQueue<>();
+        this.channels = new HashMap<>();
+        this.entryBuffer = ByteBuffer.allocate(Integer.BYTES + MAX_BODY_SIZE + CHECKSUM_SIZE);
+        this.openSlot = -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized List<JournalEntry> open(final int slotNumber, final long lastSequence) throws IOException {
+        if (slotNumber < 0 || lastSequence < 0) {
+            throw new IllegalArgumentException("Invalid slot number " + slotNumber + " or sequence " + lastSequence);
+        }
+
+        // the entries still queued for the journal must be written before it is read
+        flush().join();
+
+        final Path path = getJournalPath(slotNumber);
+        Files.createDirectories(path.getParent());
+        final List<JournalEntry> entries = new ArrayList<>();
+        if (Files.exists(path)) {
+            final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            final List<JournalEntry> written = decode(buffer);
+            if (buffer.position() < buffer.limit()) {
+                Logger.warn("Dropping the torn end of the journal of slot " + slotNumber);
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                    channel.truncate(buffer.position());
+                    channel.force(true);
+                }
+            }
+            written.stream().filter(entry -> entry.sequence() > lastSequence).forEach(entries::add);
+        }
+
+        this.openSlot = slotNumber;
+        this.lastSequence = entries.isEmpty() ? lastSequence : entries.getLast().sequence();
+        return entries;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long append(final RevenueEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Invalid event provided");
+        }
+        if (openSlot < 0) {
+            return 0;
+        }
+
+        lastSequence++;
+        requests.add(new Request(getJournalPath(openSlot), new JournalEntry(lastSequence, event), 0, null));
+        startWriter();
+        return lastSequence;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long getLastSequence() {
+        return openSlot < 0 ? 0 : lastSequence;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized CompletableFuture<Void> compact(final int slotNumber, final long lastSequence) {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        requests.add(new Request(getJournalPath(slotNumber), null,
+                slotNumber == openSlot ? lastSequence : DROP_ALL, done));
+        startWriter();
+        return done;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized CompletableFuture<Void> flush() {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        requests.add(new Request(null, null, 0, done));
+        startWriter();
+        return done;
+    }
+
+    /**
+     * Starts the writer thread, only once.
+     */
+    private void startWriter() {
+        if (writer == null) {
+            writer = new Thread(this::writeRequests, "journal-writer");
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    /**
+     * Writes the queued requests in batches, on the writer thread.
+     */
+    private void writeRequests() {
+        final List<Request> batch = new ArrayList<>();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(requests.take());
+                requests.drainTo(batch);
+                writeBatch(batch);
+                batch.clear();
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes a batch of requests, forcing the written journals once at the end of it.
+     *
+     * @param batch the requests, in the order they were queued
+     */
+    private void writeBatch(final List<Request> batch) {
+        final Set<FileChannel> writtenChannels = new LinkedHashSet<>();
+        final List<CompletableFuture<Void>> completions = new ArrayList<>();
+        IOException failure = null;
+        for (final Request request : batch) {
+            try {
+                if (request.entry() != null) {
+                    final FileChannel channel = getChannel(request.path());
+                    writeEntry(channel, request.entry());
+                    writtenChannels.add(channel);
+                } else if (request.path() != null) {
+                    force(writtenChannels);
+                    compactJournal(request.path(), request.compactSequence());
+                }
+            } catch (final IOException exception) {
+                Logger.warn(exception, "Unable to write the journal " + request.path());
+                failure = exception;
+            }
+            if (request.done() != null) {
+                completions.add(request.done());
+            }
+        }
+
+        try {
+            force(writtenChannels);
+        } catch (final IOException exception) {
+            Logger.warn(exception, "Unable to force the journals to the storage device");
+            failure = exception;
+        }
+        for (final CompletableFuture<Void> completion : completions) {
+            if (failure == null) {
+                completion.complete(null);
+            } else {
+                completion.completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * Forces the written channels to the storage device, then forgets them.
+     *
+     * @param writtenChannels the channels written since the last force
+     * @throws IOException if a channel could not be forced
+     */
+    private static void force(final Set<FileChannel> writtenChannels) throws IOException {
+        try {
+            for (final FileChannel channel : writtenChannels) {
+                channel.force(false);
+            }
+        } finally {
+            writtenChannels.clear();
+        }
+    }
+
+    /**
+     * Drops the entries of the journal up to the given sequence number, rewriting the remaining ones.
+     *
+     * @param path         the path of the journal
+     * @param lastSequence the sequence number of the last entry to drop
+     * @throws IOException if the journal could not be rewritten
+     */
+    private void compactJournal(final Path path, final long lastSequence) throws IOException {
+        final FileChannel channel = channels.remove(path);
+        if (channel != null) {
+            channel.close();
+        }
+        if (lastSequence == DROP_ALL || !Files.exists(path)) {
+            Files.deleteIfExists(path);
+            return;
+        }
+
+        final List<JournalEntry> entries = decode(ByteBuffer.wrap(Files.readAllBytes(path)));
+        final List<JournalEntry> remaining = entries.stream().filter(entry -> entry.sequence() > lastSequence).toList();
+        if (remaining.size() == entries.size()) {
+            return;
+        }
+
+        final Path temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_EXTENSION);
+        try (FileChannel temporaryChannel = FileChannel.open(temporaryPath,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (final JournalEntry entry : remaining) {
+                writeEntry(temporaryChannel, entry);
+            }
+            temporaryChannel.force(true);
+        }
+        SaveServiceImpl.moveAtomically(temporaryPath, path);
+    }
+
+    /**
+     * Gets the channel appending to the journal, opening it if needed.
+     *
+     * @param path the path of the journal
+     * @return the channel
+     * @throws IOException if the journal could not be opened
+     */
+    private FileChannel getChannel(final Path path) throws IOException {
+        FileChannel channel = channels.get(path);
+        if (channel == null) {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            channels.put(path, channel);
+        }
+        return channel;
+    }
+
+    /**
+     * Writes an entry to the channel.
+     *
+     * @param channel the channel
+     * @param entry   the entry
+     * @throws IOException if the entry could not be written
+     */
+    private void writeEntry(final FileChannel channel, final JournalEntry entry) throws IOException {
+        final ByteBuffer buffer = entryBuffer.clear().putInt(0);
+        buffer.putLong(entry.sequence());
+        if (entry.event() instanceof OrderServedEvent order) {
+            buffer.put(ORDER_SERVED)
+                    .putInt(order.gameDay())
+                    .putInt(order.orderNumber())
+                    .putDouble(order.satisfaction())
+                    .putInt(order.payment())
+                    .putInt(order.tip());
+        } else if (entry.event() instanceof UpgradeBoughtEvent upgrade) {
+            buffer.put(UPGRADE_BOUGHT);
+            BinarySaveServiceImpl.putName(buffer, upgrade.upgrade().name());
+            buffer.putInt(upgrade.cost());
+        } else {
+            throw new IOException("Unsupported journal event: " + entry.event());
+        }
+
+        final int bodySize = buffer.position() - Integer.BYTES;
+        buffer.putInt(0, bodySize).putInt(computeChecksum(buffer, Integer.BYTES, bodySize)).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Reads the entries of a journal, until its end or until the first torn or corrupted entry.
+     *
+     * @param buffer the content of the journal, positioned after the last valid entry once read
+     * @return the valid entries
+     */
+    private static List<JournalEntry> decode(final ByteBuffer buffer) {
+        final List<JournalEntry> entries = new ArrayList<>();
+        long previousSequence = 0;
+        while (buffer.remaining() >= Integer.BYTES) {
+            final int start = buffer.position();
+            final int bodySize = buffer.getInt(start);
+            if (bodySize <= 0 || bodySize > MAX_BODY_SIZE
+                    || buffer.remaining() < Integer.BYTES + bodySize + CHECKSUM_SIZE
+                    || buffer.getInt(start + Integer.BYTES + bodySize)
+                    != computeChecksum(buffer, start + Integer.BYTES, bodySize)) {
+                break;
+            }
+
+            final ByteBuffer body = buffer.slice(start + Integer.BYTES, bodySize);
+            try {
+                final long sequence = body.getLong();
+                if (sequence <= previousSequence) {
+                    break;
+                }
+                final RevenueEvent event = decodeEvent(body);
+                if (event != null) {
+                    entries.add(new JournalEntry(sequence, event));
+                }
+                previousSequence = sequence;
+            } catch (final BufferUnderflowException | IllegalArgumentException exception) {
+                break;
+            }
+            buffer.position(start + Integer.BYTES + bodySize + CHECKSUM_SIZE);
+        }
+        return entries;
+    }
+
+    /**
+     * Reads the event of an entry body.
+     *
+     * @param body the body, positioned after the sequence number
+     * @return the event, null if its upgrade no longer exists
+     */
+    private static RevenueEvent decodeEvent(final ByteBuffer body) {
+        final byte kind = body.get();
+        if (kind == ORDER_SERVED) {
+            return new OrderServedEvent(body.getInt(), body.getInt(), body.getDouble(), body.getInt(), body.getInt());
+        } else if (kind == UPGRADE_BOUGHT) {
+            final String name = BinarySaveServiceImpl.getName(body);
+            final UpgradeEnum upgrade = BinarySaveServiceImpl.findUpgrade(name);
+            final int cost = body.getInt();
+            if (upgrade == null) {
+                Logger.warn("Skipping the journal entry of the no longer existing upgrade " + name);
+                return null;
+            }
+            return new UpgradeBoughtEvent(upgrade, cost);
+        }
+        throw new IllegalArgumentException("Unknown journal event kind " + kind);
+    }
+
+    /**
+     * Computes the CRC32 of a region of the buffer, without moving its position.
+     *
+     * @param buffer the buffer
+     * @param offset the start of the region
+     * @param length the length of the region
+     * @return the checksum
+     */
+    private static int computeChecksum(final ByteBuffer buffer, final int offset, final int length) {
+        final CRC32 checksum = new CRC32();
+        checksum.update(buffer.slice(offset, length));
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * Gets the path of the journal of the slot.
+     *
+     * @param slotNumber slot number
+     * @return the path of the journal
+     */
+    protected Path getJournalPath(final int slotNumber) {
+        return SaveServiceImpl.DIRECTORY.resolve(DIRECTORY).resolve(slotNumber + EXTENSION);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized String toString() {
+        return "JournalServiceImpl{"
+                +
+                "openSlot="
+                + openSlot
+                +
+                ", lastSequence="
+                + lastSequence
+                +
+                ", queuedRequests="
+                + requests.size()
+                +
+                '}';
+    }
+
+    /**
+     * Request queued for the writer thread: an entry to append, a compaction or a flush.
+     *
+     * @param path            the journal, null for a flush
+     * @param entry           the entry to append, null for a compaction or a flush
+     * @param compactSequence the sequence number of the last entry to drop, for a compaction
+     * @param done            the future completed once the request and the previous ones are written, may be null
+     */
+    private record Request(Path path, JournalEntry entry, long compactSequence, CompletableFuture<Void> done) {
+    }
+}
@@ -0,0 +1,21 @@
+package it.unibo.papasburgeria.utils.impl.saving;
+
+/**
+ * DTO of an order served to a customer.
+ *
+ * @param gameDay      game day the order was served in
+ * @param orderNumber  order number
+ * @param satisfaction satisfaction of the customer, from 0 to 1
+ * @param payment      amount paid for the order
+ * @param tip          tip left for the order
+ */
+public record OrderServedEvent(int gameDay, int orderNumber, double satisfaction, int payment, int tip)
+        implements RevenueEvent {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBalanceChange() {
+        return payment + tip;
+    }
+}
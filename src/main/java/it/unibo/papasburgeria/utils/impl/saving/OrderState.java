@@ -0,0 +1,47 @@
+package it.unibo.papasburgeria.utils.impl.saving;
+
+import it.unibo.papasburgeria.model.api.IngredientModel;
+import it.unibo.papasburgeria.model.api.OrderModel;
+import it.unibo.papasburgeria.model.impl.OrderModelImpl;
+import it.unibo.papasburgeria.model.impl.PackedHamburgerModelImpl;
+
+import java.util.List;
+
+/**
+ * DTO used to carry around the state of an order.
+ *
+ * @param orderNumber order number
+ * @param hamburger   ingredients of the ordered hamburger, from the bottom
+ */
+public record OrderState(int orderNumber, List<IngredientState> hamburger) {
+    /**
+     * Initializes this record.
+     *
+     * @param orderNumber order number
+     * @param hamburger   ingredients of the ordered hamburger, from the bottom
+     */
+    public OrderState {
+        hamburger = List.copyOf(hamburger);
+    }
+
+    /**
+     * Captures the state of an order.
+     *
+     * @param order the order
+     * @return the state of the order
+     */
+    public static OrderState of(final OrderModel order) {
+        return new OrderState(order.getOrderNumber(),
+                DayState.captureIngredients(order.getHamburger().getIngredients()));
+    }
+
+    /**
+     * Creates the order this state was captured from.
+     *
+     * @return a new order
+     */
+    public OrderModel toModel() {
+        final List<IngredientModel> ingredients = hamburger.stream().map(IngredientState::toModel).toList();
+        return new OrderModelImpl(new PackedHamburgerModelImpl(ingredients), orderNumber);
+    }
+}
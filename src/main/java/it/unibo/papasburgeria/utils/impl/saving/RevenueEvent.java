@@ -0,0 +1,13 @@
+package it.unibo.papasburgeria.utils.impl.saving;
+
+/**
+ * Event changing the balance of the player, recorded in the journal of the slot in use.
+ */
+public interface RevenueEvent {
+    /**
+     * Gets how much the event changes the balance.
+     *
+     * @return the change of the balance, negative for expenses
+     */
+    int getBalanceChange();
+}
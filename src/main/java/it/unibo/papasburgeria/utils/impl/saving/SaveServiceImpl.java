@@ -1,30 +1,76 @@
 package it.unibo.papasburgeria.utils.impl.saving;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.inject.Singleton;
 import it.unibo.papasburgeria.utils.api.SaveService;
+import org.tinylog.Logger;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of SaveServiceImpl.
  *
  * <p>
+ * Slots are written on a background thread, in the order they were saved. A save requested while the previous one
+ * of the same slot is still waiting to be written replaces its state, so only the latest one is written.
+ * Each write goes to a temporary file that is then moved over the slot file, so a crash never leaves it half-written.
+ *
+ * <p>
+ * Slots are unbounded, the written ones are listed by a {@link SlotCatalog} persisted next to them, updated on every
+ * save and rebuilt from the slot files when it no longer matches them. A watch service on the slots directory marks
+ * the slots whose files change outside the game, so that only their information is read again. Changes made by the
+ * writer itself are recognised by the modification time of the slot file it wrote, and temporary files are ignored.
+ *
+ * <p>
+ * Slots are encoded as JSON text, subclasses can change the encoding through {@link #encode(SaveState)},
+ * {@link #readSlot(int)}, {@link #readSlotInfo(int)} and {@link #getSlotPath(int)}.
+ *
+ * <p>
  * See {@link SaveService} for interface details.
  */
+@Singleton
 public class SaveServiceImpl implements SaveService {
     /**
-     * Maximum index for save slots.
+     * Directory the slots are written to.
      */
-    public static final int MAX_SAVE_SLOT_INDEX = 2;
-    private static final Path DIRECTORY = Paths.get(System.getProperty("user.home"), ".papasburgeria", "slots");
+    static final Path DIRECTORY = Paths.get(System.getProperty("user.home"), ".papasburgeria", "slots");
+    private static final String EXTENSION = ".txt";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+    private static final String CATALOG_FILE = "catalog.idx";
+    private static final int MAX_SLOT_NAME_LENGTH = 10;
 
     private final ObjectMapper mapper;
+    private final ExecutorService writer;
+    private final Map<Integer, SaveState> unwrittenStates;
+    private final Map<Integer, CompletableFuture<Void>> queuedWrites;
+    private final Set<Integer> writingSlots;
+    private final Map<Integer, FileTime> writtenTimes;
+    private final SlotCatalog catalog;
+    private boolean catalogLoaded;
+    private boolean watcherStarted;
 
     /**
      * Initializes the data saving service.
@@ -35,24 +81,41 @@ public class SaveServiceImpl implements SaveService {
         Files.createDirectories(DIRECTORY);
 
         this.mapper = new ObjectMapper();
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "save-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.unwrittenStates = new HashMap<>();
+        this.queuedWrites = new HashMap<>();
+        this.writingSlots = new HashSet<>();
+        this.writtenTimes = new HashMap<>();
+        this.catalog = new SlotCatalog();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void saveSlot(final int slotNumber, final SaveState saveState) throws IOException {
+    public synchronized CompletableFuture<Void> saveSlot(final int slotNumber, final SaveState saveState) {
         validateSlotNumber(slotNumber);
 
         if (saveState == null) {
             throw new IllegalArgumentException("Invalid save state instance provided");
         }
 
-        // no need for files exist check, the writer opens or creates it
-        final Path path = DIRECTORY.resolve(slotNumber + ".txt");
-        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
-            writer.write(mapper.writeValueAsString(saveState));
+        loadCatalog();
+        unwrittenStates.put(slotNumber, saveState);
+        catalog.put(new SaveInfo(slotNumber, saveState));
+        final CompletableFuture<Void> queuedWrite = queuedWrites.get(slotNumber);
+        if (queuedWrite != null) {
+            return queuedWrite;
         }
+
+        final CompletableFuture<Void> write = new CompletableFuture<>();
+        queuedWrites.put(slotNumber, write);
+        writer.execute(() -> writeSlot(slotNumber));
+        return write;
     }
 
     /**
@@ -62,7 +125,298 @@ public class SaveServiceImpl implements SaveService {
     public SaveState loadSlot(final int slotNumber) throws IOException {
         validateSlotNumber(slotNumber);
 
-        final Path path = DIRECTORY.resolve(slotNumber + ".txt");
+        final SlotLoadEvent event = new SlotLoadEvent();
+        event.begin();
+        event.slot = slotNumber;
+        try {
+            final SaveState unwrittenState;
+            synchronized (this) {
+                unwrittenState = unwrittenStates.get(slotNumber);
+            }
+            event.unwritten = unwrittenState != null;
+
+            final SaveState saveState = event.unwritten ? unwrittenState : readSlot(slotNumber);
+            event.succeeded = true;
+            return saveState;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int getSlotCount() {
+        refreshCatalog();
+        return catalog.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized List<SaveInfo> loadSlotInfos(final int offset, final int count) {
+        if (offset < 0 || count < 0) {
+            throw new IllegalArgumentException("Invalid offset " + offset + " or count " + count);
+        }
+
+        refreshCatalog();
+        return catalog.getPage(offset, count);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int getNextFreeSlot() {
+        refreshCatalog();
+        return catalog.getNextFreeSlot();
+    }
+
+    /**
+     * Loads the catalog and reads again the information of its stale slots.
+     */
+    private void refreshCatalog() {
+        loadCatalog();
+        startWatcher();
+
+        for (final int slotNumber : catalog.takeStaleSlots()) {
+            final SaveState unwrittenState = unwrittenStates.get(slotNumber);
+            if (unwrittenState != null) {
+                catalog.put(new SaveInfo(slotNumber, unwrittenState));
+                continue;
+            }
+
+            try {
+                catalog.put(readSlotInfo(slotNumber));
+            } catch (final IOException exception) {
+                Logger.warn(exception, "Unable to read save slot " + slotNumber + ", it will not be listed");
+                catalog.remove(slotNumber);
+            }
+        }
+    }
+
+    /**
+     * Loads the catalog from its index file, only once, rebuilding it if it does not match the slot files.
+     */
+    private void loadCatalog() {
+        if (catalogLoaded) {
+            return;
+        }
+        catalogLoaded = true;
+
+        final Set<Integer> slotNumbers = new TreeSet<>();
+        try (Stream<Path> files = Files.list(DIRECTORY)) {
+            files.forEach(file -> {
+                final int slotNumber = parseSlotNumber(file.getFileName().toString());
+                if (slotNumber >= 0) {
+                    slotNumbers.add(slotNumber);
+                }
+            });
+        } catch (final IOException exception) {
+            Logger.warn(exception, "Unable to list the save slots");
+        }
+
+        boolean valid = false;
+        final Path catalogPath = DIRECTORY.resolve(CATALOG_FILE);
+        if (Files.exists(catalogPath)) {
+            try {
+                catalog.decode(ByteBuffer.wrap(Files.readAllBytes(catalogPath)));
+                valid = catalog.getSlotNumbers().equals(slotNumbers);
+            } catch (final IOException exception) {
+                Logger.warn(exception, "Unable to read the save slot catalog, it will be rebuilt");
+            }
+        }
+
+        if (!valid) {
+            catalog.clear();
+            slotNumbers.forEach(catalog::markStale);
+        }
+        unwrittenStates.forEach((slotNumber, state) -> catalog.put(new SaveInfo(slotNumber, state)));
+    }
+
+    /**
+     * Writes the catalog to its index file, on the writer thread.
+     */
+    private void writeCatalog() {
+        final ByteBuffer buffer;
+        synchronized (this) {
+            buffer = catalog.encode();
+        }
+
+        final Path path = DIRECTORY.resolve(CATALOG_FILE);
+        final Path temporaryPath = path.resolveSibling(CATALOG_FILE + TEMPORARY_EXTENSION);
+        try {
+            writeFile(temporaryPath, buffer);
+            moveAtomically(temporaryPath, path);
+        } catch (final IOException exception) {
+            Logger.warn(exception, "Unable to write the save slot catalog, it will be rebuilt");
+        }
+    }
+
+    /**
+     * Starts watching the slots directory for changes, only once.
+     */
+    private void startWatcher() {
+        if (watcherStarted) {
+            return;
+        }
+        watcherStarted = true;
+
+        try {
+            final WatchService watchService = DIRECTORY.getFileSystem().newWatchService();
+            DIRECTORY.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+            final Thread thread = new Thread(() -> watchSlots(watchService), "save-watcher");
+            thread.setDaemon(true);
+            thread.start();
+        } catch (final IOException exception) {
+            Logger.warn(exception, "Unable to watch the save slots, changes outside the game will not be listed");
+        }
+    }
+
+    /**
+     * Marks the slots whose files change as stale, until the directory cannot be watched.
+     *
+     * @param watchService the watch service the directory is registered to
+     */
+    private void watchSlots(final WatchService watchService) {
+        try (watchService) {
+            boolean valid = true;
+            while (valid) {
+                final WatchKey key = watchService.take();
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path changedPath) {
+                        markSlotStale(changedPath.getFileName().toString());
+                    } else {
+                        markSlotStale(null);
+                    }
+                }
+                valid = key.reset();
+            }
+        } catch (final IOException exception) {
+            Logger.warn(exception, "Exception while watching the save slots");
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Marks the slot the changed file belongs to as stale.
+     *
+     * @param fileName the name of the changed file, null if unknown, in which case the catalog is loaded again
+     */
+    private synchronized void markSlotStale(final String fileName) {
+        if (fileName == null) {
+            catalogLoaded = false;
+            return;
+        }
+
+        final int slotNumber = parseSlotNumber(fileName);
+        if (slotNumber >= 0 && !isOwnWrite(slotNumber, fileName)) {
+            catalog.markStale(slotNumber);
+        }
+    }
+
+    /**
+     * Checks whether the change of the slot file was made by the writer, which is being written or still has the
+     * modification time the writer left.
+     *
+     * @param slotNumber the slot number
+     * @param fileName   the name of the changed file
+     * @return true if the change was made by the writer, false otherwise
+     */
+    private boolean isOwnWrite(final int slotNumber, final String fileName) {
+        final Path path = getSlotPath(slotNumber);
+        if (!path.getFileName().toString().equals(fileName)) {
+            return false;
+        }
+        if (writingSlots.contains(slotNumber)) {
+            return true;
+        }
+
+        final FileTime writtenTime = writtenTimes.get(slotNumber);
+        try {
+            return writtenTime != null && writtenTime.equals(Files.getLastModifiedTime(path));
+        } catch (final IOException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Gets the slot number a file belongs to, from the start of its name.
+     *
+     * @param fileName the name of the file
+     * @return the slot number, -1 if the file is not a slot file or is a temporary one
+     */
+    private static int parseSlotNumber(final String fileName) {
+        if (fileName.endsWith(TEMPORARY_EXTENSION)) {
+            return -1;
+        }
+
+        final int extensionStart = fileName.indexOf('.');
+        final String slotName = extensionStart < 0 ? fileName : fileName.substring(0, extensionStart);
+        if (slotName.isEmpty() || slotName.length() >= MAX_SLOT_NAME_LENGTH
+                || !slotName.chars().allMatch(Character::isDigit)) {
+            return -1;
+        }
+        return Integer.parseInt(slotName);
+    }
+
+    /**
+     * Reads the information shown for the slot, subclasses can avoid decoding the whole state.
+     *
+     * @param slotNumber slot number
+     * @return the information of the slot, empty if it was never written
+     * @throws IOException if the slot file could not be read or decoded
+     */
+    protected SaveInfo readSlotInfo(final int slotNumber) throws IOException {
+        return new SaveInfo(slotNumber, readSlot(slotNumber));
+    }
+
+    /**
+     * Gets the path of the file the slot is written to.
+     *
+     * @param slotNumber slot number
+     * @return the path of the slot file
+     */
+    protected Path getSlotPath(final int slotNumber) {
+        return DIRECTORY.resolve(slotNumber + EXTENSION);
+    }
+
+    /**
+     * Encodes the state to the bytes written to the slot file, called on the writer thread only.
+     *
+     * @param saveState the state to encode
+     * @return the buffer of the encoded state, ready to be read
+     * @throws IOException if the state could not be encoded
+     */
+    protected ByteBuffer encode(final SaveState saveState) throws IOException {
+        return ByteBuffer.wrap(mapper.writeValueAsBytes(saveState));
+    }
+
+    /**
+     * Reads the state written to the slot file.
+     *
+     * @param slotNumber slot number
+     * @return the state of the slot, null if it was never written
+     * @throws IOException if the slot file could not be read or decoded
+     */
+    protected SaveState readSlot(final int slotNumber) throws IOException {
+        return readJsonSlot(slotNumber);
+    }
+
+    /**
+     * Reads the state written to the slot file as JSON text.
+     *
+     * @param slotNumber slot number
+     * @return the state of the slot, null if it was never written as JSON text
+     * @throws IOException if the slot file could not be read or decoded
+     */
+    protected final SaveState readJsonSlot(final int slotNumber) throws IOException {
+        final Path path = DIRECTORY.resolve(slotNumber + EXTENSION);
         if (!Files.exists(path)) {
             return null;
         }
@@ -71,15 +425,86 @@ public class SaveServiceImpl implements SaveService {
     }
 
     /**
-     * {@inheritDoc}
+     * Writes the latest state saved for the slot, on the writer thread.
+     *
+     * @param slotNumber slot number
      */
-    @Override
-    public List<SaveState> loadAllSlots() throws IOException {
-        final List<SaveState> slots = new ArrayList<>();
-        for (int i = 0; i <= MAX_SAVE_SLOT_INDEX; i++) {
-            slots.add(loadSlot(i)); // state or null
+    private void writeSlot(final int slotNumber) {
+        final SaveState saveState;
+        final CompletableFuture<Void> write;
+        synchronized (this) {
+            saveState = unwrittenStates.get(slotNumber);
+            write = queuedWrites.remove(slotNumber);
+        }
+
+        final SlotSaveEvent event = new SlotSaveEvent();
+        event.begin();
+        event.slot = slotNumber;
+        try {
+            final Path path = getSlotPath(slotNumber);
+            final Path temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_EXTENSION);
+            final ByteBuffer buffer = encode(saveState);
+            event.size = buffer.remaining();
+            writeFile(temporaryPath, buffer);
+            synchronized (this) {
+                writingSlots.add(slotNumber);
+            }
+            try {
+                moveAtomically(temporaryPath, path);
+                final FileTime writtenTime = Files.getLastModifiedTime(path);
+                synchronized (this) {
+                    writtenTimes.put(slotNumber, writtenTime);
+                }
+            } finally {
+                synchronized (this) {
+                    writingSlots.remove(slotNumber);
+                }
+            }
+            writeCatalog();
+
+            synchronized (this) {
+                unwrittenStates.remove(slotNumber, saveState);
+            }
+            event.succeeded = true;
+            write.complete(null);
+        } catch (final IOException | RuntimeException exception) {
+            // the future is always completed, or whoever waits for the write would hang
+            write.completeExceptionally(exception);
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Writes the buffer to the file, forcing it to the storage device.
+     *
+     * @param path   the file to write
+     * @param buffer the buffer to write, ready to be read
+     * @throws IOException if the file could not be written
+     */
+    static void writeFile(final Path path, final ByteBuffer buffer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Moves the source file over the target one, atomically if the file system supports it.
+     *
+     * @param source the file to move
+     * @param target the file to replace
+     * @throws IOException if the file could not be moved
+     */
+    static void moveAtomically(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AtomicMoveNotSupportedException exception) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
         }
-        return slots;
     }
 
     /**
@@ -88,10 +513,8 @@ public class SaveServiceImpl implements SaveService {
      * @param slotNumber slot number
      */
     private void validateSlotNumber(final int slotNumber) {
-        if (slotNumber < 0 || slotNumber > MAX_SAVE_SLOT_INDEX) {
-            throw new IllegalArgumentException(
-                    "Invalid slot number, should be a positive integer and equal or below " + MAX_SAVE_SLOT_INDEX
-            );
+        if (slotNumber < 0) {
+            throw new IllegalArgumentException("Invalid slot number, should be a positive integer");
         }
     }
 
@@ -99,12 +522,18 @@ public class SaveServiceImpl implements SaveService {
      * {@inheritDoc}
      */
     @Override
-    public String toString() {
+    public synchronized String toString() {
         return "SaveServiceImpl{"
                 +
                 "mapper="
                 + mapper
                 +
+                ", unwrittenSlots="
+                + unwrittenStates.keySet()
+                +
+                ", catalog="
+                + catalog
+                +
                 '}';
     }
 }
@@ -8,24 +8,41 @@ import java.util.Map;
 /**
  * DTO used to carry around game save state.
  *
- * @param playerBalance cash balance
- * @param gameDay       current game day
- * @param upgrades      unlocked upgrades
+ * @param playerBalance       cash balance
+ * @param gameDay             current game day
+ * @param upgrades            unlocked upgrades
+ * @param dayState            state of the day in progress, null if the day has to start over
+ * @param lastJournalSequence sequence number of the last journal entry included in this state, 0 if none
  */
 public record SaveState(
         int playerBalance,
         int gameDay,
-        Map<UpgradeEnum, Boolean> upgrades
+        Map<UpgradeEnum, Boolean> upgrades,
+        DayState dayState,
+        long lastJournalSequence
 ) {
     /**
      * Initializes this record.
      *
+     * @param playerBalance       cash balance
+     * @param gameDay             current game day
+     * @param upgrades            unlocked upgrades
+     * @param dayState            state of the day in progress, null if the day has to start over
+     * @param lastJournalSequence sequence number of the last journal entry included in this state, 0 if none
+     */
+    public SaveState {
+        upgrades = copyMap(upgrades);
+    }
+
+    /**
+     * Initializes this record for a day that has to start over.
+     *
      * @param playerBalance cash balance
      * @param gameDay       current game day
      * @param upgrades      unlocked upgrades
      */
-    public SaveState {
-        upgrades = copyMap(upgrades);
+    public SaveState(final int playerBalance, final int gameDay, final Map<UpgradeEnum, Boolean> upgrades) {
+        this(playerBalance, gameDay, upgrades, null, 0);
     }
 
     /**
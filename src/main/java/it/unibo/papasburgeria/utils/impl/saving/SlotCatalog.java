@@ -0,0 +1,203 @@
+package it.unibo.papasburgeria.utils.impl.saving;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * Catalog of the written slots, sorted by slot number, with the information shown for each of them.
+ *
+ * <p>
+ * It is persisted as a compact index file, made of a header with a magic number, the format version and the number
+ * of entries, followed by the slot number, the balance and the day of each slot and by the CRC32 of the entries.
+ * The slot files are found from their slot number, so listing hundreds of slots never reads them.
+ *
+ * <p>
+ * Slots whose files changed are marked as stale until their information is read again.
+ * The catalog is not thread-safe, it is guarded by the save service owning it.
+ */
+final class SlotCatalog {
+    private static final int MAGIC = 0x50424358; // "PBCX"
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Integer.BYTES;
+    private static final int ENTRY_SIZE = Integer.BYTES * 3;
+    private static final int TRAILER_SIZE = Integer.BYTES;
+
+    private final NavigableMap<Integer, SaveInfo> entries;
+    private final NavigableSet<Integer> staleSlots;
+    private List<SaveInfo> orderedEntries;
+
+    /**
+     * Constructs an empty catalog.
+     */
+    SlotCatalog() {
+        this.entries = new TreeMap<>();
+        this.staleSlots = new TreeSet<>();
+    }
+
+    /**
+     * Adds or updates the information of a slot, removing the slot if the information represents an empty save.
+     *
+     * @param info the information of the slot
+     */
+    void put(final SaveInfo info) {
+        staleSlots.remove(info.slotNumber());
+        if (info.checkNoSave()) {
+            entries.remove(info.slotNumber());
+        } else {
+            entries.put(info.slotNumber(), info);
+        }
+        orderedEntries = null;
+    }
+
+    /**
+     * Removes a slot from the catalog.
+     *
+     * @param slotNumber slot number
+     */
+    void remove(final int slotNumber) {
+        staleSlots.remove(slotNumber);
+        entries.remove(slotNumber);
+        orderedEntries = null;
+    }
+
+    /**
+     * Marks the slot as stale, so that its information is read again before being listed.
+     *
+     * @param slotNumber slot number
+     */
+    void markStale(final int slotNumber) {
+        staleSlots.add(slotNumber);
+    }
+
+    /**
+     * Takes the stale slots, which are no longer marked as such.
+     *
+     * @return the stale slots, in order
+     */
+    List<Integer> takeStaleSlots() {
+        final List<Integer> slots = new ArrayList<>(staleSlots);
+        staleSlots.clear();
+        return slots;
+    }
+
+    /**
+     * Removes every slot from the catalog.
+     */
+    void clear() {
+        entries.clear();
+        staleSlots.clear();
+        orderedEntries = null;
+    }
+
+    /**
+     * @return the number of slots in the catalog
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the slot numbers in the catalog
+     */
+    Set<Integer> getSlotNumbers() {
+        return new TreeSet<>(entries.keySet());
+    }
+
+    /**
+     * @return the slot number following the highest one in the catalog
+     */
+    int getNextFreeSlot() {
+        return entries.isEmpty() ? 0 : entries.lastKey() + 1;
+    }
+
+    /**
+     * Gets a page of the slots, in order of slot number.
+     *
+     * @param offset the position of the first slot of the page
+     * @param count  the maximum number of slots of the page
+     * @return the information of the slots in the page
+     */
+    List<SaveInfo> getPage(final int offset, final int count) {
+        if (orderedEntries == null) {
+            orderedEntries = new ArrayList<>(entries.values());
+        }
+
+        final int start = Math.min(offset, orderedEntries.size());
+        final int end = (int) Math.min((long) start + count, orderedEntries.size());
+        return List.copyOf(orderedEntries.subList(start, end));
+    }
+
+    /**
+     * Encodes the catalog to the bytes of its index file.
+     *
+     * @return the buffer of the encoded catalog, ready to be read
+     */
+    ByteBuffer encode() {
+        final int entriesSize = entries.size() * ENTRY_SIZE;
+        final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + entriesSize + TRAILER_SIZE);
+        buffer.putInt(MAGIC).putShort(VERSION).putInt(entries.size());
+        for (final SaveInfo info : entries.values()) {
+            buffer.putInt(info.slotNumber()).putInt(info.playerBalance()).putInt(info.gameDay());
+        }
+        buffer.putInt(computeChecksum(buffer, entriesSize));
+        return buffer.flip();
+    }
+
+    /**
+     * Replaces the content of the catalog with the one decoded from the bytes of its index file.
+     *
+     * @param buffer the buffer of the encoded catalog
+     * @throws IOException if the bytes are not a valid catalog
+     */
+    void decode(final ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_SIZE + TRAILER_SIZE) {
+            throw new IOException("Invalid slot catalog size " + buffer.remaining());
+        }
+
+        final int magic = buffer.getInt();
+        final short version = buffer.getShort();
+        final int count = buffer.getInt();
+        if (magic != MAGIC || version != VERSION || count < 0
+                || buffer.remaining() != (long) count * ENTRY_SIZE + TRAILER_SIZE
+                || buffer.getInt(HEADER_SIZE + count * ENTRY_SIZE) != computeChecksum(buffer, count * ENTRY_SIZE)) {
+            throw new IOException("Corrupted slot catalog");
+        }
+
+        clear();
+        for (int i = 0; i < count; i++) {
+            put(new SaveInfo(buffer.getInt(), buffer.getInt(), buffer.getInt()));
+        }
+    }
+
+    /**
+     * Computes the CRC32 of the entries, without moving the position of the buffer.
+     *
+     * @param buffer      the buffer holding the encoded catalog
+     * @param entriesSize the size of the entries
+     * @return the checksum
+     */
+    private static int computeChecksum(final ByteBuffer buffer, final int entriesSize) {
+        final CRC32 checksum = new CRC32();
+        checksum.update(buffer.slice(HEADER_SIZE, entriesSize));
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "SlotCatalog{"
+                + "slots=" + entries.keySet()
+                + ", staleSlots=" + staleSlots
+                + '}';
+    }
+}
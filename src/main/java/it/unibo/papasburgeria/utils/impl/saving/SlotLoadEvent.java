@@ -0,0 +1,26 @@
+package it.unibo.papasburgeria.utils.impl.saving;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event emitted by {@link SaveServiceImpl} when a slot is loaded, either from a state which was not
+ * written yet or by reading and decoding its file.
+ */
+@Name("it.unibo.papasburgeria.SlotLoad")
+@Label("Slot Load")
+@Category("Papa's Burgeria")
+@Description("A save slot was loaded")
+final class SlotLoadEvent extends jdk.jfr.Event {
+    @Label("Slot")
+    int slot;
+
+    @Label("Unwritten")
+    @Description("Whether the state was still waiting to be written, so no file was read")
+    boolean unwritten;
+
+    @Label("Succeeded")
+    boolean succeeded;
+}
@@ -0,0 +1,27 @@
+package it.unibo.papasburgeria.utils.impl.saving;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event emitted by {@link SaveServiceImpl} when a slot is written by the background writer, lasting
+ * from the encoding of the state until the catalog was written.
+ */
+@Name("it.unibo.papasburgeria.SlotSave")
+@Label("Slot Save")
+@Category("Papa's Burgeria")
+@Description("A save slot was encoded and written to its file")
+final class SlotSaveEvent extends jdk.jfr.Event {
+    @Label("Slot")
+    int slot;
+
+    @Label("Size")
+    @DataAmount
+    long size;
+
+    @Label("Succeeded")
+    boolean succeeded;
+}
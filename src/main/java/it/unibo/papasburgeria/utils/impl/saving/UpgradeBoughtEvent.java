@@ -0,0 +1,31 @@
+package it.unibo.papasburgeria.utils.impl.saving;
+
+import it.unibo.papasburgeria.model.UpgradeEnum;
+
+/**
+ * DTO of an upgrade bought in the shop.
+ *
+ * @param upgrade the upgrade bought
+ * @param cost    the amount paid for it
+ */
+public record UpgradeBoughtEvent(UpgradeEnum upgrade, int cost) implements RevenueEvent {
+    /**
+     * Initializes this record.
+     *
+     * @param upgrade the upgrade bought
+     * @param cost    the amount paid for it
+     */
+    public UpgradeBoughtEvent {
+        if (upgrade == null) {
+            throw new IllegalArgumentException("Invalid upgrade provided");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBalanceChange() {
+        return -cost;
+    }
+}
@@ -0,0 +1,230 @@
+package it.unibo.papasburgeria.utils.impl.telemetry;
+
+import com.google.inject.Singleton;
+import it.unibo.papasburgeria.utils.api.FrameTelemetry;
+import org.tinylog.Logger;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of FrameTelemetry, also exposed over JMX through {@link FrameTelemetryMXBean}.
+ *
+ * <p>
+ * The allocations are measured through the per-thread allocation counter of the HotSpot ThreadMXBean, when the JVM
+ * supports it.
+ *
+ * <p>
+ * See {@link FrameTelemetry} for interface details.
+ */
+@Singleton
+public class FrameTelemetryImpl implements FrameTelemetry, FrameTelemetryMXBean {
+    /**
+     * Name the telemetry is registered with in the platform MBean server.
+     */
+    public static final String OBJECT_NAME = "it.unibo.papasburgeria:type=FrameTelemetry";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double BYTES_PER_KILOBYTE = 1024.0;
+
+    private final Histogram tickInterval;
+    private final Histogram jitter;
+    private final Histogram updateTime;
+    private final Histogram paintTime;
+    private final Histogram allocatedBytes;
+    private final Map<String, Histogram> viewUpdateTimes;
+    private final com.sun.management.ThreadMXBean allocationCounter;
+    private long lastAllocatedBytes;
+
+    /**
+     * Creates the telemetry and registers it in the platform MBean server, replacing any telemetry registered before.
+     */
+    public FrameTelemetryImpl() {
+        this.tickInterval = new Histogram();
+        this.jitter = new Histogram();
+        this.updateTime = new Histogram();
+        this.paintTime = new Histogram();
+        this.allocatedBytes = new Histogram();
+        this.viewUpdateTimes = new ConcurrentHashMap<>();
+
+        final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean allocationBean
+                && allocationBean.isThreadAllocatedMemorySupported()) {
+            allocationBean.setThreadAllocatedMemoryEnabled(true);
+            this.allocationCounter = allocationBean;
+        } else {
+            this.allocationCounter = null;
+        }
+        this.lastAllocatedBytes = -1;
+
+        register();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordTick(final long intervalNanos, final long periodNanos) {
+        tickInterval.record(intervalNanos);
+        jitter.record(Math.abs(intervalNanos - periodNanos));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordViewUpdate(final String viewName, final long nanos) {
+        viewUpdateTimes.computeIfAbsent(viewName, name -> new Histogram()).record(nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordUpdate(final long nanos) {
+        updateTime.record(nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordPaint(final long nanos) {
+        paintTime.record(nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordFrameAllocation() {
+        if (allocationCounter == null) {
+            return;
+        }
+
+        final long currentAllocatedBytes = allocationCounter.getCurrentThreadAllocatedBytes();
+        if (lastAllocatedBytes >= 0 && currentAllocatedBytes >= lastAllocatedBytes) {
+            allocatedBytes.record(currentAllocatedBytes - lastAllocatedBytes);
+        }
+        lastAllocatedBytes = currentAllocatedBytes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSummary() {
+        final HistogramSnapshot update = updateTime.getSnapshot();
+        final HistogramSnapshot paint = paintTime.getSnapshot();
+        final HistogramSnapshot tickJitter = jitter.getSnapshot();
+        final HistogramSnapshot allocations = allocatedBytes.getSnapshot();
+        return String.format(Locale.ROOT,
+                "update %.2f/%.2f ms  paint %.2f/%.2f ms  jitter %.2f/%.2f ms  alloc %.1f/%.1f KB (p50/p99)",
+                update.median() / NANOS_PER_MILLI, update.p99() / NANOS_PER_MILLI,
+                paint.median() / NANOS_PER_MILLI, paint.p99() / NANOS_PER_MILLI,
+                tickJitter.median() / NANOS_PER_MILLI, tickJitter.p99() / NANOS_PER_MILLI,
+                allocations.median() / BYTES_PER_KILOBYTE, allocations.p99() / BYTES_PER_KILOBYTE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HistogramSnapshot getTickInterval() {
+        return tickInterval.getSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HistogramSnapshot getJitter() {
+        return jitter.getSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HistogramSnapshot getUpdateTime() {
+        return updateTime.getSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, HistogramSnapshot> getViewUpdateTimes() {
+        final Map<String, HistogramSnapshot> snapshots = new LinkedHashMap<>();
+        viewUpdateTimes.forEach((viewName, histogram) -> snapshots.put(viewName, histogram.getSnapshot()));
+        return snapshots;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HistogramSnapshot getPaintTime() {
+        return paintTime.getSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HistogramSnapshot getAllocatedBytes() {
+        return allocatedBytes.getSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        tickInterval.reset();
+        jitter.reset();
+        updateTime.reset();
+        paintTime.reset();
+        allocatedBytes.reset();
+        viewUpdateTimes.values().forEach(Histogram::reset);
+    }
+
+    /**
+     * Registers the telemetry in the platform MBean server, the telemetry cannot be read over JMX if it fails.
+     */
+    private void register() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            try {
+                server.registerMBean(this, name);
+            } catch (final InstanceAlreadyExistsException exception) {
+                server.unregisterMBean(name);
+                server.registerMBean(this, name);
+            }
+        } catch (final JMException exception) {
+            Logger.warn(exception, "Unable to register the frame telemetry over JMX");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "FrameTelemetryImpl{"
+                + "updateTime=" + updateTime
+                + ", paintTime=" + paintTime
+                + ", jitter=" + jitter
+                + ", allocatedBytes=" + allocatedBytes
+                + '}';
+    }
+}
@@ -0,0 +1,57 @@
+package it.unibo.papasburgeria.utils.impl.telemetry;
+
+import java.util.Map;
+
+/**
+ * Management interface of the frame telemetry, registered as {@value FrameTelemetryImpl#OBJECT_NAME}.
+ * Times are in nanoseconds, allocations in bytes.
+ */
+public interface FrameTelemetryMXBean {
+
+    /**
+     * Used to obtain the time elapsed between two ticks of the frame timer.
+     *
+     * @return the summary of the intervals
+     */
+    HistogramSnapshot getTickInterval();
+
+    /**
+     * Used to obtain how far the time between two ticks is from the expected period.
+     *
+     * @return the summary of the jitter
+     */
+    HistogramSnapshot getJitter();
+
+    /**
+     * Used to obtain the time spent updating all the views in a frame.
+     *
+     * @return the summary of the update times
+     */
+    HistogramSnapshot getUpdateTime();
+
+    /**
+     * Used to obtain the time spent updating each view in a frame.
+     *
+     * @return the summary of the update times, by view name
+     */
+    Map<String, HistogramSnapshot> getViewUpdateTimes();
+
+    /**
+     * Used to obtain the time spent painting a frame.
+     *
+     * @return the summary of the paint times
+     */
+    HistogramSnapshot getPaintTime();
+
+    /**
+     * Used to obtain the bytes allocated by the game loop thread between two frames.
+     *
+     * @return the summary of the allocations
+     */
+    HistogramSnapshot getAllocatedBytes();
+
+    /**
+     * Forgets everything recorded so far.
+     */
+    void reset();
+}
@@ -0,0 +1,161 @@
+package it.unibo.papasburgeria.utils.impl.telemetry;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of non-negative values with log-linear buckets: values below {@value #SUB_BUCKETS} are counted exactly,
+ * larger ones in buckets whose width is at most 1/{@value #HALF_BUCKETS} of their value.
+ *
+ * <p>
+ * Recording a value only increments a counter of a preallocated array, so it is cheap enough to be done on every
+ * frame, and the quantiles are read without keeping the recorded values around. The methods are synchronized so
+ * that the histogram can be read from another thread, such as the JMX one, while it is being recorded.
+ */
+public final class Histogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_BUCKETS = SUB_BUCKETS / 2;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 2) * HALF_BUCKETS;
+    private static final double PERCENT = 100.0;
+
+    private final long[] counts;
+    private long count;
+    private long sum;
+    private long max;
+
+    /**
+     * Creates an empty histogram.
+     */
+    public Histogram() {
+        this.counts = new long[BUCKETS];
+    }
+
+    /**
+     * Records a value, negative ones are recorded as 0.
+     *
+     * @param value the value
+     */
+    public synchronized void record(final long value) {
+        final long positiveValue = Math.max(0, value);
+        counts[indexOf(positiveValue)]++;
+        count++;
+        sum += positiveValue;
+        max = Math.max(max, positiveValue);
+    }
+
+    /**
+     * Used to obtain how many values were recorded.
+     *
+     * @return the number of values
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Used to obtain the largest recorded value, exactly.
+     *
+     * @return the largest value, 0 if none was recorded
+     */
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * Used to obtain the mean of the recorded values, exactly.
+     *
+     * @return the mean, 0 if none was recorded
+     */
+    public synchronized double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Used to obtain the value below which the given percentage of the recorded values falls, approximated by the
+     * middle of its bucket, except for the largest value which is exact.
+     *
+     * @param percentile the percentage, between 0 and 100
+     * @return the value, 0 if none was recorded
+     */
+    public synchronized long getValueAtPercentile(final double percentile) {
+        if (percentile < 0 || percentile > PERCENT) {
+            throw new IllegalArgumentException("Invalid percentile " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(percentile / PERCENT * count));
+        if (rank >= count) {
+            return max;
+        }
+        long seen = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            seen += counts[index];
+            if (seen >= rank) {
+                return Math.min(max, middleOf(index));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Used to obtain a summary of the recorded values.
+     *
+     * @return the snapshot
+     */
+    public synchronized HistogramSnapshot getSnapshot() {
+        return new HistogramSnapshot(count, getMean(), getValueAtPercentile(50), getValueAtPercentile(99), max);
+    }
+
+    /**
+     * Forgets the recorded values.
+     */
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        max = 0;
+    }
+
+    /**
+     * Gets the bucket of a value.
+     *
+     * @param value the non-negative value
+     * @return the index of the bucket
+     */
+    private static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * HALF_BUCKETS + (int) (value >>> shift);
+    }
+
+    /**
+     * Gets the value in the middle of a bucket.
+     *
+     * @param index the index of the bucket
+     * @return the middle value
+     */
+    private static long middleOf(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = index / HALF_BUCKETS - 1;
+        final long lowest = (long) (index % HALF_BUCKETS + HALF_BUCKETS) << shift;
+        return lowest + (1L << shift) / 2;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized String toString() {
+        return "Histogram{"
+                + "count=" + count
+                + ", mean=" + getMean()
+                + ", max=" + max
+                + '}';
+    }
+}
@@ -0,0 +1,13 @@
+package it.unibo.papasburgeria.utils.impl.telemetry;
+
+/**
+ * DTO used to carry around a summary of a {@link Histogram}, exposed over JMX as composite data.
+ *
+ * @param count  number of recorded values
+ * @param mean   mean of the recorded values
+ * @param median value below which half of the recorded values falls
+ * @param p99    value below which 99% of the recorded values falls
+ * @param max    largest recorded value
+ */
+public record HistogramSnapshot(long count, double mean, long median, long p99, long max) {
+}
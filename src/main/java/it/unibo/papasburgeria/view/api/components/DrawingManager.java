@@ -12,6 +12,10 @@ import java.util.Map;
 
 /**
  * Manages the drawing of varius things.
+ *
+ * <p>
+ * The sprites generated for the models are retained between frames and updated in place when the models change,
+ * so every view should use its own instance.
  */
 public interface DrawingManager {
 
@@ -34,6 +38,23 @@ public interface DrawingManager {
             Graphics graphics
     );
 
+    /**
+     * Draws the hamburger, without any of its sprites being draggable.
+     *
+     * @param hamburger          the hamburger to draw
+     * @param frameSize          the sizes of the frame
+     * @param bottomBunXPosScale the x position considered the center of the hamburger
+     * @param bottomBunYPosScale the y position of the bottom bun of the hamburger
+     * @param graphics           the graphics
+     */
+    void drawHamburger(
+            HamburgerModel hamburger,
+            Dimension frameSize,
+            double bottomBunXPosScale,
+            double bottomBunYPosScale,
+            Graphics graphics
+    );
+
     /**
      * Draws a sprite.
      *
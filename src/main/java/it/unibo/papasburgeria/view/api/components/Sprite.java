@@ -89,6 +89,13 @@ public interface Sprite {
      */
     List<Image> getImages();
 
+    /**
+     * Replaces the images that form the sprite.
+     *
+     * @param images the new images
+     */
+    void setImages(List<Image> images);
+
     /**
      * Adds an image to the list of images that form the sprite.
      *
@@ -97,14 +104,14 @@ public interface Sprite {
     void addImage(Image image);
 
     /**
-     * Returns the ingredient of the sprite.
+     * Returns the ingredient of the sprite, the same instance the sprite was given.
      *
      * @return the ingredient
      */
     IngredientModel getIngredient();
 
     /**
-     * Sets the sprite ingredient to a new ingredient.
+     * Sets the sprite ingredient to a new ingredient, which is shown as it is and not copied.
      *
      * @param ingredient the new ingredient
      */
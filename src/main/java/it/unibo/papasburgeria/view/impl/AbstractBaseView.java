@@ -1,6 +1,7 @@
 package it.unibo.papasburgeria.view.impl;
 
 import it.unibo.papasburgeria.utils.api.scene.BaseScene;
+import it.unibo.papasburgeria.view.impl.components.ScaledImageCache;
 
 import javax.swing.JLabel;
 import javax.swing.JLayeredPane;
@@ -62,7 +63,8 @@ abstract class AbstractBaseView extends JLayeredPane implements BaseScene {
 
                 // ScalableLayout supports image scaling, but JLayeredPanel doesn't support ScalableLayout
                 if (backgroundImage != null) {
-                    g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
+                    g.drawImage(ScaledImageCache.getScaledImage(g, backgroundImage, getWidth(), getHeight()),
+                            0, 0, this);
                 }
             }
         };
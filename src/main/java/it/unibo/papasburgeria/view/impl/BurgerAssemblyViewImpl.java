@@ -10,6 +10,8 @@ import it.unibo.papasburgeria.model.api.IngredientModel;
 import it.unibo.papasburgeria.model.api.OrderModel;
 import it.unibo.papasburgeria.model.api.PattyModel;
 import it.unibo.papasburgeria.model.impl.IngredientModelImpl;
+import it.unibo.papasburgeria.model.impl.IngredientRegistry;
+import it.unibo.papasburgeria.model.impl.PattyModelImpl;
 import it.unibo.papasburgeria.utils.api.ResourceService;
 import it.unibo.papasburgeria.utils.api.SfxService;
 import it.unibo.papasburgeria.utils.api.scene.SceneType;
@@ -21,6 +23,7 @@ import it.unibo.papasburgeria.view.impl.components.SpriteDragManagerImpl;
 import it.unibo.papasburgeria.view.impl.components.SpriteImpl;
 
 import javax.swing.JPanel;
+import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Image;
 import java.io.Serial;
@@ -29,6 +32,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static it.unibo.papasburgeria.controller.impl.BurgerAssemblyControllerImpl.HALF_RANGE;
+import static it.unibo.papasburgeria.controller.impl.BurgerAssemblyControllerImpl.MAX_X_POS_SCALE_TO_DROP_ON_HAMBURGER;
+import static it.unibo.papasburgeria.controller.impl.BurgerAssemblyControllerImpl.MIN_X_POS_SCALE_TO_DROP_ON_HAMBURGER;
 import static it.unibo.papasburgeria.model.IngredientEnum.PATTY;
 import static it.unibo.papasburgeria.model.IngredientEnum.SAUCES;
 import static it.unibo.papasburgeria.model.IngredientEnum.TOP_BUN;
@@ -45,28 +51,10 @@ import static it.unibo.papasburgeria.view.impl.components.DrawingManagerImpl.ING
         justification = "The controller is injected and shared intentionally; The views are not serialized at runtime"
 )
 public class BurgerAssemblyViewImpl extends AbstractBaseView implements SpriteDropListener {
-    /**
-     * Defines the minimum x position to drop the ingredient in the hamburger.
-     */
-    public static final double MIN_X_POS_SCALE_TO_DROP_ON_HAMBURGER = 0.31;
-    /**
-     * Defines the maximum x position to drop the ingredient in the hamburger.
-     */
-    public static final double MAX_X_POS_SCALE_TO_DROP_ON_HAMBURGER = 0.55;
-    /**
-     * Defines the half-range to drop perfectly.
-     */
-    public static final double HALF_RANGE =
-            (MAX_X_POS_SCALE_TO_DROP_ON_HAMBURGER - MIN_X_POS_SCALE_TO_DROP_ON_HAMBURGER) / 2.0;
     /**
      * Defines the spacing between hamburgers.
      */
     public static final double HAMBURGER_SPACING = 0.04;
-    /**
-     * Defines the x position of the hamburger.
-     */
-    public static final double HAMBURGER_X_POS_SCALE =
-            (MIN_X_POS_SCALE_TO_DROP_ON_HAMBURGER + MAX_X_POS_SCALE_TO_DROP_ON_HAMBURGER) / 2.0;
     /**
      * Defines the y position of the hamburger.
      */
@@ -142,7 +130,7 @@ public class BurgerAssemblyViewImpl extends AbstractBaseView implements SpriteDr
                 final Image image =
                         resourceService.getImage(ingredientType.getName() + EXTENSION);
                 final Sprite sprite =
-                        new SpriteImpl(image, new IngredientModelImpl(ingredientType),
+                        new SpriteImpl(image, IngredientRegistry.get(ingredientType),
                                 pbPositionXScale, pbPositionYScale,
                                 INGREDIENTS_X_SIZE_SCALE, INGREDIENTS_Y_SIZE_SCALE);
 
@@ -166,7 +154,7 @@ public class BurgerAssemblyViewImpl extends AbstractBaseView implements SpriteDr
             final Image image =
                     resourceService.getImage(ingredientType.getName() + BOTTLE_EXTENSION + EXTENSION);
 
-            final Sprite sprite = new SpriteImpl(image, new IngredientModelImpl(ingredientType),
+            final Sprite sprite = new SpriteImpl(image, IngredientRegistry.get(ingredientType),
                     pbPositionXScale, pbPositionYScale, SAUCE_BOTTLES_X_SIZE_SCALE, SAUCE_BOTTLES_Y_SIZE_SCALE);
 
             if (controller.isIngredientUnlocked(ingredientType)) {
@@ -195,13 +183,15 @@ public class BurgerAssemblyViewImpl extends AbstractBaseView implements SpriteDr
      */
     @Override
     final void paintComponentDelegate(final Graphics graphics) {
+        final Dimension frameSize = getSize();
+        final List<IngredientEnum> unlockedIngredients = controller.getUnlockedIngredients();
         for (final Sprite sprite : orderSprites) {
             final OrderModel order = spriteOrders.get(sprite);
-            drawingManager.drawOrder(sprite, order, getSize(), graphics);
+            drawingManager.drawOrder(sprite, order, frameSize, graphics);
         }
 
         drawingManager.drawHamburger(
-                controller.getHamburgerOnAssembly(), getSize(),
+                controller.getHamburgerOnAssembly(), frameSize,
                 HALF_RANGE, HAMBURGER_Y_POS_SCALE,
                 draggableHamburgerSprites, graphics);
 
@@ -214,8 +204,8 @@ public class BurgerAssemblyViewImpl extends AbstractBaseView implements SpriteDr
         for (final Sprite sprite : sprites) {
             drawingManager.drawIngredient(
                     sprite,
-                    getSize(),
-                    controller.getUnlockedIngredients(),
+                    frameSize,
+                    unlockedIngredients,
                     graphics
             );
         }
@@ -223,8 +213,8 @@ public class BurgerAssemblyViewImpl extends AbstractBaseView implements SpriteDr
         for (final Sprite sprite : draggableHamburgerSprites) {
             drawingManager.drawIngredient(
                     sprite,
-                    getSize(),
-                    controller.getUnlockedIngredients(),
+                    frameSize,
+                    unlockedIngredients,
                     graphics
             );
         }
@@ -232,8 +222,8 @@ public class BurgerAssemblyViewImpl extends AbstractBaseView implements SpriteDr
         for (final Sprite sprite : draggableSprites) {
             drawingManager.drawIngredient(
                     sprite,
-                    getSize(),
-                    controller.getUnlockedIngredients(),
+                    frameSize,
+                    unlockedIngredients,
                     graphics
             );
         }
@@ -241,8 +231,8 @@ public class BurgerAssemblyViewImpl extends AbstractBaseView implements SpriteDr
         for (final Sprite sprite : draggablePattySprites) {
             drawingManager.drawIngredient(
                     sprite,
-                    getSize(),
-                    controller.getUnlockedIngredients(),
+                    frameSize,
+                    unlockedIngredients,
                     graphics
             );
         }
@@ -268,7 +258,7 @@ public class BurgerAssemblyViewImpl extends AbstractBaseView implements SpriteDr
             sprites.remove(sprite);
             draggableSprites.add(sprite);
         }
-        this.sfxService.playSoundLooped("assembly_ost.wav", DEFAULT_SOUND_VOLUME);
+        this.sfxService.playMusic("assembly_ost.wav", DEFAULT_SOUND_VOLUME);
     }
 
     /**
@@ -276,7 +266,7 @@ public class BurgerAssemblyViewImpl extends AbstractBaseView implements SpriteDr
      */
     @Override
     public void hideScene() {
-        this.sfxService.stopSound("assembly_ost.wav");
+        this.sfxService.stopMusic("assembly_ost.wav");
     }
 
     /**
@@ -289,7 +279,7 @@ public class BurgerAssemblyViewImpl extends AbstractBaseView implements SpriteDr
             pbPositionXScale = pbPositionXScale - SAUCE_BOTTLES_X_SIZE_SCALE / 2;
         }
         if (sprite.isRemovable()) {
-            final IngredientModel ingredient = sprite.getIngredient();
+            final IngredientModel ingredient = copyIngredient(sprite.getIngredient());
             if (pbPositionXScale < MIN_X_POS_SCALE_TO_DROP_ON_HAMBURGER
                     || pbPositionXScale > MAX_X_POS_SCALE_TO_DROP_ON_HAMBURGER) {
                 if (ingredient instanceof PattyModel patty && controller.addCookedPatty(patty)) {
@@ -309,7 +299,7 @@ public class BurgerAssemblyViewImpl extends AbstractBaseView implements SpriteDr
         if (pbPositionXScale > MIN_X_POS_SCALE_TO_DROP_ON_HAMBURGER
                 && pbPositionXScale < MAX_X_POS_SCALE_TO_DROP_ON_HAMBURGER
                 && !sprite.isRemovable()) {
-            final IngredientModel ingredient = sprite.getIngredient();
+            final IngredientModel ingredient = copyIngredient(sprite.getIngredient());
             ingredient.setPlacementAccuracy(controller.calculateAccuracy(pbPositionXScale));
 
             if (controller.addIngredient(ingredient)) {
@@ -331,13 +321,24 @@ public class BurgerAssemblyViewImpl extends AbstractBaseView implements SpriteDr
         draggableSprites.remove(sprite);
     }
 
+    /**
+     * Copies the ingredient shown by a sprite before it is changed, since sprites show the shared ingredients of the
+     * pantry and of the hamburger, and the cooked patties, which all stay as they are.
+     *
+     * @param ingredient the ingredient shown by the sprite
+     * @return a copy of the ingredient
+     */
+    private static IngredientModel copyIngredient(final IngredientModel ingredient) {
+        return ingredient instanceof PattyModel patty ? new PattyModelImpl(patty) : new IngredientModelImpl(ingredient);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void spriteClicked(final Sprite sprite) {
         draggableHamburgerSprites.clear();
-        draggablePattySprites.remove(sprite);
+        draggablePattySprites.clear();
         draggableSprites.remove(sprite);
     }
 
@@ -4,11 +4,12 @@ import com.google.inject.Inject;
 import it.unibo.papasburgeria.controller.api.CustomerController;
 import it.unibo.papasburgeria.controller.api.EvaluateBurgerController;
 import it.unibo.papasburgeria.controller.api.GameController;
+import it.unibo.papasburgeria.controller.impl.BurgerAssemblyControllerImpl;
 import it.unibo.papasburgeria.model.IngredientEnum;
 import it.unibo.papasburgeria.model.api.CustomerModel;
 import it.unibo.papasburgeria.model.api.HamburgerModel;
 import it.unibo.papasburgeria.model.api.OrderModel;
-import it.unibo.papasburgeria.model.impl.IngredientModelImpl;
+import it.unibo.papasburgeria.model.impl.IngredientRegistry;
 import it.unibo.papasburgeria.utils.api.ResourceService;
 import it.unibo.papasburgeria.utils.api.scene.SceneType;
 import it.unibo.papasburgeria.view.api.components.DrawingManager;
@@ -22,12 +23,12 @@ import it.unibo.papasburgeria.view.impl.components.SpriteImpl;
 import javax.swing.JButton;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
+import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.io.Serial;
-import java.util.ArrayList;
 
 /**
  * the interface which contains the hamburger evaluation.
@@ -144,10 +145,6 @@ public class EvaluateBurgerViewImpl extends AbstractBaseView {
      * Manages the drawing of components.
      */
     private final transient DrawingManager drawingManager;
-    /**
-     * Gets resources such as images.
-     */
-    private final transient ResourceService resourceService;
     /**
      * Controller that manages customers.
      */
@@ -170,6 +167,11 @@ public class EvaluateBurgerViewImpl extends AbstractBaseView {
      */
     private final JLabel tipLabel;
 
+    /**
+     * Sprite of the card showing the selected order.
+     */
+    private final transient Sprite orderSprite;
+
     /**
      * Main panel used in this view.
      */
@@ -192,9 +194,15 @@ public class EvaluateBurgerViewImpl extends AbstractBaseView {
 
         this.controller = controller;
         this.drawingManager = drawingManager;
-        this.resourceService = resourceService;
         this.customerController = customerController;
 
+        this.orderSprite = new SpriteImpl(resourceService.getImage("order.png"),
+                IngredientRegistry.get(IngredientEnum.CHEESE),
+                OrderSelectionViewImpl.ORDER_SELECTED_X_POSITION,
+                OrderSelectionViewImpl.ORDER_SELECTED_Y_POSITION,
+                DrawingManagerImpl.ORDER_X_SIZE_SCALE,
+                DrawingManagerImpl.ORDER_Y_SIZE_SCALE);
+
         this.interfacePanel = super.getInterfacePanel();
         interfacePanel.setLayout(new ScalableLayoutImpl());
         super.setStaticBackgroundImage(resourceService.getImage("order_evaluation_background.png"));
@@ -283,12 +291,12 @@ public class EvaluateBurgerViewImpl extends AbstractBaseView {
 
         read();
         final double satisfaction = customerController.calculateSatisfactionPercentage(
-                this.order.getHamburger().copyOf(), this.burger);
+                this.order.getHamburger(), this.burger);
 
         final int payment = customerController.calculatePayment(satisfaction);
         final int tip = customerController.calculateTips(payment);
 
-        customerController.addBalance(payment + tip);
+        customerController.recordServedOrder(this.order.getOrderNumber(), satisfaction, payment, tip);
 
         for (final CustomerModel currentCustomer : customerController.getWaitLine()) {
             if (currentCustomer.getOrder().getOrderNumber() == this.order.getOrderNumber()) {
@@ -320,17 +328,11 @@ public class EvaluateBurgerViewImpl extends AbstractBaseView {
      */
     @Override
     void paintComponentDelegate(final Graphics g) {
+        final Dimension frameSize = getSize();
         drawingManager.drawHamburger(burger,
-                getSize(), BurgerAssemblyViewImpl.HALF_RANGE,
-                BurgerAssemblyViewImpl.HAMBURGER_Y_POS_SCALE, new ArrayList<>(), g);
+                frameSize, BurgerAssemblyControllerImpl.HALF_RANGE,
+                BurgerAssemblyViewImpl.HAMBURGER_Y_POS_SCALE, g);
 
-        final Sprite orderSprite = new SpriteImpl(resourceService.getImage("order.png"),
-                new IngredientModelImpl(IngredientEnum.CHEESE),
-                OrderSelectionViewImpl.ORDER_SELECTED_X_POSITION,
-                OrderSelectionViewImpl.ORDER_SELECTED_Y_POSITION,
-                DrawingManagerImpl.ORDER_X_SIZE_SCALE,
-                DrawingManagerImpl.ORDER_Y_SIZE_SCALE);
-        drawingManager.drawOrder(orderSprite, order, getSize(), g);
-        interfacePanel.revalidate();
+        drawingManager.drawOrder(orderSprite, order, frameSize, g);
     }
 }
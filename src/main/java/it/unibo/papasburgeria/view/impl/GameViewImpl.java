@@ -2,7 +2,9 @@ package it.unibo.papasburgeria.view.impl;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import it.unibo.papasburgeria.Main;
 import it.unibo.papasburgeria.controller.api.GameController;
+import it.unibo.papasburgeria.utils.api.FrameTelemetry;
 import it.unibo.papasburgeria.utils.api.ResourceService;
 import it.unibo.papasburgeria.utils.api.scene.BaseScene;
 import it.unibo.papasburgeria.utils.api.scene.SceneService;
@@ -12,6 +14,7 @@ import it.unibo.papasburgeria.view.api.components.Scale;
 import it.unibo.papasburgeria.view.impl.components.ScalableLayoutImpl;
 import it.unibo.papasburgeria.view.impl.components.ScaleConstraintImpl;
 import it.unibo.papasburgeria.view.impl.components.ScaleImpl;
+import it.unibo.papasburgeria.view.impl.components.ScaledImageCache;
 
 import javax.swing.BorderFactory;
 import javax.swing.ImageIcon;
@@ -26,12 +29,20 @@ import java.awt.CardLayout;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.KeyboardFocusManager;
 import java.awt.Toolkit;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.KeyEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static it.unibo.papasburgeria.controller.impl.GameControllerImpl.FRAMERATE;
 
 /**
  * Implementation of GameView.
@@ -42,22 +53,31 @@ import java.util.Map;
 @Singleton
 public class GameViewImpl implements GameView {
     /**
-     * Defines the framerate.
+     * Defines the milliseconds between two snapshots of the game, set through the
+     * {@code papasburgeria.snapshotInterval} system property, 0 disables them.
      */
-    public static final int FRAMERATE = 60;
+    public static final int SNAPSHOT_INTERVAL = Integer.getInteger("papasburgeria.snapshotInterval", 5000);
 
+    private static final int FRAME_PERIOD = 1000 / FRAMERATE;
+    private static final long FRAME_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(FRAME_PERIOD);
+    private static final int TELEMETRY_OVERLAY_INTERVAL = 1000;
+    private static final Color TELEMETRY_OVERLAY_COLOR = new Color(255, 255, 0);
     private static final double ASPECT_RATIO = 16.0 / 9.0;
     private static final Color DEFAULT_BACKGROUND_COLOR = new Color(0, 0, 0, 0);
     private static final double SIZE_SCALE = 0.7; // in %
     //
     private final GameController gameController;
+    private final FrameTelemetry frameTelemetry;
     private final List<AbstractBaseView> views;
+    private final List<String> viewNames;
     //
     private final JFrame mainFrame;
     private final JPanel mainPanel;
     private final JPanel interfacePanel;
     private final CardLayout cardLayout;
     private final Timer frameUpdate;
+    private final Timer snapshotUpdate;
+    private final Timer telemetryOverlayUpdate;
     private AbstractBaseView currentView;
     private boolean gameIsRunning;
     private long lastFrameTime;
@@ -69,16 +89,20 @@ public class GameViewImpl implements GameView {
      * @param sceneService    scene service
      * @param gameController  base main controller
      * @param resourceService resource provider
+     * @param frameTelemetry  collects the timings and allocations of the frames
      */
     @Inject
     public GameViewImpl(
             final GameController gameController,
             final SceneService sceneService,
-            final ResourceService resourceService
+            final ResourceService resourceService,
+            final FrameTelemetry frameTelemetry
     ) {
         this.gameController = gameController;
+        this.frameTelemetry = frameTelemetry;
         this.gameIsRunning = false;
         this.views = new ArrayList<>();
+        this.viewNames = new ArrayList<>();
 
         // this should go well for most screens ig
         final Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
@@ -98,6 +122,13 @@ public class GameViewImpl implements GameView {
                     component.setSize(size.width, size.height);
                 }
             }
+
+            @Override
+            public void paint(final Graphics g) {
+                final long paintStart = System.nanoTime();
+                super.paint(g);
+                frameTelemetry.recordPaint(System.nanoTime() - paintStart);
+            }
         };
 
         this.cardLayout = new CardLayout();
@@ -125,8 +156,15 @@ public class GameViewImpl implements GameView {
                 endGame();
             }
         });
+        this.mainFrame.addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(final ComponentEvent componentEvent) {
+                // images scaled for the previous size will not be drawn anymore
+                ScaledImageCache.clear();
+            }
+        });
 
-        final JPanel bottomPanel = new JPanel(new ScalableLayoutImpl());
+        final JPanel bottomPanel = new JPanel(new ScalableLayoutImpl(true));
         bottomPanel.setBackground(DEFAULT_BACKGROUND_COLOR);
         bottomPanel.setOpaque(false);
         this.interfacePanel.add(bottomPanel, new ScaleConstraintImpl(
@@ -191,6 +229,7 @@ public class GameViewImpl implements GameView {
             final BaseScene scene = entry.getValue();
             if (scene instanceof AbstractBaseView && !this.mainFrame.getContentPane().isAncestorOf((AbstractBaseView) scene)) {
                 this.views.add((AbstractBaseView) scene);
+                this.viewNames.add(scene.getClass().getSimpleName());
                 this.mainPanel.add((AbstractBaseView) scene, sceneType.getValue());
             }
         }
@@ -208,18 +247,44 @@ public class GameViewImpl implements GameView {
         });
 
         // Frame handler
-        this.frameUpdate = new Timer(1000 / FRAMERATE, e -> {
+        this.frameUpdate = new Timer(FRAME_PERIOD, e -> {
             final long currentFrameTime = System.nanoTime();
             final double delta = (currentFrameTime - lastFrameTime) / 1_000_000_000.0;
+            frameTelemetry.recordTick(currentFrameTime - lastFrameTime, FRAME_PERIOD_NANOS);
+            frameTelemetry.recordFrameAllocation();
             lastFrameTime = currentFrameTime;
 
             onFrameUpdated(delta);
         });
+
+        // Telemetry overlay, only available in debug mode and toggled with F3
+        final JLabel telemetryLabel = new JLabel();
+        telemetryLabel.setForeground(TELEMETRY_OVERLAY_COLOR);
+        telemetryLabel.setVisible(false);
+        this.telemetryOverlayUpdate = new Timer(TELEMETRY_OVERLAY_INTERVAL,
+                e -> telemetryLabel.setText(frameTelemetry.getSummary()));
+        if (Main.DEBUG_MODE) {
+            this.interfacePanel.add(telemetryLabel, new ScaleConstraintImpl(
+                    new ScaleImpl(ScaleConstraintImpl.FULL, ScaleConstraintImpl.SIXTEENTH),
+                    ScaleConstraintImpl.POSITION_TOP_LEFT,
+                    ScaleConstraintImpl.ORIGIN_TOP_LEFT
+            ));
+            KeyboardFocusManager.getCurrentKeyboardFocusManager().addKeyEventDispatcher(keyEvent -> {
+                if (keyEvent.getID() == KeyEvent.KEY_PRESSED && keyEvent.getKeyCode() == KeyEvent.VK_F3) {
+                    telemetryLabel.setVisible(!telemetryLabel.isVisible());
+                    telemetryLabel.setText(frameTelemetry.getSummary());
+                }
+                return false;
+            });
+        }
+
+        // Snapshot handler, the state is captured between two frames and written by the save service thread
+        this.snapshotUpdate = new Timer(Math.max(1, SNAPSHOT_INTERVAL), e -> gameController.processSnapshot());
     }
 
     /**
      * Fires each frame, calls {@link AbstractBaseView#update(double)} for each view,
-     * to handle frame-based state update.
+     * to handle frame-based state update, timing each of them.
      *
      * <p>
      * For the currently displayed view, calls {@link javax.swing.JPanel#repaint()} on the view's
@@ -228,7 +293,13 @@ public class GameViewImpl implements GameView {
      * @param delta time between current and last frame
      */
     private void onFrameUpdated(final double delta) {
-        this.views.forEach(view -> view.update(delta));
+        final long updateStart = System.nanoTime();
+        for (int index = 0; index < this.views.size(); index++) {
+            final long viewUpdateStart = System.nanoTime();
+            this.views.get(index).update(delta);
+            this.frameTelemetry.recordViewUpdate(this.viewNames.get(index), System.nanoTime() - viewUpdateStart);
+        }
+        this.frameTelemetry.recordUpdate(System.nanoTime() - updateStart);
         if (this.currentView != null) {
             this.currentView.getGamePanel().repaint();
         }
@@ -248,6 +319,12 @@ public class GameViewImpl implements GameView {
         this.mainFrame.toFront();
         this.lastFrameTime = System.nanoTime();
         this.frameUpdate.start();
+        if (SNAPSHOT_INTERVAL > 0) {
+            this.snapshotUpdate.start();
+        }
+        if (Main.DEBUG_MODE) {
+            this.telemetryOverlayUpdate.start();
+        }
         this.gameController.startGame();
     }
 
@@ -260,8 +337,11 @@ public class GameViewImpl implements GameView {
             return;
         }
 
-        this.gameController.processSave();
         this.frameUpdate.stop();
+        this.snapshotUpdate.stop();
+        this.telemetryOverlayUpdate.stop();
+        // waits for the pending saves to be written before the resources are released
+        this.gameController.processSave().join();
         this.gameController.endGame();
         this.mainFrame.dispose();
         this.gameIsRunning = false;
@@ -277,6 +357,9 @@ public class GameViewImpl implements GameView {
                 "gameController="
                 + gameController
                 +
+                ", frameTelemetry="
+                + frameTelemetry
+                +
                 ", views="
                 + views
                 +
@@ -295,6 +378,9 @@ public class GameViewImpl implements GameView {
                 ", frameUpdate="
                 + frameUpdate
                 +
+                ", snapshotUpdate="
+                + snapshotUpdate
+                +
                 ", currentView="
                 + currentView
                 +
@@ -13,15 +13,17 @@ import it.unibo.papasburgeria.view.impl.components.DrawingManagerImpl;
 import it.unibo.papasburgeria.view.impl.components.SpriteDragManagerImpl;
 import it.unibo.papasburgeria.view.impl.components.SpriteImpl;
 
+import java.awt.Dimension;
 import java.awt.Graphics;
 import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
 
+import static it.unibo.papasburgeria.controller.impl.GrillControllerImpl.MAX_X_POS_SCALE_TO_DROP_ON_GRILL;
+import static it.unibo.papasburgeria.controller.impl.GrillControllerImpl.MAX_Y_POS_SCALE_TO_DROP_ON_GRILL;
+import static it.unibo.papasburgeria.controller.impl.GrillControllerImpl.MIN_X_POS_SCALE_TO_DROP_ON_GRILL;
+import static it.unibo.papasburgeria.controller.impl.GrillControllerImpl.MIN_Y_POS_SCALE_TO_DROP_ON_GRILL;
 import static it.unibo.papasburgeria.model.IngredientEnum.PATTY;
-import static it.unibo.papasburgeria.model.impl.GameModelImpl.GRILL_COLUMNS;
-import static it.unibo.papasburgeria.model.impl.GameModelImpl.GRILL_ROWS;
-import static it.unibo.papasburgeria.model.impl.PattyModelImpl.MAX_COOK_LEVEL;
 import static it.unibo.papasburgeria.model.impl.PattyModelImpl.MIN_COOK_LEVEL;
 import static it.unibo.papasburgeria.view.impl.components.DrawingManagerImpl.EXTENSION;
 import static it.unibo.papasburgeria.view.impl.components.DrawingManagerImpl.INGREDIENTS_X_SIZE_SCALE;
@@ -36,22 +38,6 @@ import static it.unibo.papasburgeria.view.impl.components.DrawingManagerImpl.PAT
         justification = "The controller is injected and shared intentionally; The views are not serialized at runtime"
 )
 public class GrillViewImpl extends AbstractBaseView implements SpriteDropListener {
-    /**
-     * Defines the minimum x position to drop a patty on the grill.
-     */
-    public static final double MIN_X_POS_SCALE_TO_DROP_ON_GRILL = 0.232;
-    /**
-     * Defines the maximum x position to drop a patty on the grill.
-     */
-    public static final double MAX_X_POS_SCALE_TO_DROP_ON_GRILL = 0.742;
-    /**
-     * Defines the minimum y position to drop a patty on the grill.
-     */
-    public static final double MIN_Y_POS_SCALE_TO_DROP_ON_GRILL = 0.203;
-    /**
-     * Defines the maximum y position to drop a patty on the grill.
-     */
-    public static final double MAX_Y_POS_SCALE_TO_DROP_ON_GRILL = 0.981;
     /**
      * Defines the x position of a patty on the grill.
      */
@@ -60,24 +46,6 @@ public class GrillViewImpl extends AbstractBaseView implements SpriteDropListene
      * Defines the y position of a patty on the grill.
      */
     public static final double PATTY_ON_GRILL_Y_POS = MIN_Y_POS_SCALE_TO_DROP_ON_GRILL + 0.02;
-    /**
-     * Defines the x spacing between patties on the grill.
-     */
-    public static final double GRILL_X_SPACING = (MAX_X_POS_SCALE_TO_DROP_ON_GRILL - MIN_X_POS_SCALE_TO_DROP_ON_GRILL
-            - INGREDIENTS_X_SIZE_SCALE * GRILL_COLUMNS) / (GRILL_COLUMNS + 2);
-    /**
-     * Defines the y spacing between patties on the grill.
-     */
-    public static final double GRILL_Y_SPACING = (MAX_Y_POS_SCALE_TO_DROP_ON_GRILL - MIN_Y_POS_SCALE_TO_DROP_ON_GRILL
-            - INGREDIENTS_Y_SIZE_SCALE * GRILL_ROWS) / (GRILL_ROWS + 2);
-    /**
-     * Defines the number of seconds needed to fully cook a patty that is on the grill.
-     */
-    public static final double SECONDS_TO_FULLY_COOK_PATTY = 15.0;
-    /**
-     * Defines the increment per second of the cook level of a patty that is on the grill.
-     */
-    public static final double COOK_LEVEL_INCREMENT_PER_SECOND = MAX_COOK_LEVEL / SECONDS_TO_FULLY_COOK_PATTY;
 
     private static final double RAW_PATTIES_X_POS_SCALE = 0.028;
     private static final double RAW_PATTIES_Y_POS_SCALE = 0.78;
@@ -148,8 +116,7 @@ public class GrillViewImpl extends AbstractBaseView implements SpriteDropListene
     @Override
     void update(final double delta) {
         if (!stopCooking) {
-            controller.cookPattiesOnGrill();
-            draggablePattiesOnGrill.clear();
+            controller.cookPattiesOnGrill(delta);
         }
     }
 
@@ -169,17 +136,18 @@ public class GrillViewImpl extends AbstractBaseView implements SpriteDropListene
         final PattyModel[][] pattiesOnGrill = controller.getPattiesOnGrill();
         drawingManager.generatePattiesOnGrill(pattiesOnGrill, draggablePattiesOnGrill);
 
+        final Dimension frameSize = getSize();
         for (final Sprite sprite : draggableCookedPatties) {
             sprite.setRemovable(true);
-            sprite.draw(getSize(), graphics);
+            sprite.draw(frameSize, graphics);
         }
 
         for (final Sprite sprite : draggablePattiesOnGrill) {
-            sprite.draw(getSize(), graphics);
+            sprite.draw(frameSize, graphics);
         }
 
         for (final Sprite sprite : draggableRawPatties) {
-            sprite.draw(getSize(), graphics);
+            sprite.draw(frameSize, graphics);
         }
     }
 
@@ -189,7 +157,7 @@ public class GrillViewImpl extends AbstractBaseView implements SpriteDropListene
     @Override
     public void showScene() {
         draggableCookedPatties.clear();
-        this.sfxService.playSoundLooped("burger_ost.wav", DEFAULT_SOUND_VOLUME);
+        this.sfxService.playMusic("burger_ost.wav", DEFAULT_SOUND_VOLUME);
     }
 
     /**
@@ -197,7 +165,7 @@ public class GrillViewImpl extends AbstractBaseView implements SpriteDropListene
      */
     @Override
     public void hideScene() {
-        this.sfxService.stopSound("burger_ost.wav");
+        this.sfxService.stopMusic("burger_ost.wav");
     }
 
     /**
@@ -215,21 +183,20 @@ public class GrillViewImpl extends AbstractBaseView implements SpriteDropListene
                 && pbPositionXScale < MAX_X_POS_SCALE_TO_DROP_ON_GRILL
                 && pbPositionYScale > MIN_Y_POS_SCALE_TO_DROP_ON_GRILL
                 && pbPositionYScale < MAX_Y_POS_SCALE_TO_DROP_ON_GRILL) {
-            if (controller.addPattyOnGrill(patty, pbPositionXScale, pbPositionYScale)) {
+            if (sprite.isRemovable() && !isCookedPatty(patty)) {
+                if (controller.movePattyOnGrill(patty, pbPositionXScale, pbPositionYScale)) {
+                    draggablePattiesOnGrill.clear();
+                }
+            } else if (controller.addPattyOnGrill(patty, pbPositionXScale, pbPositionYScale)) {
                 if (sprite.isRemovable()) {
-                    if (controller.getCookedPatties().contains(patty)) {
-                        controller.removeCookedPatty(patty);
-                        draggableCookedPatties.clear();
-                    } else {
-                        controller.removePattyFromGrill(patty);
-                        controller.addPattyOnGrill(patty, pbPositionXScale, pbPositionYScale);
-                    }
+                    controller.removeCookedPatty(patty);
+                    draggableCookedPatties.clear();
                 }
                 draggablePattiesOnGrill.clear();
             }
         } else if (patty.getBottomCookLevel() + patty.getTopCookLevel() > MIN_COOK_LEVEL
                 && pbPositionXScale > MAX_X_POS_SCALE_TO_DROP_ON_GRILL) {
-            if (!controller.getCookedPatties().contains(patty)
+            if (!isCookedPatty(patty)
                     && controller.addCookedPatty(patty)) {
                 draggableCookedPatties.clear();
                 controller.removePattyFromGrill(patty);
@@ -240,7 +207,7 @@ public class GrillViewImpl extends AbstractBaseView implements SpriteDropListene
                 && pbPositionYScale >= MIN_Y_POS_SCALE_TO_DELETE
                 && pbPositionYScale <= MAX_Y_POS_SCALE_TO_DELETE
                 && patty.getBottomCookLevel() + patty.getTopCookLevel() > MIN_COOK_LEVEL) {
-            if (controller.getCookedPatties().contains(patty)) {
+            if (isCookedPatty(patty)) {
                 controller.removeCookedPatty(patty);
                 draggableCookedPatties.clear();
             } else {
@@ -272,17 +239,32 @@ public class GrillViewImpl extends AbstractBaseView implements SpriteDropListene
                     && pbPositionYScale > MIN_Y_POS_SCALE_TO_DROP_ON_GRILL
                     && pbPositionYScale < MAX_Y_POS_SCALE_TO_DROP_ON_GRILL) {
                 controller.flipPatty(patty);
-                draggablePattiesOnGrill.clear();
             }
 
+            /* the clicked sprite was hidden behind a copy, the retained sprites are added back on the next frame */
             draggableRawPatties.remove(sprite);
-            draggablePattiesOnGrill.remove(sprite);
-            draggableCookedPatties.remove(sprite);
+            draggablePattiesOnGrill.clear();
+            draggableCookedPatties.clear();
 
             stopCooking = false;
         }
     }
 
+    /**
+     * Checks whether the patty is one of the cooked patties, rather than one on the grill that may be equal to it.
+     *
+     * @param patty the patty shown by a sprite
+     * @return true if the patty is one of the cooked patties, false otherwise
+     */
+    private boolean isCookedPatty(final PattyModel patty) {
+        for (final PattyModel cookedPatty : controller.getCookedPatties()) {
+            if (cookedPatty == patty) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
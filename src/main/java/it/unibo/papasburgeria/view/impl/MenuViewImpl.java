@@ -20,6 +20,9 @@ import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
+import javax.swing.JScrollBar;
+import javax.swing.SwingUtilities;
+import java.awt.Adjustable;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.event.ActionListener;
@@ -31,6 +34,10 @@ import java.util.Map;
 
 /**
  * Menu View.
+ *
+ * <p>
+ * Saves are listed by a fixed number of slot views, recycled while scrolling through them, so only the information
+ * of the visible saves is loaded. The entry after the last save creates a new one.
  */
 @SuppressFBWarnings(
         value = "SE_TRANSIENT_FIELD_NOT_RESTORED",
@@ -39,6 +46,7 @@ import java.util.Map;
 public class MenuViewImpl extends AbstractBaseView {
     @Serial
     private static final long serialVersionUID = 1L;
+    private static final int VISIBLE_SLOTS = 3;
 
     private final transient SfxService sfxService;
     private final transient ResourceService resourceService;
@@ -62,6 +70,10 @@ public class MenuViewImpl extends AbstractBaseView {
      * Panel containing save slots.
      */
     private final JPanel slotPanel;
+    /**
+     * Scroll bar through the save slots.
+     */
+    private final JScrollBar slotScrollBar;
 
     /**
      * Used to check whether play screen has already played.
@@ -130,7 +142,7 @@ public class MenuViewImpl extends AbstractBaseView {
         final double padding = 0.01;
         final Scale bgSizeScale = new ScaleImpl(ScaleConstraintImpl.THIRD - padding, ScaleConstraintImpl.FULL);
         final Icon imageIcon = new ImageIcon(resourceService.getImage("slot-background.png"));
-        for (int i = 0; i <= 2; i++) {
+        for (int i = 0; i < VISIBLE_SLOTS; i++) {
             final SlotView slotView = new SlotView(i, imageIcon);
             this.slotViews.add(slotView);
             this.slotPanel.add(slotView.getPanel(), new ScaleConstraintImpl(
@@ -143,6 +155,19 @@ public class MenuViewImpl extends AbstractBaseView {
             ));
         }
 
+        final double scrollBarHeightScale = 0.025;
+        final double scrollBarPositionYScale = 0.47;
+        this.slotScrollBar = new JScrollBar(Adjustable.HORIZONTAL, 0, VISIBLE_SLOTS, 0, VISIBLE_SLOTS);
+        this.slotScrollBar.setVisible(false);
+        this.slotScrollBar.addAdjustmentListener(event -> this.showSlots(event.getValue()));
+        this.slotPanel.addMouseWheelListener(event ->
+                this.slotScrollBar.setValue(this.slotScrollBar.getValue() + event.getWheelRotation()));
+        interfacePanel.add(this.slotScrollBar, new ScaleConstraintImpl(
+                new ScaleImpl(ScaleConstraintImpl.HALF, scrollBarHeightScale),
+                new ScaleImpl(ScaleConstraintImpl.HALF, scrollBarPositionYScale),
+                ScaleConstraintImpl.ORIGIN_CENTER
+        ));
+
         final ActionListener savesListener = event -> {
             this.updateSlotInformation();
             this.playButton.setVisible(false);
@@ -185,7 +210,7 @@ public class MenuViewImpl extends AbstractBaseView {
             this.resumeButton.setVisible(true);
             this.savesButton.setVisible(true);
         }
-        this.sfxService.playSoundLooped("menu_ost.wav", DEFAULT_SOUND_VOLUME);
+        this.sfxService.playMusic("menu_ost.wav", DEFAULT_SOUND_VOLUME);
     }
 
     /**
@@ -193,43 +218,61 @@ public class MenuViewImpl extends AbstractBaseView {
      */
     @Override
     public void hideScene() {
-        this.sfxService.stopSound("menu_ost.wav");
+        this.sfxService.stopMusic("menu_ost.wav");
         this.slotPanel.setVisible(false);
+        this.slotScrollBar.setVisible(false);
     }
 
     /**
-     * Updates visual information for each slot.
+     * Updates the range of the scroll bar to the number of saves, then the visual information for each slot.
      */
     private void updateSlotInformation() {
-        final List<SaveInfo> info = this.menuController.getSaves();
-        if (info != null) {
-            for (final SlotView slotView : this.slotViews) {
-                final int boundIndex = slotView.getIndex();
-                final int currentIndex = this.menuController.getCurrentlyUsedSaveIndex();
+        final int entries = this.menuController.getSaveCount() + 1; // the last entry creates a new save
+        final int first = Math.max(0, Math.min(this.slotScrollBar.getValue(), entries - VISIBLE_SLOTS));
+        this.slotScrollBar.setValues(first, VISIBLE_SLOTS, 0, Math.max(entries, VISIBLE_SLOTS));
+        this.slotScrollBar.setVisible(entries > VISIBLE_SLOTS);
+        this.showSlots(first);
+    }
+
+    /**
+     * Binds the slot views to the saves starting from the given position, loading only their information.
+     *
+     * @param first position of the first visible save
+     */
+    private void showSlots(final int first) {
+        final List<SaveInfo> info = this.menuController.getSaves(first, VISIBLE_SLOTS);
+        final int saveCount = this.menuController.getSaveCount();
+        final int currentIndex = this.menuController.getCurrentlyUsedSaveIndex();
+        for (int i = 0; i < VISIBLE_SLOTS; i++) {
+            final SlotView slotView = this.slotViews.get(i);
+            if (i < info.size()) {
+                final SaveInfo saveInfo = info.get(i);
+                final int boundIndex = saveInfo.slotNumber();
                 final boolean currentlySelected = currentIndex >= 0 && currentIndex == boundIndex;
-                final SaveInfo saveInfo = info.get(boundIndex);
-                final boolean isEmptySave = saveInfo.checkNoSave();
-
-                slotView.setSlotAsEmpty(); // defaulting
-                if (!isEmptySave) {
-                    slotView.updateButton(
-                            "[SELECT" + (currentlySelected ? "ED]" : "]"), event -> {
-                                if (!currentlySelected) {
-                                    gameController.processSave();
-                                    if (gameController.processLoad(boundIndex)) {
-                                        gameController.switchToScene(SceneType.REGISTER);
-                                    }
-                                } else {
+
+                slotView.bind(boundIndex);
+                slotView.updateButton(
+                        "[SELECT" + (currentlySelected ? "ED]" : "]"), event -> {
+                            if (!currentlySelected) {
+                                gameController.processSave();
+                                if (gameController.processLoad(boundIndex)) {
                                     gameController.switchToScene(SceneType.REGISTER);
                                 }
-                            });
-                    slotView.updateLabel(
-                            SlotView.SlotLabelEnum.BALANCE, String.valueOf(saveInfo.playerBalance())
-                    );
-                    slotView.updateLabel(
-                            SlotView.SlotLabelEnum.DAY, String.valueOf(saveInfo.gameDay())
-                    );
-                }
+                            } else {
+                                gameController.switchToScene(SceneType.REGISTER);
+                            }
+                        });
+                slotView.updateLabel(
+                        SlotView.SlotLabelEnum.BALANCE, String.valueOf(saveInfo.playerBalance())
+                );
+                slotView.updateLabel(
+                        SlotView.SlotLabelEnum.DAY, String.valueOf(saveInfo.gameDay())
+                );
+            } else if (first + i == saveCount) {
+                slotView.bind(this.menuController.getNextFreeSaveIndex());
+                slotView.setSlotAsEmpty();
+            } else {
+                slotView.getPanel().setVisible(false);
             }
         }
     }
@@ -288,6 +331,9 @@ public class MenuViewImpl extends AbstractBaseView {
                 ", slotPanel="
                 + slotPanel
                 +
+                ", slotScrollBar="
+                + slotScrollBar
+                +
                 ", playShown="
                 + playShown
                 +
@@ -298,7 +344,7 @@ public class MenuViewImpl extends AbstractBaseView {
      * Represents a save slot view within the menu.
      */
     private class SlotView {
-        private final int index;
+        private int index;
         private final JPanel panel;
         private final JButton interactionButton;
         private final Map<SlotLabelEnum, JLabel> labels;
@@ -382,6 +428,16 @@ public class MenuViewImpl extends AbstractBaseView {
             return index;
         }
 
+        /**
+         * Binds the view to another save index and shows it, the labels and the button are left to be updated.
+         *
+         * @param boundIndex bound index
+         */
+        public void bind(final int boundIndex) {
+            this.index = boundIndex;
+            this.panel.setVisible(true);
+        }
+
         /**
          * Updates the label's value in String form.
          *
@@ -429,15 +485,14 @@ public class MenuViewImpl extends AbstractBaseView {
             for (final SlotLabelEnum slotLabelEnum : SlotLabelEnum.values()) {
                 this.updateLabel(slotLabelEnum, "N/A");
             }
-            this.updateButton("[CREATE]", event -> {
-                final boolean status = gameController.processSave(index);
+            this.updateButton("[CREATE]", event -> gameController.processSave(index).thenAcceptAsync(status -> {
                 if (status) {
                     gameController.processLoad(index);
                     gameController.switchToScene(SceneType.REGISTER);
                 } else {
                     this.interactionButton.setText("[RETRY]");
                 }
-            });
+            }, SwingUtilities::invokeLater));
         }
 
         @Override
@@ -19,6 +19,7 @@ import javax.swing.BorderFactory;
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JPanel;
+import java.awt.Dimension;
 import java.awt.Graphics;
 import java.io.Serial;
 import java.util.ArrayList;
@@ -26,7 +27,7 @@ import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
-import static it.unibo.papasburgeria.view.impl.BurgerAssemblyViewImpl.HALF_RANGE;
+import static it.unibo.papasburgeria.controller.impl.BurgerAssemblyControllerImpl.HALF_RANGE;
 import static it.unibo.papasburgeria.view.impl.BurgerAssemblyViewImpl.HAMBURGER_Y_POS_SCALE;
 import static it.unibo.papasburgeria.view.impl.components.DrawingManagerImpl.ORDER_X_SIZE_SCALE;
 import static it.unibo.papasburgeria.view.impl.components.DrawingManagerImpl.ORDER_Y_SIZE_SCALE;
@@ -119,13 +120,13 @@ public class OrderSelectionViewImpl extends AbstractBaseView implements SpriteDr
      */
     @Override
     void paintComponentDelegate(final Graphics graphics) {
-        drawingManager.drawHamburger(controller.getHamburger(), getSize(),
-                HALF_RANGE, HAMBURGER_Y_POS_SCALE,
-                new ArrayList<>(), graphics);
+        final Dimension frameSize = getSize();
+        drawingManager.drawHamburger(controller.getHamburger(), frameSize,
+                HALF_RANGE, HAMBURGER_Y_POS_SCALE, graphics);
 
         for (final Sprite sprite : draggableOrderSprites) {
             final OrderModel order = spriteOrders.get(sprite);
-            drawingManager.drawOrder(sprite, order, getSize(), graphics);
+            drawingManager.drawOrder(sprite, order, frameSize, graphics);
         }
     }
 
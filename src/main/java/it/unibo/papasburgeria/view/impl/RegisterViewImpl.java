@@ -3,6 +3,7 @@ package it.unibo.papasburgeria.view.impl;
 import com.google.inject.Inject;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.papasburgeria.controller.api.CustomerController;
+import it.unibo.papasburgeria.model.LineEnum;
 import it.unibo.papasburgeria.model.api.CustomerModel;
 import it.unibo.papasburgeria.utils.api.ResourceService;
 import it.unibo.papasburgeria.utils.api.SfxService;
@@ -17,10 +18,15 @@ import java.awt.Graphics;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serial;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Register view.
@@ -56,6 +62,11 @@ public class RegisterViewImpl extends AbstractBaseView {
      */
     private static final int MAX_DISPLAYABLE_CUSTOMERS = 5;
 
+    /**
+     * Client property holding the position of a customer's label in its line.
+     */
+    private static final String POSITION_PROPERTY = "linePosition";
+
     /**
      * Origin position.
      */
@@ -128,13 +139,26 @@ public class RegisterViewImpl extends AbstractBaseView {
     private final JPanel panel;
 
     /**
-     * A map containing all the customers in the regiserLine and their JLabel.
+     * Whether the register line changed since it was last displayed.
+     */
+    private final AtomicBoolean registerLineChanged = new AtomicBoolean(true);
+    /**
+     * Whether the wait line changed since it was last displayed.
+     */
+    private final AtomicBoolean waitLineChanged = new AtomicBoolean(true);
+
+    /**
+     * A map containing the displayed customers in the regiserLine and their JLabel.
      */
     private transient Map<CustomerModel, JLabel> registerLineView = new LinkedHashMap<>();
     /**
-     * A map containing all the customers in the waitLine and their JLabel.
+     * A map containing the displayed customers in the waitLine and their JLabel.
      */
     private transient Map<CustomerModel, JLabel> waitLineView = new LinkedHashMap<>();
+    /**
+     * The JLabels that are not displayed anymore, ready to be reused, by skin type.
+     */
+    private transient Map<Integer, Deque<JLabel>> labelPool = new HashMap<>();
 
     /**
      * Constructs a RegisterView.
@@ -166,6 +190,7 @@ public class RegisterViewImpl extends AbstractBaseView {
                         new ScaleImpl(ORIGIN)
                 ));
         takeOrderLabel.addMouseListener(new TakeOrderListener(customerController));
+        customerController.onLineChanged(this::markLineChanged);
     }
 
     /**
@@ -173,7 +198,7 @@ public class RegisterViewImpl extends AbstractBaseView {
      */
     @Override
     public void showScene() {
-        this.sfxService.playSoundLooped("register_ost.wav", DEFAULT_SOUND_VOLUME);
+        this.sfxService.playMusic("register_ost.wav", DEFAULT_SOUND_VOLUME);
     }
 
     /**
@@ -181,97 +206,130 @@ public class RegisterViewImpl extends AbstractBaseView {
      */
     @Override
     public void hideScene() {
-        this.sfxService.stopSound("register_ost.wav");
+        this.sfxService.stopMusic("register_ost.wav");
     }
 
     /**
      * {@inheritDoc}
+     *
+     * <p>
+     * Only the lines that changed since the last frame are looked at, and only the labels of the customers that
+     * appeared, moved or left are touched.
+     * </p>
      */
     @Override
     void update(final double delta) {
-        if (takeOrderLabel.isVisible() && registerLineView.isEmpty()) {
-            takeOrderLabel.setVisible(false);
+        boolean changed = false;
+
+        if (registerLineChanged.getAndSet(false)) {
+            changed = updateLineView(customerController.getRegisterLine(), registerLineView,
+                    REGISTER_X_POSITION, REGISTER_Y_POSITION);
+            takeOrderLabel.setVisible(!registerLineView.isEmpty());
         }
 
-        if (!takeOrderLabel.isVisible() && !registerLineView.isEmpty()) {
-            takeOrderLabel.setVisible(true);
+        if (waitLineChanged.getAndSet(false)) {
+            changed |= updateLineView(customerController.getWaitLine(), waitLineView,
+                    WAIT_X_POSITION, WAIT_Y_POSITION);
         }
 
-        /* if the customers do not coincide */
-        if (!waitLineView.keySet().equals(customerController.getWaitLine().stream().collect(Collectors.toSet()))) {
-            /* remove all customers' JLabels */
-            for (final Entry<CustomerModel, JLabel> entry : waitLineView.entrySet()) {
-                if (panel.isAncestorOf(entry.getValue())) {
-                    panel.remove(entry.getValue());
-                }
-            }
-            waitLineView.clear();
-
-            /* and fill them back up */
-            for (final CustomerModel customer : customerController.getWaitLine()) {
-                final ImageIcon iconImage = new ImageIcon(
-                        resourceService.getImage(CUSTOMER_FILE_NAME
-                                + FILE_SEPARATOR
-                                + customer.getSkinType()
-                                + FILE_EXTENSION));
-                final JLabel imageLabel = new JLabel(iconImage);
-                waitLineView.put(customer, imageLabel);
-            }
+        if (changed) {
+            panel.revalidate();
+            panel.repaint();
+        }
+    }
 
-            /* and finally print five of them */
-            int position = 0;
-            for (final Entry<CustomerModel, JLabel> entry : waitLineView.entrySet()) {
-                if (position < MAX_DISPLAYABLE_CUSTOMERS) {
-                    panel.add(entry.getValue(),
-                            new ScaleConstraintImpl(
-                                    new ScaleImpl(CUSTOMER_WIDTH, CUSTOMER_HEIGHT),
-                                    new ScaleImpl(WAIT_X_POSITION[position], WAIT_Y_POSITION),
-                                    new ScaleImpl(ORIGIN)
-                            )
-                    );
-                    panel.revalidate();
-                }
-                position++;
-            }
+    /**
+     * Marks the line as changed, it is called from the thread that changed it so the labels are only updated
+     * during the next frame.
+     *
+     * @param line the line that changed
+     */
+    private void markLineChanged(final LineEnum line) {
+        if (line == LineEnum.REGISTER_LINE) {
+            registerLineChanged.set(true);
+        } else {
+            waitLineChanged.set(true);
         }
+    }
 
-        /* if the customers do not coincide */
-        if (!registerLineView.keySet().equals(customerController.getRegisterLine().stream().collect(Collectors.toSet()))) {
-            /* remove all customers' JLabels */
-            for (final Entry<CustomerModel, JLabel> entry : registerLineView.entrySet()) {
-                if (panel.isAncestorOf(entry.getValue())) {
-                    panel.remove(entry.getValue());
-                }
-            }
-            registerLineView.clear();
-
-            /* and fill them back up */
-            for (final CustomerModel customer : customerController.getRegisterLine()) {
-                final ImageIcon iconImage = new ImageIcon(
-                        resourceService.getImage(CUSTOMER_FILE_NAME
-                                + FILE_SEPARATOR
-                                + customer.getSkinType()
-                                + FILE_EXTENSION));
-                final JLabel imageLabel = new JLabel(iconImage);
-                registerLineView.put(customer, imageLabel);
+    /**
+     * Brings the displayed customers in line with the first ones of the given line.
+     *
+     * @param line       the current customers in line
+     * @param lineView   the displayed customers and their JLabel
+     * @param xPositions the x coordinates of the displayed customers
+     * @param yPosition  the y coordinate of the displayed customers
+     * @return true if any label was added, moved or removed
+     */
+    private boolean updateLineView(final List<CustomerModel> line, final Map<CustomerModel, JLabel> lineView,
+                                   final double[] xPositions, final double yPosition) {
+        final List<CustomerModel> displayed = line.subList(0, Math.min(line.size(), MAX_DISPLAYABLE_CUSTOMERS));
+        boolean changed = false;
+
+        /* remove the customers that are not displayed anymore */
+        final Iterator<Entry<CustomerModel, JLabel>> iterator = lineView.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Entry<CustomerModel, JLabel> entry = iterator.next();
+            if (!displayed.contains(entry.getKey())) {
+                panel.remove(entry.getValue());
+                releaseLabel(entry.getKey().getSkinType(), entry.getValue());
+                iterator.remove();
+                changed = true;
             }
+        }
 
-            /* and finally print five of them */
-            int position = 0;
-            for (final Entry<CustomerModel, JLabel> entry : registerLineView.entrySet()) {
-                if (position < MAX_DISPLAYABLE_CUSTOMERS) {
-                    panel.add(entry.getValue(),
-                            new ScaleConstraintImpl(
-                                    new ScaleImpl(CUSTOMER_WIDTH, CUSTOMER_HEIGHT),
-                                    new ScaleImpl(REGISTER_X_POSITION[position], REGISTER_Y_POSITION),
-                                    new ScaleImpl(ORIGIN)
-                            )
-                    );
-                    panel.revalidate();
-                }
-                position++;
+        /* then add the new ones and move forward the ones whose position changed */
+        for (int position = 0; position < displayed.size(); position++) {
+            final CustomerModel customer = displayed.get(position);
+            JLabel label = lineView.get(customer);
+            if (label == null) {
+                label = acquireLabel(customer.getSkinType());
+                lineView.put(customer, label);
+            } else if (Integer.valueOf(position).equals(label.getClientProperty(POSITION_PROPERTY))) {
+                continue;
             }
+
+            label.putClientProperty(POSITION_PROPERTY, position);
+            panel.add(label,
+                    new ScaleConstraintImpl(
+                            new ScaleImpl(CUSTOMER_WIDTH, CUSTOMER_HEIGHT),
+                            new ScaleImpl(xPositions[position], yPosition),
+                            new ScaleImpl(ORIGIN)
+                    )
+            );
+            changed = true;
+        }
+
+        return changed;
+    }
+
+    /**
+     * Gets a label showing the given skin type, reusing a pooled one if available.
+     *
+     * @param skinType the skin type of the customer
+     * @return the label
+     */
+    private JLabel acquireLabel(final int skinType) {
+        final Deque<JLabel> pool = labelPool.get(skinType);
+        if (pool != null && !pool.isEmpty()) {
+            return pool.pop();
         }
+
+        return new JLabel(new ImageIcon(
+                resourceService.getImage(CUSTOMER_FILE_NAME
+                        + FILE_SEPARATOR
+                        + skinType
+                        + FILE_EXTENSION)));
+    }
+
+    /**
+     * Gives back a label that is not displayed anymore, so that the next customer with the same skin type reuses it.
+     *
+     * @param skinType the skin type shown by the label
+     * @param label    the label
+     */
+    private void releaseLabel(final int skinType, final JLabel label) {
+        labelPool.computeIfAbsent(skinType, key -> new ArrayDeque<>()).push(label);
     }
 
     /**
@@ -294,5 +352,8 @@ public class RegisterViewImpl extends AbstractBaseView {
         in.defaultReadObject();
         registerLineView = new LinkedHashMap<>();
         waitLineView = new LinkedHashMap<>();
+        labelPool = new HashMap<>();
+        registerLineChanged.set(true);
+        waitLineChanged.set(true);
     }
 }
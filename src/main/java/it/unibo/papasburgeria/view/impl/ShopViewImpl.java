@@ -152,7 +152,7 @@ public class ShopViewImpl extends AbstractBaseView {
         double pbSizeYScale = UPGRADE_PANEL_Y_POS;
         for (final UpgradeEnum upgrade : UpgradeEnum.values()) {
             final JPanel upgradePanel = new JPanel();
-            upgradePanel.setLayout(new ScalableLayoutImpl());
+            upgradePanel.setLayout(new ScalableLayoutImpl(true));
             upgradePanel.setBackground(UPGRADE_PANEL_BACKGROUND_COLOR);
             upgradePanel.setBorder(BorderFactory.createLineBorder(
                     UPGRADE_PANEL_BORDER_COLOR, UPGRADE_PANEL_BORDER_THICKNESS));
@@ -7,7 +7,8 @@ import it.unibo.papasburgeria.model.api.HamburgerModel;
 import it.unibo.papasburgeria.model.api.IngredientModel;
 import it.unibo.papasburgeria.model.api.OrderModel;
 import it.unibo.papasburgeria.model.api.PattyModel;
-import it.unibo.papasburgeria.model.impl.IngredientModelImpl;
+import it.unibo.papasburgeria.model.impl.IngredientRegistry;
+import it.unibo.papasburgeria.model.impl.PattyModelImpl;
 import it.unibo.papasburgeria.utils.api.ResourceService;
 import it.unibo.papasburgeria.view.api.components.DrawingManager;
 import it.unibo.papasburgeria.view.api.components.Sprite;
@@ -16,20 +17,23 @@ import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Image;
+import java.util.ArrayList;
 import java.util.EnumMap;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import static it.unibo.papasburgeria.controller.impl.BurgerAssemblyControllerImpl.HAMBURGER_X_POS_SCALE;
+import static it.unibo.papasburgeria.controller.impl.GrillControllerImpl.MAX_X_POS_SCALE_TO_DROP_ON_GRILL;
+import static it.unibo.papasburgeria.controller.impl.GrillControllerImpl.MAX_Y_POS_SCALE_TO_DROP_ON_GRILL;
+import static it.unibo.papasburgeria.controller.impl.GrillControllerImpl.MIN_X_POS_SCALE_TO_DROP_ON_GRILL;
+import static it.unibo.papasburgeria.controller.impl.GrillControllerImpl.MIN_Y_POS_SCALE_TO_DROP_ON_GRILL;
 import static it.unibo.papasburgeria.model.IngredientEnum.PATTY;
 import static it.unibo.papasburgeria.model.impl.IngredientModelImpl.MAX_LEFT_ACCURACY;
 import static it.unibo.papasburgeria.model.impl.IngredientModelImpl.MAX_RIGHT_ACCURACY;
 import static it.unibo.papasburgeria.model.impl.PattyModelImpl.MIN_COOK_LEVEL;
 import static it.unibo.papasburgeria.view.impl.BurgerAssemblyViewImpl.HAMBURGER_SPACING;
-import static it.unibo.papasburgeria.view.impl.BurgerAssemblyViewImpl.HAMBURGER_X_POS_SCALE;
-import static it.unibo.papasburgeria.view.impl.GrillViewImpl.GRILL_X_SPACING;
-import static it.unibo.papasburgeria.view.impl.GrillViewImpl.GRILL_Y_SPACING;
 import static it.unibo.papasburgeria.view.impl.GrillViewImpl.PATTY_ON_GRILL_X_POS;
 import static it.unibo.papasburgeria.view.impl.GrillViewImpl.PATTY_ON_GRILL_Y_POS;
 
@@ -37,6 +41,10 @@ import static it.unibo.papasburgeria.view.impl.GrillViewImpl.PATTY_ON_GRILL_Y_PO
  * Implementation of DrawingManager.
  *
  * <p>
+ * Sprites are retained per grill slot, per cooked patty, per hamburger layer and per order card, and only their
+ * ingredient and position are updated on each frame, their images are replaced only when the appearance changes.
+ *
+ * <p>
  * See {@link DrawingManager} for interface details.
  */
 public class DrawingManagerImpl implements DrawingManager {
@@ -80,7 +88,7 @@ public class DrawingManagerImpl implements DrawingManager {
     /**
      * Defines the ingredient of the orders.
      */
-    public static final IngredientModel ORDER_INGREDIENT = new IngredientModelImpl(IngredientEnum.TOP_BUN);
+    public static final IngredientModel ORDER_INGREDIENT = IngredientRegistry.get(IngredientEnum.TOP_BUN);
 
     private static final double ORDER_X_POS_SCALE = 0.68;
     private static final double ORDER_Y_POS_SCALE = 0.02;
@@ -92,14 +100,21 @@ public class DrawingManagerImpl implements DrawingManager {
     private static final double ORDER_INGREDIENT_Y_POS_SCALE = 0.408;
     private static final double ORDER_INGREDIENT_SPACING = 0.0312;
 
+    private static final int DEGREES_OF_DONENESS = DegreesOfDonenessEnum.values().length;
+
     private static final Font DEFAULT_FONT = new Font("Comic Sans MS", Font.BOLD, 25);
 
-    private final transient Map<String, Image> pattyImages;
+    private final transient Map<DegreesOfDonenessEnum, Image> pattyTopImages;
+    private final transient Map<DegreesOfDonenessEnum, Image> pattyBottomImages;
     private final transient Map<IngredientEnum, Image> ingredientImages;
     private final transient Image horizontalLock;
     private final transient Image verticalLock;
     private final transient Image grillMark;
     private final transient Image orderCard;
+    private final transient List<RetainedSprite> hamburgerSprites;
+    private final transient List<RetainedSprite> cookedPattySprites;
+    private transient RetainedSprite[][] grillSprites;
+    private final transient Map<Sprite, RetainedOrder> orderIngredientSprites;
 
     /**
      * Default constructor, reeds and stores the images needed to draw.
@@ -108,12 +123,17 @@ public class DrawingManagerImpl implements DrawingManager {
      */
     @Inject
     DrawingManagerImpl(final ResourceService resourceService) {
-        pattyImages = new HashMap<>();
+        pattyTopImages = new EnumMap<>(DegreesOfDonenessEnum.class);
+        pattyBottomImages = new EnumMap<>(DegreesOfDonenessEnum.class);
         ingredientImages = new EnumMap<>(IngredientEnum.class);
         horizontalLock = resourceService.getImage("horizontal_lock.png");
         verticalLock = resourceService.getImage("vertical_lock.png");
         grillMark = resourceService.getImage("patty_grill_mark.png");
         orderCard = resourceService.getImage("order.png");
+        hamburgerSprites = new ArrayList<>();
+        cookedPattySprites = new ArrayList<>();
+        grillSprites = new RetainedSprite[0][];
+        orderIngredientSprites = new IdentityHashMap<>();
 
         for (final IngredientEnum ingredientType : IngredientEnum.values()) {
             final Image image = resourceService.getImage(ingredientType.getName() + EXTENSION);
@@ -127,10 +147,8 @@ public class DrawingManagerImpl implements DrawingManager {
             final String pattyBottomName =
                     ingredientType.getName() + BOTTOM_EXTENSION + SEPARATOR + degree.getName() + EXTENSION;
 
-            final Image image = resourceService.getImage(pattyName);
-            pattyImages.put(pattyName, image);
-            final Image imageBottom = resourceService.getImage(pattyBottomName);
-            pattyImages.put(pattyBottomName, imageBottom);
+            pattyTopImages.put(degree, resourceService.getImage(pattyName));
+            pattyBottomImages.put(degree, resourceService.getImage(pattyBottomName));
         }
     }
 
@@ -146,39 +164,52 @@ public class DrawingManagerImpl implements DrawingManager {
             final List<Sprite> draggableHamburgerSprites,
             final Graphics graphics
     ) {
-        final List<IngredientModel> hamburgerIngredients = hamburger.getIngredients();
+        final int ingredientCount = hamburger.getIngredientCount();
         double pbPositionYScale = bottomBunYPosScale;
-        Sprite sprite = null;
-        for (final IngredientModel ingredient : hamburgerIngredients) {
+        for (int index = 0; index < ingredientCount; index++) {
+            final IngredientModel ingredient = readLayer(hamburger, index,
+                    index < hamburgerSprites.size() ? hamburgerSprites.get(index).sprite.getIngredient() : null);
             final double pbPositionXScale =
-                    getPositionXScaleFromAccuracy(ingredient.getPlacementAccuracy(), bottomBunXPosScale);
-            if (ingredient instanceof PattyModel) {
-                sprite = generatePattySprite((PattyModel) ingredient, pbPositionXScale, pbPositionYScale,
-                        INGREDIENTS_X_SIZE_SCALE, INGREDIENTS_Y_SIZE_SCALE);
-            } else {
-                final Image image = ingredientImages.get(ingredient.getIngredientType());
-                sprite = new SpriteImpl(image, ingredient,
-                        pbPositionXScale, pbPositionYScale,
-                        INGREDIENTS_X_SIZE_SCALE, INGREDIENTS_Y_SIZE_SCALE);
-            }
-
+                    getPositionXScaleFromAccuracy(hamburger.getPlacementAccuracy(index), bottomBunXPosScale);
+            double spritePbPositionYScale = pbPositionYScale;
             if (IngredientEnum.SAUCES.contains(ingredient.getIngredientType())) {
-                sprite.setPbPositionYScale(pbPositionYScale + HAMBURGER_SPACING);
+                spritePbPositionYScale = pbPositionYScale + HAMBURGER_SPACING;
             }
 
-            if (!draggableHamburgerSprites.contains(sprite)) {
+            final Sprite sprite = retainSprite(hamburgerSprites, index, ingredient,
+                    pbPositionXScale, spritePbPositionYScale,
+                    INGREDIENTS_X_SIZE_SCALE, INGREDIENTS_Y_SIZE_SCALE);
+
+            if (draggableHamburgerSprites == null || !draggableHamburgerSprites.contains(sprite)) {
                 sprite.draw(frameSize, graphics);
             }
 
             pbPositionYScale = pbPositionYScale - HAMBURGER_SPACING;
         }
-        if (sprite != null && draggableHamburgerSprites.isEmpty()) {
+        releaseSprites(hamburgerSprites, ingredientCount, draggableHamburgerSprites);
+
+        if (!hamburgerSprites.isEmpty() && draggableHamburgerSprites != null && draggableHamburgerSprites.isEmpty()) {
+            final Sprite sprite = hamburgerSprites.getLast().sprite;
             sprite.setCloneable(false);
             sprite.setRemovable(true);
             draggableHamburgerSprites.add(sprite);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void drawHamburger(
+            final HamburgerModel hamburger,
+            final Dimension frameSize,
+            final double bottomBunXPosScale,
+            final double bottomBunYPosScale,
+            final Graphics graphics
+    ) {
+        drawHamburger(hamburger, frameSize, bottomBunXPosScale, bottomBunYPosScale, null, graphics);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -198,8 +229,9 @@ public class DrawingManagerImpl implements DrawingManager {
             if (sprite.calculateWidth(frameWidth) < sprite.calculateHeight(frameHeight)) {
                 lock = verticalLock;
             }
-            graphics.drawImage(lock, sprite.calculateX(frameWidth), sprite.calculateY(frameHeight),
-                    sprite.calculateWidth(frameWidth), sprite.calculateHeight(frameHeight), null);
+            graphics.drawImage(ScaledImageCache.getScaledImage(graphics, lock,
+                            sprite.calculateWidth(frameWidth), sprite.calculateHeight(frameHeight)),
+                    sprite.calculateX(frameWidth), sprite.calculateY(frameHeight), null);
         }
     }
 
@@ -218,33 +250,37 @@ public class DrawingManagerImpl implements DrawingManager {
             return;
         }
 
+        RetainedOrder retainedOrder = orderIngredientSprites.get(sprite);
+        if (retainedOrder == null || retainedOrder.order != order) {
+            final HamburgerModel hamburger = order.getHamburger();
+            final List<Sprite> ingredientSprites = new ArrayList<>(hamburger.getIngredientCount());
+            for (int index = 0; index < hamburger.getIngredientCount(); index++) {
+                final IngredientModel ingredient = readLayer(hamburger, index, null);
+                ingredientSprites.add(createSprite(ingredient, calculateAppearance(ingredient),
+                        sprite.getPbPositionXScale(), sprite.getPbPositionYScale(),
+                        ORDER_INGREDIENT_X_SIZE_SCALE, ORDER_INGREDIENT_Y_SIZE_SCALE));
+            }
+            retainedOrder = new RetainedOrder(order, "0" + order.getOrderNumber(), ingredientSprites);
+            orderIngredientSprites.put(sprite, retainedOrder);
+        }
+
         final int numberXPosition = sprite.calculateX(frameSize.width)
                 + (int) (frameSize.getWidth() * ORDER_NUMBER_X_POS_SCALE);
         final int numberYPosition = sprite.calculateY(frameSize.height)
                 + (int) (frameSize.getHeight() * ORDER_NUMBER_Y_POS_SCALE);
         graphics.setFont(DEFAULT_FONT);
-        graphics.drawString("0" + order.getOrderNumber(), numberXPosition, numberYPosition);
+        graphics.drawString(retainedOrder.orderNumber, numberXPosition, numberYPosition);
 
+        /* the order card may have been dragged around, so the ingredients follow it */
         double ingredientPbPositionYScale = ORDER_INGREDIENT_Y_POS_SCALE;
-        for (final IngredientModel ingredient : order.getHamburger().getIngredients()) {
-            final Sprite ingredientSprite;
-            if (ingredient instanceof PattyModel) {
-                ingredientSprite = generatePattySprite((PattyModel) ingredient,
-                        sprite.getPbPositionXScale() + ORDER_INGREDIENT_X_POS_SCALE,
-                        sprite.getPbPositionYScale() + ingredientPbPositionYScale,
-                        ORDER_INGREDIENT_X_SIZE_SCALE, ORDER_INGREDIENT_Y_SIZE_SCALE);
-            } else {
-                final Image image = ingredientImages.get(ingredient.getIngredientType());
-                ingredientSprite = new SpriteImpl(image, ingredient,
-                        sprite.getPbPositionXScale() + ORDER_INGREDIENT_X_POS_SCALE,
-                        sprite.getPbPositionYScale() + ingredientPbPositionYScale,
-                        ORDER_INGREDIENT_X_SIZE_SCALE, ORDER_INGREDIENT_Y_SIZE_SCALE);
-            }
+        for (int index = 0; index < retainedOrder.ingredientSprites.size(); index++) {
+            final Sprite ingredientSprite = retainedOrder.ingredientSprites.get(index);
+            ingredientSprite.setPbPositionXScale(sprite.getPbPositionXScale() + ORDER_INGREDIENT_X_POS_SCALE);
+            ingredientSprite.setPbPositionYScale(sprite.getPbPositionYScale() + ingredientPbPositionYScale);
             ingredientSprite.draw(frameSize, graphics);
 
             ingredientPbPositionYScale = ingredientPbPositionYScale - ORDER_INGREDIENT_SPACING;
         }
-
     }
 
     /**
@@ -258,8 +294,9 @@ public class DrawingManagerImpl implements DrawingManager {
             final List<Sprite> draggablePattySprites
     ) {
         double pbPositionYScale = initialPbPositionYScale;
-        for (final PattyModel patty : cookedPatties) {
-            final Sprite sprite = generatePattySprite(patty, pbPositionXScale, pbPositionYScale,
+        for (int index = 0; index < cookedPatties.size(); index++) {
+            final Sprite sprite = retainSprite(cookedPattySprites, index, (IngredientModel) cookedPatties.get(index),
+                    pbPositionXScale, pbPositionYScale,
                     INGREDIENTS_X_SIZE_SCALE, INGREDIENTS_Y_SIZE_SCALE);
             sprite.setCloneable(false);
             sprite.setRemovable(false);
@@ -268,6 +305,7 @@ public class DrawingManagerImpl implements DrawingManager {
             }
             pbPositionYScale = pbPositionYScale - PATTY_SPACING;
         }
+        releaseSprites(cookedPattySprites, cookedPatties.size(), draggablePattySprites);
     }
 
     /**
@@ -278,23 +316,48 @@ public class DrawingManagerImpl implements DrawingManager {
             final PattyModel[][] pattiesOnGrill,
             final List<Sprite> draggablePattiesOnGrill
     ) {
+        final int rows = pattiesOnGrill.length;
+        final int columns = rows == 0 ? 0 : pattiesOnGrill[0].length;
+        if (grillSprites.length != rows || (rows > 0 && grillSprites[0].length != columns)) {
+            for (final RetainedSprite[] spriteRow : grillSprites) {
+                for (final RetainedSprite retained : spriteRow) {
+                    if (retained != null) {
+                        draggablePattiesOnGrill.remove(retained.sprite);
+                    }
+                }
+            }
+            grillSprites = new RetainedSprite[rows][columns];
+        }
+
+        final double xSpacing = (MAX_X_POS_SCALE_TO_DROP_ON_GRILL - MIN_X_POS_SCALE_TO_DROP_ON_GRILL
+                - INGREDIENTS_X_SIZE_SCALE * columns) / (columns + 2);
+        final double ySpacing = (MAX_Y_POS_SCALE_TO_DROP_ON_GRILL - MIN_Y_POS_SCALE_TO_DROP_ON_GRILL
+                - INGREDIENTS_Y_SIZE_SCALE * rows) / (rows + 2);
         double pbPositionXScale = PATTY_ON_GRILL_X_POS;
-        double pbPositionYScale = PATTY_ON_GRILL_Y_POS + GRILL_Y_SPACING;
-        for (final PattyModel[] pattyRow : pattiesOnGrill) {
-            for (final PattyModel patty : pattyRow) {
-                if (patty != null) {
-                    final Sprite sprite = generatePattySprite(patty, pbPositionXScale, pbPositionYScale,
+        double pbPositionYScale = PATTY_ON_GRILL_Y_POS + ySpacing;
+        for (int row = 0; row < pattiesOnGrill.length; row++) {
+            for (int column = 0; column < pattiesOnGrill[row].length; column++) {
+                final PattyModel patty = pattiesOnGrill[row][column];
+                RetainedSprite retained = grillSprites[row][column];
+                if (patty == null) {
+                    if (retained != null) {
+                        draggablePattiesOnGrill.remove(retained.sprite);
+                        grillSprites[row][column] = null;
+                    }
+                } else {
+                    retained = updateSprite(retained, (IngredientModel) patty, pbPositionXScale, pbPositionYScale,
                             INGREDIENTS_X_SIZE_SCALE, INGREDIENTS_Y_SIZE_SCALE);
-                    sprite.setCloneable(false);
-                    sprite.setRemovable(true);
-                    sprite.setDraggable(false);
-                    if (!draggablePattiesOnGrill.contains(sprite)) {
-                        draggablePattiesOnGrill.add(sprite);
+                    grillSprites[row][column] = retained;
+                    retained.sprite.setCloneable(false);
+                    retained.sprite.setRemovable(true);
+                    retained.sprite.setDraggable(false);
+                    if (!draggablePattiesOnGrill.contains(retained.sprite)) {
+                        draggablePattiesOnGrill.add(retained.sprite);
                     }
                 }
-                pbPositionXScale = pbPositionXScale + INGREDIENTS_X_SIZE_SCALE + GRILL_X_SPACING;
+                pbPositionXScale = pbPositionXScale + INGREDIENTS_X_SIZE_SCALE + xSpacing;
             }
-            pbPositionYScale = pbPositionYScale + INGREDIENTS_Y_SIZE_SCALE + GRILL_Y_SPACING;
+            pbPositionYScale = pbPositionYScale + INGREDIENTS_Y_SIZE_SCALE + ySpacing;
             pbPositionXScale = PATTY_ON_GRILL_X_POS;
         }
     }
@@ -308,6 +371,7 @@ public class DrawingManagerImpl implements DrawingManager {
             final List<Sprite> draggableOrderSprites,
             final Map<Sprite, OrderModel> spriteOrders
     ) {
+        orderIngredientSprites.clear();
         double pbPositionXScale = ORDER_X_POS_SCALE;
         final double orderSpacing =
                 (1.0 - ORDER_X_POS_SCALE - ORDER_X_SIZE_SCALE) / (orders.size() - 1);
@@ -328,6 +392,37 @@ public class DrawingManagerImpl implements DrawingManager {
         }
     }
 
+    /**
+     * Reads an ingredient of a hamburger to be shown, without creating one when the hamburger did not change. Patties
+     * are read into the patty shown by the sprite of the layer, the other ingredients are the shared ones of
+     * {@link IngredientRegistry}, whose placement is read from the hamburger.
+     *
+     * @param hamburger the hamburger
+     * @param index     the position of the ingredient
+     * @param reusable  the ingredient the layer was read into before, null if there is none
+     * @return the ingredient, read-only unless it is a patty
+     */
+    private static IngredientModel readLayer(
+            final HamburgerModel hamburger,
+            final int index,
+            final IngredientModel reusable
+    ) {
+        final IngredientEnum ingredientType = hamburger.getIngredientType(index);
+        if (ingredientType != PATTY) {
+            return IngredientRegistry.get(ingredientType);
+        }
+
+        final PattyModelImpl patty =
+                reusable instanceof PattyModelImpl reusablePatty ? reusablePatty : new PattyModelImpl();
+        patty.setTopCookLevel(hamburger.getTopCookLevel(index));
+        patty.setBottomCookLevel(hamburger.getBottomCookLevel(index));
+        if (patty.isFlipped() != hamburger.isFlipped(index)) {
+            patty.flip();
+        }
+        patty.setPlacementAccuracy(hamburger.getPlacementAccuracy(index));
+        return patty;
+    }
+
     /**
      * Calculates the x position in scale given the accuracy.
      *
@@ -345,22 +440,134 @@ public class DrawingManagerImpl implements DrawingManager {
     }
 
     /**
-     * Creates a Sprite for the Patty.
+     * Updates the retained sprite at the given index of the list, creating it if the list is too short.
      *
-     * @param patty            the patty
+     * @param retainedSprites  the retained sprites
+     * @param index            the index of the sprite
+     * @param ingredient       the ingredient the sprite shows
+     * @param pbPositionXScale the x position in scale
+     * @param pbPositionYScale the y position in scale
+     * @param pbSizeXScale     the x size in scale
+     * @param pbSizeYScale     the y size in scale
+     * @return the up-to-date sprite
+     */
+    private Sprite retainSprite(
+            final List<RetainedSprite> retainedSprites,
+            final int index,
+            final IngredientModel ingredient,
+            final double pbPositionXScale,
+            final double pbPositionYScale,
+            final double pbSizeXScale,
+            final double pbSizeYScale
+    ) {
+        if (index < retainedSprites.size()) {
+            return updateSprite(retainedSprites.get(index), ingredient,
+                    pbPositionXScale, pbPositionYScale, pbSizeXScale, pbSizeYScale).sprite;
+        }
+
+        final RetainedSprite retained = updateSprite(null, ingredient,
+                pbPositionXScale, pbPositionYScale, pbSizeXScale, pbSizeYScale);
+        retainedSprites.add(retained);
+        return retained.sprite;
+    }
+
+    /**
+     * Drops the retained sprites past the given size, removing them from the draggable sprites as well.
+     *
+     * @param retainedSprites  the retained sprites
+     * @param size             the number of sprites still needed
+     * @param draggableSprites the draggable sprites, may be null
+     */
+    private void releaseSprites(
+            final List<RetainedSprite> retainedSprites,
+            final int size,
+            final List<Sprite> draggableSprites
+    ) {
+        while (retainedSprites.size() > size) {
+            final RetainedSprite retained = retainedSprites.removeLast();
+            if (draggableSprites != null) {
+                draggableSprites.remove(retained.sprite);
+            }
+        }
+    }
+
+    /**
+     * Brings the retained sprite in line with the ingredient, its images are only replaced if its appearance changed.
+     *
+     * @param retained         the retained sprite, null to create a new one
+     * @param ingredient       the ingredient the sprite shows
+     * @param pbPositionXScale the x position in scale
+     * @param pbPositionYScale the y position in scale
+     * @param pbSizeXScale     the x size in scale
+     * @param pbSizeYScale     the y size in scale
+     * @return the up-to-date retained sprite
+     */
+    private RetainedSprite updateSprite(
+            final RetainedSprite retained,
+            final IngredientModel ingredient,
+            final double pbPositionXScale,
+            final double pbPositionYScale,
+            final double pbSizeXScale,
+            final double pbSizeYScale
+    ) {
+        final int appearance = calculateAppearance(ingredient);
+        if (retained == null) {
+            return new RetainedSprite(createSprite(ingredient, appearance,
+                    pbPositionXScale, pbPositionYScale, pbSizeXScale, pbSizeYScale), appearance);
+        }
+
+        retained.sprite.setIngredient(ingredient);
+        retained.sprite.setPbPositionXScale(pbPositionXScale);
+        retained.sprite.setPbPositionYScale(pbPositionYScale);
+        if (retained.appearance != appearance) {
+            retained.sprite.setImages(getImages(appearance));
+            retained.appearance = appearance;
+        }
+        return retained;
+    }
+
+    /**
+     * Creates a Sprite for the ingredient.
+     *
+     * @param ingredient       the ingredient
+     * @param appearance       the appearance of the ingredient
      * @param pbPositionXScale the x position in scale
      * @param pbPositionYScale the y position in scale
      * @param pbSizeXScale     the x size in scale
      * @param pbSizeYScale     the y size in scale
      * @return the sprite
      */
-    private Sprite generatePattySprite(
-            final PattyModel patty,
+    private Sprite createSprite(
+            final IngredientModel ingredient,
+            final int appearance,
             final double pbPositionXScale,
             final double pbPositionYScale,
             final double pbSizeXScale,
             final double pbSizeYScale
     ) {
+        final List<Image> images = getImages(appearance);
+        final Sprite sprite = new SpriteImpl(images.getFirst(), ingredient,
+                pbPositionXScale, pbPositionYScale, pbSizeXScale, pbSizeYScale);
+        sprite.setImages(images);
+        return sprite;
+    }
+
+    /**
+     * Calculates what the ingredient looks like, so that the images of a sprite are only replaced when it changes.
+     *
+     * <p>
+     * A patty gets a non-negative value built from the degrees of doneness of its visible sides and from whether it
+     * shows the grill marks, any other ingredient gets a negative value built from its type.
+     * </p>
+     *
+     * @param ingredient the ingredient
+     * @return the appearance of the ingredient
+     */
+    private static int calculateAppearance(final IngredientModel ingredient) {
+        if (!(ingredient instanceof PattyModel patty)) {
+            return -1 - ingredient.getIngredientType().ordinal();
+        }
+
         double topCookLevel = patty.getTopCookLevel();
         DegreesOfDonenessEnum topDegree = DegreesOfDonenessEnum.calculateDegree(topCookLevel);
 
@@ -375,22 +582,34 @@ public class DrawingManagerImpl implements DrawingManager {
             topCookLevel = bottomCookLevel;
         }
 
-        final String pattyName = ((IngredientModel) patty).getIngredientType().getName()
-                + SEPARATOR + topDegree.getName() + EXTENSION;
-        final Sprite pattySprite = new SpriteImpl(pattyImages.get(pattyName), (IngredientModel) patty,
-                pbPositionXScale, pbPositionYScale, pbSizeXScale, pbSizeYScale);
+        final int degrees = (topDegree.ordinal() * DEGREES_OF_DONENESS) + bottomDegree.ordinal();
+        return degrees * 2 + (topCookLevel > MIN_COOK_LEVEL ? 1 : 0);
+    }
 
-        if (topDegree != bottomDegree) {
-            final String pattyBottomName = ((IngredientModel) patty).getIngredientType().getName()
-                    + BOTTOM_EXTENSION + SEPARATOR + bottomDegree.getName() + EXTENSION;
-            pattySprite.addImage(pattyImages.get(pattyBottomName));
+    /**
+     * Gets the images that form a sprite with the given appearance.
+     *
+     * @param appearance the appearance, as calculated by {@link #calculateAppearance(IngredientModel)}
+     * @return the images
+     */
+    private List<Image> getImages(final int appearance) {
+        if (appearance < 0) {
+            return List.of(ingredientImages.get(IngredientEnum.values()[-1 - appearance]));
         }
 
-        if (topCookLevel > MIN_COOK_LEVEL) {
-            pattySprite.addImage(grillMark);
-        }
+        final DegreesOfDonenessEnum[] degrees = DegreesOfDonenessEnum.values();
+        final DegreesOfDonenessEnum topDegree = degrees[appearance / 2 / DEGREES_OF_DONENESS];
+        final DegreesOfDonenessEnum bottomDegree = degrees[appearance / 2 % DEGREES_OF_DONENESS];
 
-        return pattySprite;
+        final List<Image> images = new ArrayList<>();
+        images.add(pattyTopImages.get(topDegree));
+        if (topDegree != bottomDegree) {
+            images.add(pattyBottomImages.get(bottomDegree));
+        }
+        if (appearance % 2 == 1) {
+            images.add(grillMark);
+        }
+        return images;
     }
 
     /**
@@ -399,12 +618,42 @@ public class DrawingManagerImpl implements DrawingManager {
     @Override
     public String toString() {
         return "DrawingManagerImpl{"
-                + "pattyImages=" + pattyImages
+                + "pattyTopImages=" + pattyTopImages
+                + ", pattyBottomImages=" + pattyBottomImages
                 + ", ingredientImages=" + ingredientImages
                 + ", horizontalLock=" + horizontalLock
                 + ", verticalLock=" + verticalLock
                 + ", grillMark=" + grillMark
                 + ", orderCard=" + orderCard
+                + ", hamburgerSprites=" + hamburgerSprites.size()
+                + ", cookedPattySprites=" + cookedPattySprites.size()
                 + '}';
     }
+
+    /**
+     * Sprite kept across frames together with the appearance its images were generated for.
+     */
+    private static final class RetainedSprite {
+        private final Sprite sprite;
+        private int appearance;
+
+        /**
+         * @param sprite     the sprite
+         * @param appearance the appearance of its images
+         */
+        RetainedSprite(final Sprite sprite, final int appearance) {
+            this.sprite = sprite;
+            this.appearance = appearance;
+        }
+    }
+
+    /**
+     * Sprites of the ingredients of an order, kept as long as its card shows the same order.
+     *
+     * @param order             the order shown by the card
+     * @param orderNumber       the text of the order number
+     * @param ingredientSprites the sprites of the ingredients of the order
+     */
+    private record RetainedOrder(OrderModel order, String orderNumber, List<Sprite> ingredientSprites) {
+    }
 }
@@ -0,0 +1,91 @@
+package it.unibo.papasburgeria.view.impl.components;
+
+import javax.swing.BorderFactory;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+import javax.swing.JWindow;
+import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Dimension;
+
+/**
+ * Undecorated window showing the progress of the startup, before the game frame appears.
+ *
+ * <p>
+ * Its methods can be called from any thread, the window itself is only touched on the event dispatch thread.
+ */
+public final class LoadingWindow {
+    private static final int WIDTH = 400;
+    private static final int HEIGHT = 90;
+    private static final int BORDER = 15;
+    private static final int PROGRESS_SCALE = 1000;
+    private static final Color BACKGROUND_COLOR = new Color(40, 24, 16);
+
+    private JWindow window;
+    private JProgressBar progressBar;
+
+    /**
+     * Shows the window at the center of the screen.
+     */
+    public void show() {
+        SwingUtilities.invokeLater(() -> {
+            progressBar = new JProgressBar(0, PROGRESS_SCALE);
+            progressBar.setStringPainted(true);
+
+            final JLabel label = new JLabel("Papa's Burgeria", SwingConstants.CENTER);
+            label.setForeground(Color.WHITE);
+
+            final JPanel panel = new JPanel(new BorderLayout(0, BORDER));
+            panel.setBackground(BACKGROUND_COLOR);
+            panel.setBorder(BorderFactory.createEmptyBorder(BORDER, BORDER, BORDER, BORDER));
+            panel.add(label, BorderLayout.CENTER);
+            panel.add(progressBar, BorderLayout.SOUTH);
+
+            window = new JWindow();
+            window.setContentPane(panel);
+            window.setSize(new Dimension(WIDTH, HEIGHT));
+            window.setLocationRelativeTo(null);
+            window.setVisible(true);
+        });
+    }
+
+    /**
+     * Updates the shown progress.
+     *
+     * @param progress the fraction of the startup completed, from 0 to 1
+     */
+    public void setProgress(final double progress) {
+        final int value = (int) Math.round(Math.clamp(progress, 0, 1) * PROGRESS_SCALE);
+        SwingUtilities.invokeLater(() -> {
+            if (progressBar != null && value > progressBar.getValue()) {
+                progressBar.setValue(value);
+            }
+        });
+    }
+
+    /**
+     * Closes the window, it cannot be shown again.
+     */
+    public void close() {
+        SwingUtilities.invokeLater(() -> {
+            if (window != null) {
+                window.dispose();
+                window = null;
+                progressBar = null;
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "LoadingWindow{"
+                + "progress=" + (progressBar == null ? "none" : progressBar.getValue())
+                + '}';
+    }
+}
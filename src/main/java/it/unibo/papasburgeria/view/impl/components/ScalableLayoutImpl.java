@@ -7,28 +7,56 @@ import javax.swing.AbstractButton;
 import javax.swing.Icon;
 import javax.swing.ImageIcon;
 import javax.swing.JLabel;
+import javax.swing.SwingUtilities;
 import java.awt.Component;
 import java.awt.Container;
 import java.awt.Dimension;
+import java.awt.GraphicsConfiguration;
 import java.awt.Image;
 import java.awt.LayoutManager2;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Implementation of LayoutManager2 for a scale-based layout manager.
  *
  * <p>
+ * Icons of buttons and labels are scaled to the size of their component through {@link ScaledImageCache}, starting
+ * from the icon they originally had, and only when the size of the component changed. The scaling can optionally
+ * happen off the Event Dispatch Thread, in which case the scaled icon is swapped in as soon as it is ready.
+ *
+ * <p>
  * See {@link LayoutManager2} for interface details.
  */
 public class ScalableLayoutImpl implements LayoutManager2 {
+    private static final ExecutorService ICON_SCALER = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "icon-scaler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final Map<Component, ScaleConstraint> mappedConstraints;
+    private final Map<Component, IconState> iconStates;
+    private final boolean asyncScaling;
 
     /**
-     * Constructs a ScalableLayout.
+     * Constructs a ScalableLayout, icons are scaled on the calling thread.
      */
     public ScalableLayoutImpl() {
+        this(false);
+    }
+
+    /**
+     * Constructs a ScalableLayout.
+     *
+     * @param asyncScaling whether icons that were not already scaled to the needed size are scaled in background
+     */
+    public ScalableLayoutImpl(final boolean asyncScaling) {
         mappedConstraints = new HashMap<>();
+        iconStates = new HashMap<>();
+        this.asyncScaling = asyncScaling;
     }
 
     /**
@@ -65,6 +93,7 @@ public class ScalableLayoutImpl implements LayoutManager2 {
         }
 
         this.mappedConstraints.remove(component);
+        this.iconStates.remove(component);
     }
 
     /**
@@ -126,17 +155,67 @@ public class ScalableLayoutImpl implements LayoutManager2 {
                     height
             );
 
-            final Icon icon = getComponentIcon(component);
-            if (icon instanceof ImageIcon) {
-                setComponentIcon(
-                        component,
-                        new ImageIcon(((ImageIcon) icon)
-                                .getImage()
-                                .getScaledInstance(width, height, Image.SCALE_SMOOTH)));
-            }
+            updateIcon(component, width, height);
+        });
+    }
+
+    /**
+     * Scales the icon of the component to its size, if it was not already.
+     *
+     * @param component the component
+     * @param width     the width of the component
+     * @param height    the height of the component
+     */
+    private void updateIcon(final Component component, final int width, final int height) {
+        final Icon icon = getComponentIcon(component);
+        IconState state = iconStates.get(component);
+        // an icon that is neither the original nor the scaled one was set from outside, so it becomes the original
+        if (icon instanceof ImageIcon imageIcon
+                && (state == null || icon != state.sourceIcon && icon != state.scaledIcon)) {
+            state = new IconState(imageIcon);
+            iconStates.put(component, state);
+        }
+
+        if (state == null || width <= 0 || height <= 0 || state.width == width && state.height == height) {
+            return;
+        }
+
+        state.width = width;
+        state.height = height;
+        final Image source = state.sourceIcon.getImage();
+        final Image cached = ScaledImageCache.getCachedImage(source, width, height);
+        if (cached != null || !asyncScaling) {
+            setScaledIcon(component, state, cached != null ? cached
+                    : ScaledImageCache.getScaledImage(component.getGraphicsConfiguration(), source, width, height));
+            return;
+        }
+
+        final IconState requestedState = state;
+        final GraphicsConfiguration configuration = component.getGraphicsConfiguration();
+        ICON_SCALER.execute(() -> {
+            final Image scaled = ScaledImageCache.getScaledImage(configuration, source, width, height);
+            SwingUtilities.invokeLater(() -> {
+                // the component may have been removed or resized again in the meantime
+                if (iconStates.get(component) == requestedState
+                        && requestedState.width == width && requestedState.height == height) {
+                    setScaledIcon(component, requestedState, scaled);
+                }
+            });
         });
     }
 
+    /**
+     * Sets the scaled icon to the component, remembering it as such.
+     *
+     * @param component the component
+     * @param state     the icon state of the component
+     * @param scaled    the scaled image
+     */
+    private void setScaledIcon(final Component component, final IconState state, final Image scaled) {
+        state.scaledIcon = new ImageIcon(scaled);
+        setComponentIcon(component, state.scaledIcon);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -209,6 +288,26 @@ public class ScalableLayoutImpl implements LayoutManager2 {
                 "mappedConstraints="
                 + mappedConstraints
                 +
+                ", asyncScaling="
+                + asyncScaling
+                +
                 '}';
     }
+
+    /**
+     * Original icon of a component together with the size it was last scaled to.
+     */
+    private static final class IconState {
+        private final ImageIcon sourceIcon;
+        private Icon scaledIcon;
+        private int width;
+        private int height;
+
+        /**
+         * @param sourceIcon the original icon of the component
+         */
+        IconState(final ImageIcon sourceIcon) {
+            this.sourceIcon = sourceIcon;
+        }
+    }
 }
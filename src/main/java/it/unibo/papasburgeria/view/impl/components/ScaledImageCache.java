@@ -0,0 +1,223 @@
+package it.unibo.papasburgeria.view.impl.components;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Cache of images already scaled to the size they are drawn at, so that drawing them is a plain copy instead of a
+ * rescale of the source image on every frame.
+ *
+ * <p>
+ * Scaled images are compatible with the graphics configuration they are drawn on, they are kept for as long as their
+ * source image is alive and within a pixel budget, evicting the least recently used ones first.
+ * The cache should be cleared when the frame is resized, as the previous sizes will not be drawn anymore.
+ */
+public final class ScaledImageCache {
+    private static final int MAX_VARIANTS_PER_IMAGE = 4;
+    private static final long MAX_CACHED_PIXELS = 16L * 1024 * 1024;
+
+    private static final Map<Image, List<ScaledImage>> CACHE = new WeakHashMap<>();
+    private static long uses;
+
+    private ScaledImageCache() {
+    }
+
+    /**
+     * Gets the source image scaled to the given size, scaling it only if it was not already cached.
+     *
+     * @param graphics the graphics the image will be drawn on
+     * @param source   the source image
+     * @param width    the width to draw the image at
+     * @param height   the height to draw the image at
+     * @return the scaled image, or the source image if it does not need or cannot be scaled yet
+     */
+    public static Image getScaledImage(final Graphics graphics, final Image source, final int width, final int height) {
+        return getScaledImage(graphics instanceof Graphics2D graphics2D ? graphics2D.getDeviceConfiguration() : null,
+                source, width, height);
+    }
+
+    /**
+     * Gets the source image scaled to the given size, scaling it only if it was not already cached.
+     *
+     * <p>
+     * It can be called from any thread, the scaling itself does not hold the cache lock.
+     * </p>
+     *
+     * @param configuration the configuration of the device the image will be drawn on, null if unknown
+     * @param source        the source image
+     * @param width         the width to draw the image at
+     * @param height        the height to draw the image at
+     * @return the scaled image, or the source image if it does not need or cannot be scaled yet
+     */
+    public static Image getScaledImage(final GraphicsConfiguration configuration, final Image source,
+                                       final int width, final int height) {
+        final Image cached = getCachedImage(source, width, height);
+        if (cached != null) {
+            return cached;
+        }
+
+        return putScaledImage(source, createScaledImage(configuration, source, width, height));
+    }
+
+    /**
+     * Gets the source image scaled to the given size, only if it is already cached.
+     *
+     * @param source the source image
+     * @param width  the width to draw the image at
+     * @param height the height to draw the image at
+     * @return the scaled image, the source image if it does not need or cannot be scaled yet, or null if not cached
+     */
+    public static synchronized Image getCachedImage(final Image source, final int width, final int height) {
+        final int sourceWidth = source.getWidth(null);
+        final int sourceHeight = source.getHeight(null);
+        if (width <= 0 || height <= 0 || sourceWidth < 0 || sourceHeight < 0
+                || sourceWidth == width && sourceHeight == height) {
+            return source;
+        }
+
+        final List<ScaledImage> variants = CACHE.get(source);
+        if (variants != null) {
+            for (int index = 0; index < variants.size(); index++) {
+                final ScaledImage variant = variants.get(index);
+                if (variant.width == width && variant.height == height) {
+                    uses++;
+                    variant.lastUse = uses;
+                    return variant.image;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes every scaled image from the cache.
+     */
+    public static synchronized void clear() {
+        CACHE.clear();
+    }
+
+    /**
+     * Adds the scaled image to the cache, unless another thread already added one of the same size.
+     *
+     * @param source the source image
+     * @param scaled the scaled image
+     * @return the cached scaled image
+     */
+    private static synchronized Image putScaledImage(final Image source, final BufferedImage scaled) {
+        final int width = scaled.getWidth();
+        final int height = scaled.getHeight();
+        List<ScaledImage> variants = CACHE.get(source);
+        if (variants == null) {
+            variants = new ArrayList<>(MAX_VARIANTS_PER_IMAGE);
+            CACHE.put(source, variants);
+        }
+
+        for (int index = 0; index < variants.size(); index++) {
+            final ScaledImage variant = variants.get(index);
+            if (variant.width == width && variant.height == height) {
+                return variant.image;
+            }
+        }
+
+        if (variants.size() >= MAX_VARIANTS_PER_IMAGE) {
+            variants.removeFirst();
+        }
+        final ScaledImage variant = new ScaledImage(width, height, scaled);
+        uses++;
+        variant.lastUse = uses;
+        variants.add(variant);
+        evictOverBudget();
+        return scaled;
+    }
+
+    /**
+     * Draws the source image on a new image of the given size, compatible with the device configuration if known.
+     *
+     * @param configuration the configuration of the device the image will be drawn on, null if unknown
+     * @param source        the source image
+     * @param width         the width of the scaled image
+     * @param height        the height of the scaled image
+     * @return the scaled image
+     */
+    private static BufferedImage createScaledImage(final GraphicsConfiguration configuration, final Image source,
+                                                   final int width, final int height) {
+        final BufferedImage scaled = configuration == null
+                ? new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB)
+                : configuration.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+
+        final Graphics2D scaledGraphics = scaled.createGraphics();
+        scaledGraphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        scaledGraphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        scaledGraphics.drawImage(source, 0, 0, width, height, null);
+        scaledGraphics.dispose();
+        return scaled;
+    }
+
+    /**
+     * Evicts the least recently used scaled images until the cached ones fit the pixel budget.
+     */
+    private static void evictOverBudget() {
+        long cachedPixels = 0;
+        for (final List<ScaledImage> variants : CACHE.values()) {
+            for (final ScaledImage variant : variants) {
+                cachedPixels += variant.getPixels();
+            }
+        }
+
+        while (cachedPixels > MAX_CACHED_PIXELS) {
+            List<ScaledImage> oldestVariants = null;
+            ScaledImage oldest = null;
+            for (final List<ScaledImage> variants : CACHE.values()) {
+                for (final ScaledImage variant : variants) {
+                    if (oldest == null || variant.lastUse < oldest.lastUse) {
+                        oldest = variant;
+                        oldestVariants = variants;
+                    }
+                }
+            }
+
+            if (oldest == null) {
+                return;
+            }
+            oldestVariants.remove(oldest);
+            cachedPixels -= oldest.getPixels();
+        }
+    }
+
+    /**
+     * Source image scaled to a given size.
+     */
+    private static final class ScaledImage {
+        private final int width;
+        private final int height;
+        private final Image image;
+        private long lastUse;
+
+        /**
+         * @param width  the width of the image
+         * @param height the height of the image
+         * @param image  the scaled image
+         */
+        ScaledImage(final int width, final int height, final Image image) {
+            this.width = width;
+            this.height = height;
+            this.image = image;
+        }
+
+        /**
+         * @return the number of pixels of the image
+         */
+        long getPixels() {
+            return (long) width * height;
+        }
+    }
+}
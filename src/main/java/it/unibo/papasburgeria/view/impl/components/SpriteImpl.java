@@ -1,10 +1,8 @@
 package it.unibo.papasburgeria.view.impl.components;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.papasburgeria.model.IngredientEnum;
 import it.unibo.papasburgeria.model.api.IngredientModel;
-import it.unibo.papasburgeria.model.api.PattyModel;
-import it.unibo.papasburgeria.model.impl.IngredientModelImpl;
-import it.unibo.papasburgeria.model.impl.PattyModelImpl;
 import it.unibo.papasburgeria.view.api.components.Sprite;
 
 import java.awt.Dimension;
@@ -15,14 +13,22 @@ import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
 /**
  * Implementation of Sprite.
  *
  * <p>
+ * Sprites are compared by identity, as they are retained across frames while their position and ingredient change.
+ * A sprite shows the ingredient it is given as it is, without copying it, so reading the ingredient never creates one
+ * and it can be used to find the ingredient in the model. A copy of a sprite shows the same ingredient.
+ *
+ * <p>
  * See {@link Sprite} for interface details.
  */
+@SuppressFBWarnings(
+        value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"},
+        justification = "The ingredient is shared intentionally, so that it can be found in the model"
+)
 public class SpriteImpl implements Sprite {
     private final double pbSizeXScale;
     private final double pbSizeYScale;
@@ -57,11 +63,7 @@ public class SpriteImpl implements Sprite {
                       final double pbSizeYScale
     ) {
         this.images = new ArrayList<>(List.of(image));
-        if (ingredient instanceof PattyModel patty) {
-            this.ingredient = new PattyModelImpl(patty);
-        } else {
-            this.ingredient = new IngredientModelImpl(ingredient);
-        }
+        this.ingredient = ingredient;
         this.pbPositionXScale = pbPositionXScale;
         this.pbPositionYScale = pbPositionYScale;
         this.pbSizeXScale = pbSizeXScale;
@@ -80,12 +82,7 @@ public class SpriteImpl implements Sprite {
      */
     public SpriteImpl(final Sprite sprite) {
         this.images = sprite.getImages();
-        final IngredientModel newIngredient = sprite.getIngredient();
-        if (newIngredient instanceof PattyModel patty) {
-            this.ingredient = new PattyModelImpl(patty);
-        } else {
-            this.ingredient = new IngredientModelImpl(newIngredient);
-        }
+        this.ingredient = sprite.getIngredient();
         this.pbPositionXScale = sprite.getPbPositionXScale();
         this.pbPositionYScale = sprite.getPbPositionYScale();
         this.pbSizeXScale = sprite.getPbSizeXScale();
@@ -185,6 +182,14 @@ public class SpriteImpl implements Sprite {
         return new ArrayList<>(images);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setImages(final List<Image> newImages) {
+        images = new ArrayList<>(newImages);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -198,11 +203,7 @@ public class SpriteImpl implements Sprite {
      */
     @Override
     public IngredientModel getIngredient() {
-        if (ingredient instanceof PattyModel patty) {
-            return new PattyModelImpl(patty);
-        } else {
-            return new IngredientModelImpl(ingredient);
-        }
+        return ingredient;
     }
 
     /**
@@ -210,11 +211,7 @@ public class SpriteImpl implements Sprite {
      */
     @Override
     public void setIngredient(final IngredientModel newIngredient) {
-        if (newIngredient instanceof PattyModel patty) {
-            ingredient = new PattyModelImpl(patty);
-        } else {
-            ingredient = new IngredientModelImpl(newIngredient);
-        }
+        ingredient = newIngredient;
     }
 
     /**
@@ -351,40 +348,11 @@ public class SpriteImpl implements Sprite {
         final int width = calculateWidth(frameWidth);
         final int height = calculateHeight(frameHeight);
 
-        for (final Image image : images) {
-            g.drawImage(image, x, y, width, height, null);
+        for (int index = 0; index < images.size(); index++) {
+            g.drawImage(ScaledImageCache.getScaledImage(g, images.get(index), width, height), x, y, null);
         }
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean equals(final Object object) {
-        if (this == object) {
-            return true;
-        }
-        if (object == null || getClass() != object.getClass()) {
-            return false;
-        }
-        final SpriteImpl other = (SpriteImpl) object;
-        return Objects.equals(this.ingredient, other.getIngredient())
-                && Objects.equals(this.pbPositionXScale, other.getPbPositionXScale())
-                && Objects.equals(this.pbPositionYScale, other.getPbPositionYScale());
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public int hashCode() {
-        return Objects.hash(
-                ingredient,
-                pbPositionXScale,
-                pbPositionYScale
-        );
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -49,7 +49,7 @@ class EvaluateBurgerControllerImplTest {
         final HamburgerModel copy = controller.getHamburgerOnAssembly();
 
         assertNotNull(copy);
-        assertEquals(original.getIngredients(), ((HamburgerModelImpl) copy).getIngredients());
+        assertEquals(original.getIngredients(), copy.getIngredients());
         assertNotSame(original, copy, "Returned burger should be a copy");
     }
 
@@ -97,7 +97,7 @@ class EvaluateBurgerControllerImplTest {
 
         controller.emptyHamburgerOnAssembly();
 
-        final HamburgerModelImpl result = (HamburgerModelImpl) gameModel.getHamburgerOnAssembly();
+        final HamburgerModel result = gameModel.getHamburgerOnAssembly();
         assertNotNull(result);
         assertTrue(result.getIngredients().isEmpty());
     }
@@ -3,19 +3,29 @@ package it.unibo.papasburgeria.controller.impl;
 import it.unibo.papasburgeria.model.api.GameModel;
 import it.unibo.papasburgeria.model.api.PattyModel;
 import it.unibo.papasburgeria.model.impl.GameModelImpl;
+import it.unibo.papasburgeria.model.impl.GrillConfig;
+import it.unibo.papasburgeria.model.impl.GrillModelImpl;
 import it.unibo.papasburgeria.model.impl.PattyModelImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Objects;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Test class for {@link GrillControllerImpl}.
  */
 class GrillControllerImplTest {
+    private static final double TOLERANCE = 1e-9;
+    private static final double SLOT_POSITION_SCALE = 0.5;
+    private static final double FRAME_SECONDS = 1.0 / GameControllerImpl.FRAMERATE;
+
     private GrillControllerImpl controller;
 
     /**
@@ -49,7 +59,10 @@ class GrillControllerImplTest {
         }
         assertTrue(found);
 
+        /* only the patty on the grill is removed, not an equal one */
         controller.removePattyFromGrill(patty);
+        assertNotNull(getPattyInSlot());
+        controller.removePattyFromGrill(getPattyInSlot());
         pattiesOnGrill = controller.getPattiesOnGrill();
         found = false;
         for (final PattyModel[] pattyRow : pattiesOnGrill) {
@@ -63,23 +76,21 @@ class GrillControllerImplTest {
     }
 
     /**
-     * Tests {@link GrillControllerImpl#cookPattiesOnGrill()}.
+     * Tests {@link GrillControllerImpl#cookPattiesOnGrill(double)}.
      */
     @Test
     void testCookPattiesOnGrill() {
-        final PattyModel patty = new PattyModelImpl();
-        final double pbPositionXScale = 0.5;
-        final double pbPositionYScale = 0.5;
+        controller.addPattyOnGrill(new PattyModelImpl(), SLOT_POSITION_SCALE, SLOT_POSITION_SCALE);
+        controller.cookPattiesOnGrill(FRAME_SECONDS);
+        PattyModel patty = getPattyInSlot();
+        assertTrue(patty.getBottomCookLevel() > PattyModelImpl.MIN_COOK_LEVEL);
 
-        controller.addPattyOnGrill(patty, pbPositionXScale, pbPositionYScale);
-        final double initialBottom = patty.getBottomCookLevel();
-        controller.cookPattiesOnGrill();
-        assertTrue(patty.getBottomCookLevel() > initialBottom);
-
-        patty.flip();
-        final double initialTop = patty.getTopCookLevel();
-        controller.cookPattiesOnGrill();
-        assertTrue(patty.getTopCookLevel() > initialTop);
+        controller.flipPatty(patty);
+        final double bottomCookLevel = patty.getBottomCookLevel();
+        controller.cookPattiesOnGrill(GrillModelImpl.SECONDS_TO_FULLY_COOK_PATTY);
+        patty = getPattyInSlot();
+        assertEquals(bottomCookLevel, patty.getBottomCookLevel());
+        assertEquals(PattyModelImpl.MAX_COOK_LEVEL, patty.getTopCookLevel(), TOLERANCE);
     }
 
     /**
@@ -102,12 +113,67 @@ class GrillControllerImplTest {
     @Test
     void testFlipPatty() {
         final PattyModel patty = new PattyModelImpl();
-        final double pbPositionXScale = 0.5;
-        final double pbPositionYScale = 0.5;
-
-        controller.addPattyOnGrill(patty, pbPositionXScale, pbPositionYScale);
+        controller.addPattyOnGrill(patty, SLOT_POSITION_SCALE, SLOT_POSITION_SCALE);
+        assertFalse(getPattyInSlot().isFlipped());
+        controller.flipPatty(patty);
+        assertFalse(getPattyInSlot().isFlipped());
+        controller.flipPatty(getPattyInSlot());
+        assertTrue(getPattyInSlot().isFlipped());
         assertFalse(patty.isFlipped());
+    }
+
+    /**
+     * Tests {@link GrillControllerImpl#movePattyOnGrill(PattyModel, double, double)}.
+     */
+    @Test
+    void testMovePattyOnGrill() {
+        controller.addPattyOnGrill(new PattyModelImpl(), 0.0, 0.0);
+        final PattyModel patty = getPattyInSlot();
         controller.flipPatty(patty);
+        assertTrue(controller.movePattyOnGrill(patty, SLOT_POSITION_SCALE, SLOT_POSITION_SCALE));
+        assertSame(patty, getPattyInSlot());
         assertTrue(patty.isFlipped());
+        assertNull(controller.getPattiesOnGrill()[0][0]);
+
+        controller.addPattyOnGrill(new PattyModelImpl(), 0.0, 0.0);
+        assertFalse(controller.movePattyOnGrill(controller.getPattiesOnGrill()[0][0],
+                SLOT_POSITION_SCALE, SLOT_POSITION_SCALE));
+    }
+
+    /**
+     * Tests {@link GrillControllerImpl#placePattyOnGrill(PattyModel)}.
+     */
+    @Test
+    void testPlacePattyOnGrill() {
+        final GrillControllerImpl stationsController = new GrillControllerImpl(
+                new GameModelImpl(new GrillConfig(1, 1, 2)));
+        final PattyModel first = stationsController.placePattyOnGrill(new PattyModelImpl());
+        final PattyModel second = stationsController.placePattyOnGrill(new PattyModelImpl());
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNull(stationsController.placePattyOnGrill(new PattyModelImpl()));
+
+        stationsController.flipPatty(second);
+        stationsController.cookPattiesOnGrill(GrillModelImpl.SECONDS_TO_FULLY_COOK_PATTY);
+        assertFalse(first.isFlipped());
+        stationsController.removePattyFromGrill(second);
+        assertEquals(PattyModelImpl.MAX_COOK_LEVEL, second.getTopCookLevel(), TOLERANCE);
+        assertNotNull(stationsController.placePattyOnGrill(new PattyModelImpl()));
+    }
+
+    /**
+     * Returns the patty the test put on the grill.
+     *
+     * @return a copy of the patty, null if the grill is empty
+     */
+    private PattyModel getPattyInSlot() {
+        for (final PattyModel[] pattyRow : controller.getPattiesOnGrill()) {
+            for (final PattyModel pattyOnGrill : pattyRow) {
+                if (Objects.nonNull(pattyOnGrill)) {
+                    return pattyOnGrill;
+                }
+            }
+        }
+        return null;
     }
 }
@@ -3,6 +3,7 @@ package it.unibo.papasburgeria.controller.impl;
 import it.unibo.papasburgeria.controller.api.MenuController;
 import it.unibo.papasburgeria.model.UpgradeEnum;
 import it.unibo.papasburgeria.model.api.GameModel;
+import it.unibo.papasburgeria.model.api.GrillModel;
 import it.unibo.papasburgeria.model.api.HamburgerModel;
 import it.unibo.papasburgeria.model.api.OrderModel;
 import it.unibo.papasburgeria.model.api.PattyModel;
@@ -16,6 +17,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -51,13 +53,13 @@ class MenuControllerImplTest {
     }
 
     /**
-     * Tests {@link MenuController#getSaves()}.
+     * Tests {@link MenuController#getSaves(int, int)}.
      */
     @Test
-    void testGetSaves() throws IOException {
-        final List<SaveState> saveStates = this.saveService.loadAllSlots();
-        assertNotNull(saveStates);
-        assertTrue(saveStates.isEmpty());
+    void testGetSaves() {
+        assertEquals(0, this.menuController.getSaveCount());
+        assertTrue(this.menuController.getSaves(0, 2).isEmpty());
+        assertEquals(0, this.menuController.getNextFreeSaveIndex());
 
         final int balanceA = 1;
         final int balanceB = 3;
@@ -67,9 +69,12 @@ class MenuControllerImplTest {
         final SaveState saveB = new SaveState(balanceB, dayB, new EnumMap<>(UpgradeEnum.class));
         this.saveService.setSaveStates(List.of(saveA, saveB));
 
-        final List<SaveInfo> saveInfos = this.menuController.getSaves();
+        assertEquals(2, this.menuController.getSaveCount());
+        assertEquals(2, this.menuController.getNextFreeSaveIndex());
+        final List<SaveInfo> saveInfos = this.menuController.getSaves(0, 3);
         assertNotNull(saveInfos);
         assertEquals(2, saveInfos.size());
+        assertEquals(List.of(saveInfos.get(1)), this.menuController.getSaves(1, 1));
 
         final SaveInfo saveInfoA = saveInfos.get(0);
         assertEquals(0, saveInfoA.slotNumber());
@@ -117,15 +122,45 @@ class MenuControllerImplTest {
          * </p>
          */
         @Override
-        public List<SaveState> loadAllSlots() throws IOException {
-            return List.copyOf(this.saveStates);
+        public int getSlotCount() {
+            return this.saveStates.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>
+         * Overridden for this test.
+         * </p>
+         */
+        @Override
+        public List<SaveInfo> loadSlotInfos(final int offset, final int count) {
+            final List<SaveInfo> infos = new ArrayList<>();
+            for (int i = offset; i < Math.min(offset + count, this.saveStates.size()); i++) {
+                final SaveState state = this.saveStates.get(i);
+                infos.add(new SaveInfo(i, state.playerBalance(), state.gameDay()));
+            }
+            return infos;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>
+         * Overridden for this test.
+         * </p>
+         */
+        @Override
+        public int getNextFreeSlot() {
+            return this.saveStates.size();
         }
 
         /**
          * {@inheritDoc}
          */
         @Override
-        public void saveSlot(final int slotNumber, final SaveState saveState) throws IOException {
+        public CompletableFuture<Void> saveSlot(final int slotNumber, final SaveState saveState) {
+            return CompletableFuture.completedFuture(null);
         }
     }
 
@@ -189,6 +224,22 @@ class MenuControllerImplTest {
         public void setHamburgerOnAssembly(final HamburgerModel hamburger) {
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getGrillStations() {
+            return 0;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public GrillModel getGrill(final int station) {
+            return null;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -4,11 +4,18 @@ import it.unibo.papasburgeria.model.UpgradeEnum;
 import it.unibo.papasburgeria.model.api.GameModel;
 import it.unibo.papasburgeria.model.api.ShopModel;
 import it.unibo.papasburgeria.model.impl.GameModelImpl;
+import it.unibo.papasburgeria.utils.api.JournalService;
+import it.unibo.papasburgeria.utils.impl.saving.JournalEntry;
+import it.unibo.papasburgeria.utils.impl.saving.RevenueEvent;
+import it.unibo.papasburgeria.utils.impl.saving.UpgradeBoughtEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -21,6 +28,7 @@ class ShopControllerImplTest {
     private ShopControllerImpl controller;
     private GameModel model;
     private MockShopModel shop;
+    private MockJournalService journal;
 
     /**
      * Called before each test.
@@ -29,7 +37,8 @@ class ShopControllerImplTest {
     void setUp() {
         model = new GameModelImpl();
         shop = new MockShopModel();
-        controller = new ShopControllerImpl(model, shop);
+        journal = new MockJournalService();
+        controller = new ShopControllerImpl(model, shop, journal);
     }
 
     /**
@@ -57,6 +66,7 @@ class ShopControllerImplTest {
         controller.buyUpgrade(upgrade);
         assertTrue(shop.isUpgradeUnlocked(upgrade));
         assertEquals(0, model.getBalance());
+        assertEquals(List.of(new UpgradeBoughtEvent(upgrade, cost)), journal.events);
 
         assertTrue(shop.isUpgradeUnlocked(upgrade));
         model.setBalance(cost);
@@ -70,6 +80,7 @@ class ShopControllerImplTest {
         controller.buyUpgrade(upgrade);
         assertFalse(shop.isUpgradeUnlocked(upgrade));
         assertEquals(lowBalance, model.getBalance());
+        assertEquals(1, journal.events.size());
     }
 
     /**
@@ -164,4 +175,52 @@ class ShopControllerImplTest {
             return new EnumMap<>(upgrades);
         }
     }
+
+    /**
+     * Mock {@link JournalService} class to be used within this test, it only remembers the appended events.
+     */
+    static class MockJournalService implements JournalService {
+        private final List<RevenueEvent> events = new ArrayList<>();
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<JournalEntry> open(final int slotNumber, final long lastSequence) {
+            return List.of();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long append(final RevenueEvent event) {
+            events.add(event);
+            return events.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long getLastSequence() {
+            return events.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public CompletableFuture<Void> compact(final int slotNumber, final long lastSequence) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public CompletableFuture<Void> flush() {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
 }
@@ -11,8 +11,11 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Test class for {@link GameModelImpl}.
@@ -102,4 +105,30 @@ class GameModelTest {
         assertEquals(order.getOrderNumber(), retrieved.getOrderNumber());
         assertEquals(order.getHamburger().getIngredients(), retrieved.getHamburger().getIngredients());
     }
+
+    /**
+     * Tests {@link GameModelImpl#setPattiesOnGrill(PattyModel[][])}
+     * and {@link GameModelImpl#getPattiesOnGrill()} with more than one grill station.
+     */
+    @Test
+    void testSetAndGetPattiesOnGrillStations() {
+        final GameModel stationsModel = new GameModelImpl(new GrillConfig(2, 2, 2));
+        assertEquals(2, stationsModel.getGrillStations());
+        assertEquals(4, stationsModel.getPattiesOnGrill().length);
+
+        final PattyModel[][] patties = new PattyModel[5][3];
+        patties[0][0] = new PattyModelImpl();
+        patties[3][1] = new PattyModelImpl();
+        patties[3][2] = new PattyModelImpl();
+        patties[4][0] = new PattyModelImpl();
+        stationsModel.setPattiesOnGrill(patties);
+        assertTrue(stationsModel.getGrill(0).isOccupied(0, 0));
+        assertTrue(stationsModel.getGrill(1).isOccupied(1, 1));
+        assertEquals(new PattyModelImpl(), stationsModel.getPattiesOnGrill()[3][1]);
+        assertNull(stationsModel.getPattiesOnGrill()[3][0]);
+
+        stationsModel.reset();
+        assertFalse(stationsModel.getGrill(1).isOccupied(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new GrillConfig(0, 1, 1));
+    }
 }
@@ -0,0 +1,168 @@
+package it.unibo.papasburgeria.model.impl;
+
+import it.unibo.papasburgeria.model.api.GrillModel;
+import it.unibo.papasburgeria.model.api.PattyModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link GrillModelImpl}.
+ */
+class GrillModelImplTest {
+    private static final double TOLERANCE = 1e-9;
+    private static final double COOK_LEVEL = 0.25;
+
+    private GrillModel grill;
+
+    /**
+     * Called before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        grill = new GrillModelImpl(GameModelImpl.GRILL_ROWS, GameModelImpl.GRILL_COLUMNS);
+    }
+
+    /**
+     * Tests {@link GrillModelImpl#setPatty(int, int, PattyModel)} and {@link GrillModelImpl#getPatty(int, int)}.
+     */
+    @Test
+    void testSetPatty() {
+        assertFalse(grill.isOccupied(1, 2));
+        assertNull(grill.getPatty(1, 2));
+
+        final PattyModel patty = new PattyModelImpl();
+        patty.setTopCookLevel(COOK_LEVEL);
+        patty.flip();
+        grill.setPatty(1, 2, patty);
+        assertTrue(grill.isOccupied(1, 2));
+        assertFalse(grill.isOccupied(2, 1));
+        final PattyModel onGrill = grill.getPatty(1, 2);
+        assertEquals(patty, onGrill);
+        assertNotSame(patty, onGrill);
+        assertSame(onGrill, grill.getPatty(1, 2));
+
+        grill.tick(GrillModelImpl.SECONDS_TO_FULLY_COOK_PATTY);
+        grill.setPatty(1, 2, null);
+        assertFalse(grill.isOccupied(1, 2));
+        assertEquals(COOK_LEVEL + PattyModelImpl.MAX_COOK_LEVEL, onGrill.getTopCookLevel(), TOLERANCE);
+        assertThrows(IndexOutOfBoundsException.class, () -> grill.getPatty(GameModelImpl.GRILL_ROWS, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> grill.setPatty(0, GameModelImpl.GRILL_COLUMNS, patty));
+        assertThrows(IllegalArgumentException.class, () -> new GrillModelImpl(0, 1));
+    }
+
+    /**
+     * Tests {@link GrillModelImpl#movePatty(int, int, int, int)}.
+     */
+    @Test
+    void testMovePatty() {
+        grill.setPatty(0, 0, new PattyModelImpl());
+        final PattyModel patty = grill.getPatty(0, 0);
+        grill.flipPatty(0, 0);
+        grill.movePatty(0, 0, 2, 1);
+        assertFalse(grill.isOccupied(0, 0));
+        assertSame(patty, grill.getPatty(2, 1));
+        assertTrue(patty.isFlipped());
+        assertEquals(2 * grill.getColumns() + 1, grill.findSlot(patty));
+    }
+
+    /**
+     * Tests {@link GrillModelImpl#findSlot(PattyModel)}.
+     */
+    @Test
+    void testFindSlot() {
+        grill.setPatty(0, 1, new PattyModelImpl());
+        grill.setPatty(1, 0, new PattyModelImpl());
+        final PattyModel second = grill.getPatty(1, 0);
+        assertEquals(grill.getColumns(), grill.findSlot(second));
+        assertEquals(-1, grill.findSlot(new PattyModelImpl()));
+        assertEquals(-1, grill.findSlot(new PattyModelImpl(second)));
+
+        grill.setPatty(1, 0, null);
+        assertEquals(-1, grill.findSlot(second));
+    }
+
+    /**
+     * Tests {@link GrillModelImpl#findFreeSlot()}.
+     */
+    @Test
+    void testFindFreeSlot() {
+        final int rows = 9;
+        final int columns = 8;
+        final GrillModel large = new GrillModelImpl(rows, columns);
+        for (int slot = 0; slot < rows * columns; slot++) {
+            assertEquals(slot, large.findFreeSlot());
+            large.setPatty(slot / columns, slot % columns, new PattyModelImpl());
+        }
+        assertEquals(-1, large.findFreeSlot());
+
+        large.setPatty(rows - 1, 1, null);
+        assertEquals(rows * columns - columns + 1, large.findFreeSlot());
+        large.tick(GrillModelImpl.SECONDS_TO_FULLY_COOK_PATTY);
+        assertEquals(PattyModelImpl.MAX_COOK_LEVEL, large.getPatty(rows - 1, columns - 1).getBottomCookLevel(),
+                TOLERANCE);
+    }
+
+    /**
+     * Tests {@link GrillModelImpl#flipPatty(int, int)}.
+     */
+    @Test
+    void testFlipPatty() {
+        grill.flipPatty(0, 0);
+        assertNull(grill.getPatty(0, 0));
+
+        grill.setPatty(0, 0, new PattyModelImpl());
+        grill.flipPatty(0, 0);
+        assertTrue(grill.getPatty(0, 0).isFlipped());
+        grill.flipPatty(0, 0);
+        assertFalse(grill.getPatty(0, 0).isFlipped());
+    }
+
+    /**
+     * Tests {@link GrillModelImpl#tick(double)}.
+     */
+    @Test
+    void testTick() {
+        final PattyModel flipped = new PattyModelImpl();
+        flipped.flip();
+        grill.setPatty(0, 0, new PattyModelImpl());
+        grill.setPatty(GameModelImpl.GRILL_ROWS - 1, GameModelImpl.GRILL_COLUMNS - 1, flipped);
+
+        final double halfCookTime = GrillModelImpl.SECONDS_TO_FULLY_COOK_PATTY / 2;
+        grill.tick(halfCookTime);
+        grill.tick(halfCookTime);
+        final PattyModel first = grill.getPatty(0, 0);
+        assertEquals(PattyModelImpl.MAX_COOK_LEVEL, first.getBottomCookLevel(), TOLERANCE);
+        assertEquals(PattyModelImpl.MIN_COOK_LEVEL, first.getTopCookLevel());
+        final PattyModel last = grill.getPatty(GameModelImpl.GRILL_ROWS - 1, GameModelImpl.GRILL_COLUMNS - 1);
+        assertEquals(PattyModelImpl.MAX_COOK_LEVEL, last.getTopCookLevel(), TOLERANCE);
+        assertEquals(PattyModelImpl.MIN_COOK_LEVEL, last.getBottomCookLevel());
+
+        grill.setPatty(0, 0, null);
+        grill.tick(halfCookTime);
+        grill.setPatty(0, 0, new PattyModelImpl());
+        assertEquals(new PattyModelImpl(), grill.getPatty(0, 0));
+    }
+
+    /**
+     * Tests {@link GrillModelImpl#clear()}.
+     */
+    @Test
+    void testClear() {
+        grill.setPatty(0, 0, new PattyModelImpl());
+        grill.setPatty(1, 1, new PattyModelImpl());
+        grill.clear();
+        for (int row = 0; row < grill.getRows(); row++) {
+            for (int column = 0; column < grill.getColumns(); column++) {
+                assertFalse(grill.isOccupied(row, column));
+            }
+        }
+    }
+}
@@ -11,6 +11,7 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -78,4 +79,21 @@ class HamburgerModelImplTest {
         assertEquals(1, hamburger.getIngredients().size());
         assertEquals(0, copy.getIngredients().size());
     }
+
+    /**
+     * Tests {@link HamburgerModelImpl#getTopCookLevel(int)}.
+     */
+    @Test
+    void testGetTopCookLevel() {
+        final PattyModelImpl patty = new PattyModelImpl();
+        patty.setTopCookLevel(PattyModelImpl.MAX_COOK_LEVEL);
+        hamburger.addIngredient(new IngredientModelImpl(IngredientEnum.BOTTOM_BUN));
+        hamburger.addIngredient(patty);
+
+        assertEquals(2, hamburger.getIngredientCount());
+        assertEquals(IngredientEnum.PATTY, hamburger.getIngredientType(1));
+        assertEquals(PattyModelImpl.MAX_COOK_LEVEL, hamburger.getTopCookLevel(1));
+        assertThrows(IllegalArgumentException.class, () -> hamburger.getTopCookLevel(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> hamburger.getTopCookLevel(2));
+    }
 }
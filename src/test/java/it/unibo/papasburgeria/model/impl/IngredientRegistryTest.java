@@ -0,0 +1,62 @@
+package it.unibo.papasburgeria.model.impl;
+
+import it.unibo.papasburgeria.model.IngredientEnum;
+import it.unibo.papasburgeria.model.api.IngredientModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link IngredientRegistry}.
+ */
+class IngredientRegistryTest {
+    private static final double ACCURACY = 0.5;
+
+    private IngredientModel lettuce;
+
+    /**
+     * Called before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        lettuce = IngredientRegistry.get(IngredientEnum.LETTUCE);
+    }
+
+    /**
+     * Tests {@link IngredientRegistry#get(IngredientEnum)}.
+     */
+    @Test
+    void testGet() {
+        assertSame(lettuce, IngredientRegistry.get(IngredientEnum.LETTUCE));
+        assertEquals(IngredientEnum.LETTUCE, lettuce.getIngredientType());
+        assertEquals(IngredientModelImpl.PERFECT_ACCURACY, lettuce.getPlacementAccuracy());
+        assertThrows(IllegalArgumentException.class, () -> IngredientRegistry.get(IngredientEnum.PATTY));
+    }
+
+    /**
+     * Tests that the ingredients of {@link IngredientRegistry} cannot be changed, but their copies can.
+     */
+    @Test
+    void testReadOnly() {
+        assertThrows(UnsupportedOperationException.class, () -> lettuce.setPlacementAccuracy(ACCURACY));
+
+        final IngredientModel copy = new IngredientModelImpl(lettuce);
+        copy.setPlacementAccuracy(ACCURACY);
+        assertEquals(ACCURACY, copy.getPlacementAccuracy());
+        assertEquals(IngredientModelImpl.PERFECT_ACCURACY, lettuce.getPlacementAccuracy());
+    }
+
+    /**
+     * Tests {@link IngredientRegistry#isShared(IngredientModel)}.
+     */
+    @Test
+    void testIsShared() {
+        assertTrue(IngredientRegistry.isShared(lettuce));
+        assertFalse(IngredientRegistry.isShared(new IngredientModelImpl(IngredientEnum.LETTUCE)));
+    }
+}
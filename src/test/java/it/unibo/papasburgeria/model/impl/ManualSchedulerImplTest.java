@@ -0,0 +1,94 @@
+package it.unibo.papasburgeria.model.impl;
+
+import it.unibo.papasburgeria.model.api.GameScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link ManualSchedulerImpl}.
+ */
+class ManualSchedulerImplTest {
+    private static final long PERIOD = 10;
+
+    private ManualSchedulerImpl scheduler;
+    private List<Long> runTimes;
+
+    /**
+     * Called before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        scheduler = new ManualSchedulerImpl();
+        runTimes = new ArrayList<>();
+    }
+
+    /**
+     * Tests {@link ManualSchedulerImpl#scheduleAtFixedRate(Runnable, long, long, TimeUnit)}
+     * and {@link ManualSchedulerImpl#advance(long, TimeUnit)}.
+     */
+    @Test
+    void testScheduleAndAdvance() {
+        scheduler.scheduleAtFixedRate(this::recordRun, 0, PERIOD, TimeUnit.SECONDS);
+        scheduler.advance(PERIOD * 2, TimeUnit.SECONDS);
+        assertEquals(List.of(0L, PERIOD, PERIOD * 2), runTimes);
+        assertEquals(PERIOD * 2, scheduler.getTime(TimeUnit.SECONDS));
+
+        assertThrows(IllegalArgumentException.class, () -> scheduler.advance(-1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.scheduleAtFixedRate(this::recordRun, 0, 0, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Tests {@link ManualSchedulerImpl#pause()} and {@link ManualSchedulerImpl#resume()}.
+     */
+    @Test
+    void testPauseAndResume() {
+        scheduler.scheduleAtFixedRate(this::recordRun, PERIOD, PERIOD, TimeUnit.SECONDS);
+        scheduler.advance(PERIOD / 2, TimeUnit.SECONDS);
+
+        scheduler.pause();
+        assertTrue(scheduler.isPaused());
+        scheduler.advance(PERIOD * 2, TimeUnit.SECONDS);
+        assertFalse(scheduler.advanceToNextRun());
+        assertTrue(runTimes.isEmpty());
+        assertEquals(PERIOD / 2, scheduler.getTime(TimeUnit.SECONDS));
+
+        scheduler.resume();
+        assertFalse(scheduler.isPaused());
+        scheduler.advance(PERIOD / 2, TimeUnit.SECONDS);
+        assertEquals(List.of(PERIOD), runTimes);
+    }
+
+    /**
+     * Tests {@link ManualSchedulerImpl#advanceToNextRun()} and {@link GameScheduler.ScheduledTask#cancel()}.
+     */
+    @Test
+    void testAdvanceToNextRunAndCancel() {
+        final GameScheduler.ScheduledTask task =
+                scheduler.scheduleAtFixedRate(this::recordRun, PERIOD, PERIOD, TimeUnit.SECONDS);
+        assertTrue(scheduler.advanceToNextRun());
+        assertEquals(List.of(PERIOD), runTimes);
+
+        task.cancel();
+        assertTrue(task.isCancelled());
+        assertFalse(scheduler.advanceToNextRun());
+        scheduler.advance(PERIOD, TimeUnit.SECONDS);
+        assertEquals(List.of(PERIOD), runTimes);
+    }
+
+    /**
+     * Records the game time of a run.
+     */
+    private void recordRun() {
+        runTimes.add(scheduler.getTime(TimeUnit.SECONDS));
+    }
+}
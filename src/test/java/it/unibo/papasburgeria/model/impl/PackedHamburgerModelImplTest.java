@@ -0,0 +1,201 @@
+package it.unibo.papasburgeria.model.impl;
+
+import it.unibo.papasburgeria.model.IngredientEnum;
+import it.unibo.papasburgeria.model.api.HamburgerModel;
+import it.unibo.papasburgeria.model.api.IngredientModel;
+import it.unibo.papasburgeria.model.api.PattyModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link PackedHamburgerModelImpl}.
+ */
+class PackedHamburgerModelImplTest {
+    private static final double TOP_COOK_LEVEL = 0.25;
+    private static final double BOTTOM_COOK_LEVEL = 0.75;
+    private static final double ACCURACY = 0.5;
+
+    private HamburgerModel hamburger;
+
+    /**
+     * Called before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        hamburger = new PackedHamburgerModelImpl();
+    }
+
+    /**
+     * Tests {@link PackedHamburgerModelImpl#addIngredient(IngredientModel)}.
+     */
+    @Test
+    void testAddIngredient() {
+        assertFalse(hamburger.addIngredient(new IngredientModelImpl(IngredientEnum.LETTUCE)));
+
+        final IngredientModel bottomBun = new IngredientModelImpl(IngredientEnum.BOTTOM_BUN);
+        bottomBun.setPlacementAccuracy(ACCURACY);
+        assertTrue(hamburger.addIngredient(bottomBun));
+        assertEquals(IngredientModelImpl.PERFECT_ACCURACY, bottomBun.getPlacementAccuracy());
+
+        final IngredientModel lettuce = new IngredientModelImpl(IngredientEnum.LETTUCE);
+        lettuce.setPlacementAccuracy(ACCURACY);
+        assertTrue(hamburger.addIngredient(lettuce));
+        assertTrue(hamburger.addIngredient(createPatty()));
+        assertTrue(hamburger.addIngredient(new IngredientModelImpl(IngredientEnum.TOP_BUN)));
+        assertFalse(hamburger.addIngredient(new IngredientModelImpl(IngredientEnum.CHEESE)));
+
+        assertEquals(4, hamburger.getIngredientCount());
+        assertEquals(IngredientEnum.LETTUCE, hamburger.getIngredientType(1));
+        assertEquals(ACCURACY, hamburger.getPlacementAccuracy(1));
+        assertEquals(TOP_COOK_LEVEL, hamburger.getTopCookLevel(2));
+        assertEquals(BOTTOM_COOK_LEVEL, hamburger.getBottomCookLevel(2));
+        assertTrue(hamburger.isFlipped(2));
+        assertThrows(IllegalArgumentException.class, () -> hamburger.getTopCookLevel(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> hamburger.getIngredientType(4));
+
+        final List<IngredientModel> ingredients = hamburger.getIngredients();
+        assertEquals(List.of(bottomBun, lettuce, createPatty(), new IngredientModelImpl(IngredientEnum.TOP_BUN)),
+                ingredients);
+        assertEquals(ACCURACY, ingredients.get(1).getPlacementAccuracy());
+        ingredients.getFirst().setPlacementAccuracy(ACCURACY);
+        assertEquals(IngredientModelImpl.PERFECT_ACCURACY, hamburger.getPlacementAccuracy(0));
+
+        final HamburgerModel full = new PackedHamburgerModelImpl();
+        assertTrue(full.addIngredient(IngredientRegistry.get(IngredientEnum.BOTTOM_BUN)));
+        for (int i = 1; i < PackedHamburgerModelImpl.CAPACITY; i++) {
+            assertTrue(full.addIngredient(IngredientRegistry.get(IngredientEnum.MAYO)));
+        }
+        assertFalse(full.addIngredient(new IngredientModelImpl(IngredientEnum.TOP_BUN)));
+    }
+
+    /**
+     * Tests {@link PackedHamburgerModelImpl#removeLastIngredient()}.
+     */
+    @Test
+    void testRemoveLastIngredient() {
+        assertFalse(hamburger.removeLastIngredient());
+
+        hamburger.addIngredient(new IngredientModelImpl(IngredientEnum.BOTTOM_BUN));
+        hamburger.addIngredient(createPatty());
+        assertTrue(hamburger.removeLastIngredient());
+        assertEquals(1, hamburger.getIngredientCount());
+
+        hamburger.addIngredient(new PattyModelImpl());
+        assertFalse(hamburger.isFlipped(1));
+        assertEquals(new PackedHamburgerModelImpl(List.of(new IngredientModelImpl(IngredientEnum.BOTTOM_BUN),
+                new PattyModelImpl())), hamburger);
+    }
+
+    /**
+     * Tests {@link PackedHamburgerModelImpl#copyOf()}.
+     */
+    @Test
+    void testCopyOf() {
+        hamburger.addIngredient(new IngredientModelImpl(IngredientEnum.BOTTOM_BUN));
+        hamburger.addIngredient(createPatty());
+
+        final HamburgerModel copy = hamburger.copyOf();
+        assertNotSame(hamburger, copy);
+        assertEquals(hamburger, copy);
+        assertEquals(hamburger.getIngredients(), copy.getIngredients());
+
+        copy.removeLastIngredient();
+        assertEquals(2, hamburger.getIngredientCount());
+        assertEquals(1, copy.getIngredientCount());
+
+        hamburger.addIngredient(new IngredientModelImpl(IngredientEnum.CHEESE));
+        copy.addIngredient(new IngredientModelImpl(IngredientEnum.ONION));
+        assertEquals(IngredientEnum.CHEESE, hamburger.getIngredientType(2));
+        assertEquals(IngredientEnum.ONION, copy.getIngredientType(1));
+        assertEquals(TOP_COOK_LEVEL, hamburger.getTopCookLevel(1));
+    }
+
+    /**
+     * Tests {@link PackedHamburgerModelImpl#of(HamburgerModel)}.
+     */
+    @Test
+    void testOf() {
+        final HamburgerModel objects = new HamburgerModelImpl(List.of(
+                new IngredientModelImpl(IngredientEnum.BOTTOM_BUN), createPatty()));
+        final HamburgerModel packed = PackedHamburgerModelImpl.of(objects);
+        assertEquals(objects.getIngredients(), packed.getIngredients());
+        assertTrue(packed.isFlipped(1));
+
+        final HamburgerModel shared = PackedHamburgerModelImpl.of(packed);
+        assertNotSame(packed, shared);
+        assertEquals(packed, shared);
+        shared.removeLastIngredient();
+        assertEquals(2, packed.getIngredientCount());
+    }
+
+    /**
+     * Tests {@link PackedHamburgerModelImpl#equals(Object)} and {@link PackedHamburgerModelImpl#hashCode()}.
+     */
+    @Test
+    void testEquals() {
+        final List<IngredientModel> ingredients = List.of(new IngredientModelImpl(IngredientEnum.BOTTOM_BUN),
+                createPatty(), new IngredientModelImpl(IngredientEnum.TOP_BUN));
+        final HamburgerModel first = new PackedHamburgerModelImpl(ingredients);
+        final HamburgerModel second = new PackedHamburgerModelImpl(ingredients);
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+
+        second.removeLastIngredient();
+        assertNotEquals(first, second);
+        final IngredientModel topBun = new IngredientModelImpl(IngredientEnum.TOP_BUN);
+        topBun.setPlacementAccuracy(ACCURACY);
+        second.addIngredient(topBun);
+        assertEquals(first, second);
+
+        final HamburgerModel rawPatty = new PackedHamburgerModelImpl(List.of(
+                new IngredientModelImpl(IngredientEnum.BOTTOM_BUN), new PattyModelImpl(),
+                new IngredientModelImpl(IngredientEnum.TOP_BUN)));
+        assertNotEquals(first, rawPatty);
+        assertNotEquals(first, new HamburgerModelImpl(ingredients));
+    }
+
+    /**
+     * Tests {@link PackedHamburgerModelImpl#generateRandomHamburger(List)}.
+     */
+    @Test
+    void testGenerateRandomHamburger() {
+        final List<IngredientEnum> availableIngredients = List.of(IngredientEnum.BOTTOM_BUN, IngredientEnum.TOP_BUN,
+                IngredientEnum.PATTY, IngredientEnum.CHEESE);
+        for (int i = 0; i < 100; i++) {
+            final HamburgerModel generated = PackedHamburgerModelImpl.generateRandomHamburger(availableIngredients);
+            final int count = generated.getIngredientCount();
+            assertTrue(count >= HamburgerModelImpl.MIN_INGREDIENTS + 2);
+            assertTrue(count <= HamburgerModelImpl.MAX_INGREDIENTS + 1);
+            assertEquals(IngredientEnum.BOTTOM_BUN, generated.getIngredientType(0));
+            assertEquals(IngredientEnum.TOP_BUN, generated.getIngredientType(count - 1));
+            for (int index = 1; index < count - 1; index++) {
+                assertTrue(availableIngredients.subList(2, 4).contains(generated.getIngredientType(index)));
+            }
+        }
+
+        final HamburgerModel buns = PackedHamburgerModelImpl.generateRandomHamburger(List.of(IngredientEnum.TOP_BUN));
+        assertEquals(2, buns.getIngredientCount());
+    }
+
+    /**
+     * Creates a flipped patty, partially cooked.
+     *
+     * @return the patty
+     */
+    private static IngredientModel createPatty() {
+        final PattyModel patty = new PattyModelImpl();
+        patty.setTopCookLevel(TOP_COOK_LEVEL);
+        patty.setBottomCookLevel(BOTTOM_COOK_LEVEL);
+        patty.flip();
+        return (IngredientModel) patty;
+    }
+}
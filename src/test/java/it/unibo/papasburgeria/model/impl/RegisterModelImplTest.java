@@ -0,0 +1,173 @@
+package it.unibo.papasburgeria.model.impl;
+
+import it.unibo.papasburgeria.model.IngredientEnum;
+import it.unibo.papasburgeria.model.LineEnum;
+import it.unibo.papasburgeria.model.api.CustomerModel;
+import it.unibo.papasburgeria.model.api.RegisterModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link RegisterModelImpl}.
+ */
+class RegisterModelImplTest {
+    private static final int DELAY = 20;
+    private static final int CUSTOMER_AMOUNT = 3;
+    private static final List<IngredientEnum> INGREDIENTS =
+            List.of(IngredientEnum.BOTTOM_BUN, IngredientEnum.PATTY, IngredientEnum.TOP_BUN);
+
+    private ManualSchedulerImpl scheduler;
+    private RegisterModel registerModel;
+
+    /**
+     * Called before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        scheduler = new ManualSchedulerImpl();
+        registerModel = new RegisterModelImpl(scheduler);
+    }
+
+    /**
+     * Tests {@link RegisterModelImpl#startCustomerThread(int, int, List)}.
+     */
+    @Test
+    void testStartCustomerThread() {
+        assertFalse(registerModel.isCustomerThreadStatus());
+
+        registerModel.startCustomerThread(DELAY, CUSTOMER_AMOUNT, INGREDIENTS);
+        scheduler.advance(0, TimeUnit.SECONDS);
+        assertEquals(1, registerModel.getLine(LineEnum.REGISTER_LINE).size());
+        assertTrue(registerModel.isCustomerThreadStatus());
+
+        scheduler.advance(DELAY * (CUSTOMER_AMOUNT - 1), TimeUnit.SECONDS);
+        final List<CustomerModel> line = registerModel.getLine(LineEnum.REGISTER_LINE);
+        assertEquals(CUSTOMER_AMOUNT, line.size());
+        for (int i = 0; i < CUSTOMER_AMOUNT; i++) {
+            assertEquals(i + 1, line.get(i).getOrder().getOrderNumber());
+        }
+        assertFalse(registerModel.isCustomerThreadStatus());
+        assertFalse(scheduler.advanceToNextRun());
+    }
+
+    /**
+     * Tests that pausing the scheduler keeps the progress of the arrivals.
+     */
+    @Test
+    void testPausedArrivals() {
+        registerModel.startCustomerThread(DELAY, CUSTOMER_AMOUNT, INGREDIENTS);
+        scheduler.advance(DELAY / 2, TimeUnit.SECONDS);
+
+        scheduler.pause();
+        scheduler.advance(DELAY * CUSTOMER_AMOUNT, TimeUnit.SECONDS);
+        assertEquals(1, registerModel.getLine(LineEnum.REGISTER_LINE).size());
+
+        scheduler.resume();
+        scheduler.advance(DELAY / 2, TimeUnit.SECONDS);
+        assertEquals(2, registerModel.getLine(LineEnum.REGISTER_LINE).size());
+    }
+
+    /**
+     * Tests {@link RegisterModelImpl#getLineVersion(LineEnum)}
+     * and {@link RegisterModelImpl#hasLineChangedSince(LineEnum, long)}.
+     */
+    @Test
+    void testLineVersions() {
+        final CustomerModel customer = new CustomerModelImpl(INGREDIENTS, 1);
+        final long registerVersion = registerModel.getLineVersion(LineEnum.REGISTER_LINE);
+        final long waitVersion = registerModel.getLineVersion(LineEnum.WAIT_LINE);
+
+        registerModel.addCustomerToLine(customer, LineEnum.REGISTER_LINE);
+        assertTrue(registerModel.hasLineChangedSince(LineEnum.REGISTER_LINE, registerVersion));
+        assertFalse(registerModel.hasLineChangedSince(LineEnum.WAIT_LINE, waitVersion));
+
+        final long addedVersion = registerModel.getLineVersion(LineEnum.REGISTER_LINE);
+        final List<CustomerModel> snapshot = registerModel.getLine(LineEnum.REGISTER_LINE);
+        assertSame(snapshot, registerModel.getLine(LineEnum.REGISTER_LINE));
+
+        registerModel.removeCustomerFromLine(new CustomerModelImpl(INGREDIENTS, 2), LineEnum.REGISTER_LINE);
+        registerModel.clearLine(LineEnum.WAIT_LINE);
+        assertFalse(registerModel.hasLineChangedSince(LineEnum.REGISTER_LINE, addedVersion));
+        assertFalse(registerModel.hasLineChangedSince(LineEnum.WAIT_LINE, waitVersion));
+
+        registerModel.removeCustomerFromLine(customer, LineEnum.REGISTER_LINE);
+        assertTrue(registerModel.getLineVersion(LineEnum.REGISTER_LINE) > addedVersion);
+        assertEquals(1, snapshot.size());
+        assertTrue(registerModel.getLine(LineEnum.REGISTER_LINE).isEmpty());
+    }
+
+    /**
+     * Tests {@link RegisterModelImpl#onLineChanged(Consumer)}.
+     */
+    @Test
+    void testOnLineChanged() {
+        final List<LineEnum> changedLines = new ArrayList<>();
+        final Consumer<LineEnum> callback = changedLines::add;
+        registerModel.onLineChanged(callback);
+        assertThrows(IllegalArgumentException.class, () -> registerModel.onLineChanged(callback));
+        assertThrows(IllegalArgumentException.class, () -> registerModel.onLineChanged(null));
+
+        final CustomerModel customer = new CustomerModelImpl(INGREDIENTS, 1);
+        registerModel.addCustomerToLine(customer, LineEnum.REGISTER_LINE);
+        registerModel.removeCustomerFromLine(new CustomerModelImpl(INGREDIENTS, 2), LineEnum.REGISTER_LINE);
+        registerModel.clearLine(LineEnum.WAIT_LINE);
+        assertEquals(List.of(LineEnum.REGISTER_LINE), changedLines);
+
+        registerModel.removeCustomerFromLine(customer, LineEnum.REGISTER_LINE);
+        registerModel.addCustomerToLine(customer, LineEnum.WAIT_LINE);
+        registerModel.clearLine(LineEnum.WAIT_LINE);
+        assertEquals(List.of(LineEnum.REGISTER_LINE, LineEnum.REGISTER_LINE, LineEnum.WAIT_LINE, LineEnum.WAIT_LINE),
+                changedLines);
+    }
+
+    /**
+     * Tests {@link RegisterModelImpl#killCustomerThread()}.
+     */
+    @Test
+    void testKillCustomerThread() {
+        registerModel.startCustomerThread(DELAY, CUSTOMER_AMOUNT, INGREDIENTS);
+        scheduler.advance(0, TimeUnit.SECONDS);
+        registerModel.killCustomerThread();
+        assertFalse(registerModel.isCustomerThreadStatus());
+
+        scheduler.advance(DELAY * CUSTOMER_AMOUNT, TimeUnit.SECONDS);
+        assertEquals(1, registerModel.getLine(LineEnum.REGISTER_LINE).size());
+    }
+
+    /**
+     * Tests {@link RegisterModelImpl#resumeCustomerThread(int, int, List, int, long)}.
+     */
+    @Test
+    void testResumeCustomerThread() {
+        registerModel.startCustomerThread(DELAY, CUSTOMER_AMOUNT, INGREDIENTS);
+        scheduler.advance(DELAY / 2, TimeUnit.SECONDS);
+        assertEquals(1, registerModel.getArrivedCustomers());
+        assertEquals(TimeUnit.SECONDS.toMillis(DELAY / 2), registerModel.getNextArrivalDelay());
+
+        final RegisterModel resumedModel = new RegisterModelImpl(scheduler);
+        resumedModel.resumeCustomerThread(DELAY, CUSTOMER_AMOUNT, INGREDIENTS,
+                registerModel.getArrivedCustomers(), registerModel.getNextArrivalDelay());
+        registerModel.killCustomerThread();
+        scheduler.advance(DELAY / 2 - 1, TimeUnit.SECONDS);
+        assertTrue(resumedModel.getLine(LineEnum.REGISTER_LINE).isEmpty());
+
+        scheduler.advance(1 + DELAY, TimeUnit.SECONDS);
+        final List<CustomerModel> line = resumedModel.getLine(LineEnum.REGISTER_LINE);
+        assertEquals(CUSTOMER_AMOUNT - 1, line.size());
+        assertEquals(2, line.getFirst().getOrder().getOrderNumber());
+        assertEquals(CUSTOMER_AMOUNT, resumedModel.getArrivedCustomers());
+        assertEquals(0, resumedModel.getNextArrivalDelay());
+        assertFalse(resumedModel.isCustomerThreadStatus());
+    }
+}
@@ -0,0 +1,84 @@
+package it.unibo.papasburgeria.simulation.impl;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import it.unibo.papasburgeria.di.SimulationModule;
+import it.unibo.papasburgeria.model.CustomerDifficultyEnum;
+import it.unibo.papasburgeria.model.api.GameModel;
+import it.unibo.papasburgeria.simulation.api.DaySimulator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link DaySimulatorImpl}.
+ */
+class DaySimulatorImplTest {
+    private static final int SIMULATED_DAYS = 10;
+
+    private DaySimulator simulator;
+    private GameModel gameModel;
+
+    /**
+     * Called before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        final Injector injector = Guice.createInjector(new SimulationModule());
+        simulator = injector.getInstance(DaySimulator.class);
+        gameModel = injector.getInstance(GameModel.class);
+    }
+
+    /**
+     * Tests {@link DaySimulatorImpl#simulateDay()}.
+     */
+    @Test
+    void testSimulateDay() {
+        final int startingBalance = gameModel.getBalance();
+        final DayResult result = simulator.simulateDay();
+
+        assertEquals(1, result.day());
+        assertEquals(CustomerDifficultyEnum.FIRST.getCustomerCount(), result.servedOrders());
+        assertEquals(startingBalance + result.revenue(), gameModel.getBalance());
+        assertTrue(result.tips() <= result.revenue());
+        assertTrue(result.averageSatisfaction() >= 0 && result.averageSatisfaction() <= 1);
+        assertTrue(result.simulatedSeconds() >= (result.servedOrders() - 1)
+                * CustomerDifficultyEnum.FIRST.getSpawnIntervalSeconds());
+        assertEquals(2, gameModel.getCurrentDay());
+    }
+
+    /**
+     * Tests {@link DaySimulatorImpl#simulateDays(int)}.
+     */
+    @Test
+    void testSimulateDays() {
+        final List<DayResult> results = simulator.simulateDays(SIMULATED_DAYS);
+        assertEquals(SIMULATED_DAYS, results.size());
+        for (int i = 0; i < SIMULATED_DAYS; i++) {
+            assertEquals(i + 1, results.get(i).day());
+            assertEquals(CustomerDifficultyEnum.fromDay(i + 1).getCustomerCount(), results.get(i).servedOrders());
+        }
+        assertThrows(IllegalArgumentException.class, () -> simulator.simulateDays(-1));
+    }
+
+    /**
+     * Tests {@link DaySimulatorImpl#setPlayerProfile(PlayerProfile)}.
+     */
+    @Test
+    void testSetPlayerProfile() {
+        final PlayerProfile instantPlayer = new PlayerProfile(0, 0, 0, 0);
+        simulator.setPlayerProfile(instantPlayer);
+        assertEquals(instantPlayer, simulator.getPlayerProfile());
+
+        final List<DayResult> results = simulator.simulateDays(SIMULATED_DAYS);
+        for (final DayResult result : results) {
+            assertEquals(CustomerDifficultyEnum.fromDay(result.day()).getCustomerCount(), result.servedOrders());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new PlayerProfile(-1, 0, 0, 0));
+    }
+}
@@ -0,0 +1,204 @@
+package it.unibo.papasburgeria.utils.impl;
+
+import it.unibo.papasburgeria.model.UpgradeEnum;
+import it.unibo.papasburgeria.utils.impl.saving.BinarySaveServiceImpl;
+import it.unibo.papasburgeria.utils.impl.saving.CustomerState;
+import it.unibo.papasburgeria.utils.impl.saving.DayState;
+import it.unibo.papasburgeria.utils.impl.saving.IngredientState;
+import it.unibo.papasburgeria.utils.impl.saving.OrderState;
+import it.unibo.papasburgeria.utils.impl.saving.SaveInfo;
+import it.unibo.papasburgeria.utils.impl.saving.SaveServiceImpl;
+import it.unibo.papasburgeria.utils.impl.saving.SaveState;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link BinarySaveServiceImpl}.
+ */
+class BinarySaveServiceImplTest {
+    private static final int BALANCE = 321;
+    private static final int DAY = 654;
+    private static final long JOURNAL_SEQUENCE = 42;
+    private static final int CORRUPTED_SLOT_INDEX = 3;
+    private static final int WIDE_GRILL_SLOT_INDEX = 4;
+    private static final int WIDE_GRILL_COLUMNS = 300;
+    private static final int LONG_LINES_SLOT_INDEX = 5;
+    private static final int LONG_LINES_CUSTOMERS = 400;
+    private static final long LONG_LINES_MIN_FILE_SIZE = 64 * 1024;
+
+    @TempDir
+    private static Path tempDirectory;
+
+    private InspectableBinarySaveService saveService;
+    private SaveState saveState;
+
+    /**
+     * Called before all tests.
+     */
+    @BeforeAll
+    static void changeUserHome() {
+        System.setProperty("user.home", tempDirectory.toString());
+    }
+
+    /**
+     * Called before each test.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        this.saveService = new InspectableBinarySaveService();
+        final Map<UpgradeEnum, Boolean> upgrades = new EnumMap<>(UpgradeEnum.class);
+        upgrades.put(UpgradeEnum.CUSTOMER_TIP, true);
+        upgrades.put(UpgradeEnum.SLOW_CUSTOMERS, false);
+        this.saveState = new SaveState(BALANCE, DAY, upgrades);
+    }
+
+    /**
+     * Tests {@link BinarySaveServiceImpl#saveSlot(int, SaveState)} and {@link BinarySaveServiceImpl#loadSlot(int)}.
+     */
+    @Test
+    void testSaveLoad() throws IOException {
+        final int slotIndex = 0;
+        this.saveService.saveSlot(slotIndex, this.saveState).join();
+
+        assertEquals(this.saveState, new BinarySaveServiceImpl().loadSlot(slotIndex));
+        final Path path = this.saveService.getPath(slotIndex);
+        assertFalse(Files.exists(path.resolveSibling(path.getFileName() + ".tmp")), "Expected no temporary file left.");
+    }
+
+    /**
+     * Tests {@link BinarySaveServiceImpl#saveSlot(int, SaveState)} and {@link BinarySaveServiceImpl#loadSlot(int)}
+     * with the state of a day in progress.
+     */
+    @Test
+    void testSaveLoadDayState() throws IOException {
+        final int slotIndex = 2;
+        final SaveState dayInProgress = new SaveState(BALANCE, DAY, this.saveState.upgrades(),
+                ServiceHelpers.createDayState(), JOURNAL_SEQUENCE);
+        this.saveService.saveSlot(slotIndex, dayInProgress).join();
+
+        assertEquals(dayInProgress, new BinarySaveServiceImpl().loadSlot(slotIndex));
+    }
+
+    /**
+     * Tests {@link BinarySaveServiceImpl#saveSlot(int, SaveState)} and {@link BinarySaveServiceImpl#loadSlot(int)}
+     * with a grill wider than a byte can count.
+     */
+    @Test
+    void testSaveLoadWideGrill() throws IOException {
+        final DayState dayState = ServiceHelpers.createDayState();
+        final List<IngredientState> row = new ArrayList<>(Collections.nCopies(WIDE_GRILL_COLUMNS, null));
+        row.set(WIDE_GRILL_COLUMNS - 1, dayState.cookedPatties().getFirst());
+        final DayState wideGrill = new DayState(dayState.hamburgerOnAssembly(), List.of(row),
+                dayState.cookedPatties(), dayState.selectedOrder(), dayState.registerLine(), dayState.waitLine(),
+                dayState.arrivedCustomers(), dayState.nextArrivalDelay());
+        final SaveState dayInProgress = new SaveState(BALANCE, DAY, this.saveState.upgrades(), wideGrill,
+                JOURNAL_SEQUENCE);
+        this.saveService.saveSlot(WIDE_GRILL_SLOT_INDEX, dayInProgress).join();
+
+        assertEquals(dayInProgress, new BinarySaveServiceImpl().loadSlot(WIDE_GRILL_SLOT_INDEX));
+    }
+
+    /**
+     * Tests {@link BinarySaveServiceImpl#saveSlot(int, SaveState)} and {@link BinarySaveServiceImpl#loadSlot(int)}
+     * with lines of a few hundred customers, larger than the initial buffer.
+     */
+    @Test
+    void testSaveLoadLongLines() throws IOException {
+        final DayState dayState = ServiceHelpers.createDayState();
+        final List<CustomerState> line = new ArrayList<>();
+        for (int i = 0; i < LONG_LINES_CUSTOMERS; i++) {
+            line.add(new CustomerState(i % 2, new OrderState(i, dayState.selectedOrder().hamburger())));
+        }
+        final DayState longLines = new DayState(dayState.hamburgerOnAssembly(), dayState.pattiesOnGrill(),
+                dayState.cookedPatties(), dayState.selectedOrder(), line, line, dayState.arrivedCustomers(),
+                dayState.nextArrivalDelay());
+        final SaveState dayInProgress = new SaveState(BALANCE, DAY, this.saveState.upgrades(), longLines,
+                JOURNAL_SEQUENCE);
+        this.saveService.saveSlot(LONG_LINES_SLOT_INDEX, dayInProgress).join();
+
+        assertTrue(Files.size(this.saveService.getPath(LONG_LINES_SLOT_INDEX)) > LONG_LINES_MIN_FILE_SIZE,
+                "Expected a slot larger than the initial buffer.");
+        assertEquals(dayInProgress, new BinarySaveServiceImpl().loadSlot(LONG_LINES_SLOT_INDEX));
+    }
+
+    /**
+     * Tests {@link BinarySaveServiceImpl#loadSlotInfos(int, int)}.
+     */
+    @Test
+    void testLoadSlotInfos() throws IOException {
+        final int slotIndex = 0;
+        this.saveService.saveSlot(slotIndex, this.saveState).join();
+
+        final BinarySaveServiceImpl reloaded = new BinarySaveServiceImpl();
+        final List<SaveInfo> infos = reloaded.loadSlotInfos(0, reloaded.getSlotCount());
+        assertTrue(infos.contains(new SaveInfo(slotIndex, BALANCE, DAY)));
+    }
+
+    /**
+     * Tests that {@link BinarySaveServiceImpl#loadSlot(int)} loads slots saved as JSON text.
+     */
+    @Test
+    void testLoadJsonSlot() throws IOException {
+        final int slotIndex = 1;
+        Files.deleteIfExists(this.saveService.getPath(slotIndex));
+        new SaveServiceImpl().saveSlot(slotIndex, this.saveState).join();
+
+        assertEquals(this.saveState, this.saveService.loadSlot(slotIndex));
+    }
+
+    /**
+     * Tests that {@link BinarySaveServiceImpl#loadSlot(int)} rejects corrupted slots.
+     */
+    @Test
+    void testLoadCorruptedSlot() throws IOException {
+        final int slotIndex = CORRUPTED_SLOT_INDEX;
+        this.saveService.saveSlot(slotIndex, this.saveState).join();
+
+        final Path path = this.saveService.getPath(slotIndex);
+        final byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(path, bytes);
+        assertThrows(IOException.class, () -> new BinarySaveServiceImpl().loadSlot(slotIndex));
+
+        Files.write(path, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> new BinarySaveServiceImpl().loadSlot(slotIndex));
+    }
+
+    /**
+     * Binary save service exposing the path of its slot files.
+     */
+    private static final class InspectableBinarySaveService extends BinarySaveServiceImpl {
+        /**
+         * Constructs the service.
+         *
+         * @throws IOException thrown upon failing of the creation of directories
+         */
+        InspectableBinarySaveService() throws IOException {
+            super();
+        }
+
+        /**
+         * @param slotNumber slot number
+         * @return the path of the slot file
+         */
+        Path getPath(final int slotNumber) {
+            return getSlotPath(slotNumber);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package it.unibo.papasburgeria.utils.impl;
+
+import it.unibo.papasburgeria.utils.impl.telemetry.FrameTelemetryImpl;
+import it.unibo.papasburgeria.utils.impl.telemetry.HistogramSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link FrameTelemetryImpl}.
+ */
+class FrameTelemetryImplTest {
+    private static final long PERIOD = 16_000_000;
+    private static final long LATE = 4_000_000;
+    private static final long UPDATE_TIME = 500;
+    private static final long PAINT_TIME = 60;
+    private static final String VIEW_NAME = "GrillViewImpl";
+    private static final int ALLOCATIONS = 64;
+    private static final int ALLOCATION_SIZE = 1024;
+
+    private FrameTelemetryImpl telemetry;
+
+    /**
+     * Called before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        this.telemetry = new FrameTelemetryImpl();
+    }
+
+    /**
+     * Tests {@link FrameTelemetryImpl#recordTick(long, long)}.
+     */
+    @Test
+    void testRecordTick() {
+        this.telemetry.recordTick(PERIOD, PERIOD);
+        this.telemetry.recordTick(PERIOD + LATE, PERIOD);
+        this.telemetry.recordTick(PERIOD - LATE, PERIOD);
+
+        assertEquals(3, this.telemetry.getTickInterval().count());
+        assertEquals(PERIOD + LATE, this.telemetry.getTickInterval().max());
+        assertEquals(LATE, this.telemetry.getJitter().max());
+    }
+
+    /**
+     * Tests {@link FrameTelemetryImpl#recordViewUpdate(String, long)}, {@link FrameTelemetryImpl#recordUpdate(long)}
+     * and {@link FrameTelemetryImpl#recordPaint(long)}.
+     */
+    @Test
+    void testRecordTimes() {
+        this.telemetry.recordViewUpdate(VIEW_NAME, UPDATE_TIME);
+        this.telemetry.recordUpdate(UPDATE_TIME);
+        this.telemetry.recordPaint(PAINT_TIME);
+
+        final Map<String, HistogramSnapshot> viewUpdateTimes = this.telemetry.getViewUpdateTimes();
+        assertEquals(1, viewUpdateTimes.get(VIEW_NAME).count());
+        assertEquals(UPDATE_TIME, this.telemetry.getUpdateTime().max());
+        assertEquals(PAINT_TIME, this.telemetry.getPaintTime().median());
+        assertFalse(this.telemetry.getSummary().isBlank());
+
+        this.telemetry.reset();
+        assertEquals(0, this.telemetry.getPaintTime().count());
+        assertEquals(0, this.telemetry.getViewUpdateTimes().get(VIEW_NAME).count());
+    }
+
+    /**
+     * Tests {@link FrameTelemetryImpl#recordFrameAllocation()}.
+     */
+    @Test
+    void testRecordFrameAllocation() {
+        this.telemetry.recordFrameAllocation();
+        final byte[][] allocations = new byte[ALLOCATIONS][];
+        for (int index = 0; index < ALLOCATIONS; index++) {
+            allocations[index] = new byte[ALLOCATION_SIZE];
+        }
+        this.telemetry.recordFrameAllocation();
+
+        final HistogramSnapshot allocatedBytes = this.telemetry.getAllocatedBytes();
+        if (allocatedBytes.count() > 0) {
+            assertTrue(allocatedBytes.max() >= (long) ALLOCATIONS * ALLOCATION_SIZE,
+                    "Expected the allocations of " + allocations.length + " arrays to be measured.");
+        }
+    }
+
+    /**
+     * Tests the registration of {@link FrameTelemetryImpl} over JMX.
+     */
+    @Test
+    void testRegistration() throws JMException {
+        this.telemetry.recordPaint(PAINT_TIME);
+
+        final Object paintTime = ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(new ObjectName(FrameTelemetryImpl.OBJECT_NAME), "PaintTime");
+        assertEquals(1L, ((CompositeData) paintTime).get("count"));
+    }
+}
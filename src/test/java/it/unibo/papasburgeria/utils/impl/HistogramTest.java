@@ -0,0 +1,81 @@
+package it.unibo.papasburgeria.utils.impl;
+
+import it.unibo.papasburgeria.utils.impl.telemetry.Histogram;
+import it.unibo.papasburgeria.utils.impl.telemetry.HistogramSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link Histogram}.
+ */
+class HistogramTest {
+    private static final int VALUES = 10_000;
+    private static final long SCALE = 1_000;
+    private static final double RELATIVE_ERROR = 1.0 / 32;
+    private static final long SMALL_VALUE = 42;
+
+    private Histogram histogram;
+
+    /**
+     * Called before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        this.histogram = new Histogram();
+    }
+
+    /**
+     * Tests {@link Histogram#record(long)} and {@link Histogram#getValueAtPercentile(double)}.
+     */
+    @Test
+    void testValueAtPercentile() {
+        assertEquals(0, this.histogram.getValueAtPercentile(50));
+        for (int value = 1; value <= VALUES; value++) {
+            this.histogram.record(value * SCALE);
+        }
+
+        for (final double percentile : new double[] {1, 50, 90, 99, 99.9}) {
+            final double expected = percentile / 100 * VALUES * SCALE;
+            final long actual = this.histogram.getValueAtPercentile(percentile);
+            assertTrue(Math.abs(actual - expected) <= expected * RELATIVE_ERROR,
+                    "Expected about " + expected + " at " + percentile + "% but was " + actual);
+        }
+        assertEquals(VALUES * SCALE, this.histogram.getValueAtPercentile(100));
+        assertThrows(IllegalArgumentException.class, () -> this.histogram.getValueAtPercentile(101));
+    }
+
+    /**
+     * Tests {@link Histogram#getSnapshot()} with small values, counted exactly, and negative ones.
+     */
+    @Test
+    void testGetSnapshot() {
+        this.histogram.record(SMALL_VALUE);
+        this.histogram.record(SMALL_VALUE);
+        this.histogram.record(-1);
+        this.histogram.record(Long.MAX_VALUE);
+
+        final HistogramSnapshot snapshot = this.histogram.getSnapshot();
+        assertEquals(4, snapshot.count());
+        assertEquals(SMALL_VALUE, snapshot.median());
+        assertEquals(Long.MAX_VALUE, snapshot.max());
+        assertEquals(Long.MAX_VALUE, snapshot.p99());
+    }
+
+    /**
+     * Tests {@link Histogram#reset()}.
+     */
+    @Test
+    void testReset() {
+        this.histogram.record(SMALL_VALUE);
+        this.histogram.reset();
+
+        assertEquals(new HistogramSnapshot(0, 0, 0, 0, 0), this.histogram.getSnapshot());
+        this.histogram.record(1);
+        assertEquals(1, this.histogram.getMax());
+        assertEquals(1.0, this.histogram.getMean());
+    }
+}
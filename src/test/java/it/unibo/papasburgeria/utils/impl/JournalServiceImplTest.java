@@ -0,0 +1,144 @@
+package it.unibo.papasburgeria.utils.impl;
+
+import it.unibo.papasburgeria.model.UpgradeEnum;
+import it.unibo.papasburgeria.utils.impl.saving.JournalEntry;
+import it.unibo.papasburgeria.utils.impl.saving.JournalServiceImpl;
+import it.unibo.papasburgeria.utils.impl.saving.OrderServedEvent;
+import it.unibo.papasburgeria.utils.impl.saving.UpgradeBoughtEvent;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link JournalServiceImpl}.
+ */
+class JournalServiceImplTest {
+    private static final int DAY = 7;
+    private static final int ORDER_NUMBER = 3;
+    private static final double SATISFACTION = 87.5;
+    private static final int PAYMENT = 40;
+    private static final int TIP = 6;
+    private static final int REPLAY_SLOT_INDEX = 2000;
+    private static final int COMPACT_SLOT_INDEX = 2001;
+    private static final int OTHER_SLOT_INDEX = 2002;
+    private static final int TORN_SLOT_INDEX = 2003;
+
+    @TempDir
+    private static Path tempDirectory;
+
+    private InspectableJournalService journalService;
+    private OrderServedEvent orderEvent;
+    private UpgradeBoughtEvent upgradeEvent;
+
+    /**
+     * Called before all tests.
+     */
+    @BeforeAll
+    static void changeUserHome() {
+        System.setProperty("user.home", tempDirectory.toString());
+    }
+
+    /**
+     * Called before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        this.journalService = new InspectableJournalService();
+        this.orderEvent = new OrderServedEvent(DAY, ORDER_NUMBER, SATISFACTION, PAYMENT, TIP);
+        this.upgradeEvent = new UpgradeBoughtEvent(UpgradeEnum.CUSTOMER_TIP, UpgradeEnum.CUSTOMER_TIP.getCost());
+    }
+
+    /**
+     * Tests {@link JournalServiceImpl#append} and {@link JournalServiceImpl#open(int, long)}.
+     */
+    @Test
+    void testAppendOpen() throws IOException {
+        assertEquals(0, this.journalService.append(this.orderEvent), "Expected nothing recorded without a slot.");
+        assertThrows(IllegalArgumentException.class, () -> this.journalService.open(-1, 0));
+
+        assertTrue(this.journalService.open(REPLAY_SLOT_INDEX, 0).isEmpty());
+        assertEquals(1, this.journalService.append(this.orderEvent));
+        assertEquals(2, this.journalService.append(this.upgradeEvent));
+        assertEquals(2, this.journalService.getLastSequence());
+        this.journalService.flush().join();
+
+        final JournalServiceImpl reopened = new JournalServiceImpl();
+        assertEquals(List.of(new JournalEntry(1, this.orderEvent), new JournalEntry(2, this.upgradeEvent)),
+                reopened.open(REPLAY_SLOT_INDEX, 0));
+        assertEquals(List.of(new JournalEntry(2, this.upgradeEvent)), reopened.open(REPLAY_SLOT_INDEX, 1));
+        assertEquals(2, reopened.getLastSequence());
+        assertEquals(3, reopened.append(this.orderEvent));
+    }
+
+    /**
+     * Tests {@link JournalServiceImpl#compact(int, long)}.
+     */
+    @Test
+    void testCompact() throws IOException {
+        this.journalService.open(COMPACT_SLOT_INDEX, 0);
+        this.journalService.append(this.orderEvent);
+        this.journalService.append(this.upgradeEvent);
+        this.journalService.append(this.orderEvent);
+        this.journalService.compact(COMPACT_SLOT_INDEX, 2).join();
+        this.journalService.append(this.upgradeEvent);
+        this.journalService.flush().join();
+
+        assertEquals(List.of(new JournalEntry(3, this.orderEvent), new JournalEntry(4, this.upgradeEvent)),
+                new JournalServiceImpl().open(COMPACT_SLOT_INDEX, 0));
+
+        this.journalService.open(OTHER_SLOT_INDEX, 0);
+        this.journalService.append(this.orderEvent);
+        this.journalService.compact(COMPACT_SLOT_INDEX, 0).join();
+        assertFalse(Files.exists(this.journalService.getPath(COMPACT_SLOT_INDEX)),
+                "Expected the journal of a slot not in use to be dropped.");
+    }
+
+    /**
+     * Tests {@link JournalServiceImpl#open(int, long)} with an entry torn by a crash.
+     */
+    @Test
+    void testOpenTornEntry() throws IOException {
+        this.journalService.open(TORN_SLOT_INDEX, 0);
+        this.journalService.append(this.orderEvent);
+        this.journalService.flush().join();
+
+        final Path path = this.journalService.getPath(TORN_SLOT_INDEX);
+        final long validSize = Files.size(path);
+        Files.write(path, new byte[] {0, 0, 0, 16, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        assertEquals(List.of(new JournalEntry(1, this.orderEvent)), new JournalServiceImpl().open(TORN_SLOT_INDEX, 0));
+        assertEquals(validSize, Files.size(path), "Expected the torn entry to be dropped.");
+    }
+
+    /**
+     * JournalServiceImpl exposing the path of the journals.
+     */
+    private static final class InspectableJournalService extends JournalServiceImpl {
+        /**
+         * Constructs the service.
+         */
+        InspectableJournalService() {
+            super();
+        }
+
+        /**
+         * @param slotNumber slot number
+         * @return the path of the journal
+         */
+        Path getPath(final int slotNumber) {
+            return getJournalPath(slotNumber);
+        }
+    }
+}
@@ -6,11 +6,16 @@ import it.unibo.papasburgeria.utils.impl.resource.ResourceServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.Clip;
 import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.atomic.DoubleAccumulator;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -62,6 +67,36 @@ class ResourceServiceImplTest {
         }
     }
 
+    /**
+     * Tests {@link ResourceServiceImpl#getAudioStream(String)}.
+     */
+    @Test
+    void testGetAudioStream() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> this.resourceService.getAudioStream(null));
+        assertThrows(IllegalArgumentException.class, () -> this.resourceService.getAudioStream(""));
+        assertThrows(ResourceLoadException.class, () -> this.resourceService.getAudioStream("this-does-not-exist.wav"));
+
+        try (AudioInputStream audioStream = this.resourceService.getAudioStream("menu_ost.wav")) {
+            assertTrue(audioStream.getFrameLength() > 0, "Expected content within sound file.");
+        }
+        assertTrue(this.resourceService.toString().contains("sfxCache={}"), "Expected streams not to be cached.");
+    }
+
+    /**
+     * Tests {@link ResourceServiceImpl#preload(java.util.function.DoubleConsumer)}.
+     */
+    @Test
+    void testPreload() {
+        final DoubleAccumulator progress = new DoubleAccumulator(Math::max, 0);
+        this.resourceService.preload(progress::accumulate).join();
+        assertEquals(1, progress.get(), "Expected the preload to be completed.");
+        assertTrue(this.resourceService.toString().contains("cheese.png"), "Expected the images to be cached.");
+        assertSame(this.resourceService.getImage("cheese.png"), this.resourceService.getImage("cheese.png"),
+                "Expected the preloaded image to be returned.");
+
+        this.resourceService.dispose();
+    }
+
     /**
      * Tests {@link ResourceServiceImpl#dispose()}.
      */
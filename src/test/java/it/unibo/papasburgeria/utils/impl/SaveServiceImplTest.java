@@ -2,6 +2,7 @@ package it.unibo.papasburgeria.utils.impl;
 
 import it.unibo.papasburgeria.model.UpgradeEnum;
 import it.unibo.papasburgeria.utils.api.SaveService;
+import it.unibo.papasburgeria.utils.impl.saving.SaveInfo;
 import it.unibo.papasburgeria.utils.impl.saving.SaveServiceImpl;
 import it.unibo.papasburgeria.utils.impl.saving.SaveState;
 import org.junit.jupiter.api.BeforeAll;
@@ -10,20 +11,32 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Test class for {@link SaveServiceImpl}.
  */
 class SaveServiceImplTest {
+    private static final int WATCH_ATTEMPTS = 150;
+    private static final long WATCH_INTERVAL = 100;
+    private static final int WATCH_OWN_WRITES_INTERVALS = 10;
+    private static final int UNUSED_SLOT_INDEX = 999;
+    private static final long JOURNAL_SEQUENCE = 42;
 
     @TempDir
     private static Path tempDirectory;
@@ -54,10 +67,6 @@ class SaveServiceImplTest {
         final SaveState temp = new SaveState(0, 0, new EnumMap<>(UpgradeEnum.class));
         assertThrows(IllegalArgumentException.class, () -> this.saveService.saveSlot(0, null));
         assertThrows(IllegalArgumentException.class, () -> this.saveService.saveSlot(-1, temp));
-        assertThrows(
-                IllegalArgumentException.class,
-                () -> this.saveService.saveSlot(SaveServiceImpl.MAX_SAVE_SLOT_INDEX + 1, temp)
-        );
     }
 
     /**
@@ -66,11 +75,7 @@ class SaveServiceImplTest {
     @Test
     void testLoadSlot() throws IOException {
         assertThrows(IllegalArgumentException.class, () -> this.saveService.loadSlot(-1));
-        assertThrows(
-                IllegalArgumentException.class,
-                () -> this.saveService.loadSlot(SaveServiceImpl.MAX_SAVE_SLOT_INDEX + 1)
-        );
-        assertNull(this.saveService.loadSlot(0));
+        assertNull(this.saveService.loadSlot(UNUSED_SLOT_INDEX));
     }
 
     /**
@@ -85,30 +90,155 @@ class SaveServiceImplTest {
         upgrades.put(UpgradeEnum.CUSTOMER_TIP, true);
 
         final SaveState sent = new SaveState(balance, day, upgrades);
-        this.saveService.saveSlot(slotIndex, sent);
+        final CompletableFuture<Void> write = this.saveService.saveSlot(slotIndex, sent);
 
         final SaveState received = this.saveService.loadSlot(slotIndex);
         assertNotNull(received);
         assertEquals(balance, received.playerBalance());
         assertEquals(day, received.gameDay());
         assertEquals(upgrades, received.upgrades());
+
+        write.join();
+        assertEquals(sent, new SaveServiceImpl().loadSlot(slotIndex));
     }
 
     /**
-     * Tests {@link SaveServiceImpl#loadAllSlots()}.
+     * Tests {@link SaveServiceImpl#saveSlot(int, SaveState)} and {@link SaveServiceImpl#loadSlot(int)} with the state
+     * of a day in progress.
      */
     @Test
-    void testLoadAllSlots() throws IOException {
-        // 0 was filled before
-        final SaveState state = new SaveState(1, 1, new EnumMap<>(UpgradeEnum.class));
-        for (int i = 1; i < SaveServiceImpl.MAX_SAVE_SLOT_INDEX; i++) {
-            this.saveService.saveSlot(i, state);
+    void testSaveLoadDayState() throws IOException {
+        final int slotIndex = 3;
+        final SaveState sent = new SaveState(1, 2, new EnumMap<>(UpgradeEnum.class), ServiceHelpers.createDayState(),
+                JOURNAL_SEQUENCE);
+        this.saveService.saveSlot(slotIndex, sent).join();
+
+        assertEquals(sent, new SaveServiceImpl().loadSlot(slotIndex));
+    }
+
+    /**
+     * Tests that {@link SaveServiceImpl#saveSlot(int, SaveState)} writes the latest of repeated saves.
+     */
+    @Test
+    void testRepeatedSaves() throws IOException {
+        final int slotIndex = 2;
+        final int saves = 10;
+        final List<CompletableFuture<Void>> writes = new ArrayList<>();
+        for (int i = 1; i <= saves; i++) {
+            writes.add(this.saveService.saveSlot(slotIndex, new SaveState(i, i, new EnumMap<>(UpgradeEnum.class))));
         }
+        writes.forEach(CompletableFuture::join);
+
+        final SaveState written = new SaveServiceImpl().loadSlot(slotIndex);
+        assertNotNull(written);
+        assertEquals(saves, written.gameDay());
+    }
 
-        final List<SaveState> slots = this.saveService.loadAllSlots();
-        assertEquals(SaveServiceImpl.MAX_SAVE_SLOT_INDEX + 1, slots.size());
-        for (int i = 0; i < SaveServiceImpl.MAX_SAVE_SLOT_INDEX; i++) {
-            assertNotNull(slots.get(i));
+    /**
+     * Tests {@link SaveServiceImpl#loadSlotInfos(int, int)} and {@link SaveServiceImpl#getSlotCount()}.
+     */
+    @Test
+    void testLoadSlotInfos() throws IOException {
+        final int slots = 5;
+        final int firstSlotIndex = 1000;
+        final List<CompletableFuture<Void>> writes = new ArrayList<>();
+        for (int i = 0; i < slots; i++) {
+            final SaveState state = new SaveState(i, i, new EnumMap<>(UpgradeEnum.class));
+            writes.add(this.saveService.saveSlot(firstSlotIndex + i, state));
+        }
+
+        final int count = this.saveService.getSlotCount();
+        final List<SaveInfo> lastPage = this.saveService.loadSlotInfos(count - slots, slots);
+        for (int i = 0; i < slots; i++) {
+            assertEquals(new SaveInfo(firstSlotIndex + i, i, i), lastPage.get(i));
         }
+
+        assertEquals(List.of(lastPage.get(slots - 1)), this.saveService.loadSlotInfos(count - 1, slots));
+        assertTrue(this.saveService.loadSlotInfos(count, 1).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> this.saveService.loadSlotInfos(-1, 1));
+
+        writes.forEach(CompletableFuture::join);
+        final SaveService reloaded = new SaveServiceImpl();
+        assertEquals(lastPage, reloaded.loadSlotInfos(reloaded.getSlotCount() - slots, slots));
+    }
+
+    /**
+     * Tests that {@link SaveServiceImpl#saveSlot(int, SaveState)} completes its write when encoding fails.
+     */
+    @Test
+    void testSaveSlotFailure() throws IOException {
+        final SaveService failingService = new SaveServiceImpl() {
+            @Override
+            protected ByteBuffer encode(final SaveState saveState) {
+                throw new IllegalStateException("Encoding failure");
+            }
+        };
+        final CompletableFuture<Void> write = failingService.saveSlot(UNUSED_SLOT_INDEX,
+                new SaveState(1, 1, new EnumMap<>(UpgradeEnum.class)));
+        final CompletionException exception = assertThrows(CompletionException.class, write::join);
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
+    /**
+     * Tests {@link SaveServiceImpl#getNextFreeSlot()}.
+     */
+    @Test
+    void testGetNextFreeSlot() throws IOException {
+        final int freeSlotIndex = this.saveService.getNextFreeSlot();
+        assertNull(this.saveService.loadSlot(freeSlotIndex));
+
+        this.saveService.saveSlot(freeSlotIndex, new SaveState(1, 1, new EnumMap<>(UpgradeEnum.class)));
+        assertNotEquals(freeSlotIndex, this.saveService.getNextFreeSlot());
+    }
+
+    /**
+     * Tests that {@link SaveServiceImpl#loadSlotInfos(int, int)} lists slots changed outside the game.
+     */
+    @Test
+    void testWatchSlotInfos() throws IOException, InterruptedException {
+        final int slotIndex = 1;
+        final int balance = 10;
+        final int externalBalance = 20;
+        this.saveService.saveSlot(slotIndex, new SaveState(balance, 1, new EnumMap<>(UpgradeEnum.class))).join();
+        assertTrue(this.saveService.loadSlotInfos(0, this.saveService.getSlotCount())
+                .contains(new SaveInfo(slotIndex, balance, 1)));
+
+        // a save written by another instance stands for a change outside the game
+        new SaveServiceImpl().saveSlot(slotIndex, new SaveState(externalBalance, 1, new EnumMap<>(UpgradeEnum.class)))
+                .join();
+        final SaveInfo externalInfo = new SaveInfo(slotIndex, externalBalance, 1);
+        for (int i = 0; i < WATCH_ATTEMPTS
+                && !this.saveService.loadSlotInfos(0, this.saveService.getSlotCount()).contains(externalInfo); i++) {
+            Thread.sleep(WATCH_INTERVAL);
+        }
+        assertTrue(this.saveService.loadSlotInfos(0, this.saveService.getSlotCount()).contains(externalInfo));
+    }
+
+    /**
+     * Tests that {@link SaveServiceImpl#loadSlotInfos(int, int)} does not read again the slot the game wrote.
+     */
+    @Test
+    void testWatchOwnWrites() throws IOException, InterruptedException {
+        final int slotIndex = 2;
+        final AtomicInteger reads = new AtomicInteger();
+        final SaveService countingService = new SaveServiceImpl() {
+            @Override
+            protected SaveInfo readSlotInfo(final int slotNumber) throws IOException {
+                if (slotNumber == slotIndex) {
+                    reads.incrementAndGet();
+                }
+                return super.readSlotInfo(slotNumber);
+            }
+        };
+        countingService.loadSlotInfos(0, countingService.getSlotCount());
+        reads.set(0);
+
+        // the slot is only read again if the watcher takes the write for a change outside the game
+
+        countingService.saveSlot(slotIndex, new SaveState(1, 1, new EnumMap<>(UpgradeEnum.class))).join();
+        Thread.sleep(WATCH_INTERVAL * WATCH_OWN_WRITES_INTERVALS);
+        assertTrue(countingService.loadSlotInfos(0, countingService.getSlotCount())
+                .contains(new SaveInfo(slotIndex, 1, 1)));
+        assertEquals(0, reads.get());
     }
 }
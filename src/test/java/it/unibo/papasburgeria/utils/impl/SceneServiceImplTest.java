@@ -4,20 +4,29 @@ import it.unibo.papasburgeria.utils.api.scene.BaseScene;
 import it.unibo.papasburgeria.utils.api.scene.SceneService;
 import it.unibo.papasburgeria.utils.api.scene.SceneType;
 import org.junit.jupiter.api.BeforeEach;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Test class for {@link SceneServiceImpl}.
  */
 class SceneServiceImplTest {
+    private static final String SCENE_SWITCH_EVENT = "it.unibo.papasburgeria.SceneSwitch";
 
     private SceneService sceneService;
     private TestBaseScene sceneA;
@@ -63,6 +72,35 @@ class SceneServiceImplTest {
         assertEquals(1, sceneB.getHiddenCount());
     }
 
+    /**
+     * Tests {@link SceneServiceImpl#switchTo(SceneType)} emitting flight recorder events.
+     *
+     * @param directory the directory to dump the recording into
+     * @throws IOException if the recording could not be dumped or read
+     */
+    @Test
+    void testSwitchToRecordsEvent(@TempDir final Path directory) throws IOException {
+        final Path file = directory.resolve("scenes.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(SCENE_SWITCH_EVENT);
+            recording.start();
+            this.sceneService.switchTo(SceneType.REGISTER);
+            this.sceneService.switchTo(SceneType.REGISTER);
+            this.sceneService.switchTo(SceneType.BURGER_ASSEMBLY);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> SCENE_SWITCH_EVENT.equals(event.getEventType().getName()))
+                .toList();
+        assertEquals(2, events.size());
+        assertNull(events.get(0).getString("previousScene"));
+        assertEquals(SceneType.REGISTER.name(), events.get(0).getString("scene"));
+        assertEquals(SceneType.REGISTER.name(), events.get(1).getString("previousScene"));
+        assertEquals(SceneType.BURGER_ASSEMBLY.name(), events.get(1).getString("scene"));
+    }
+
     /**
      * Tests {@link SceneServiceImpl#getScenes()}.
      */
@@ -1,9 +1,16 @@
 package it.unibo.papasburgeria.utils.impl;
 
+import it.unibo.papasburgeria.model.IngredientEnum;
 import it.unibo.papasburgeria.utils.api.ResourceService;
+import it.unibo.papasburgeria.utils.impl.saving.CustomerState;
+import it.unibo.papasburgeria.utils.impl.saving.DayState;
+import it.unibo.papasburgeria.utils.impl.saving.IngredientState;
+import it.unibo.papasburgeria.utils.impl.saving.OrderState;
 
 import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.Mixer;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Class of static helper methods to test on services.
@@ -26,4 +33,26 @@ public final class ServiceHelpers {
         final Mixer.Info[] mixers = AudioSystem.getMixerInfo();
         return mixers.length > 0;
     }
+
+    /**
+     * Helper method to create the state of a day in progress, with every part of it filled.
+     *
+     * @return the state of the day
+     */
+    public static DayState createDayState() {
+        final IngredientState bottomBun = new IngredientState(IngredientEnum.BOTTOM_BUN, 0, 0, 0, false);
+        final IngredientState patty = new IngredientState(IngredientEnum.PATTY, 0.25, 0.5, 0.75, true);
+        final IngredientState topBun = new IngredientState(IngredientEnum.TOP_BUN, 0.125, 0, 0, false);
+        final OrderState order = new OrderState(2, List.of(bottomBun, patty, topBun));
+        return new DayState(
+                List.of(bottomBun, patty),
+                List.of(Arrays.asList(patty, null), Arrays.asList(null, null)),
+                List.of(patty, patty),
+                order,
+                List.of(new CustomerState(1, new OrderState(3, List.of(bottomBun, topBun)))),
+                List.of(new CustomerState(0, order)),
+                3,
+                1500
+        );
+    }
 }
@@ -79,4 +79,25 @@ class SfxServiceImplTest {
                     () -> this.sfxService.playSoundLooped(SOUND_NAME, SfxServiceImpl.MAXIMUM_VOLUME + 1f));
         }
     }
+
+    /**
+     * Tests {@link SfxServiceImpl#playMusic(String)} and {@link SfxServiceImpl#stopMusic(String)}.
+     */
+    @Test
+    void playStopMusic() throws InterruptedException {
+        if (shouldRunTest) {
+            this.sfxService.playMusic(SOUND_NAME, BASE_VOLUME);
+            Thread.sleep(SLEEP_TIME); // not practical but implementing locks takes much more
+            assertTrue(this.sfxService.toString().contains(SOUND_NAME));
+            assertFalse(this.clip.isRunning());
+
+            this.sfxService.stopMusic(SOUND_NAME);
+            Thread.sleep(SLEEP_TIME);
+            assertFalse(this.sfxService.toString().contains(SOUND_NAME));
+
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> this.sfxService.playMusic(SOUND_NAME, SfxServiceImpl.MAXIMUM_VOLUME + 1f));
+        }
+    }
 }